@@ -0,0 +1,103 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.hsqldb.jdbc.JDBCDataSource;
+import org.soulwing.jdbc.FluentJdbc;
+import org.soulwing.jdbc.Parameter;
+import org.soulwing.jdbc.SQLRuntimeException;
+
+/**
+ * An in-memory HSQLDB database populated with a table of people.
+ * <p>
+ * Each instance uses a private database, so that benchmarks run in separate
+ * forks (or in the same fork, one after another) do not interfere with one
+ * another.
+ *
+ * @author Carl Harris
+ */
+class BenchmarkDatabase {
+
+  static final String CREATE_TABLE = "CREATE TABLE person ( "
+      + "id INTEGER PRIMARY KEY, name VARCHAR(50), age INTEGER, "
+      + "salary DECIMAL(10,2), hired TIMESTAMP )";
+
+  static final String INSERT_PERSON = "INSERT INTO person "
+      + "(id, name, age, salary, hired) VALUES (?, ?, ?, ?, ?)";
+
+  private final JDBCDataSource dataSource = new JDBCDataSource();
+
+  /**
+   * Constructs a new database containing the given number of people.
+   * @param rows number of rows in the {@code person} table
+   */
+  BenchmarkDatabase(int rows) {
+    dataSource.setUrl("jdbc:hsqldb:mem:" + UUID.randomUUID());
+    dataSource.setUser("sa");
+    dataSource.setPassword("");
+    dataSource.setProperties(new Properties());
+    final FluentJdbc jdbc = new FluentJdbc(dataSource);
+    jdbc.execute(CREATE_TABLE);
+    final List<Parameter[]> batch = new ArrayList<>(rows);
+    for (int id = 1; id <= rows; id++) {
+      batch.add(new Parameter[] {
+          Parameter.with(id),
+          Parameter.with("person " + id),
+          Parameter.with(20 + id % 50),
+          Parameter.with(new BigDecimal(30000 + id)),
+          Parameter.with(new Timestamp(id * 86400000L))
+      });
+    }
+    jdbc.update().using(INSERT_PERSON).batchSize(500).executeBatch(batch);
+  }
+
+  /**
+   * Gets the data source for this database.
+   * @return data source
+   */
+  DataSource getDataSource() {
+    return dataSource;
+  }
+
+  /**
+   * Shuts down this database, discarding its contents.
+   */
+  void close() {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("SHUTDOWN");
+    }
+    catch (SQLException ex) {
+      throw new SQLRuntimeException(ex);
+    }
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with allocation profiling enabled.
+ * <p>
+ * Command line arguments are interpreted as for the JMH runner, so that
+ * (for example) a subset of the benchmarks can be selected using a regular
+ * expression:
+ * <pre>
+ * java -jar target/benchmarks.jar RetrievalBenchmark -p rows=1000
+ * </pre>
+ * The GC profiler is always added, so that each benchmark reports the
+ * number of bytes allocated per operation ({@code gc.alloc.rate.norm}).
+ *
+ * @author Carl Harris
+ */
+public class BenchmarkRunner {
+
+  public static void main(String[] args)
+      throws CommandLineOptionException, RunnerException {
+    new Runner(new OptionsBuilder()
+        .parent(new CommandLineOptions(args))
+        .addProfiler(GCProfiler.class)
+        .build()).run();
+  }
+
+}
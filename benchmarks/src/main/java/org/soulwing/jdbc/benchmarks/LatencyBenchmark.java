@@ -0,0 +1,140 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.benchmarks;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soulwing.jdbc.FluentJdbc;
+import org.soulwing.jdbc.JdbcUpdate;
+import org.soulwing.jdbc.Parameter;
+import org.soulwing.jdbc.StatementCache;
+import org.soulwing.jdbc.synthetic.SyntheticDatabase;
+import org.soulwing.jdbc.synthetic.SyntheticResult;
+
+/**
+ * Benchmarks for the savings from batching and statement caching under
+ * simulated network latency, measured using the synthetic driver.
+ * <p>
+ * Preparing a statement is assumed to cost one round trip, as it does for
+ * drivers that prepare statements on the server.
+ *
+ * @author Carl Harris
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LatencyBenchmark {
+
+  static final int ROWS = 100;
+
+  static final String INSERT_PERSON =
+      "INSERT INTO person (id, name) VALUES (?, ?)";
+
+  static final String SELECT_NAME = "SELECT name FROM person WHERE id = ?";
+
+  @Param({ "0", "100", "1000" })
+  public int latencyMicros;
+
+  private SyntheticDatabase database;
+  private Connection connection;
+  private FluentJdbc jdbc;
+  private FluentJdbc cachingJdbc;
+  private List<Parameter[]> rows;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    database = new SyntheticDatabase();
+    database.setRoundTripLatency(latencyMicros, TimeUnit.MICROSECONDS);
+    database.setPrepareLatency(latencyMicros, TimeUnit.MICROSECONDS);
+    database.addResult(SELECT_NAME, SyntheticResult.repeat(
+        new String[] { "name" }, new Object[] { "person 1" }, 1));
+    connection = database.getConnection();
+    jdbc = new FluentJdbc(connection);
+    cachingJdbc = new FluentJdbc(connection);
+    cachingJdbc.setStatementCache(new StatementCache());
+    rows = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      rows.add(new Parameter[] {
+          Parameter.with(i), Parameter.with("person " + i) });
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    connection.close();
+  }
+
+  @Benchmark
+  public int individualUpdates() {
+    int count = 0;
+    try (JdbcUpdate update = jdbc.update()
+        .using(INSERT_PERSON)
+        .repeatedly()) {
+      for (final Parameter[] row : rows) {
+        count += update.execute(row);
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int[] batchedUpdates() {
+    return jdbc.update()
+        .using(INSERT_PERSON)
+        .batchSize(ROWS)
+        .executeBatch(rows);
+  }
+
+  @Benchmark
+  public String uncachedLookup() {
+    return jdbc.queryForType(String.class)
+        .using(SELECT_NAME)
+        .extractingColumn()
+        .retrieveValue(Parameter.with(1));
+  }
+
+  @Benchmark
+  public String cachedLookup() {
+    return cachingJdbc.queryForType(String.class)
+        .using(SELECT_NAME)
+        .extractingColumn()
+        .retrieveValue(Parameter.with(1));
+  }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.benchmarks;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soulwing.jdbc.FluentJdbc;
+import org.soulwing.jdbc.Parameter;
+import org.soulwing.jdbc.QueryTemplate;
+import org.soulwing.jdbc.logger.AsyncJdbcLogger;
+import org.soulwing.jdbc.logger.FormattingJdbcLogger;
+import org.soulwing.jdbc.logger.JdbcLogger;
+import org.soulwing.jdbc.logger.NullJdbcLogger;
+import org.soulwing.jdbc.logger.PrintWriterJdbcLogger;
+
+/**
+ * Benchmarks for the overhead of statement logging.
+ * <p>
+ * Log output is written to a writer that discards it, so that these
+ * measure the cost of the logger itself rather than that of the output
+ * device.
+ *
+ * @author Carl Harris
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LoggerBenchmark {
+
+  private static final Writer NULL_WRITER = new Writer() {
+    @Override
+    public void write(char[] buf, int offset, int length) {
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+  };
+
+  @Param({ "none", "print", "formatting", "async" })
+  public String logger;
+
+  private BenchmarkDatabase database;
+  private JdbcLogger jdbcLogger;
+  private QueryTemplate<Person> template;
+  private Parameter[] parameters;
+  private int id;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    jdbcLogger = newLogger(logger);
+    database = new BenchmarkDatabase(LookupBenchmark.ROWS);
+    final FluentJdbc jdbc = new FluentJdbc(database.getDataSource());
+    jdbc.setLogger(jdbcLogger);
+    template = jdbc.queryForType(Person.class)
+        .using(LookupBenchmark.SELECT_PERSON)
+        .mappingRowsWith(Person.MAPPER)
+        .asTemplate();
+    parameters = new Parameter[] { Parameter.with(1) };
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (jdbcLogger instanceof AsyncJdbcLogger) {
+      ((AsyncJdbcLogger) jdbcLogger).close();
+    }
+    database.close();
+  }
+
+  private static JdbcLogger newLogger(String name) {
+    final JdbcLogger print =
+        new PrintWriterJdbcLogger(new PrintWriter(NULL_WRITER), true);
+    switch (name) {
+      case "none":
+        return NullJdbcLogger.INSTANCE;
+      case "print":
+        return print;
+      case "formatting":
+        return new FormattingJdbcLogger(print);
+      case "async":
+        return new AsyncJdbcLogger(print);
+      default:
+        throw new IllegalArgumentException("unknown logger: " + name);
+    }
+  }
+
+  @Benchmark
+  public void logOnly() {
+    jdbcLogger.writeStatement(LookupBenchmark.SELECT_PERSON);
+    jdbcLogger.writeParameters(parameters);
+  }
+
+  @Benchmark
+  public Person lookup() {
+    id = id % LookupBenchmark.ROWS + 1;
+    return template.retrieveValue(Parameter.with(id));
+  }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soulwing.jdbc.FluentJdbc;
+import org.soulwing.jdbc.JdbcQuery;
+import org.soulwing.jdbc.Parameter;
+import org.soulwing.jdbc.QueryTemplate;
+
+/**
+ * Benchmarks for queries that retrieve a single row by primary key.
+ * <p>
+ * These exercise {@code Parameter.inject} and the single row handler, and
+ * compare a query built for each lookup with a reusable template and with
+ * a repeatable query that keeps its statement prepared.
+ *
+ * @author Carl Harris
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LookupBenchmark {
+
+  static final int ROWS = 1000;
+
+  static final String SELECT_PERSON = "SELECT * FROM person WHERE id = ?";
+
+  static final String SELECT_NAME = "SELECT name FROM person WHERE id = ?";
+
+  private BenchmarkDatabase database;
+  private FluentJdbc jdbc;
+  private QueryTemplate<Person> template;
+  private JdbcQuery<Person> repeatable;
+  private int id;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    database = new BenchmarkDatabase(ROWS);
+    jdbc = new FluentJdbc(database.getDataSource());
+    template = jdbc.queryForType(Person.class)
+        .using(SELECT_PERSON)
+        .mappingRowsWith(Person.MAPPER)
+        .asTemplate();
+    repeatable = jdbc.queryForType(Person.class)
+        .using(SELECT_PERSON)
+        .mappingRowsWith(Person.MAPPER)
+        .repeatedly();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    repeatable.close();
+    database.close();
+  }
+
+  private Parameter nextId() {
+    id = id % ROWS + 1;
+    return Parameter.with(id);
+  }
+
+  @Benchmark
+  public Person builtQuery() {
+    return jdbc.queryForType(Person.class)
+        .using(SELECT_PERSON)
+        .mappingRowsWith(Person.MAPPER)
+        .retrieveValue(nextId());
+  }
+
+  @Benchmark
+  public Person template() {
+    return template.retrieveValue(nextId());
+  }
+
+  @Benchmark
+  public Person repeatable() {
+    return repeatable.retrieveValue(nextId());
+  }
+
+  @Benchmark
+  public String extractColumn() {
+    return jdbc.queryForType(String.class)
+        .using(SELECT_NAME)
+        .extractingColumn()
+        .retrieveValue(nextId());
+  }
+
+}
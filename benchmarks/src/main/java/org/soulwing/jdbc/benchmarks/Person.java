@@ -0,0 +1,61 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import org.soulwing.jdbc.RowMapper;
+
+/**
+ * A row of the benchmark {@code person} table.
+ *
+ * @author Carl Harris
+ */
+class Person {
+
+  /**
+   * A mapper that reads each column by name.
+   */
+  static final RowMapper<Person> MAPPER = new RowMapper<Person>() {
+    @Override
+    public Person mapRow(ResultSet rs, int rowNum) throws SQLException {
+      return new Person(rs.getInt("id"), rs.getString("name"),
+          rs.getInt("age"), rs.getBigDecimal("salary"),
+          rs.getTimestamp("hired"));
+    }
+  };
+
+  final int id;
+  final String name;
+  final int age;
+  final BigDecimal salary;
+  final Timestamp hired;
+
+  Person(int id, String name, int age, BigDecimal salary, Timestamp hired) {
+    this.id = id;
+    this.name = name;
+    this.age = age;
+    this.salary = salary;
+    this.hired = hired;
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.benchmarks;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.soulwing.jdbc.FluentJdbc;
+import org.soulwing.jdbc.Parameter;
+import org.soulwing.jdbc.QueryTemplate;
+
+/**
+ * Benchmarks for queries that retrieve many rows.
+ * <p>
+ * These exercise the multiple row handler, column extraction (including
+ * the primitive array handlers), and streaming, at several result sizes.
+ *
+ * @author Carl Harris
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RetrievalBenchmark {
+
+  static final String SELECT_PEOPLE =
+      "SELECT * FROM person WHERE id <= ? ORDER BY id";
+
+  static final String SELECT_IDS =
+      "SELECT id FROM person WHERE id <= ? ORDER BY id";
+
+  @Param({ "10", "100", "1000", "10000" })
+  public int rows;
+
+  private BenchmarkDatabase database;
+  private QueryTemplate<Person> people;
+  private QueryTemplate<Integer> ids;
+  private Parameter limit;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    database = new BenchmarkDatabase(rows);
+    final FluentJdbc jdbc = new FluentJdbc(database.getDataSource());
+    people = jdbc.queryForType(Person.class)
+        .using(SELECT_PEOPLE)
+        .mappingRowsWith(Person.MAPPER)
+        .asTemplate();
+    ids = jdbc.queryForType(Integer.class)
+        .using(SELECT_IDS)
+        .extractingColumn()
+        .asTemplate();
+    limit = Parameter.with(rows);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    database.close();
+  }
+
+  @Benchmark
+  public List<Person> mappedList() {
+    return people.retrieveList(limit);
+  }
+
+  @Benchmark
+  public List<Integer> columnList() {
+    return ids.retrieveList(limit);
+  }
+
+  @Benchmark
+  public int[] columnArray() {
+    return ids.retrieveIntArray(limit);
+  }
+
+  @Benchmark
+  public void mappedStream(Blackhole blackhole) {
+    try (Stream<Person> stream = people.stream(limit)) {
+      final Iterator<Person> i = stream.iterator();
+      while (i.hasNext()) {
+        blackhole.consume(i.next());
+      }
+    }
+  }
+
+}
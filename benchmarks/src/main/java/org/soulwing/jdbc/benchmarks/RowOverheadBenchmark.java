@@ -0,0 +1,133 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soulwing.jdbc.FluentJdbc;
+import org.soulwing.jdbc.Parameter;
+import org.soulwing.jdbc.QueryTemplate;
+import org.soulwing.jdbc.synthetic.SyntheticDatabase;
+import org.soulwing.jdbc.synthetic.SyntheticResult;
+
+/**
+ * Benchmarks for the per-row overhead of the library, measured using the
+ * synthetic driver so that no database cost is included.
+ * <p>
+ * The {@code rawJdbc} benchmark maps the same rows using plain JDBC; the
+ * difference between it and {@code mappedList} is the cost of the query
+ * builder, the row handler, and the value accessors.
+ *
+ * @author Carl Harris
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RowOverheadBenchmark {
+
+  static final String[] LABELS = { "id", "name", "age", "salary", "hired" };
+
+  static final String SELECT_PEOPLE = "SELECT * FROM person WHERE id <= ?";
+
+  static final String SELECT_IDS = "SELECT id FROM person WHERE id <= ?";
+
+  @Param({ "1", "100", "10000" })
+  public int rows;
+
+  private SyntheticDatabase database;
+  private QueryTemplate<Person> people;
+  private QueryTemplate<Integer> ids;
+  private Parameter limit;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    database = new SyntheticDatabase();
+    database.addResult(SELECT_PEOPLE, SyntheticResult.repeat(LABELS,
+        new Object[] { 1, "person 1", 21, new BigDecimal("30001.00"),
+            new Timestamp(86400000L) }, rows));
+    database.addResult(SELECT_IDS, SyntheticResult.repeat(
+        new String[] { "id" }, new Object[] { 1 }, rows));
+    final FluentJdbc jdbc = new FluentJdbc(database);
+    people = jdbc.queryForType(Person.class)
+        .using(SELECT_PEOPLE)
+        .mappingRowsWith(Person.MAPPER)
+        .asTemplate();
+    ids = jdbc.queryForType(Integer.class)
+        .using(SELECT_IDS)
+        .extractingColumn()
+        .asTemplate();
+    limit = Parameter.with(rows);
+  }
+
+  @Benchmark
+  public List<Person> rawJdbc() throws SQLException {
+    try (Connection connection = database.getConnection();
+        PreparedStatement statement =
+            connection.prepareStatement(SELECT_PEOPLE)) {
+      statement.setObject(1, rows);
+      try (ResultSet rs = statement.executeQuery()) {
+        final List<Person> results = new ArrayList<>();
+        int rowNum = 0;
+        while (rs.next()) {
+          results.add(Person.MAPPER.mapRow(rs, ++rowNum));
+        }
+        return results;
+      }
+    }
+  }
+
+  @Benchmark
+  public List<Person> mappedList() {
+    return people.retrieveList(limit);
+  }
+
+  @Benchmark
+  public List<Integer> columnList() {
+    return ids.retrieveList(limit);
+  }
+
+  @Benchmark
+  public int[] columnArray() {
+    return ids.retrieveIntArray(limit);
+  }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soulwing.jdbc.source.DefaultScanner;
+import org.soulwing.jdbc.source.PostgresScanner;
+import org.soulwing.jdbc.source.ReaderSQLSource;
+import org.soulwing.jdbc.source.Scanner;
+import org.soulwing.jdbc.source.SQLSource;
+
+/**
+ * Benchmarks for splitting a large SQL script into statements.
+ * <p>
+ * The script mixes DDL, inserts with string and numeric literals, quoted
+ * identifiers, and line and block comments, in roughly the proportions
+ * found in a typical migration script.
+ *
+ * @author Carl Harris
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScriptParsingBenchmark {
+
+  @Param({ "1000", "10000" })
+  public int statements;
+
+  private String script;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < statements; i++) {
+      switch (i % 10) {
+        case 0:
+          sb.append("-- table ").append(i).append('\n')
+              .append("CREATE TABLE \"t").append(i).append("\" (\n")
+              .append("  id BIGINT PRIMARY KEY,\n")
+              .append("  name VARCHAR(255) NOT NULL,\n")
+              .append("  amount DECIMAL(10,2) DEFAULT 0.00\n")
+              .append(");\n");
+          break;
+        case 1:
+          sb.append("/* index for table ").append(i - 1).append(" */\n")
+              .append("CREATE INDEX ix").append(i).append(" ON \"t")
+              .append(i - 1).append("\" (name);\n");
+          break;
+        default:
+          sb.append("INSERT INTO \"t").append(i - i % 10)
+              .append("\" (id, name, amount) VALUES (").append(i)
+              .append(", 'name ''").append(i).append("''', ")
+              .append(i).append(".25);\n");
+          break;
+      }
+    }
+    script = sb.toString();
+  }
+
+  private static int parse(Scanner scanner, String script)
+      throws IOException {
+    int count = 0;
+    try (SQLSource source = new ReaderSQLSource(new StringReader(script),
+        scanner)) {
+      while (source.next() != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int defaultScanner() throws IOException {
+    return parse(DefaultScanner.INSTANCE, script);
+  }
+
+  @Benchmark
+  public int postgresScanner() throws IOException {
+    return parse(PostgresScanner.INSTANCE, script);
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soulwing.jdbc.FluentJdbc;
+import org.soulwing.jdbc.JdbcUpdate;
+import org.soulwing.jdbc.Parameter;
+import org.soulwing.jdbc.UpdateTemplate;
+
+/**
+ * Benchmarks for repeated updates of a single row.
+ * <p>
+ * These compare an update built for each execution with a reusable
+ * template, a repeatable update that keeps its statement prepared, and a
+ * batch of updates sent in a single round trip.
+ *
+ * @author Carl Harris
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UpdateBenchmark {
+
+  static final int ROWS = 1000;
+
+  static final int BATCH_SIZE = 100;
+
+  static final String UPDATE_AGE = "UPDATE person SET age = ? WHERE id = ?";
+
+  private BenchmarkDatabase database;
+  private FluentJdbc jdbc;
+  private UpdateTemplate template;
+  private JdbcUpdate repeatable;
+  private int id;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    database = new BenchmarkDatabase(ROWS);
+    jdbc = new FluentJdbc(database.getDataSource());
+    template = jdbc.update().using(UPDATE_AGE).asTemplate();
+    repeatable = jdbc.update().using(UPDATE_AGE).repeatedly();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    repeatable.close();
+    database.close();
+  }
+
+  private Parameter[] nextRow() {
+    id = id % ROWS + 1;
+    return new Parameter[] { Parameter.with(id % 50), Parameter.with(id) };
+  }
+
+  @Benchmark
+  public int builtUpdate() {
+    return jdbc.update().using(UPDATE_AGE).execute(nextRow());
+  }
+
+  @Benchmark
+  public int template() {
+    return template.execute(nextRow());
+  }
+
+  @Benchmark
+  public int repeatable() {
+    return repeatable.execute(nextRow());
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public int[] batch() {
+    final List<Parameter[]> rows = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      rows.add(nextRow());
+    }
+    return template.executeBatch(rows);
+  }
+
+}
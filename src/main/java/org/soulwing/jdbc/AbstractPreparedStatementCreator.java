@@ -26,6 +26,8 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import javax.sql.DataSource;
 
+import org.soulwing.jdbc.metrics.StatementObserver;
+
 /**
  * An abstract base for {@link PreparedStatementCreator} implementations.
  * <p>
@@ -40,18 +42,30 @@ abstract class AbstractPreparedStatementCreator<T extends PreparedStatement>
 
   private final Lock lock = new ReentrantLock();
 
-  private final String sql;
+  private final StatementCache.Key key;
+
+  private final StatementCache cache;
 
   private Connection connection;
 
   private volatile T statement;
 
+  private volatile long connectionNanos = -1;
+
+  private StatementObserver observer;
+
+  private volatile boolean cancelled;
+
   /**
    * Constructs a new instance.
-   * @param sql the SQL statement to prepare
+   * @param key key describing the statement to prepare
+   * @param cache statement cache from which the statement should be obtained
+   *    and to which it will be returned on close; may be {@code null}
    */
-  AbstractPreparedStatementCreator(String sql) {
-    this.sql = sql;
+  AbstractPreparedStatementCreator(StatementCache.Key key,
+      StatementCache cache) {
+    this.key = key;
+    this.cache = cache;
   }
 
   /**
@@ -59,7 +73,7 @@ abstract class AbstractPreparedStatementCreator<T extends PreparedStatement>
    */
   @Override
   public String getStatementText() {
-    return sql;
+    return key.getSql();
   }
 
   /**
@@ -72,22 +86,105 @@ abstract class AbstractPreparedStatementCreator<T extends PreparedStatement>
       lock.lock();
       try {
         if (statement == null) {
+          if (observer != null) {
+            observer.starting(StatementObserver.Phase.CONNECTION);
+          }
+          final long start = System.nanoTime();
           connection = dataSource.getConnection();
-          statement = prepareStatement(connection, sql);
+          final long nanos = System.nanoTime() - start;
+          if (observer != null) {
+            observer.connectionAcquired(nanos);
+            observer = null;
+          }
+          else {
+            connectionNanos = nanos;
+          }
+          T cached = null;
+          if (cache != null) {
+            cached = cache.take(connection, key);
+          }
+          statement = cached != null ?
+              cached : prepareStatement(connection, key.getSql());
         }
       }
       finally {
         lock.unlock();
       }
     }
+    if (cancelled) {
+      throw new SQLException("statement execution was cancelled");
+    }
     return statement;
   }
 
+  /**
+   * Reports the time spent obtaining a connection to an observer.
+   * <p>
+   * If the given creator obtained a connection since the time was last
+   * reported, the time is reported immediately.  Otherwise, if the creator
+   * has not yet prepared its statement, the observer is notified as the
+   * creator next obtains a connection, so that the observer sees the
+   * connection phase start and end as they happen.
+   *
+   * @param psc the subject creator
+   * @param observer observer to notify
+   */
+  static void observeConnection(PreparedStatementCreator<?> psc,
+      StatementObserver observer) {
+    if (!(psc instanceof AbstractPreparedStatementCreator)) return;
+    final AbstractPreparedStatementCreator<?> creator =
+        (AbstractPreparedStatementCreator<?>) psc;
+    creator.lock.lock();
+    try {
+      final long nanos = creator.connectionNanos;
+      if (nanos >= 0) {
+        creator.connectionNanos = -1;
+        observer.connectionAcquired(nanos);
+      }
+      else if (creator.statement == null) {
+        creator.observer = observer;
+      }
+    }
+    finally {
+      creator.lock.unlock();
+    }
+  }
+
+  /**
+   * Cancels the execution of the statement of the given creator.
+   * <p>
+   * If the creator has not yet prepared its statement, it fails when it
+   * is next asked to do so.  This method does not wait for a preparation
+   * or close in progress on another thread, and has no effect on a creator
+   * that has been closed, so that a statement that has been returned to a
+   * statement cache is never cancelled.
+   *
+   * @param psc the subject creator
+   */
+  static void cancel(PreparedStatementCreator<?> psc) {
+    if (!(psc instanceof AbstractPreparedStatementCreator)) return;
+    final AbstractPreparedStatementCreator<?> creator =
+        (AbstractPreparedStatementCreator<?>) psc;
+    creator.cancelled = true;
+    if (!creator.lock.tryLock()) return;
+    try {
+      if (creator.statement != null) {
+        creator.statement.cancel();
+      }
+    }
+    catch (SQLException ex) {
+      assert true;  // the statement will run to completion
+    }
+    finally {
+      creator.lock.unlock();
+    }
+  }
+
   /**
    * Prepares a statement on the given connection.
    * <p>
-   * This method is invoked exactly once to prepare the configured SQL
-   * statement, when needed.
+   * This method is invoked at most once to prepare the configured SQL
+   * statement, when needed and not available from the statement cache.
    *
    * @param connection connection on which the statement is to be prepared
    * @param sql the SQL statement to prepare
@@ -102,8 +199,29 @@ abstract class AbstractPreparedStatementCreator<T extends PreparedStatement>
    */
   @Override
   public void close() {
-    JdbcUtils.closeQuietly(statement);
-    JdbcUtils.closeQuietly(connection);
+    lock.lock();
+    try {
+      final Connection physical = cache != null && connection != null ?
+          StatementCache.physicalConnection(connection) : null;
+      if (statement != null) {
+        if (cache != null) {
+          cache.release(connection, key, statement);
+        }
+        else {
+          JdbcUtils.closeQuietly(statement);
+        }
+      }
+      JdbcUtils.closeQuietly(connection);
+      if (physical != null) {
+        cache.purge(physical);
+      }
+      statement = null;
+      connection = null;
+      observer = null;
+    }
+    finally {
+      lock.unlock();
+    }
   }
 
 }
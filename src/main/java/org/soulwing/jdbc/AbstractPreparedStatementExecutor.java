@@ -24,9 +24,16 @@ import java.sql.SQLException;
 import javax.sql.DataSource;
 
 import org.soulwing.jdbc.logger.JdbcLogger;
+import org.soulwing.jdbc.metrics.JdbcMetrics;
+import org.soulwing.jdbc.metrics.NullJdbcMetrics;
+import org.soulwing.jdbc.metrics.StatementObserver;
 
 /**
  * An abstract base for executing {@link PreparedStatement} objects.
+ * <p>
+ * The time spent preparing the statement (including binding its parameters)
+ * and executing it, and the outcome of the execution, are reported to the
+ * configured {@link JdbcMetrics}.
  *
  * @author Carl Harris
  */
@@ -36,25 +43,50 @@ abstract class AbstractPreparedStatementExecutor<T, E extends PreparedStatement>
   private final PreparedStatementCreator<E> psc;
   private final Parameter[] parameters;
   private final JdbcLogger logger;
+  private final JdbcMetrics metrics;
 
   private E statement;
+  private StatementObserver observer = NullJdbcMetrics.INSTANCE;
 
   public AbstractPreparedStatementExecutor(PreparedStatementCreator<E> psc,
       Parameter[] parameters, JdbcLogger logger) {
+    this(psc, parameters, logger, NullJdbcMetrics.INSTANCE);
+  }
+
+  public AbstractPreparedStatementExecutor(PreparedStatementCreator<E> psc,
+      Parameter[] parameters, JdbcLogger logger, JdbcMetrics metrics) {
     this.psc = psc;
     this.parameters = parameters;
     this.logger = logger;
+    this.metrics = metrics;
   }
 
   @Override
   public T execute(DataSource dataSource) throws SQLException {
-    logger.writeStatement(psc.getStatementText());
+    final String sql = psc.getStatementText();
+    logger.writeStatement(sql);
     logger.writeParameters(parameters);
-    statement = psc.prepareStatement(dataSource);
-    for (int index = 0, max = parameters.length; index < max; index++) {
-      parameters[index].inject(index + 1, statement);
+    observer = metrics.begin(sql, parameters);
+    observer.starting(StatementObserver.Phase.PREPARATION);
+    AbstractPreparedStatementCreator.observeConnection(psc, observer);
+    final long start = System.nanoTime();
+    try {
+      statement = psc.prepareStatement(dataSource);
+      for (int index = 0, max = parameters.length; index < max; index++) {
+        parameters[index].inject(index + 1, statement);
+      }
+      final long prepared = System.nanoTime();
+      observer.prepared(prepared - start);
+      observer.starting(StatementObserver.Phase.EXECUTION);
+      final T result = doExecute(statement);
+      observer.executed(System.nanoTime() - prepared);
+      observeResult(observer, result);
+      return result;
+    }
+    catch (SQLException | RuntimeException ex) {
+      observer.failed(ex);
+      throw ex;
     }
-    return doExecute(statement);
   }
 
   /**
@@ -69,6 +101,14 @@ abstract class AbstractPreparedStatementExecutor<T, E extends PreparedStatement>
     return statement;
   }
 
+  /**
+   * Gets the observer for the last execution.
+   * @return observer
+   */
+  public StatementObserver getObserver() {
+    return observer;
+  }
+
   /**
    * Gets the statement parameters.
    * @return parameters
@@ -85,4 +125,18 @@ abstract class AbstractPreparedStatementExecutor<T, E extends PreparedStatement>
    */
   protected abstract T doExecute(E statement) throws SQLException;
 
+  /**
+   * Notifies the observer of an execution of the outcome of the execution.
+   * <p>
+   * This implementation reports that the execution is complete; a subclass
+   * that can determine the number of rows affected by an execution, or
+   * that has further phases to report, overrides this method.
+   *
+   * @param observer observer for the execution
+   * @param result return value from {@link #doExecute}
+   */
+  protected void observeResult(StatementObserver observer, T result) {
+    observer.completed();
+  }
+
 }
@@ -0,0 +1,247 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A concrete {@link AsyncJdbcOperations} implementation.
+ * <p>
+ * Operations are run on an {@link Executor}, after acquiring a permit from
+ * a fair {@link Semaphore} that limits the number of operations executing
+ * concurrently.  When no executor is specified, a virtual thread per task
+ * executor is used if the Java platform supports virtual threads; otherwise
+ * a pool of daemon threads, no larger than the concurrency limit, is used.
+ *
+ * @author Carl Harris
+ */
+class AsyncFluentJdbc implements AsyncJdbcOperations {
+
+  private static final AtomicInteger threadCount = new AtomicInteger();
+
+  private final JdbcOperations jdbc;
+  private final Executor executor;
+  private final Semaphore permits;
+
+  /**
+   * Constructs a new instance.
+   * @param jdbc operations facade that will perform each operation
+   * @param executor executor on which operations will be run; may be
+   *    {@code null} to use a default executor
+   * @param maxConcurrency maximum number of operations that may execute
+   *    concurrently
+   */
+  public AsyncFluentJdbc(JdbcOperations jdbc, Executor executor,
+      int maxConcurrency) {
+    if (maxConcurrency <= 0) {
+      throw new IllegalArgumentException("concurrency must be positive");
+    }
+    this.jdbc = jdbc;
+    this.executor = executor != null ?
+        executor : defaultExecutor(maxConcurrency);
+    this.permits = new Semaphore(maxConcurrency, true);
+  }
+
+  @Override
+  public <T> CompletableFuture<List<T>> retrieveList(
+      final QueryTemplate<T> query, final Parameter... parameters) {
+    return submit(new JdbcWork<List<T>>() {
+      @Override
+      public List<T> perform(JdbcOperations jdbc) {
+        return query.retrieveList(parameters);
+      }
+    });
+  }
+
+  @Override
+  public <T> CompletableFuture<T> retrieveValue(final QueryTemplate<T> query,
+      final Parameter... parameters) {
+    return submit(new JdbcWork<T>() {
+      @Override
+      public T perform(JdbcOperations jdbc) {
+        return query.retrieveValue(parameters);
+      }
+    });
+  }
+
+  @Override
+  public CompletableFuture<Void> execute(final QueryTemplate<?> query,
+      final Parameter... parameters) {
+    return submit(new JdbcWork<Void>() {
+      @Override
+      public Void perform(JdbcOperations jdbc) {
+        query.execute(parameters);
+        return null;
+      }
+    });
+  }
+
+  @Override
+  public CompletableFuture<Integer> execute(final UpdateTemplate update,
+      final Parameter... parameters) {
+    return submit(new JdbcWork<Integer>() {
+      @Override
+      public Integer perform(JdbcOperations jdbc) {
+        return update.execute(parameters);
+      }
+    });
+  }
+
+  @Override
+  public CompletableFuture<int[]> executeBatch(final UpdateTemplate update,
+      final Iterable<Parameter[]> rows) {
+    return submit(new JdbcWork<int[]>() {
+      @Override
+      public int[] perform(JdbcOperations jdbc) {
+        return update.executeBatch(rows);
+      }
+    });
+  }
+
+  @Override
+  public <T> CompletableFuture<T> inTransaction(final JdbcWork<T> work) {
+    return submit(new JdbcWork<T>() {
+      @Override
+      public T perform(JdbcOperations jdbc) {
+        return jdbc.inTransaction(work);
+      }
+    });
+  }
+
+  @Override
+  public <T> CompletableFuture<T> inConnection(final JdbcWork<T> work) {
+    return submit(new JdbcWork<T>() {
+      @Override
+      public T perform(JdbcOperations jdbc) {
+        return jdbc.inConnection(work);
+      }
+    });
+  }
+
+  /**
+   * Gets the number of operations that could start executing immediately.
+   * @return number of available permits
+   */
+  int getAvailablePermits() {
+    return permits.availablePermits();
+  }
+
+  private <T> CompletableFuture<T> submit(final JdbcWork<T> work) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    try {
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          perform(work, future);
+        }
+      });
+    }
+    catch (RejectedExecutionException ex) {
+      future.completeExceptionally(ex);
+    }
+    return future;
+  }
+
+  private <T> void perform(JdbcWork<T> work, CompletableFuture<T> future) {
+    if (future.isDone()) return;
+    try {
+      permits.acquire();
+    }
+    catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      future.completeExceptionally(ex);
+      return;
+    }
+    // the permit is released before the future is completed, so that
+    // a dependent stage that submits another operation can acquire it
+    T result = null;
+    Throwable failure = null;
+    try {
+      if (!future.isDone()) {
+        result = work.perform(jdbc);
+      }
+    }
+    catch (SQLException ex) {
+      failure = new SQLRuntimeException(ex);
+    }
+    catch (Throwable t) {
+      failure = t;
+    }
+    finally {
+      permits.release();
+    }
+    if (failure != null) {
+      future.completeExceptionally(failure);
+    }
+    else {
+      future.complete(result);
+    }
+  }
+
+  private static Executor defaultExecutor(int maxConcurrency) {
+    final Executor executor = VirtualThreadExecutorHolder.EXECUTOR;
+    if (executor != null) return executor;
+    final ThreadPoolExecutor pool = new ThreadPoolExecutor(maxConcurrency,
+        maxConcurrency, 60, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+          @Override
+          public Thread newThread(Runnable r) {
+            final Thread thread = new Thread(r,
+                "fluent-jdbc-async-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          }
+        });
+    pool.allowCoreThreadTimeOut(true);
+    return pool;
+  }
+
+  /**
+   * Lazily creates the shared virtual thread executor, if the platform
+   * supports virtual threads.
+   */
+  static class VirtualThreadExecutorHolder {
+
+    static final ExecutorService EXECUTOR = newVirtualThreadExecutor();
+
+    private static ExecutorService newVirtualThreadExecutor() {
+      try {
+        return (ExecutorService) Executors.class
+            .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+      }
+      catch (ReflectiveOperationException | RuntimeException ex) {
+        return null;
+      }
+    }
+
+  }
+
+}
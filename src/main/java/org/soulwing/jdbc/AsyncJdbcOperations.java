@@ -0,0 +1,123 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An API for performing SQL operations asynchronously.
+ * <p>
+ * Each method of this interface submits an operation for execution and
+ * immediately returns a {@link CompletableFuture} that is completed with the
+ * operation's result.  Operations are described using
+ * {@linkplain QueryTemplate query} and {@linkplain UpdateTemplate update}
+ * templates, which are safe for concurrent execution, or using a
+ * {@link JdbcWork} closure.
+ * <p>
+ * The number of operations executing concurrently is limited, so that
+ * a large number of submitted operations does not exhaust a connection pool;
+ * operations in excess of the limit wait for a running operation to complete.
+ * A future returned by these methods is completed exceptionally if the
+ * operation throws an exception (e.g. {@link SQLRuntimeException}).
+ * <p>
+ * An instance of this type is obtained using {@link FluentJdbc#async()}.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * sqlTemplate.async().retrieveList(findPeopleByName, Parameter.with(name))
+ *     .thenAccept(people -> ...);
+ * }</pre>
+ *
+ * @author Carl Harris
+ */
+public interface AsyncJdbcOperations {
+
+  /**
+   * Asynchronously executes a query, retrieving the list of values for all
+   * matching rows.
+   * @param query the query to execute
+   * @param parameters values for query placeholders
+   * @param <T> the type of object returned by the query
+   * @return future result of {@link QueryTemplate#retrieveList(Parameter...)}
+   */
+  <T> CompletableFuture<List<T>> retrieveList(QueryTemplate<T> query,
+      Parameter... parameters);
+
+  /**
+   * Asynchronously executes a query, retrieving a value representing the
+   * matching row.
+   * @param query the query to execute
+   * @param parameters values for query placeholders
+   * @param <T> the type of object returned by the query
+   * @return future result of {@link QueryTemplate#retrieveValue(Parameter...)}
+   */
+  <T> CompletableFuture<T> retrieveValue(QueryTemplate<T> query,
+      Parameter... parameters);
+
+  /**
+   * Asynchronously executes a query, processing the result set with the
+   * query's configured handler.
+   * @param query the query to execute
+   * @param parameters values for query placeholders
+   * @return future that is completed when the query has been executed
+   */
+  CompletableFuture<Void> execute(QueryTemplate<?> query,
+      Parameter... parameters);
+
+  /**
+   * Asynchronously executes an update.
+   * @param update the update to execute
+   * @param parameters values for placeholders in the SQL statement
+   * @return future number of rows affected by the update
+   */
+  CompletableFuture<Integer> execute(UpdateTemplate update,
+      Parameter... parameters);
+
+  /**
+   * Asynchronously executes an update for each of the given rows, using
+   * JDBC batches.
+   * @param update the update to execute
+   * @param rows values for placeholders in the SQL statement, one array
+   *    of parameters for each row
+   * @return future update counts for each row, in the order of {@code rows}
+   */
+  CompletableFuture<int[]> executeBatch(UpdateTemplate update,
+      Iterable<Parameter[]> rows);
+
+  /**
+   * Asynchronously performs a unit of work in a transaction.
+   * @param work the unit of work to perform
+   * @param <T> type of result returned by the work
+   * @return future result of the work
+   * @see JdbcOperations#inTransaction(JdbcWork)
+   */
+  <T> CompletableFuture<T> inTransaction(JdbcWork<T> work);
+
+  /**
+   * Asynchronously performs a unit of work using a single connection.
+   * @param work the unit of work to perform
+   * @param <T> type of result returned by the work
+   * @return future result of the work
+   * @see JdbcOperations#inConnection(JdbcWork)
+   */
+  <T> CompletableFuture<T> inConnection(JdbcWork<T> work);
+
+}
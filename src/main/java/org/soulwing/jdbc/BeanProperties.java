@@ -0,0 +1,156 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Read access to the properties of JavaBeans.
+ * <p>
+ * The getters of each bean type are discovered once and held as method
+ * handles, keyed both by property name and by the normalized form of the
+ * name (see {@link PlanCachingRowMapper#normalize(String)}).
+ *
+ * @author Carl Harris
+ */
+final class BeanProperties {
+
+  private static final MethodType GETTER_TYPE =
+      MethodType.methodType(Object.class, Object.class);
+
+  private static final ClassValue<BeanProperties> properties =
+      new ClassValue<BeanProperties>() {
+        @Override
+        protected BeanProperties computeValue(Class<?> type) {
+          return new BeanProperties(type);
+        }
+      };
+
+  private final Class<?> type;
+  private final Map<String, MethodHandle> getters = new HashMap<>();
+  private final Map<String, MethodHandle> normalizedGetters = new HashMap<>();
+
+  private BeanProperties(Class<?> type) {
+    this.type = type;
+    for (final Method method : type.getMethods()) {
+      final String name = propertyName(method);
+      if (name == null || getters.containsKey(name)) continue;
+      final MethodHandle getter = getterHandle(method);
+      getters.put(name, getter);
+      normalizedGetters.put(PlanCachingRowMapper.normalize(name), getter);
+    }
+  }
+
+  /**
+   * Gets the properties of the given bean type.
+   * @param type the subject type
+   * @return bean properties
+   */
+  static BeanProperties of(Class<?> type) {
+    return properties.get(type);
+  }
+
+  /**
+   * Tests whether a property is readable.
+   * @param name property name; if no property has exactly this name, the
+   *    name is matched ignoring case and underscores
+   * @return {@code true} if the bean has a getter for property
+   *    {@code name}
+   */
+  boolean isReadable(String name) {
+    return getter(name) != null;
+  }
+
+  /**
+   * Gets the value of a property.
+   * @param bean the subject bean
+   * @param name property name; if no property has exactly this name, the
+   *    name is matched ignoring case and underscores
+   * @return property value
+   * @throws IllegalArgumentException if there is no readable property
+   *    named {@code name}
+   */
+  Object get(Object bean, String name) {
+    final MethodHandle getter = getter(name);
+    if (getter == null) {
+      throw new IllegalArgumentException(type.getName()
+          + " has no readable property named '" + name + "'");
+    }
+    try {
+      return getter.invokeExact(bean);
+    }
+    catch (RuntimeException | Error ex) {
+      throw ex;
+    }
+    catch (Throwable t) {
+      throw new IllegalStateException("error reading property '" + name
+          + "' of " + type.getName(), t);
+    }
+  }
+
+  private MethodHandle getter(String name) {
+    final MethodHandle getter = getters.get(name);
+    if (getter != null) return getter;
+    return normalizedGetters.get(PlanCachingRowMapper.normalize(name));
+  }
+
+  private static String propertyName(Method method) {
+    if (Modifier.isStatic(method.getModifiers())) return null;
+    if (method.getParameterTypes().length != 0) return null;
+    if (method.getDeclaringClass() == Object.class) return null;
+    final String name = method.getName();
+    final Class<?> returnType = method.getReturnType();
+    if (name.startsWith("get") && name.length() > 3
+        && returnType != void.class) {
+      return decapitalize(name.substring(3));
+    }
+    if (name.startsWith("is") && name.length() > 2
+        && (returnType == boolean.class || returnType == Boolean.class)) {
+      return decapitalize(name.substring(2));
+    }
+    return null;
+  }
+
+  private static String decapitalize(String name) {
+    if (name.length() > 1 && Character.isUpperCase(name.charAt(1))
+        && Character.isUpperCase(name.charAt(0))) {
+      return name;
+    }
+    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private static MethodHandle getterHandle(Method method) {
+    try {
+      BeanRowMapper.makeAccessible(method);
+      return MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+    }
+    catch (IllegalAccessException ex) {
+      throw new IllegalArgumentException("getter " + method.getName()
+          + " of " + method.getDeclaringClass().getName()
+          + " is not accessible", ex);
+    }
+  }
+
+}
@@ -0,0 +1,200 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link RowMapper} that maps each row to a new instance of a JavaBean,
+ * by invoking the setter whose property name matches each column label.
+ * <p>
+ * Columns for which the bean has no matching setter are ignored.  Properties
+ * for which the result set has no matching column are left with the value
+ * assigned by the bean's no-arg constructor.
+ *
+ * @author Carl Harris
+ */
+class BeanRowMapper<T> extends PlanCachingRowMapper<T> {
+
+  private static final MethodType CONSTRUCTOR_TYPE =
+      MethodType.methodType(Object.class);
+
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final Class<T> type;
+  private final MethodHandle constructor;
+  private final Map<String, Setter> setters = new HashMap<>();
+
+  /**
+   * Constructs a new instance.
+   * @param type bean type; must have a no-arg constructor
+   * @throws IllegalArgumentException if {@code type} has no accessible
+   *    no-arg constructor
+   */
+  public BeanRowMapper(Class<T> type) {
+    this.type = type;
+    this.constructor = constructorHandle(type);
+    for (final Method method : type.getMethods()) {
+      if (!isSetter(method)) continue;
+      final String name = normalize(method.getName().substring(3));
+      if (setters.containsKey(name)) continue;
+      setters.put(name, new Setter(setterHandle(method),
+          ColumnReader.forType(method.getParameterTypes()[0])));
+    }
+  }
+
+  @Override
+  protected Plan<T> createPlan(String[] labels) {
+    int count = 0;
+    final int[] indexes = new int[labels.length];
+    final Setter[] columnSetters = new Setter[labels.length];
+    for (int i = 0; i < labels.length; i++) {
+      final Setter setter = setters.get(normalize(labels[i]));
+      if (setter == null) continue;
+      indexes[count] = i + 1;
+      columnSetters[count] = setter;
+      count++;
+    }
+    return new BeanPlan<>(type, constructor, count, indexes, columnSetters);
+  }
+
+  private static boolean isSetter(Method method) {
+    return method.getName().length() > 3
+        && method.getName().startsWith("set")
+        && method.getParameterTypes().length == 1
+        && !Modifier.isStatic(method.getModifiers());
+  }
+
+  private static MethodHandle constructorHandle(Class<?> type) {
+    try {
+      final Constructor<?> constructor = type.getDeclaredConstructor();
+      makeAccessible(constructor);
+      return MethodHandles.lookup().unreflectConstructor(constructor)
+          .asType(CONSTRUCTOR_TYPE);
+    }
+    catch (NoSuchMethodException | IllegalAccessException ex) {
+      throw new IllegalArgumentException(type.getName()
+          + " has no accessible no-arg constructor", ex);
+    }
+  }
+
+  private static MethodHandle setterHandle(Method method) {
+    try {
+      makeAccessible(method);
+      return MethodHandles.lookup().unreflect(method).asType(SETTER_TYPE);
+    }
+    catch (IllegalAccessException ex) {
+      throw new IllegalArgumentException("setter " + method.getName()
+          + " of " + method.getDeclaringClass().getName()
+          + " is not accessible", ex);
+    }
+  }
+
+  /**
+   * Suppresses access checks for a constructor or method, if possible.
+   * @param object the subject constructor or method
+   */
+  static void makeAccessible(java.lang.reflect.AccessibleObject object) {
+    try {
+      object.setAccessible(true);
+    }
+    catch (RuntimeException ex) {
+      assert true;  // access will be checked when the handle is created
+    }
+  }
+
+  /**
+   * Rethrows an exception produced by a method handle invocation.
+   * @param type the type being mapped
+   * @param t the exception to rethrow
+   * @return never returns normally; declared to allow use in a
+   *    {@code throw} statement
+   * @throws SQLException if {@code t} is a {@link SQLException} or a
+   *    checked exception
+   */
+  static SQLException rethrow(Class<?> type, Throwable t)
+      throws SQLException {
+    if (t instanceof SQLException) throw (SQLException) t;
+    if (t instanceof RuntimeException) throw (RuntimeException) t;
+    if (t instanceof Error) throw (Error) t;
+    throw new SQLException("cannot map row to " + type.getName(), t);
+  }
+
+  private static class Setter {
+
+    final MethodHandle handle;
+    final ColumnReader reader;
+
+    Setter(MethodHandle handle, ColumnReader reader) {
+      this.handle = handle;
+      this.reader = reader;
+    }
+
+  }
+
+  private static class BeanPlan<T> implements Plan<T> {
+
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final int count;
+    private final int[] indexes;
+    private final MethodHandle[] setters;
+    private final ColumnReader[] readers;
+
+    BeanPlan(Class<T> type, MethodHandle constructor, int count,
+        int[] indexes, Setter[] setters) {
+      this.type = type;
+      this.constructor = constructor;
+      this.count = count;
+      this.indexes = indexes;
+      this.setters = new MethodHandle[count];
+      this.readers = new ColumnReader[count];
+      for (int i = 0; i < count; i++) {
+        this.setters[i] = setters[i].handle;
+        this.readers[i] = setters[i].reader;
+      }
+    }
+
+    @Override
+    public T map(ResultSet rs) throws SQLException {
+      try {
+        final Object bean = (Object) constructor.invokeExact();
+        for (int i = 0; i < count; i++) {
+          setters[i].invokeExact(bean, readers[i].read(rs, indexes[i]));
+        }
+        return type.cast(bean);
+      }
+      catch (Throwable t) {
+        throw rethrow(type, t);
+      }
+    }
+
+  }
+
+}
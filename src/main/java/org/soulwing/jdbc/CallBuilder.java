@@ -26,6 +26,8 @@ import java.util.List;
 import javax.sql.DataSource;
 
 import org.soulwing.jdbc.logger.JdbcLogger;
+import org.soulwing.jdbc.metrics.JdbcMetrics;
+import org.soulwing.jdbc.metrics.NullJdbcMetrics;
 
 /**
  * A concrete {@link JdbcCall} implementation.
@@ -37,6 +39,7 @@ class CallBuilder implements JdbcCall {
   private final DataSource dataSource;
   private final PreparedStatementCreator<CallableStatement> psc;
   private final JdbcLogger logger;
+  private final JdbcMetrics metrics;
 
   private CallableStatementExecutor executor;
 
@@ -49,9 +52,24 @@ class CallBuilder implements JdbcCall {
    */
   public CallBuilder(DataSource dataSource,
       PreparedStatementCreator<CallableStatement> psc, JdbcLogger logger) {
+    this(dataSource, psc, logger, NullJdbcMetrics.INSTANCE);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param dataSource dataSource from which connections will be obtained as
+   *    needed
+   * @param psc prepared statement creator for the call
+   * @param logger statement logger
+   * @param metrics statement metrics listener
+   */
+  public CallBuilder(DataSource dataSource,
+      PreparedStatementCreator<CallableStatement> psc, JdbcLogger logger,
+      JdbcMetrics metrics) {
     this.dataSource = dataSource;
     this.psc = psc;
     this.logger = logger;
+    this.metrics = metrics;
   }
 
   /**
@@ -59,7 +77,8 @@ class CallBuilder implements JdbcCall {
    */
   @Override
   public boolean execute(Parameter... parameters) {
-    executor = new CallableStatementExecutor(psc, parameters, logger);
+    executor = new CallableStatementExecutor(psc, parameters, logger,
+        metrics);
     try {
       return executor.execute(dataSource);
     }
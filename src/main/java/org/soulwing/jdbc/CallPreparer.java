@@ -32,8 +32,8 @@ import org.soulwing.jdbc.source.SQLSource;
  */
 class CallPreparer extends AbstractPreparedStatementCreator<CallableStatement> {
 
-  private CallPreparer(String sql) {
-    super(sql);
+  private CallPreparer(String sql, StatementCache cache) {
+    super(StatementCache.Key.forCall(sql), cache);
   }
 
   /**
@@ -42,7 +42,17 @@ class CallPreparer extends AbstractPreparedStatementCreator<CallableStatement> {
    * @return statement preparer
    */
   public static CallPreparer with(String sql) {
-    return new CallPreparer(sql);
+    return with(sql, null);
+  }
+
+  /**
+   * Creates a new statement preparer for the given SQL statement.
+   * @param sql the SQL statement to prepare
+   * @param cache statement cache to use; may be {@code null}
+   * @return statement preparer
+   */
+  public static CallPreparer with(String sql, StatementCache cache) {
+    return new CallPreparer(sql, cache);
   }
 
   /**
@@ -51,7 +61,17 @@ class CallPreparer extends AbstractPreparedStatementCreator<CallableStatement> {
    * @return statement preparer
    */
   public static CallPreparer with(SQLSource source) {
-    return new CallPreparer(SourceUtils.getSingleStatement(source));
+    return with(source, null);
+  }
+
+  /**
+   * Creates a new statement preparer for the given SQL source
+   * @param source source for the SQL statement to prepare
+   * @param cache statement cache to use; may be {@code null}
+   * @return statement preparer
+   */
+  public static CallPreparer with(SQLSource source, StatementCache cache) {
+    return new CallPreparer(SourceUtils.getSingleStatement(source), cache);
   }
 
   /**
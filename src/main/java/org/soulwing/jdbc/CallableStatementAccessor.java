@@ -43,6 +43,16 @@ class CallableStatementAccessor extends ValueAccessor {
     return new CallableStatementAccessor(delegate);
   }
 
+  @Override
+  <T> T get(TypeHandler<T> handler, int index) throws SQLException {
+    return handler.getValue(delegate, index);
+  }
+
+  @Override
+  <T> T get(TypeHandler<T> handler, String label) throws SQLException {
+    return handler.getValue(delegate, label);
+  }
+
   @Override
   public String getString(int columnIndex) throws SQLException {
     return delegate.getString(columnIndex);
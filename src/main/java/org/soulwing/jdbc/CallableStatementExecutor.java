@@ -23,6 +23,8 @@ import java.sql.CallableStatement;
 import java.sql.SQLException;
 
 import org.soulwing.jdbc.logger.JdbcLogger;
+import org.soulwing.jdbc.metrics.JdbcMetrics;
+import org.soulwing.jdbc.metrics.NullJdbcMetrics;
 
 /**
  * An {@link JdbcExecutor} that executes a stored procedure call.
@@ -42,7 +44,20 @@ class CallableStatementExecutor
       PreparedStatementCreator<CallableStatement> psc,
       Parameter[] parameters,
       JdbcLogger logger) {
-    super(psc, parameters, logger);
+    this(psc, parameters, logger, NullJdbcMetrics.INSTANCE);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param psc prepared statement creator for the statement to execute
+   * @param parameters values for placeholders in the statement
+   * @param logger statement logger
+   * @param metrics statement metrics listener
+   */
+  public CallableStatementExecutor(
+      PreparedStatementCreator<CallableStatement> psc,
+      Parameter[] parameters, JdbcLogger logger, JdbcMetrics metrics) {
+    super(psc, parameters, logger, metrics);
   }
 
   @Override
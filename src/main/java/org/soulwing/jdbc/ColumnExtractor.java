@@ -29,11 +29,11 @@ import java.sql.SQLException;
 class ColumnExtractor<T> {
 
   private final Object columnId;
-  private final Class<T> type;
+  private final TypeHandler<T> handler;
 
   private ColumnExtractor(Object columnId, Class<T> type) {
     this.columnId = columnId;
-    this.type = type;
+    this.handler = TypeHandlers.forType(type);
   }
 
   /**
@@ -65,6 +65,14 @@ class ColumnExtractor<T> {
     return new ColumnExtractor<>(columnLabel, type);
   }
 
+  /**
+   * Gets the column identifier.
+   * @return column index or label
+   */
+  Object getColumnId() {
+    return columnId;
+  }
+
   /**
    * Extracts the value of the configured column from the current row of
    * the given result set.
@@ -74,11 +82,24 @@ class ColumnExtractor<T> {
    */
   public T extract(ResultSet rs) throws SQLException {
     if (columnId instanceof String) {
-      return ResultSetAccessor.with(rs).get((String) columnId, type);
+      return handler.getValue(rs, (String) columnId);
     }
     else {
-      return ResultSetAccessor.with(rs).get((int) columnId, type);
+      return handler.getValue(rs, (int) columnId);
+    }
+  }
+
+  /**
+   * Resolves the index of the configured column in the given result set.
+   * @param rs subject result set
+   * @return column index (index values begin at 1)
+   * @throws SQLException if the configured column label is not found
+   */
+  public int columnIndex(ResultSet rs) throws SQLException {
+    if (columnId instanceof String) {
+      return rs.findColumn((String) columnId);
     }
+    return (int) columnId;
   }
 
 }
@@ -0,0 +1,208 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * A strategy for reading a column value of a particular Java type from
+ * a {@link ResultSet}.
+ * <p>
+ * A reader is resolved once for a target type (see {@link #forType(Class)}),
+ * so that no type dispatch is needed when reading each row.
+ *
+ * @author Carl Harris
+ */
+abstract class ColumnReader {
+
+  /**
+   * Reads a column value from the current row of a result set.
+   * @param rs the subject result set
+   * @param index index of the column to read (the first column is 1)
+   * @return column value; for a primitive type a SQL {@code NULL} is
+   *    returned as the type's default value, for all other types it is
+   *    returned as {@code null}
+   * @throws SQLException as needed
+   */
+  abstract Object read(ResultSet rs, int index) throws SQLException;
+
+  /**
+   * Gets a reader for the given type.
+   * <p>
+   * A type that has no built-in reader is read using the
+   * {@link TypeHandler} registered for it (see {@link TypeHandlers}).
+   *
+   * @param type the target Java type
+   * @return column reader
+   */
+  static ColumnReader forType(Class<?> type) {
+    if (String.class.equals(type)) return STRING;
+    if (int.class.equals(type)) return INT;
+    if (Integer.class.equals(type)) return nullable(INT);
+    if (long.class.equals(type)) return LONG;
+    if (Long.class.equals(type)) return nullable(LONG);
+    if (boolean.class.equals(type)) return BOOLEAN;
+    if (Boolean.class.equals(type)) return nullable(BOOLEAN);
+    if (double.class.equals(type)) return DOUBLE;
+    if (Double.class.equals(type)) return nullable(DOUBLE);
+    if (float.class.equals(type)) return FLOAT;
+    if (Float.class.equals(type)) return nullable(FLOAT);
+    if (short.class.equals(type)) return SHORT;
+    if (Short.class.equals(type)) return nullable(SHORT);
+    if (byte.class.equals(type)) return BYTE;
+    if (Byte.class.equals(type)) return nullable(BYTE);
+    if (BigDecimal.class.equals(type)) return BIG_DECIMAL;
+    if (Timestamp.class.equals(type)) return TIMESTAMP;
+    if (Date.class.equals(type)) return DATE;
+    if (Time.class.equals(type)) return TIME;
+    if (java.util.Date.class.equals(type)) return TIMESTAMP;
+    if (byte[].class.equals(type)) return BYTES;
+    if (Object.class.equals(type)) return OBJECT;
+    return new HandlerReader(TypeHandlers.forType(type));
+  }
+
+  private static ColumnReader nullable(final ColumnReader reader) {
+    return new ColumnReader() {
+      @Override
+      Object read(ResultSet rs, int index) throws SQLException {
+        final Object value = reader.read(rs, index);
+        return rs.wasNull() ? null : value;
+      }
+    };
+  }
+
+  private static final ColumnReader STRING = new ColumnReader() {
+    @Override
+    Object read(ResultSet rs, int index) throws SQLException {
+      return rs.getString(index);
+    }
+  };
+
+  private static final ColumnReader INT = new ColumnReader() {
+    @Override
+    Object read(ResultSet rs, int index) throws SQLException {
+      return rs.getInt(index);
+    }
+  };
+
+  private static final ColumnReader LONG = new ColumnReader() {
+    @Override
+    Object read(ResultSet rs, int index) throws SQLException {
+      return rs.getLong(index);
+    }
+  };
+
+  private static final ColumnReader BOOLEAN = new ColumnReader() {
+    @Override
+    Object read(ResultSet rs, int index) throws SQLException {
+      return rs.getBoolean(index);
+    }
+  };
+
+  private static final ColumnReader DOUBLE = new ColumnReader() {
+    @Override
+    Object read(ResultSet rs, int index) throws SQLException {
+      return rs.getDouble(index);
+    }
+  };
+
+  private static final ColumnReader FLOAT = new ColumnReader() {
+    @Override
+    Object read(ResultSet rs, int index) throws SQLException {
+      return rs.getFloat(index);
+    }
+  };
+
+  private static final ColumnReader SHORT = new ColumnReader() {
+    @Override
+    Object read(ResultSet rs, int index) throws SQLException {
+      return rs.getShort(index);
+    }
+  };
+
+  private static final ColumnReader BYTE = new ColumnReader() {
+    @Override
+    Object read(ResultSet rs, int index) throws SQLException {
+      return rs.getByte(index);
+    }
+  };
+
+  private static final ColumnReader BIG_DECIMAL = new ColumnReader() {
+    @Override
+    Object read(ResultSet rs, int index) throws SQLException {
+      return rs.getBigDecimal(index);
+    }
+  };
+
+  private static final ColumnReader TIMESTAMP = new ColumnReader() {
+    @Override
+    Object read(ResultSet rs, int index) throws SQLException {
+      return rs.getTimestamp(index);
+    }
+  };
+
+  private static final ColumnReader DATE = new ColumnReader() {
+    @Override
+    Object read(ResultSet rs, int index) throws SQLException {
+      return rs.getDate(index);
+    }
+  };
+
+  private static final ColumnReader TIME = new ColumnReader() {
+    @Override
+    Object read(ResultSet rs, int index) throws SQLException {
+      return rs.getTime(index);
+    }
+  };
+
+  private static final ColumnReader BYTES = new ColumnReader() {
+    @Override
+    Object read(ResultSet rs, int index) throws SQLException {
+      return rs.getBytes(index);
+    }
+  };
+
+  private static final ColumnReader OBJECT = new ColumnReader() {
+    @Override
+    Object read(ResultSet rs, int index) throws SQLException {
+      return rs.getObject(index);
+    }
+  };
+
+  private static class HandlerReader extends ColumnReader {
+
+    private final TypeHandler<?> handler;
+
+    HandlerReader(TypeHandler<?> handler) {
+      this.handler = handler;
+    }
+
+    @Override
+    Object read(ResultSet rs, int index) throws SQLException {
+      return handler.getValue(rs, index);
+    }
+
+  }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * A {@link DataSource} that supports binding a connection to the
+ * current thread.
+ * <p>
+ * While a connection is bound to a thread, each request for a connection
+ * made by that thread returns a wrapper for the bound connection that resists
+ * attempts to close it.  Otherwise, requests are delegated to the underlying
+ * data source.
+ *
+ * @author Carl Harris
+ */
+class ConnectionBindingDataSource implements DataSource {
+
+  private final ThreadLocal<Connection> boundConnection = new ThreadLocal<>();
+
+  private final DataSource delegate;
+
+  public ConnectionBindingDataSource(DataSource delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Gets the connection bound to the current thread.
+   * @return wrapper for the bound connection that resists attempts to close
+   *    it, or {@code null} if no connection is bound
+   */
+  public Connection getBoundConnection() {
+    return boundConnection.get();
+  }
+
+  /**
+   * Obtains a connection from the underlying data source and binds it to the
+   * current thread.
+   * @return the bound connection; the caller is responsible for closing it
+   *    after invoking {@link #unbind()}
+   * @throws SQLException as needed
+   * @throws IllegalStateException if a connection is already bound to the
+   *    current thread
+   */
+  public Connection bind() throws SQLException {
+    if (boundConnection.get() != null) {
+      throw new IllegalStateException("a connection is already bound");
+    }
+    final Connection connection = delegate.getConnection();
+    boundConnection.set(
+        new SingleConnectionDataSource.ConnectionWrapper(connection));
+    return connection;
+  }
+
+  /**
+   * Unbinds the connection bound to the current thread (if any).
+   */
+  public void unbind() {
+    boundConnection.remove();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    final Connection connection = boundConnection.get();
+    if (connection != null) return connection;
+    return delegate.getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password)
+      throws SQLException {
+    return delegate.getConnection(username, password);
+  }
+
+  @Override
+  public PrintWriter getLogWriter() throws SQLException {
+    return delegate.getLogWriter();
+  }
+
+  @Override
+  public void setLogWriter(PrintWriter out) throws SQLException {
+    delegate.setLogWriter(out);
+  }
+
+  @Override
+  public void setLoginTimeout(int seconds) throws SQLException {
+    delegate.setLoginTimeout(seconds);
+  }
+
+  @Override
+  public int getLoginTimeout() throws SQLException {
+    return delegate.getLoginTimeout();
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    return delegate.getParentLogger();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    return delegate.unwrap(iface);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return delegate.isWrapperFor(iface);
+  }
+
+}
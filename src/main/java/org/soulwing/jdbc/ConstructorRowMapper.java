@@ -0,0 +1,136 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * A {@link RowMapper} that maps each row to a new instance of a type by
+ * invoking a constructor, passing the value of the column whose label
+ * matches the name of each constructor parameter.
+ * <p>
+ * Every constructor parameter must have a matching column; other columns
+ * in the result set are ignored.
+ *
+ * @author Carl Harris
+ */
+class ConstructorRowMapper<T> extends PlanCachingRowMapper<T> {
+
+  private final Class<T> type;
+  private final MethodHandle constructor;
+  private final String[] names;
+  private final String[] normalizedNames;
+  private final ColumnReader[] readers;
+
+  /**
+   * Constructs a new instance.
+   * @param type the type to construct
+   * @param constructor the constructor to invoke
+   * @param names names to match to column labels for each of the
+   *    constructor's parameters
+   * @throws IllegalArgumentException if the constructor is not accessible
+   *    or the number of names does not match the number of parameters
+   */
+  public ConstructorRowMapper(Class<T> type, Constructor<?> constructor,
+      String[] names) {
+    final Class<?>[] parameterTypes = constructor.getParameterTypes();
+    if (names.length != parameterTypes.length) {
+      throw new IllegalArgumentException("constructor of " + type.getName()
+          + " requires " + parameterTypes.length + " parameters");
+    }
+    this.type = type;
+    this.constructor = constructorHandle(constructor);
+    this.names = names.clone();
+    this.normalizedNames = new String[names.length];
+    this.readers = new ColumnReader[names.length];
+    for (int i = 0; i < names.length; i++) {
+      normalizedNames[i] = normalize(names[i]);
+      readers[i] = ColumnReader.forType(parameterTypes[i]);
+    }
+  }
+
+  @Override
+  protected Plan<T> createPlan(String[] labels) throws SQLException {
+    final int[] indexes = new int[names.length];
+    for (int i = 0; i < names.length; i++) {
+      for (int j = 0; j < labels.length && indexes[i] == 0; j++) {
+        if (normalizedNames[i].equals(normalize(labels[j]))) {
+          indexes[i] = j + 1;
+        }
+      }
+      if (indexes[i] == 0) {
+        throw new SQLException("result set has no column for '"
+            + names[i] + "' of " + type.getName());
+      }
+    }
+    return new ConstructorPlan<>(type, constructor, indexes, readers);
+  }
+
+  private static MethodHandle constructorHandle(Constructor<?> constructor) {
+    try {
+      BeanRowMapper.makeAccessible(constructor);
+      final int count = constructor.getParameterTypes().length;
+      return MethodHandles.lookup().unreflectConstructor(constructor)
+          .asSpreader(Object[].class, count)
+          .asType(MethodType.methodType(Object.class, Object[].class));
+    }
+    catch (IllegalAccessException ex) {
+      throw new IllegalArgumentException("constructor of "
+          + constructor.getDeclaringClass().getName()
+          + " is not accessible", ex);
+    }
+  }
+
+  private static class ConstructorPlan<T> implements Plan<T> {
+
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final int[] indexes;
+    private final ColumnReader[] readers;
+
+    ConstructorPlan(Class<T> type, MethodHandle constructor, int[] indexes,
+        ColumnReader[] readers) {
+      this.type = type;
+      this.constructor = constructor;
+      this.indexes = indexes;
+      this.readers = readers;
+    }
+
+    @Override
+    public T map(ResultSet rs) throws SQLException {
+      final Object[] args = new Object[indexes.length];
+      for (int i = 0; i < args.length; i++) {
+        args[i] = readers[i].read(rs, indexes[i]);
+      }
+      try {
+        return type.cast((Object) constructor.invokeExact(args));
+      }
+      catch (Throwable t) {
+        throw BeanRowMapper.rethrow(type, t);
+      }
+    }
+
+  }
+
+}
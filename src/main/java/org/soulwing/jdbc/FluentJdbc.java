@@ -23,12 +23,17 @@ import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.concurrent.Executor;
 
 import javax.sql.DataSource;
 
 import org.soulwing.jdbc.logger.JdbcLogger;
 import org.soulwing.jdbc.logger.NullJdbcLogger;
 import org.soulwing.jdbc.logger.PrintWriterJdbcLogger;
+import org.soulwing.jdbc.metrics.JdbcMetrics;
+import org.soulwing.jdbc.metrics.NullJdbcMetrics;
+import org.soulwing.jdbc.routing.LoadBalancingDataSource;
 import org.soulwing.jdbc.source.SQLSource;
 
 /**
@@ -47,13 +52,44 @@ import org.soulwing.jdbc.source.SQLSource;
  * A single instance of this class that is constructed with an appropriate
  * {@link DataSource} can be concurrently shared by an arbitrary number of
  * application components.
+ * <p>
+ * Each operation normally obtains its own connection from the data source.
+ * Use {@link #inTransaction(JdbcWork) inTransaction} or
+ * {@link #inConnection(JdbcWork) inConnection} to perform a sequence of
+ * operations using a single connection bound to the calling thread.
+ * <p>
+ * A facade may also be constructed with a primary data source and a data
+ * source for read replicas of the primary database.  Queries created using
+ * {@link #query()} and {@link #queryForType(Class)} then obtain connections
+ * from the replicas, while all other operations, and any query performed
+ * within {@link #inTransaction(JdbcWork) inTransaction} or
+ * {@link #inConnection(JdbcWork) inConnection}, use the primary.  A query
+ * that must observe the effects of recent updates can be pinned to the
+ * primary using {@link JdbcQuery#onPrimary()}.
+ * <pre>
+ * FluentJdbc sqlTemplate = new FluentJdbc(primary,
+ *     Arrays.asList(replica1, replica2));
+ * </pre>
  *
  * @author Carl Harris
  */
 public class FluentJdbc implements JdbcOperations {
 
-  private final DataSource dataSource;
+  /**
+   * Default maximum number of concurrently executing asynchronous operations.
+   */
+  public static final int DEFAULT_ASYNC_CONCURRENCY = 10;
+
+  private final ConnectionBindingDataSource dataSource;
+  private final DataSource queryDataSource;
   private JdbcLogger logger = NullJdbcLogger.INSTANCE;
+  private JdbcMetrics metrics = NullJdbcMetrics.INSTANCE;
+  private StatementCache statementCache;
+  private QueryHedger hedger;
+  private ResultCacheBinding resultCache;
+  private Executor asyncExecutor;
+  private int asyncConcurrency = DEFAULT_ASYNC_CONCURRENCY;
+  private AsyncFluentJdbc async;
   private boolean autoCommit;
   private boolean ignoreErrors;
 
@@ -63,7 +99,38 @@ public class FluentJdbc implements JdbcOperations {
    *    the database
    */
   public FluentJdbc(DataSource dataSource) {
-    this.dataSource = dataSource;
+    this.dataSource = new ConnectionBindingDataSource(dataSource);
+    this.queryDataSource = this.dataSource;
+  }
+
+  /**
+   * Constructs a new instance that performs queries using read replicas.
+   * @param primary data source that will be used to obtain connections to
+   *    the primary database
+   * @param replicas data source that will be used to obtain connections to
+   *    replicas of the primary database for queries (e.g. a
+   *    {@link LoadBalancingDataSource})
+   */
+  public FluentJdbc(DataSource primary, DataSource replicas) {
+    this.dataSource = new ConnectionBindingDataSource(primary);
+    this.queryDataSource = new ReadRoutingDataSource(this.dataSource,
+        replicas);
+  }
+
+  /**
+   * Constructs a new instance that performs queries using read replicas.
+   * <p>
+   * Queries are distributed across the replicas using a
+   * {@link LoadBalancingDataSource} with its default policy.
+   *
+   * @param primary data source that will be used to obtain connections to
+   *    the primary database
+   * @param replicas data sources that will be used to obtain connections to
+   *    replicas of the primary database for queries
+   */
+  public FluentJdbc(DataSource primary,
+      Collection<? extends DataSource> replicas) {
+    this(primary, new LoadBalancingDataSource(replicas));
   }
 
   /**
@@ -110,8 +177,10 @@ public class FluentJdbc implements JdbcOperations {
     Connection connection = null;
     Boolean autoCommit = null;
     try {
+      // a connection bound by inTransaction must keep its transaction
+      final boolean bound = dataSource.getBoundConnection() != null;
       connection = dataSource.getConnection();
-      if (this.autoCommit) {
+      if (this.autoCommit && !bound) {
         autoCommit = connection.getAutoCommit();
         connection.setAutoCommit(true);
       }
@@ -151,7 +220,8 @@ public class FluentJdbc implements JdbcOperations {
 
   private void doExecute(String sql, DataSource dataSource) {
     final PreparedStatementCreator psc = StatementPreparer.with(sql);
-    final StatementExecutor executor = new StatementExecutor(psc, logger);
+    final StatementExecutor executor = new StatementExecutor(psc, logger,
+        metrics);
     try {
       executor.execute(dataSource);
     }
@@ -160,6 +230,10 @@ public class FluentJdbc implements JdbcOperations {
     }
     finally {
       JdbcUtils.closeQuietly(psc);
+      final ResultCacheBinding resultCache = this.resultCache;
+      if (resultCache != null) {
+        resultCache.invalidate(sql);
+      }
     }
   }
 
@@ -176,7 +250,8 @@ public class FluentJdbc implements JdbcOperations {
    */
   @Override
   public <T> JdbcQuery<T> queryForType(Class<T> type) {
-    return new QueryBuilder<>(type, dataSource, logger);
+    return new QueryBuilder<>(type, queryDataSource, dataSource,
+        statementCache, logger, metrics, hedger, resultCache);
   }
 
   /**
@@ -184,7 +259,8 @@ public class FluentJdbc implements JdbcOperations {
    */
   @Override
   public JdbcUpdate update() {
-    return new UpdateBuilder(dataSource, logger);
+    return new UpdateBuilder(dataSource, statementCache, logger, metrics,
+        resultCache);
   }
 
   /**
@@ -192,7 +268,8 @@ public class FluentJdbc implements JdbcOperations {
    */
   @Override
   public JdbcCall call(String sql) {
-    return new CallBuilder(dataSource, CallPreparer.with(sql), logger);
+    return new CallBuilder(dataSource,
+        CallPreparer.with(sql, statementCache), logger, metrics);
   }
 
   /**
@@ -200,7 +277,156 @@ public class FluentJdbc implements JdbcOperations {
    */
   @Override
   public JdbcCall call(SQLSource source) {
-    return new CallBuilder(dataSource, CallPreparer.with(source), logger);
+    return new CallBuilder(dataSource,
+        CallPreparer.with(source, statementCache), logger, metrics);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T inTransaction(JdbcWork<T> work) {
+    return doInConnection(work, true);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T inConnection(JdbcWork<T> work) {
+    return doInConnection(work, false);
+  }
+
+  private <T> T doInConnection(JdbcWork<T> work, boolean transactional) {
+    try {
+      final Connection bound = dataSource.getBoundConnection();
+      if (bound != null) {
+        if (transactional && bound.getAutoCommit()) {
+          return doInTransaction(bound, work);
+        }
+        return work.perform(this);
+      }
+      final Connection connection = dataSource.bind();
+      try {
+        return transactional ?
+            doInTransaction(connection, work) : work.perform(this);
+      }
+      finally {
+        dataSource.unbind();
+        JdbcUtils.closeQuietly(connection);
+        final ResultCacheBinding resultCache = this.resultCache;
+        if (resultCache != null) {
+          resultCache.transactionEnded();
+        }
+      }
+    }
+    catch (SQLException ex) {
+      throw new SQLRuntimeException(ex);
+    }
+  }
+
+  private <T> T doInTransaction(Connection connection, JdbcWork<T> work)
+      throws SQLException {
+    final boolean autoCommit = connection.getAutoCommit();
+    if (autoCommit) {
+      connection.setAutoCommit(false);
+    }
+    try {
+      final T result = work.perform(this);
+      connection.commit();
+      return result;
+    }
+    catch (SQLException | RuntimeException | Error ex) {
+      rollbackQuietly(connection);
+      throw ex;
+    }
+    finally {
+      final ResultCacheBinding resultCache = this.resultCache;
+      if (resultCache != null) {
+        resultCache.transactionEnded();
+      }
+      if (autoCommit) {
+        connection.setAutoCommit(true);
+      }
+    }
+  }
+
+  private static void rollbackQuietly(Connection connection) {
+    try {
+      connection.rollback();
+    }
+    catch (SQLException ex) {
+      ex.printStackTrace(System.out);
+    }
+  }
+
+  /**
+   * Gets an API for performing operations asynchronously using this facade.
+   * <p>
+   * Asynchronous operations are run using the configured
+   * {@linkplain #setAsyncExecutor(Executor) executor}, and no more than the
+   * configured {@linkplain #setAsyncConcurrency(int) number} of them execute
+   * concurrently.  All invocations of this method return the same object
+   * (until the configuration is changed), so the concurrency limit applies to
+   * all asynchronous operations performed using this facade.
+   *
+   * @return asynchronous operations API
+   */
+  public synchronized AsyncJdbcOperations async() {
+    if (async == null) {
+      async = new AsyncFluentJdbc(this, asyncExecutor, asyncConcurrency);
+    }
+    return async;
+  }
+
+  /**
+   * Gets the executor used for asynchronous operations.
+   * @return executor or {@code null} if the default executor is used
+   */
+  public synchronized Executor getAsyncExecutor() {
+    return asyncExecutor;
+  }
+
+  /**
+   * Sets the executor to use for {@linkplain #async() asynchronous}
+   * operations.
+   * <p>
+   * By default, operations are run on virtual threads, when supported by
+   * the Java platform; otherwise, a pool of daemon threads is used.
+   *
+   * @param asyncExecutor the executor to set (may be {@code null} to use the
+   *    default executor)
+   */
+  public synchronized void setAsyncExecutor(Executor asyncExecutor) {
+    this.asyncExecutor = asyncExecutor;
+    this.async = null;
+  }
+
+  /**
+   * Gets the maximum number of concurrently executing asynchronous
+   * operations.
+   * @return concurrency limit
+   */
+  public synchronized int getAsyncConcurrency() {
+    return asyncConcurrency;
+  }
+
+  /**
+   * Sets the maximum number of concurrently executing
+   * {@linkplain #async() asynchronous} operations.
+   * <p>
+   * This limit should generally be no larger than the maximum size of the
+   * connection pool used by the data source.  If not set,
+   * {@link #DEFAULT_ASYNC_CONCURRENCY} is used.
+   *
+   * @param asyncConcurrency the limit to set; must be positive
+   */
+  public synchronized void setAsyncConcurrency(int asyncConcurrency) {
+    if (asyncConcurrency <= 0) {
+      throw new IllegalArgumentException("concurrency must be positive");
+    }
+    this.asyncConcurrency = asyncConcurrency;
+    this.async = null;
   }
 
   /**
@@ -251,6 +477,118 @@ public class FluentJdbc implements JdbcOperations {
     setLogger(new PrintWriterJdbcLogger(stream, traceEnabled));
   }
 
+  /**
+   * Gets the metrics listener used by this facade.
+   * @return metrics listener (never {@code null})
+   */
+  public JdbcMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Sets the metrics listener to notify of the timing and outcome of each
+   * statement execution.
+   * <p>
+   * For example, to record per-statement latency histograms:
+   * <pre>
+   * {@code
+   * DefaultJdbcMetrics metrics = new DefaultJdbcMetrics();
+   * jdbc.setMetrics(metrics);
+   * ...
+   * for (StatementStats stats : metrics.snapshot()) {
+   *   System.out.println(stats);
+   * }
+   * }</pre>
+   *
+   * @param metrics the metrics listener to set (may be {@code null} to
+   *    disable metrics)
+   */
+  public void setMetrics(JdbcMetrics metrics) {
+    if (metrics == null) {
+      metrics = NullJdbcMetrics.INSTANCE;
+    }
+    this.metrics = metrics;
+  }
+
+  /**
+   * Gets the statement cache used by this facade.
+   * @return statement cache or {@code null} if statements are not cached
+   */
+  public StatementCache getStatementCache() {
+    return statementCache;
+  }
+
+  /**
+   * Sets the statement cache to use for prepared statements.
+   * <p>
+   * When a cache is set, the statements prepared for queries, updates, and
+   * calls are retained for reuse on the same physical connection, avoiding
+   * the cost of preparing them again.  Statements executed via
+   * {@link #execute(String) execute} and
+   * {@link #executeScript(SQLSource) executeScript} are never cached.
+   * <p>
+   * Statement caching is most effective when used with a pooling data source
+   * that does not itself close statements when a connection is returned to
+   * the pool.
+   *
+   * @param statementCache the cache to set (may be {@code null} to disable
+   *    statement caching)
+   */
+  public void setStatementCache(StatementCache statementCache) {
+    this.statementCache = statementCache;
+  }
+
+  /**
+   * Gets the hedging policy used by this facade.
+   * @return hedging policy or {@code null} if queries are not hedged
+   */
+  public HedgingPolicy getHedgingPolicy() {
+    return hedger != null ? hedger.getPolicy() : null;
+  }
+
+  /**
+   * Sets the policy for hedging queries.
+   * <p>
+   * Only queries that are explicitly {@linkplain JdbcQuery#hedged() marked}
+   * are hedged.  The duplicate of a slow query uses the same data source as
+   * the query it hedges, so hedging requires that this facade be configured
+   * with {@linkplain #FluentJdbc(DataSource, Collection) read replicas}
+   * using a {@link LoadBalancingDataSource} with several replicas, which
+   * usually sends the duplicate to a different replica.
+   *
+   * @param hedgingPolicy the policy to set (may be {@code null} to disable
+   *    hedging)
+   */
+  public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+    this.hedger = hedgingPolicy != null ?
+        new QueryHedger(hedgingPolicy, dataSource) : null;
+  }
+
+  /**
+   * Gets the query result cache used by this facade.
+   * @return result cache or {@code null} if query results are not cached
+   */
+  public QueryResultCache getResultCache() {
+    return resultCache != null ? resultCache.getCache() : null;
+  }
+
+  /**
+   * Sets the cache to use for query results.
+   * <p>
+   * Only queries that are explicitly {@linkplain JdbcQuery#cached() marked}
+   * are cached.  Cached results are invalidated when updates and statements
+   * executed using this facade change the tables they were read from.  The
+   * same cache may be set on several facades that use the same database, so
+   * that the changes made by each are seen by all.
+   *
+   * @param resultCache the cache to set (may be {@code null} to disable
+   *    result caching)
+   */
+  public void setResultCache(QueryResultCache resultCache) {
+    this.resultCache = resultCache != null ?
+        new ResultCacheBinding(resultCache, dataSource) : null;
+  }
+
   /**
    * Gets the {@code autoCommit} flag state.
    * <p>
@@ -268,6 +606,12 @@ public class FluentJdbc implements JdbcOperations {
    * executeScript} is invoked. If {@code true}, all statements executed by
    * the script will be auto-committed.
    * <p>
+   * This flag has no effect on a script that is executed using the
+   * connection bound to the calling thread by
+   * {@link #inTransaction(JdbcWork) inTransaction} or
+   * {@link #inConnection(JdbcWork) inConnection}; the statements of such a
+   * script are executed in the connection's current auto-commit mode.
+   * <p>
    * In a managed transaction environment (e.g. in a Java EE application)
    * setting this flag to {@code true} may cause script execution to fail.
    *
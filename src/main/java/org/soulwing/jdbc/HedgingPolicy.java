@@ -0,0 +1,350 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.soulwing.jdbc.metrics.HistogramSnapshot;
+import org.soulwing.jdbc.metrics.LatencyHistogram;
+
+/**
+ * A policy for hedging queries to reduce tail latency.
+ * <p>
+ * When a policy is configured on a {@link FluentJdbc} facade (see
+ * {@link FluentJdbc#setHedgingPolicy(HedgingPolicy)}), a query that has been
+ * {@linkplain JdbcQuery#hedged() marked as hedged} is executed on the
+ * policy's executor.  If it has not completed within the hedging delay, a
+ * duplicate query is executed using a second connection, and the result of
+ * whichever finishes first is returned.  The other query is cancelled using
+ * {@link java.sql.Statement#cancel()} and its resources are released.
+ * <p>
+ * The duplicate query obtains its connection from the same data source as
+ * the query it hedges.  Hedging is therefore useful only when queries are
+ * routed to a {@link org.soulwing.jdbc.routing.LoadBalancingDataSource}
+ * with several replicas, which counts the outstanding query against its
+ * replica and so usually sends the duplicate to another one; with a single
+ * database, the duplicate waits on the same stalled server.
+ * <p>
+ * The hedging delay is either fixed, or is the given percentile of the
+ * observed latency of hedged queries, computed over a sliding window of
+ * recent executions.  The window advances in steps of half its size, so
+ * it covers between {@value #WINDOW_SIZE} / 2 and {@value #WINDOW_SIZE}
+ * of the most recent executions.  Until enough executions have been
+ * observed, the configured minimum delay is used.
+ * <p>
+ * Hedging is limited by a budget, expressed as a percentage of the queries
+ * eligible for hedging: each eligible query earns a fraction of a hedge
+ * according to the budget, and a duplicate is sent only when a whole hedge
+ * has been earned.  A small number of unused hedges may accumulate to
+ * absorb a burst of slow queries.
+ * <p>
+ * An instance of this class is thread safe and may be shared by any number
+ * of facade instances; the observed latency, budget, and statistics are then
+ * shared as well.
+ *
+ * @author Carl Harris
+ */
+public class HedgingPolicy {
+
+  /**
+   * Default percentile of observed latency used as the hedging delay.
+   */
+  public static final double DEFAULT_PERCENTILE = 95.0;
+
+  /**
+   * Default minimum hedging delay, in milliseconds.
+   */
+  public static final long DEFAULT_MIN_DELAY = 1;
+
+  /**
+   * Default budget for hedged queries, as a percentage of eligible queries.
+   */
+  public static final double DEFAULT_BUDGET = 10.0;
+
+  /**
+   * Number of observed executions between recomputations of the delay.
+   */
+  static final int REFRESH_INTERVAL = 100;
+
+  /**
+   * Maximum number of observed executions in the sliding window used to
+   * compute the delay.
+   */
+  static final int WINDOW_SIZE = 10000;
+
+  /**
+   * Budget units that make up one hedge.
+   */
+  static final long HEDGE_COST = 10000;
+
+  /**
+   * Maximum number of unused hedges that may accumulate.
+   */
+  static final int MAX_BURST = 10;
+
+  private final AtomicLong credits = new AtomicLong();
+  private final AtomicLong samples = new AtomicLong();
+  private final LongAdder hedges = new LongAdder();
+  private final LongAdder wins = new LongAdder();
+  private final LongAdder denied = new LongAdder();
+
+  private final double percentile;
+  private final long minDelay;
+
+  private final AtomicReference<Window> window =
+      new AtomicReference<>(new Window(new LatencyHistogram(), null));
+
+  private volatile long delay;
+  private volatile long budgetCredit = Math.round(DEFAULT_BUDGET * 100);
+  private volatile Executor executor;
+
+  /**
+   * Constructs a new instance that uses the {@link #DEFAULT_PERCENTILE}
+   * of observed latency as the hedging delay, but no less than
+   * {@link #DEFAULT_MIN_DELAY}.
+   */
+  public HedgingPolicy() {
+    this(DEFAULT_PERCENTILE, DEFAULT_MIN_DELAY, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Constructs a new instance with a fixed hedging delay.
+   * @param delay time to wait for a query to complete before sending a
+   *    duplicate
+   * @param unit unit for {@code delay}
+   */
+  public HedgingPolicy(long delay, TimeUnit unit) {
+    this(Double.NaN, delay, unit);
+  }
+
+  /**
+   * Constructs a new instance that uses a percentile of observed latency
+   * as the hedging delay.
+   * @param percentile percentile of the observed latency of hedged queries
+   *    to use as the delay, in the range 0 to 100
+   * @param minDelay minimum delay
+   * @param unit unit for {@code minDelay}
+   */
+  public HedgingPolicy(double percentile, long minDelay, TimeUnit unit) {
+    if (percentile < 0.0 || percentile > 100.0) {
+      throw new IllegalArgumentException(
+          "percentile must be in the range 0 to 100");
+    }
+    if (minDelay < 0) {
+      throw new IllegalArgumentException("delay must not be negative");
+    }
+    this.percentile = percentile;
+    this.minDelay = unit.toNanos(minDelay);
+    this.delay = this.minDelay;
+  }
+
+  /**
+   * Gets the current hedging delay.
+   * @param unit unit for the return value
+   * @return delay
+   */
+  public long getDelay(TimeUnit unit) {
+    return unit.convert(delay, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Sets the budget for hedged queries.
+   * @param percent maximum number of duplicate queries, as a percentage of
+   *    the queries eligible for hedging
+   */
+  public void setBudget(double percent) {
+    if (percent < 0.0 || percent > 100.0) {
+      throw new IllegalArgumentException(
+          "budget must be in the range 0 to 100");
+    }
+    this.budgetCredit = Math.round(percent * HEDGE_COST / 100.0);
+  }
+
+  /**
+   * Sets the executor used to run hedged queries.
+   * <p>
+   * The executor must not bound the number of concurrently running tasks
+   * so tightly that a duplicate query waits behind the query it hedges.  By
+   * default, queries are run on virtual threads, when supported by the Java
+   * platform; otherwise, a cached pool of daemon threads is used.
+   *
+   * @param executor the executor to set (may be {@code null} to use the
+   *    default executor)
+   */
+  public void setExecutor(Executor executor) {
+    this.executor = executor;
+  }
+
+  /**
+   * Gets the number of duplicate queries that were sent.
+   * @return hedge count
+   */
+  public long getHedgeCount() {
+    return hedges.sum();
+  }
+
+  /**
+   * Gets the number of duplicate queries that finished before the query
+   * they hedged.
+   * @return win count
+   */
+  public long getWinCount() {
+    return wins.sum();
+  }
+
+  /**
+   * Gets the number of queries that exceeded the hedging delay but were not
+   * hedged because the budget was exhausted.
+   * @return denied count
+   */
+  public long getDeniedCount() {
+    return denied.sum();
+  }
+
+  /**
+   * Gets the executor used to run hedged queries.
+   * @return executor
+   */
+  Executor getExecutor() {
+    final Executor executor = this.executor;
+    return executor != null ? executor : DefaultExecutorHolder.EXECUTOR;
+  }
+
+  /**
+   * Gets the current hedging delay.
+   * @return delay in nanoseconds
+   */
+  long getDelay() {
+    return delay;
+  }
+
+  /**
+   * Records the latency of a successful query execution.
+   * @param nanos elapsed time of the execution
+   */
+  void record(long nanos) {
+    if (Double.isNaN(percentile)) return;
+    final Window window = this.window.get();
+    window.current.record(nanos);
+    final long count = samples.incrementAndGet();
+    if (count % REFRESH_INTERVAL != 0) return;
+    delay = Math.max(minDelay,
+        window.snapshot().getValueAtPercentile(percentile));
+    if (count % (WINDOW_SIZE / 2) == 0) {
+      // fails harmlessly if another thread has already advanced the window
+      this.window.compareAndSet(window,
+          new Window(new LatencyHistogram(), window.current));
+    }
+  }
+
+  /**
+   * Adds the budget credit earned by a query that is eligible for hedging.
+   */
+  void earn() {
+    final long credit = budgetCredit;
+    final long max = MAX_BURST * HEDGE_COST;
+    long current;
+    do {
+      current = credits.get();
+      if (current >= max) return;
+    }
+    while (!credits.compareAndSet(current, Math.min(max, current + credit)));
+  }
+
+  /**
+   * Spends budget credit for a hedge.
+   * @return {@code true} if sufficient credit was available
+   */
+  boolean spend() {
+    long current;
+    do {
+      current = credits.get();
+      if (current < HEDGE_COST) {
+        denied.increment();
+        return false;
+      }
+    }
+    while (!credits.compareAndSet(current, current - HEDGE_COST));
+    hedges.increment();
+    return true;
+  }
+
+  /**
+   * Records that a duplicate query finished first.
+   */
+  void won() {
+    wins.increment();
+  }
+
+  /**
+   * The sliding window of observed latency, made up of the histogram that
+   * is recording executions and the histogram for the previous half of the
+   * window.
+   */
+  private static class Window {
+
+    final LatencyHistogram current;
+    final LatencyHistogram previous;
+
+    Window(LatencyHistogram current, LatencyHistogram previous) {
+      this.current = current;
+      this.previous = previous;
+    }
+
+    HistogramSnapshot snapshot() {
+      final HistogramSnapshot snapshot = current.snapshot();
+      return previous != null ?
+          snapshot.merge(previous.snapshot()) : snapshot;
+    }
+
+  }
+
+  /**
+   * Lazily creates the shared default executor.
+   */
+  private static class DefaultExecutorHolder {
+
+    static final Executor EXECUTOR = newExecutor();
+
+    private static Executor newExecutor() {
+      final Executor executor =
+          AsyncFluentJdbc.VirtualThreadExecutorHolder.EXECUTOR;
+      if (executor != null) return executor;
+      final AtomicInteger threadCount = new AtomicInteger();
+      return Executors.newCachedThreadPool(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+          final Thread thread = new Thread(r,
+              "fluent-jdbc-hedge-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }
+      });
+    }
+
+  }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * A {@link QueryTemplate} that executes each request using a new
+ * {@link QueryBuilder} copied from a fully configured prototype.
+ *
+ * @author Carl Harris
+ */
+class ImmutableQueryTemplate<T> implements QueryTemplate<T> {
+
+  private final QueryBuilder<T> prototype;
+
+  /**
+   * Constructs a new instance.
+   * @param prototype configured query builder that will be copied for each
+   *    execution; the prototype itself is never executed or modified
+   */
+  public ImmutableQueryTemplate(QueryBuilder<T> prototype) {
+    this.prototype = prototype;
+  }
+
+  @Override
+  public String getStatementText() {
+    return prototype.getStatementText();
+  }
+
+  @Override
+  public List<T> retrieveList(Parameter... parameters) {
+    return newQuery().retrieveList(parameters);
+  }
+
+  @Override
+  public T retrieveValue(Parameter... parameters) {
+    return newQuery().retrieveValue(parameters);
+  }
+
+  @Override
+  public long[] retrieveLongArray(Parameter... parameters) {
+    return newQuery().retrieveLongArray(parameters);
+  }
+
+  @Override
+  public int[] retrieveIntArray(Parameter... parameters) {
+    return newQuery().retrieveIntArray(parameters);
+  }
+
+  @Override
+  public double[] retrieveDoubleArray(Parameter... parameters) {
+    return newQuery().retrieveDoubleArray(parameters);
+  }
+
+  @Override
+  public Stream<T> stream(Parameter... parameters) {
+    return newQuery().stream(parameters);
+  }
+
+  @Override
+  public void execute(Parameter... parameters) {
+    newQuery().execute(parameters);
+  }
+
+  private QueryBuilder<T> newQuery() {
+    return new QueryBuilder<>(prototype);
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+/**
+ * An {@link UpdateTemplate} that executes each request using a new
+ * {@link UpdateBuilder} copied from a fully configured prototype.
+ *
+ * @author Carl Harris
+ */
+class ImmutableUpdateTemplate implements UpdateTemplate {
+
+  private final UpdateBuilder prototype;
+
+  /**
+   * Constructs a new instance.
+   * @param prototype configured update builder that will be copied for each
+   *    execution; the prototype itself is never executed or modified
+   */
+  public ImmutableUpdateTemplate(UpdateBuilder prototype) {
+    this.prototype = prototype;
+  }
+
+  @Override
+  public String getStatementText() {
+    return prototype.getStatementText();
+  }
+
+  @Override
+  public int execute(Parameter... parameters) {
+    return newUpdate().execute(parameters);
+  }
+
+  @Override
+  public long executeAndReturnKey(Parameter... parameters) {
+    return newUpdate().executeAndReturnKey(parameters);
+  }
+
+  @Override
+  public long[] executeAndReturnKeys(Parameter... parameters) {
+    return newUpdate().executeAndReturnKeys(parameters);
+  }
+
+  @Override
+  public long[] executeBatchAndReturnKeys(Iterable<Parameter[]> rows) {
+    return newUpdate().executeBatchAndReturnKeys(rows);
+  }
+
+  @Override
+  public int[] executeBatch(Iterable<Parameter[]> rows) {
+    return newUpdate().executeBatch(rows);
+  }
+
+  private UpdateBuilder newUpdate() {
+    return new UpdateBuilder(prototype);
+  }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * A {@link ResultSetHandler} that extracts the values of a single column
+ * from all rows of a result set into a {@code int} array.
+ * <p>
+ * Values are read using {@link ResultSet#getInt(int)} and appended to a
+ * growable array, so no value is ever boxed.  As with
+ * {@link ResultSet#getInt(int)}, a SQL {@code NULL} is represented as
+ * {@code 0}.
+ *
+ * @author Carl Harris
+ */
+class IntColumnHandler implements ResultSetHandler<int[]>, RowCounting {
+
+  private final ColumnExtractor<?> extractor;
+
+  private int rowCount;
+
+  /**
+   * Constructs a new instance.
+   * @param extractor extractor that identifies the column to retrieve
+   */
+  public IntColumnHandler(ColumnExtractor<?> extractor) {
+    this.extractor = extractor;
+  }
+
+  @Override
+  public int[] handleResult(ResultSet rs) throws SQLException {
+    final int index = extractor.columnIndex(rs);
+    int[] values = new int[16];
+    int count = 0;
+    while (rs.next()) {
+      if (count == values.length) {
+        values = Arrays.copyOf(values, count * 2);
+      }
+      values[count++] = rs.getInt(index);
+    }
+    rowCount = count;
+    return Arrays.copyOf(values, count);
+  }
+
+  @Override
+  public int getRowCount() {
+    return rowCount;
+  }
+
+}
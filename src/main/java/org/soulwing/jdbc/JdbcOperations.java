@@ -94,4 +94,49 @@ public interface JdbcOperations {
    */
   JdbcCall call(SQLSource source);
 
+  /**
+   * Performs a unit of work in a transaction, using a single connection.
+   * <p>
+   * A connection is obtained and bound to the calling thread for the
+   * duration of the work; every query, update, call, and statement executed
+   * by the thread using this facade uses the bound connection.  Auto-commit
+   * is disabled on the connection, and the transaction is committed when the
+   * work completes normally, or rolled back if the work throws an exception.
+   * The connection's auto-commit state is then restored.
+   * <p>
+   * If invoked while a transaction is already in progress on the calling
+   * thread, the work joins the existing transaction.  If invoked within
+   * {@link #inConnection(JdbcWork) inConnection}, the transaction uses the
+   * connection that is already bound.
+   * <p>
+   * In a managed transaction environment (e.g. in a Java EE application),
+   * transaction demarcation should generally be left to the container, and
+   * {@link #inConnection(JdbcWork) inConnection} used instead.
+   *
+   * @param work the unit of work to perform
+   * @param <T> type of result returned by the work
+   * @return the result returned by {@code work}
+   * @throws SQLRuntimeException if {@code work} throws {@link
+   *    java.sql.SQLException SQLException} or if the transaction cannot
+   *    be committed
+   */
+  <T> T inTransaction(JdbcWork<T> work);
+
+  /**
+   * Performs a unit of work using a single connection.
+   * <p>
+   * A connection is obtained and bound to the calling thread for the
+   * duration of the work; every query, update, call, and statement executed
+   * by the thread using this facade uses the bound connection.  The
+   * connection's transaction state is not changed.  If a connection is
+   * already bound to the calling thread, the work uses it.
+   *
+   * @param work the unit of work to perform
+   * @param <T> type of result returned by the work
+   * @return the result returned by {@code work}
+   * @throws SQLRuntimeException if {@code work} throws {@link
+   *    java.sql.SQLException SQLException}
+   */
+  <T> T inConnection(JdbcWork<T> work);
+
 }
@@ -19,6 +19,7 @@
 package org.soulwing.jdbc;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.soulwing.jdbc.source.SQLSource;
 
@@ -58,7 +59,9 @@ import org.soulwing.jdbc.source.SQLSource;
  * <li> {@link #retrieveList(Parameter...)} for a query that returns multiple
  *      rows, OR
  * <li> {@link #retrieveValue(Parameter...)} for a query that returns <em>exactly
- *      one</em> row
+ *      one</em> row, OR
+ * <li> {@link #stream(Parameter...)} for a query that returns more rows than
+ *      should be held in memory at once
  * </ul>
  * <p>
  * Examples:
@@ -121,6 +124,27 @@ import org.soulwing.jdbc.source.SQLSource;
  * }
  * }</pre>
  * <p>
+ * Using named parameters, whose values are given in any order:
+ * <pre>
+ * {@code
+ * List<Person> people = sqlTemplate.queryForType(Person.class)
+ *     .using("SELECT * FROM person WHERE age >= :min AND age < :max")
+ *     .mappingRowsWith(personMapper)
+ *     .retrieveList(Parameter.named("max", 65), Parameter.named("min", 18));
+ * }</pre>
+ * <p>
+ * Lazily processing a large result using a stream:
+ * <pre>
+ * {@code
+ * try (Stream<Person> people = sqlTemplate.queryForType(Person.class)
+ *     .using("SELECT * FROM person ORDER BY id")
+ *     .mappingRowsWith(personMapper)
+ *     .fetchSize(500)
+ *     .stream()) {
+ *   people.forEach(exporter::exportPerson);
+ * }
+ * }</pre>
+ * <p>
  * Processing the returned result set using a {@link ResultSetHandler}:
  * <pre>
  * {@code
@@ -143,6 +167,13 @@ public interface JdbcQuery<T> extends AutoCloseable {
 
   /**
    * Configures this query to execute the given SQL statement.
+   * <p>
+   * The statement may use either positional ({@code ?}) or named
+   * ({@code :name}) placeholders for parameters, but not both.  Parameters
+   * for named placeholders are specified using
+   * {@link Parameter#named(String, Object)}, {@link Parameter#fromMap}, or
+   * {@link Parameter#fromBean(Object)}.
+   *
    * @param sql the SQL statement to execute
    * @return this query
    */
@@ -203,6 +234,9 @@ public interface JdbcQuery<T> extends AutoCloseable {
    * <p>
    * Invoking this method replaces any existing configured result set extractor
    * or row mapper with the given column extractor.
+   * <p>
+   * See {@link RowMappers} for mappers that map rows to beans, records, or
+   * other value objects without hand-coding a mapper.
    *
    * @param rowMapper row mapper
    * @return this query
@@ -219,6 +253,114 @@ public interface JdbcQuery<T> extends AutoCloseable {
    */
   JdbcQuery<T> repeatedly();
 
+  /**
+   * Configures the number of rows that the JDBC driver should fetch from the
+   * database in each round trip.
+   * <p>
+   * This is a hint to the driver (see
+   * {@link java.sql.Statement#setFetchSize(int)}).  Some drivers, notably the
+   * PostgreSQL driver, retrieve the entire result before returning the first
+   * row unless a fetch size is specified (and auto-commit is disabled).  A
+   * fetch size is therefore usually needed to realize the memory benefit of
+   * {@link #stream(Parameter...)}.
+   *
+   * @param rows number of rows to fetch in each round trip; zero to use
+   *    the driver's default
+   * @return this query
+   */
+  JdbcQuery<T> fetchSize(int rows);
+
+  /**
+   * Configures this query to execute on the primary database.
+   * <p>
+   * When the facade that created this query is configured with read replicas
+   * (see {@link FluentJdbc#FluentJdbc(javax.sql.DataSource,
+   * javax.sql.DataSource)}), queries are ordinarily executed on a replica.
+   * Use this method when the query must observe the effects of updates that
+   * may not yet have been replicated.  This method has no effect when the
+   * facade has no replicas.
+   *
+   * @return this query
+   */
+  JdbcQuery<T> onPrimary();
+
+  /**
+   * Configures this query to be hedged when retrieving a list or a value.
+   * <p>
+   * When the facade that created this query has a
+   * {@linkplain FluentJdbc#setHedgingPolicy(HedgingPolicy) hedging policy},
+   * {@link #retrieveList(Parameter...)} and
+   * {@link #retrieveValue(Parameter...)} send a duplicate of the query using
+   * a second connection if the first has not completed within the policy's
+   * delay, and return the result of whichever completes first.  Because the
+   * query may be executed more than once, concurrently, it must not have
+   * side effects, and its row mapper must be thread safe.
+   * <p>
+   * This method has no effect if the facade has no hedging policy, if the
+   * query uses a {@link ResultSetHandler} or is configured for
+   * {@linkplain #repeatedly() repeated} execution, or when the query is
+   * performed using a connection bound to the calling thread (e.g. within
+   * {@link JdbcOperations#inTransaction(JdbcWork) inTransaction}).
+   *
+   * @return this query
+   */
+  JdbcQuery<T> hedged();
+
+  /**
+   * Configures this query to use the facade's result cache when retrieving a
+   * list or a value.
+   * <p>
+   * When the facade that created this query has a
+   * {@linkplain FluentJdbc#setResultCache(QueryResultCache) result cache},
+   * {@link #retrieveList(Parameter...)} and
+   * {@link #retrieveValue(Parameter...)} return a cached result for the same
+   * statement, parameter values, and extracted column or row mapper class,
+   * if one is available, instead of executing the query.  Because a row
+   * mapper is identified by its class, every instance of the class (or every
+   * lambda created by the same expression) must map a given row to equal
+   * objects; when that is not the case, use {@link #cached(Object)}.  See
+   * {@link QueryResultCache} for the conditions under which cached results
+   * are invalidated.
+   * <p>
+   * This method has no effect if the facade has no result cache, if the
+   * query uses a {@link ResultSetHandler}, or when the query is performed
+   * using a connection bound to the calling thread (e.g. within
+   * {@link JdbcOperations#inTransaction(JdbcWork) inTransaction}).
+   *
+   * @return this query
+   */
+  JdbcQuery<T> cached();
+
+  /**
+   * Configures this query to use the facade's result cache, identifying the
+   * mapping of its rows using an explicit key.
+   * <p>
+   * This method is like {@link #cached()}, except that the given key is used
+   * in place of the class of the row mapper.  It should be used when
+   * different instances of the row mapper class may map the same row to
+   * different objects; for example, a lambda that captures a locale used in
+   * formatting a column could use the locale as the key.
+   *
+   * @param key key that, together with the statement and parameter values,
+   *    identifies the result; it must implement {@code equals} and
+   *    {@code hashCode}
+   * @return this query
+   */
+  JdbcQuery<T> cached(Object key);
+
+  /**
+   * Creates an immutable template from this query's configuration.
+   * <p>
+   * The returned template can be executed any number of times, concurrently,
+   * by any number of threads.  Each execution obtains its own connection and
+   * statement.  This query is not changed, and may still be executed.
+   *
+   * @return query template
+   * @throws IllegalArgumentException if no SQL statement has been configured
+   * @throws IllegalStateException if this query has already been executed
+   */
+  QueryTemplate<T> asTemplate();
+
   /**
    * Executes the query, retrieving the list of values for all matching rows.
    * @param parameters values for query placeholders
@@ -237,6 +379,74 @@ public interface JdbcQuery<T> extends AutoCloseable {
    */
   T retrieveValue(Parameter... parameters);
 
+  /**
+   * Executes the query, retrieving the values of a single column for all
+   * matching rows as an array of {@code long}.
+   * <p>
+   * The column is the one specified via {@link #extractingColumn(int)} or
+   * {@link #extractingColumn(String)}; if no column extractor, row mapper, or
+   * result set handler has been configured, the first column is used.  Values
+   * are collected without boxing, making this method well suited to
+   * retrieving large numbers of keys.  A SQL {@code NULL} is returned as
+   * {@code 0}.
+   *
+   * @param parameters values for query placeholders
+   * @return array of column values in row order
+   * @throws IllegalStateException if this query is configured with a row
+   *    mapper or result set handler
+   */
+  long[] retrieveLongArray(Parameter... parameters);
+
+  /**
+   * Executes the query, retrieving the values of a single column for all
+   * matching rows as an array of {@code int}.
+   * <p>
+   * The column is selected as described for
+   * {@link #retrieveLongArray(Parameter...)}.
+   *
+   * @param parameters values for query placeholders
+   * @return array of column values in row order
+   * @throws IllegalStateException if this query is configured with a row
+   *    mapper or result set handler
+   */
+  int[] retrieveIntArray(Parameter... parameters);
+
+  /**
+   * Executes the query, retrieving the values of a single column for all
+   * matching rows as an array of {@code double}.
+   * <p>
+   * The column is selected as described for
+   * {@link #retrieveLongArray(Parameter...)}.
+   *
+   * @param parameters values for query placeholders
+   * @return array of column values in row order
+   * @throws IllegalStateException if this query is configured with a row
+   *    mapper or result set handler
+   */
+  double[] retrieveDoubleArray(Parameter... parameters);
+
+  /**
+   * Executes the query, returning a stream of the values for all matching
+   * rows.
+   * <p>
+   * Rows are read from the underlying result set on demand, as elements of
+   * the stream are consumed, using the configured
+   * {@linkplain #extractingColumn(int) column extractor} or
+   * {@linkplain #mappingRowsWith(RowMapper) row mapper}.  The result set
+   * (and, unless this query is configured for {@linkplain #repeatedly()
+   * repeated execution}, the statement and connection) remains open until the
+   * stream is closed or all of its elements have been consumed.  The returned
+   * stream should therefore be used in a <em>try-with-resources</em>
+   * construct.
+   *
+   * @param parameters values for query placeholders
+   * @return stream of values of type {@code T} that are extracted/mapped by
+   *   this query
+   * @throws IllegalStateException if this query is configured with a
+   *   {@link ResultSetHandler} rather than a column extractor or row mapper
+   */
+  Stream<T> stream(Parameter... parameters);
+
   /**
    * Executes the query, processing the result set with the configured handler.
    * <p>
@@ -64,13 +64,58 @@ import org.soulwing.jdbc.source.SQLSource;
  *   updater.execute(Parameter.with(4L));
  * }
  * }</pre>
+ * <p>
+ * Executing the same update for many rows using JDBC batches, so that many
+ * rows are sent to the database in each round trip:
+ * <pre>
+ * {@code
+ * List<Parameter[]> rows = ...;
+ * int[] counts = sqlTemplate.update()
+ *     .using("INSERT INTO person(name, age) VALUES(?, ?)")
+ *     .batchSize(500)
+ *     .executeBatch(rows);
+ * }</pre>
+ * <p>
+ * Rows can also be added to the batch one at a time, with an explicit flush:
+ * <pre>
+ * {@code
+ * try (JdbcUpdate updater = sqlTemplate.update()
+ *     .using("INSERT INTO person(name, age) VALUES(?, ?)")
+ *     .repeatedly()) {
+ *   for (Person person : people) {
+ *     updater.addBatch(Parameter.with(person.getName()),
+ *         Parameter.with(person.getAge()));
+ *   }
+ *   int[] counts = updater.flush();
+ * }
+ * }</pre>
+ * <p>
+ * Using named parameters whose values are the properties of a bean:
+ * <pre>
+ * {@code
+ * sqlTemplate.update()
+ *     .using("UPDATE person SET name = :name, age = :age WHERE id = :id")
+ *     .execute(Parameter.fromBean(person));
+ * }</pre>
  *
  * @author Carl Harris
  */
 public interface JdbcUpdate extends AutoCloseable {
 
+  /**
+   * Default maximum number of rows sent to the database in a single batch.
+   */
+  int DEFAULT_BATCH_SIZE = 1000;
+
   /**
    * Configures this update to execute the given SQL statement.
+   * <p>
+   * The statement may use either positional ({@code ?}) or named
+   * ({@code :name}) placeholders for parameters, but not both.  Parameters
+   * for named placeholders are specified using
+   * {@link Parameter#named(String, Object)}, {@link Parameter#fromMap}, or
+   * {@link Parameter#fromBean(Object)}.
+   *
    * @param sql the SQL statement to execute
    * @return this update object
    */
@@ -83,6 +128,23 @@ public interface JdbcUpdate extends AutoCloseable {
    */
   JdbcUpdate using(SQLSource source);
 
+  /**
+   * Configures this update to return the keys generated by the database.
+   * <p>
+   * The statement is prepared such that the generated keys are returned in
+   * the same round trip as the update, and can be retrieved using
+   * {@link #executeAndReturnKey(Parameter...)},
+   * {@link #executeAndReturnKeys(Parameter...)}, or
+   * {@link #executeBatchAndReturnKeys(Iterable)}.  Only the first key column
+   * is retrieved, and its values must be convertible to {@code long}.
+   *
+   * @param columns names of the generated key columns; if none are
+   *    specified, the driver chooses the key columns (see
+   *    {@link java.sql.Statement#RETURN_GENERATED_KEYS})
+   * @return this update object
+   */
+  JdbcUpdate returningKeys(String... columns);
+
   /**
    * Configures this update for repeated execution.
    * <p>
@@ -93,6 +155,32 @@ public interface JdbcUpdate extends AutoCloseable {
    */
   JdbcUpdate repeatedly();
 
+  /**
+   * Configures the maximum number of rows that will be sent to the database
+   * in a single batch.
+   * <p>
+   * When the number of rows added via {@link #addBatch(Parameter...)} reaches
+   * this size, the pending rows are executed automatically.  If not
+   * specified, {@link #DEFAULT_BATCH_SIZE} is used.
+   *
+   * @param size maximum number of rows in a batch; must be positive
+   * @return this update object
+   */
+  JdbcUpdate batchSize(int size);
+
+  /**
+   * Creates an immutable template from this update's configuration.
+   * <p>
+   * The returned template can be executed any number of times, concurrently,
+   * by any number of threads.  Each execution obtains its own connection and
+   * statement.  This update is not changed, and may still be executed.
+   *
+   * @return update template
+   * @throws IllegalArgumentException if no SQL statement has been configured
+   * @throws IllegalStateException if this update has already been executed
+   */
+  UpdateTemplate asTemplate();
+
   /**
    * Executes this update.
    * @param parameters values for placeholders in the SQL statement
@@ -100,11 +188,89 @@ public interface JdbcUpdate extends AutoCloseable {
    */
   int execute(Parameter... parameters);
 
+  /**
+   * Executes this update, returning the key generated for the single row
+   * created by the update.
+   * @param parameters values for placeholders in the SQL statement
+   * @return generated key
+   * @throws IllegalStateException if this update was not configured using
+   *    {@link #returningKeys(String...)}
+   * @throws SQLNoResultException if no key was generated
+   * @throws SQLNonUniqueResultException if more than one key was generated
+   */
+  long executeAndReturnKey(Parameter... parameters);
+
+  /**
+   * Executes this update, returning the keys generated for the rows created
+   * by the update.
+   * @param parameters values for placeholders in the SQL statement
+   * @return generated keys
+   * @throws IllegalStateException if this update was not configured using
+   *    {@link #returningKeys(String...)}
+   */
+  long[] executeAndReturnKeys(Parameter... parameters);
+
+  /**
+   * Adds a row to the batch for this update.
+   * <p>
+   * The given parameters are bound to the underlying statement immediately
+   * and the row is added to the statement's batch.  If the number of pending
+   * rows reaches the configured {@linkplain #batchSize(int) batch size}, the
+   * pending rows are executed.  The update counts for all added rows are
+   * returned by {@link #flush()}.
+   *
+   * @param parameters values for placeholders in the SQL statement
+   */
+  void addBatch(Parameter... parameters);
+
+  /**
+   * Executes any rows that have been added to the batch but not yet executed.
+   * <p>
+   * If this update is not configured for {@linkplain #repeatedly() repeated
+   * execution}, it is closed when this method returns.
+   *
+   * @return update counts for all rows added via {@link #addBatch} since the
+   *    last flush, in the order in which they were added; an element may be
+   *    {@link java.sql.Statement#SUCCESS_NO_INFO} if the driver does not
+   *    report a count for a row
+   */
+  int[] flush();
+
+  /**
+   * Executes this update for each of the given rows, using JDBC batches.
+   * <p>
+   * This method is equivalent to invoking {@link #addBatch(Parameter...)}
+   * for each element of {@code rows} followed by {@link #flush()}.
+   *
+   * @param rows values for placeholders in the SQL statement, one array
+   *    of parameters for each row
+   * @return update counts for each row, in the order of {@code rows}
+   */
+  int[] executeBatch(Iterable<Parameter[]> rows);
+
+  /**
+   * Executes this update for each of the given rows, using JDBC batches,
+   * returning the generated keys.
+   * <p>
+   * The keys generated for each batch are retrieved after the batch is
+   * executed, and are returned in the order reported by the driver (usually
+   * the order of {@code rows}).  Some drivers do not support returning
+   * generated keys for a batch.
+   *
+   * @param rows values for placeholders in the SQL statement, one array
+   *    of parameters for each row
+   * @return generated keys for all rows
+   * @throws IllegalStateException if this update was not configured using
+   *    {@link #returningKeys(String...)}
+   */
+  long[] executeBatchAndReturnKeys(Iterable<Parameter[]> rows);
+
   /**
    * Closes the JDBC resources associated with this update.
    * <p>
    * After an update is closed, its {@link #execute(Parameter...)} method may
-   * not be subsequently invoked.
+   * not be subsequently invoked.  Any rows added to the batch that have not
+   * been flushed are discarded.
    */
   void close();
 
@@ -0,0 +1,60 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.sql.SQLException;
+
+/**
+ * A closure that performs a unit of work using a single database connection.
+ * <p>
+ * An instance of this type is passed to
+ * {@link JdbcOperations#inTransaction(JdbcWork) inTransaction} or
+ * {@link JdbcOperations#inConnection(JdbcWork) inConnection}.  Every
+ * operation performed using the given {@link JdbcOperations} on the invoking
+ * thread uses the same connection.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * sqlTemplate.inTransaction(new JdbcWork<Void>() {
+ *   public Void perform(JdbcOperations jdbc) throws SQLException {
+ *     jdbc.update()
+ *         .using("UPDATE account SET balance = balance - ? WHERE id = ?")
+ *         .execute(Parameter.with(amount), Parameter.with(fromId));
+ *     jdbc.update()
+ *         .using("UPDATE account SET balance = balance + ? WHERE id = ?")
+ *         .execute(Parameter.with(amount), Parameter.with(toId));
+ *     return null;
+ *   }
+ * });
+ * }</pre>
+ * @param <T> the type of result returned by the work
+ * @author Carl Harris
+ */
+public interface JdbcWork<T> {
+
+  /**
+   * Performs the unit of work.
+   * @param jdbc operations facade whose operations use the bound connection
+   * @return any value of type {@code T}
+   * @throws SQLException as needed
+   */
+  T perform(JdbcOperations jdbc) throws SQLException;
+
+}
@@ -29,7 +29,8 @@ import java.util.List;
  *
  * @author Carl Harris
  */
-class MultipleRowHandler<T> implements ResultSetHandler<List<T>> {
+class MultipleRowHandler<T>
+    implements ResultSetHandler<List<T>>, RowCounting {
 
   private final ResultSetHandler<T> delegate;
 
@@ -47,4 +48,9 @@ class MultipleRowHandler<T> implements ResultSetHandler<List<T>> {
     return results;
   }
 
+  @Override
+  public int getRowCount() {
+    return results.size();
+  }
+
 }
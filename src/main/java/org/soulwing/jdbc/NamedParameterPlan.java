@@ -0,0 +1,204 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.soulwing.jdbc.source.ParsedStatement;
+
+/**
+ * A plan for binding named parameters to the positional placeholders of an
+ * SQL statement.
+ * <p>
+ * A statement that uses named placeholders (e.g. {@code :name}) is
+ * rewritten once to use positional ({@code ?}) placeholders, and the name
+ * of the parameter for each position is recorded.  Plans are cached by
+ * statement text, so that a statement is scanned only the first time it
+ * is used; thereafter, binding parameters requires only a lookup of the
+ * parameter for each name.
+ * <p>
+ * A statement is scanned only if it contains a colon followed by the start
+ * of a name, and not preceded by another colon, so that statements that
+ * use only positional placeholders, casts (e.g. {@code ::text}), or time
+ * literals do not occupy the cache.  The cache is divided into stripes by
+ * the hash of the statement text, each of which discards its least recently
+ * used plans when full.
+ *
+ * @author Carl Harris
+ */
+class NamedParameterPlan {
+
+  /**
+   * Maximum number of plans held in the cache.
+   */
+  static final int MAX_PLANS = 4096;
+
+  private static final int STRIPES = 16;
+
+  private static final PlanCache[] caches = new PlanCache[STRIPES];
+
+  static {
+    for (int i = 0; i < STRIPES; i++) {
+      caches[i] = new PlanCache(MAX_PLANS / STRIPES);
+    }
+  }
+
+  private static final String[] NO_NAMES = new String[0];
+
+  private final String sql;
+  private final String[] names;
+
+  private NamedParameterPlan(String sql, String[] names) {
+    this.sql = sql;
+    this.names = names;
+  }
+
+  /**
+   * Gets the plan for the given statement.
+   * @param sql SQL statement text, which may use named and/or positional
+   *    placeholders
+   * @return plan for {@code sql}
+   */
+  static NamedParameterPlan forStatement(String sql) {
+    if (!mayUseNames(sql)) {
+      return new NamedParameterPlan(sql, NO_NAMES);
+    }
+    final PlanCache cache = caches[sql.hashCode() & (STRIPES - 1)];
+    NamedParameterPlan plan;
+    synchronized (cache) {
+      plan = cache.get(sql);
+    }
+    if (plan == null) {
+      plan = newPlan(sql);
+      synchronized (cache) {
+        cache.put(sql, plan);
+      }
+    }
+    return plan;
+  }
+
+  /**
+   * Tests whether a statement may contain a named placeholder.
+   * @param sql statement text
+   * @return {@code true} if {@code sql} contains a colon that is followed
+   *    by a letter or underscore and is not preceded by a colon
+   */
+  private static boolean mayUseNames(String sql) {
+    int index = sql.indexOf(':');
+    while (index != -1 && index < sql.length() - 1) {
+      final char c = sql.charAt(index + 1);
+      if ((index == 0 || sql.charAt(index - 1) != ':')
+          && (Character.isLetter(c) || c == '_')) {
+        return true;
+      }
+      index = sql.indexOf(':', index + 1);
+    }
+    return false;
+  }
+
+  private static NamedParameterPlan newPlan(String sql) {
+    final ParsedStatement statement = ParsedStatement.parse(sql);
+    final List<String> names = statement.getParameterNames();
+    return new NamedParameterPlan(statement.getSql(),
+        names.toArray(new String[names.size()]));
+  }
+
+  /**
+   * Gets the statement text using positional placeholders.
+   * @return statement text
+   */
+  String getSql() {
+    return sql;
+  }
+
+  /**
+   * Gets the number of named placeholders in the statement.
+   * @return number of placeholders; zero if the statement uses only
+   *    positional placeholders
+   */
+  int getParameterCount() {
+    return names.length;
+  }
+
+  /**
+   * Binds the given parameters to the placeholders of the statement.
+   * @param parameters the parameters to bind
+   * @return parameters in the order of the positional placeholders of the
+   *    statement returned by {@link #getSql()}
+   * @throws IllegalArgumentException if the statement uses named
+   *    placeholders and no parameter supplies a value for some name, or if
+   *    named and positional parameters are mixed
+   */
+  Parameter[] bind(Parameter[] parameters) {
+    if (names.length == 0) {
+      for (final Parameter parameter : parameters) {
+        if (parameter.isNamed()) {
+          throw new IllegalArgumentException(
+              "statement does not use named parameters");
+        }
+      }
+      return parameters;
+    }
+
+    final Parameter[] bound = new Parameter[names.length];
+    for (int i = 0; i < names.length; i++) {
+      bound[i] = resolve(names[i], parameters);
+    }
+    return bound;
+  }
+
+  private static Parameter resolve(String name, Parameter[] parameters) {
+    for (final Parameter parameter : parameters) {
+      if (!parameter.isNamed()) {
+        throw new IllegalArgumentException(
+            "statement requires named parameters");
+      }
+      final Parameter resolved = parameter.resolve(name);
+      if (resolved != null) return resolved;
+    }
+    throw new IllegalArgumentException("no value for parameter '"
+        + name + "'");
+  }
+
+  /**
+   * A least-recently-used cache of plans, keyed by statement text.
+   */
+  private static class PlanCache
+      extends LinkedHashMap<String, NamedParameterPlan> {
+
+    private static final long serialVersionUID = 6155871296406420312L;
+
+    private final int maxSize;
+
+    PlanCache(int maxSize) {
+      super(16, 0.75f, true);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(
+        Map.Entry<String, NamedParameterPlan> eldest) {
+      return size() > maxSize;
+    }
+
+  }
+
+}
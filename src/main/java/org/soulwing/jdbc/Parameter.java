@@ -20,16 +20,23 @@
 package org.soulwing.jdbc;
 
 import java.lang.reflect.Field;
-import java.sql.Blob;
 import java.sql.CallableStatement;
-import java.sql.Clob;
-import java.sql.NClob;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.Map;
 
 /**
  * An SQL parameter injector.
+ * <p>
+ * A parameter is either positional, or named.  Positional parameters are
+ * bound to the placeholders of a statement in the order given.  Named
+ * parameters are used with a statement that uses named placeholders
+ * (e.g. {@code :name}); they may be given in any order, and a parameter may
+ * supply the value for more than one placeholder.  The values of named
+ * parameters may also be supplied by a {@link Map} (see
+ * {@link #fromMap(Map)}) or by the properties of a JavaBean (see
+ * {@link #fromBean(Object)}).
  *
  * @author Carl Harris
  */
@@ -41,6 +48,8 @@ public class Parameter {
   private final Object value;
   private final boolean in;
   private final boolean out;
+  private final String name;
+  private final ValueSource source;
 
   static {
     typeFields = Types.class.getFields();
@@ -63,10 +72,26 @@ public class Parameter {
    * @param out flag indicating an output parameter
    */
   private Parameter(int type, Object value, boolean in, boolean out) {
+    this(type, value, in, out, null, null);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param type parameter type
+   * @param value parameter value
+   * @param in flag indicating an input parameter
+   * @param out flag indicating an output parameter
+   * @param name name of the parameter (or {@code null} if not named)
+   * @param source source of named parameter values (or {@code null})
+   */
+  private Parameter(int type, Object value, boolean in, boolean out,
+      String name, ValueSource source) {
     this.type = type;
     this.value = value;
     this.in = in;
     this.out = out;
+    this.name = name;
+    this.source = source;
   }
 
   /**
@@ -135,8 +160,69 @@ public class Parameter {
     return new Parameter(type, value, true, true);
   }
 
+  /**
+   * Creates a new named input parameter with the given value.
+   * @param name name of the parameter
+   * @param value value of the parameter
+   * @return parameter object
+   */
+  public static Parameter named(String name, Object value) {
+    return named(name, Types.NULL, value);
+  }
+
+  /**
+   * Creates a new named input parameter with the given value.
+   * @param name name of the parameter
+   * @param type SQL type of the parameter
+   * @param value value of the parameter
+   * @return parameter object
+   */
+  public static Parameter named(String name, int type, Object value) {
+    if (name == null) {
+      throw new NullPointerException("name is required");
+    }
+    return new Parameter(type, value, true, false, name, null);
+  }
+
+  /**
+   * Creates a parameter that supplies the values of named parameters from
+   * a map.
+   * <p>
+   * The value of each named placeholder is the value of the map entry whose
+   * key is the placeholder name.
+   *
+   * @param values map of parameter names to values
+   * @return parameter object
+   */
+  public static Parameter fromMap(Map<String, ?> values) {
+    return new Parameter(Types.NULL, values, true, false, null,
+        new MapValueSource(values));
+  }
+
+  /**
+   * Creates a parameter that supplies the values of named parameters from
+   * the properties of a JavaBean.
+   * <p>
+   * The value of each named placeholder is the value of the bean property
+   * with the same name; if the bean has no property with exactly the same
+   * name, the name is matched ignoring case and underscores, so that a
+   * placeholder named {@code :first_name} is supplied by the property
+   * {@code firstName}.
+   *
+   * @param bean the bean whose properties supply the values
+   * @return parameter object
+   */
+  public static Parameter fromBean(Object bean) {
+    return new Parameter(Types.NULL, bean, true, false, null,
+        new BeanValueSource(bean));
+  }
+
   /**
    * Injects this parameter into the given prepared statement.
+   * <p>
+   * A non-null value is bound using the {@link TypeHandler} registered for
+   * the value's type.
+   *
    * @param parameterIndex index of the statement placeholder (starts at 1)
    * @param statement target statement
    * @throws SQLException
@@ -147,32 +233,12 @@ public class Parameter {
       ((CallableStatement) statement).registerOutParameter(parameterIndex, type);
     }
     if (!in) return;
-    if (value instanceof ParameterHandler) {
-      ((ParameterHandler) value).handleParameter(statement, parameterIndex);
-    }
-    else if (value instanceof BlobHandler) {
-      final Blob blob = statement.getConnection().createBlob();
-      ((BlobHandler) value).prepareBlob(blob);
-      statement.setBlob(parameterIndex, blob);
-    }
-    else if (value instanceof ClobHandler) {
-      final Clob clob = statement.getConnection().createClob();
-      ((ClobHandler) value).prepareClob(clob);
-      statement.setClob(parameterIndex, clob);
-    }
-    else if (value instanceof NClobHandler) {
-      final NClob nClob = statement.getConnection().createNClob();
-      ((NClobHandler) value).prepareNClob(nClob);
-      statement.setNClob(parameterIndex, nClob);
-    }
-    else if (value == null) {
+    if (value == null) {
       statement.setNull(parameterIndex, type);
     }
-    else if (type == Types.NULL) {
-      statement.setObject(parameterIndex, value);
-    }
     else {
-      statement.setObject(parameterIndex, value, type);
+      TypeHandlers.forValue(value).setValue(statement, parameterIndex, value,
+          type);
     }
   }
 
@@ -192,6 +258,41 @@ public class Parameter {
     return value;
   }
 
+  /**
+   * Gets the {@code name} property.
+   * @return property value; {@code null} for a positional parameter or a
+   *    parameter created using {@link #fromMap(Map)} or
+   *    {@link #fromBean(Object)}
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Tests whether this parameter supplies the value of named placeholders.
+   * @return {@code true} if this parameter is named or supplies the values
+   *    of named parameters from a map or bean
+   */
+  boolean isNamed() {
+    return name != null || source != null;
+  }
+
+  /**
+   * Resolves the parameter that supplies the value for a named placeholder.
+   * @param name name of the placeholder
+   * @return parameter or {@code null} if this parameter does not supply
+   *    the value for {@code name}
+   */
+  Parameter resolve(String name) {
+    if (this.name != null) {
+      return this.name.equals(name) ? this : null;
+    }
+    if (source != null) {
+      return source.resolve(name);
+    }
+    return null;
+  }
+
   /**
    * Gets the {@code in} property.
    * @return property value
@@ -217,6 +318,10 @@ public class Parameter {
     if (out) {
       sb.append("OUT");
     }
+    if (name != null) {
+      sb.append(" name=");
+      sb.append(name);
+    }
     if (in) {
       sb.append(" value={");
       sb.append(value);
@@ -259,4 +364,60 @@ public class Parameter {
     return Integer.toString(type);
   }
 
+  /**
+   * A source of values for named parameters.
+   */
+  private interface ValueSource {
+
+    /**
+     * Resolves the parameter for a named placeholder.
+     * @param name name of the placeholder
+     * @return parameter or {@code null} if no value is available for
+     *    {@code name}
+     */
+    Parameter resolve(String name);
+
+  }
+
+  /**
+   * A {@link ValueSource} backed by a map.
+   */
+  private static class MapValueSource implements ValueSource {
+
+    private final Map<String, ?> values;
+
+    MapValueSource(Map<String, ?> values) {
+      this.values = values;
+    }
+
+    @Override
+    public Parameter resolve(String name) {
+      final Object value = values.get(name);
+      if (value == null && !values.containsKey(name)) return null;
+      return new Parameter(Types.NULL, value);
+    }
+
+  }
+
+  /**
+   * A {@link ValueSource} backed by the properties of a JavaBean.
+   */
+  private static class BeanValueSource implements ValueSource {
+
+    private final Object bean;
+    private final BeanProperties properties;
+
+    BeanValueSource(Object bean) {
+      this.bean = bean;
+      this.properties = BeanProperties.of(bean.getClass());
+    }
+
+    @Override
+    public Parameter resolve(String name) {
+      if (!properties.isReadable(name)) return null;
+      return new Parameter(Types.NULL, properties.get(bean, name));
+    }
+
+  }
+
 }
@@ -0,0 +1,170 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An abstract base for a {@link RowMapper} that maps rows using a plan
+ * compiled from the shape of a result set.
+ * <p>
+ * A plan is resolved from the {@link ResultSetMetaData} of a result set
+ * using {@link #resolvePlan(ResultSet)}.  The {@link ResultSetHandler} used
+ * by a query resolves the plan when it is presented with the first row of a
+ * result set, and uses it to map all subsequent rows of that result set, so
+ * that no state is shared by threads that concurrently use the same mapper.
+ * When {@link #mapRow(ResultSet, int)} is invoked directly, the most recently
+ * resolved plan is retained for the calling thread, and reused as long as
+ * the same result set is presented.
+ * <p>
+ * Compiled plans are cached by the sequence of column labels, so that result
+ * sets having the same shape share a plan.  Plans for the least recently used
+ * shapes are discarded when the cache is full.
+ *
+ * @author Carl Harris
+ */
+abstract class PlanCachingRowMapper<T> implements RowMapper<T> {
+
+  /**
+   * Maximum number of distinct result set shapes for which plans are cached.
+   */
+  static final int MAX_PLANS = 64;
+
+  private final PlanCache<T> plans = new PlanCache<>();
+
+  private final ThreadLocal<Binding<T>> binding = new ThreadLocal<>();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+    Binding<T> binding = this.binding.get();
+    if (binding == null || binding.rs.get() != rs) {
+      binding = new Binding<>(rs, resolvePlan(rs));
+      this.binding.set(binding);
+    }
+    return binding.plan.map(rs);
+  }
+
+  /**
+   * Resolves the plan for mapping the rows of a result set.
+   * @param rs the result set
+   * @return plan for the shape of {@code rs}
+   * @throws SQLException if the columns cannot be mapped
+   */
+  Plan<T> resolvePlan(ResultSet rs) throws SQLException {
+    final ResultSetMetaData metaData = rs.getMetaData();
+    final int count = metaData.getColumnCount();
+    final String[] labels = new String[count];
+    final StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      labels[i] = metaData.getColumnLabel(i + 1);
+      sb.append(labels[i]).append('\0');
+    }
+    final String shape = sb.toString();
+    Plan<T> plan;
+    synchronized (plans) {
+      plan = plans.get(shape);
+    }
+    if (plan == null) {
+      plan = createPlan(labels);
+      synchronized (plans) {
+        plans.put(shape, plan);
+      }
+    }
+    return plan;
+  }
+
+  /**
+   * Creates a plan for mapping rows of a result set with the given shape.
+   * @param labels labels of the columns in the result set; the label at
+   *    offset {@code i} corresponds to column index {@code i + 1}
+   * @return plan
+   * @throws SQLException if the columns cannot be mapped
+   */
+  protected abstract Plan<T> createPlan(String[] labels) throws SQLException;
+
+  /**
+   * Normalizes a column label or property name for matching; case and
+   * underscores are ignored, so that {@code FIRST_NAME} matches
+   * {@code firstName}.
+   * @param name the name to normalize
+   * @return normalized name
+   */
+  static String normalize(String name) {
+    return name.replace("_", "").toLowerCase(Locale.ENGLISH);
+  }
+
+  /**
+   * A compiled plan for mapping rows of a result set of a particular shape.
+   */
+  interface Plan<T> {
+
+    /**
+     * Maps the current row of the given result set.
+     * @param rs result set positioned at the row to map
+     * @return mapped object
+     * @throws SQLException as needed
+     */
+    T map(ResultSet rs) throws SQLException;
+
+  }
+
+  /**
+   * The plan resolved for the result set most recently presented by a
+   * thread.
+   */
+  private static class Binding<T> {
+
+    final WeakReference<ResultSet> rs;
+    final Plan<T> plan;
+
+    Binding(ResultSet rs, Plan<T> plan) {
+      this.rs = new WeakReference<>(rs);
+      this.plan = plan;
+    }
+
+  }
+
+  /**
+   * A least-recently-used cache of plans, keyed by result set shape.
+   */
+  private static class PlanCache<T> extends LinkedHashMap<String, Plan<T>> {
+
+    private static final long serialVersionUID = -2841306520978365203L;
+
+    PlanCache() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Plan<T>> eldest) {
+      return size() > MAX_PLANS;
+    }
+
+  }
+
+}
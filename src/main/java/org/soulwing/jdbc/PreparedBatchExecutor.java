@@ -0,0 +1,255 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+import org.soulwing.jdbc.logger.JdbcLogger;
+import org.soulwing.jdbc.metrics.JdbcMetrics;
+import org.soulwing.jdbc.metrics.NullJdbcMetrics;
+import org.soulwing.jdbc.metrics.StatementObserver;
+
+/**
+ * A {@link JdbcExecutor} that executes a prepared update statement as a
+ * JDBC batch.
+ * <p>
+ * Rows are bound and added to the statement's batch as they are presented
+ * via {@link #addBatch(DataSource, Parameter[])}.  Whenever the number of
+ * pending rows reaches the configured batch size, the batch is sent to the
+ * database in a single round trip.  The update counts for all rows are
+ * accumulated until {@link #execute(DataSource)} flushes any remaining rows
+ * and returns them.  Optionally, the keys generated for each batch are also
+ * accumulated, and may be retrieved using {@link #getGeneratedKeys()}.
+ * <p>
+ * Each batch sent to the database is reported to the configured
+ * {@link JdbcMetrics} as a separate execution.
+ *
+ * @author Carl Harris
+ */
+class PreparedBatchExecutor implements JdbcExecutor<int[]> {
+
+  private static final Parameter[] NO_PARAMETERS = new Parameter[0];
+
+  private final PreparedStatementCreator<PreparedStatement> psc;
+  private final int batchSize;
+  private final boolean returningKeys;
+  private final JdbcLogger logger;
+  private final JdbcMetrics metrics;
+
+  private PreparedStatement statement;
+  private long prepareNanos;
+  private int pending;
+  private int[] counts = new int[16];
+  private int count;
+  private long[] keys = new long[0];
+  private int keyCount;
+
+  /**
+   * Constructs a new instance.
+   * @param psc prepared statement creator for the statement to execute
+   * @param batchSize maximum number of rows to send to the database in a
+   *    single round trip
+   * @param logger statement logger
+   */
+  public PreparedBatchExecutor(PreparedStatementCreator<PreparedStatement> psc,
+      int batchSize, JdbcLogger logger) {
+    this(psc, batchSize, false, logger);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param psc prepared statement creator for the statement to execute
+   * @param batchSize maximum number of rows to send to the database in a
+   *    single round trip
+   * @param returningKeys flag indicating whether the generated keys should
+   *    be retrieved after each batch is executed; if {@code true}, the
+   *    statement must be prepared such that it returns generated keys
+   * @param logger statement logger
+   */
+  public PreparedBatchExecutor(PreparedStatementCreator<PreparedStatement> psc,
+      int batchSize, boolean returningKeys, JdbcLogger logger) {
+    this(psc, batchSize, returningKeys, logger, NullJdbcMetrics.INSTANCE);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param psc prepared statement creator for the statement to execute
+   * @param batchSize maximum number of rows to send to the database in a
+   *    single round trip
+   * @param returningKeys flag indicating whether the generated keys should
+   *    be retrieved after each batch is executed; if {@code true}, the
+   *    statement must be prepared such that it returns generated keys
+   * @param logger statement logger
+   * @param metrics statement metrics listener
+   */
+  public PreparedBatchExecutor(PreparedStatementCreator<PreparedStatement> psc,
+      int batchSize, boolean returningKeys, JdbcLogger logger,
+      JdbcMetrics metrics) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batch size must be positive");
+    }
+    this.psc = psc;
+    this.batchSize = batchSize;
+    this.returningKeys = returningKeys;
+    this.logger = logger;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Adds a row to the batch.
+   * <p>
+   * If adding the row causes the number of pending rows to reach the
+   * configured batch size, the pending rows are executed.
+   *
+   * @param dataSource data source from which a connection is to be obtained
+   * @param parameters values for placeholders in the statement
+   * @throws SQLException as needed
+   */
+  public void addBatch(DataSource dataSource, Parameter[] parameters)
+      throws SQLException {
+    if (pending == 0) {
+      logger.writeStatement(psc.getStatementText());
+    }
+    logger.writeParameters(parameters);
+    final long start = System.nanoTime();
+    if (statement == null) {
+      statement = psc.prepareStatement(dataSource);
+    }
+    for (int index = 0, max = parameters.length; index < max; index++) {
+      parameters[index].inject(index + 1, statement);
+    }
+    prepareNanos += System.nanoTime() - start;
+    statement.addBatch();
+    if (++pending >= batchSize) {
+      executeBatch();
+    }
+  }
+
+  /**
+   * Gets the number of rows that have been added but not yet executed.
+   * @return number of pending rows
+   */
+  public int getPendingCount() {
+    return pending;
+  }
+
+  /**
+   * Executes any pending rows.
+   * @param dataSource data source from which a connection is to be obtained
+   * @return update counts for all rows added since the last invocation of
+   *    this method, in the order in which they were added
+   * @throws SQLException as needed
+   */
+  @Override
+  public int[] execute(DataSource dataSource) throws SQLException {
+    if (pending > 0) {
+      executeBatch();
+    }
+    final int[] result = Arrays.copyOf(counts, count);
+    count = 0;
+    return result;
+  }
+
+  /**
+   * Gets the keys generated for all rows executed since the last invocation
+   * of this method.
+   * <p>
+   * Keys are retrieved only if this executor was constructed with the
+   * {@code returningKeys} flag set.
+   *
+   * @return generated keys in the order in which they were returned by
+   *    the driver
+   */
+  public long[] getGeneratedKeys() {
+    final long[] result = Arrays.copyOf(keys, keyCount);
+    keyCount = 0;
+    return result;
+  }
+
+  /**
+   * Discards any pending rows and accumulated update counts and keys.
+   */
+  public void discard() {
+    count = 0;
+    keyCount = 0;
+    prepareNanos = 0;
+    if (pending == 0) return;
+    pending = 0;
+    try {
+      statement.clearBatch();
+    }
+    catch (SQLException ex) {
+      ex.printStackTrace(System.out);
+    }
+  }
+
+  private static long updatedRows(int[] counts) {
+    long rows = 0;
+    for (final int count : counts) {
+      if (count > 0) {
+        rows += count;
+      }
+    }
+    return rows;
+  }
+
+  private void executeBatch() throws SQLException {
+    final StatementObserver observer =
+        metrics.begin(psc.getStatementText(), NO_PARAMETERS);
+    AbstractPreparedStatementCreator.observeConnection(psc, observer);
+    observer.prepared(prepareNanos);
+    prepareNanos = 0;
+    observer.starting(StatementObserver.Phase.EXECUTION);
+    final long start = System.nanoTime();
+    final int[] batchCounts;
+    try {
+      batchCounts = statement.executeBatch();
+    }
+    catch (SQLException | RuntimeException ex) {
+      observer.failed(ex);
+      discard();
+      throw ex;
+    }
+    observer.executed(System.nanoTime() - start);
+    observer.batched(pending);
+    observer.updated(updatedRows(batchCounts));
+    observer.completed();
+    pending = 0;
+    if (count + batchCounts.length > counts.length) {
+      counts = Arrays.copyOf(counts,
+          Math.max(counts.length * 2, count + batchCounts.length));
+    }
+    System.arraycopy(batchCounts, 0, counts, count, batchCounts.length);
+    count += batchCounts.length;
+    if (returningKeys) {
+      final long[] batchKeys = PreparedKeyExecutor.readKeys(statement);
+      if (keyCount + batchKeys.length > keys.length) {
+        keys = Arrays.copyOf(keys,
+            Math.max(keys.length * 2, keyCount + batchKeys.length));
+      }
+      System.arraycopy(batchKeys, 0, keys, keyCount, batchKeys.length);
+      keyCount += batchKeys.length;
+    }
+  }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.soulwing.jdbc.logger.JdbcLogger;
+import org.soulwing.jdbc.metrics.JdbcMetrics;
+import org.soulwing.jdbc.metrics.NullJdbcMetrics;
+import org.soulwing.jdbc.metrics.StatementObserver;
+
+/**
+ * A {@link JdbcExecutor} that executes an update statement and retrieves
+ * the keys generated by the database.
+ * <p>
+ * The statement must be prepared such that it returns generated keys (e.g.
+ * using {@link StatementPreparer#withKeys}).  The keys are read from the
+ * first column of the result set returned by
+ * {@link PreparedStatement#getGeneratedKeys()}, in the same round trip as the
+ * update.
+ *
+ * @author Carl Harris
+ */
+class PreparedKeyExecutor
+    extends AbstractPreparedStatementExecutor<long[], PreparedStatement> {
+
+  private int rowsUpdated;
+
+  /**
+   * Constructs a new instance
+   * @param psc prepared statement creator for the statement to execute
+   * @param parameters values for placeholders in statement
+   * @param logger statement logger
+   */
+  public PreparedKeyExecutor(
+      PreparedStatementCreator<PreparedStatement> psc,
+      Parameter[] parameters, JdbcLogger logger) {
+    this(psc, parameters, logger, NullJdbcMetrics.INSTANCE);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param psc prepared statement creator for the statement to execute
+   * @param parameters values for placeholders in the statement
+   * @param logger statement logger
+   * @param metrics statement metrics listener
+   */
+  public PreparedKeyExecutor(PreparedStatementCreator<PreparedStatement> psc,
+      Parameter[] parameters, JdbcLogger logger, JdbcMetrics metrics) {
+    super(psc, parameters, logger, metrics);
+  }
+
+  /**
+   * Executes the prepared statement using {@link PreparedStatement#executeUpdate}
+   * and retrieves the generated keys.
+   * @param statement the statement to execute
+   * @return generated keys for the rows created by the statement
+   * @throws SQLException
+   */
+  @Override
+  protected long[] doExecute(PreparedStatement statement)
+      throws SQLException {
+    rowsUpdated = statement.executeUpdate();
+    return readKeys(statement);
+  }
+
+  /**
+   * Reads the generated keys for the last execution of a statement.
+   * @param statement the subject statement
+   * @return generated keys
+   * @throws SQLException as needed
+   */
+  static long[] readKeys(PreparedStatement statement) throws SQLException {
+    final ResultSet rs = statement.getGeneratedKeys();
+    try {
+      return new LongColumnHandler(ColumnExtractor.with(Long.class))
+          .handleResult(rs);
+    }
+    finally {
+      JdbcUtils.closeQuietly(rs);
+    }
+  }
+
+  @Override
+  protected void observeResult(StatementObserver observer, long[] result) {
+    // a driver may return fewer keys than the rows the statement affected
+    observer.updated(rowsUpdated);
+    observer.completed();
+  }
+
+}
@@ -23,6 +23,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 
 import org.soulwing.jdbc.logger.JdbcLogger;
+import org.soulwing.jdbc.metrics.JdbcMetrics;
+import org.soulwing.jdbc.metrics.NullJdbcMetrics;
+import org.soulwing.jdbc.metrics.StatementObserver;
 
 /**
  * An {@link JdbcExecutor} that executes a prepared query.
@@ -32,6 +35,8 @@ import org.soulwing.jdbc.logger.JdbcLogger;
 class PreparedQueryExecutor
     extends AbstractPreparedStatementExecutor<ResultSet, PreparedStatement> {
 
+  private final int fetchSize;
+
   /**
    * Constructs a new instance
    * @param psc prepared statement creator for the staement to execute
@@ -40,7 +45,36 @@ class PreparedQueryExecutor
    */
   public PreparedQueryExecutor(PreparedStatementCreator<PreparedStatement> psc,
        Parameter[] parameters, JdbcLogger logger) {
-    super(psc, parameters, logger);
+    this(psc, parameters, 0, logger);
+  }
+
+  /**
+   * Constructs a new instance
+   * @param psc prepared statement creator for the staement to execute
+   * @param parameters values for placeholders in statement
+   * @param fetchSize number of rows the driver should fetch from the
+   *    database in each round trip; zero to use the driver's default
+   * @param logger statement logger
+   */
+  public PreparedQueryExecutor(PreparedStatementCreator<PreparedStatement> psc,
+       Parameter[] parameters, int fetchSize, JdbcLogger logger) {
+    this(psc, parameters, fetchSize, logger, NullJdbcMetrics.INSTANCE);
+  }
+
+  /**
+   * Constructs a new instance
+   * @param psc prepared statement creator for the staement to execute
+   * @param parameters values for placeholders in statement
+   * @param fetchSize number of rows the driver should fetch from the
+   *    database in each round trip; zero to use the driver's default
+   * @param logger statement logger
+   * @param metrics statement metrics listener
+   */
+  public PreparedQueryExecutor(PreparedStatementCreator<PreparedStatement> psc,
+       Parameter[] parameters, int fetchSize, JdbcLogger logger,
+       JdbcMetrics metrics) {
+    super(psc, parameters, logger, metrics);
+    this.fetchSize = fetchSize;
   }
 
   /**
@@ -52,7 +86,44 @@ class PreparedQueryExecutor
   @Override
   protected ResultSet doExecute(PreparedStatement statement) throws
       SQLException {
+    if (fetchSize > 0) {
+      statement.setFetchSize(fetchSize);
+    }
     return statement.executeQuery();
   }
 
+  @Override
+  protected void observeResult(StatementObserver observer, ResultSet result) {
+    // completion is reported when the result set has been handled
+  }
+
+  /**
+   * Produces a result from the result set returned by the last execution.
+   * <p>
+   * The time spent by the handler and the number of rows it read are
+   * reported to the observer for the execution.
+   *
+   * @param rs result set returned by {@link #execute}
+   * @param handler handler that will produce the result
+   * @return result produced by {@code handler}
+   * @throws SQLException as needed
+   */
+  public <R> R handleResult(ResultSet rs, ResultSetHandler<R> handler)
+      throws SQLException {
+    getObserver().starting(StatementObserver.Phase.FETCH);
+    final long start = System.nanoTime();
+    try {
+      final R result = handler.handleResult(rs);
+      getObserver().fetched(handler instanceof RowCounting ?
+          ((RowCounting) handler).getRowCount() : -1,
+          System.nanoTime() - start);
+      getObserver().completed();
+      return result;
+    }
+    catch (SQLException | RuntimeException ex) {
+      getObserver().failed(ex);
+      throw ex;
+    }
+  }
+
 }
@@ -22,6 +22,9 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 import org.soulwing.jdbc.logger.JdbcLogger;
+import org.soulwing.jdbc.metrics.JdbcMetrics;
+import org.soulwing.jdbc.metrics.NullJdbcMetrics;
+import org.soulwing.jdbc.metrics.StatementObserver;
 
 /**
  * An {@link JdbcExecutor} that executes a prepared update statement.
@@ -40,7 +43,19 @@ class PreparedUpdateExecutor
   public PreparedUpdateExecutor(
       PreparedStatementCreator<PreparedStatement> psc,
       Parameter[] parameters, JdbcLogger logger) {
-    super(psc, parameters, logger);
+    this(psc, parameters, logger, NullJdbcMetrics.INSTANCE);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param psc prepared statement creator for the statement to execute
+   * @param parameters values for placeholders in the statement
+   * @param logger statement logger
+   * @param metrics statement metrics listener
+   */
+  public PreparedUpdateExecutor(PreparedStatementCreator<PreparedStatement> psc,
+      Parameter[] parameters, JdbcLogger logger, JdbcMetrics metrics) {
+    super(psc, parameters, logger, metrics);
   }
 
   /**
@@ -55,4 +70,11 @@ class PreparedUpdateExecutor
     return statement.executeUpdate();
   }
 
+
+  @Override
+  protected void observeResult(StatementObserver observer, Integer result) {
+    observer.updated(result);
+    observer.completed();
+  }
+
 }
@@ -22,10 +22,15 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.sql.DataSource;
 
 import org.soulwing.jdbc.logger.JdbcLogger;
+import org.soulwing.jdbc.metrics.JdbcMetrics;
+import org.soulwing.jdbc.metrics.NullJdbcMetrics;
 import org.soulwing.jdbc.source.SQLSource;
 
 /**
@@ -36,13 +41,25 @@ import org.soulwing.jdbc.source.SQLSource;
 class QueryBuilder<T> implements JdbcQuery<T> {
 
   private final Class<T> type;
-  private final DataSource dataSource;
+  private final DataSource primaryDataSource;
+  private final StatementCache statementCache;
   private final JdbcLogger logger;
+  private final JdbcMetrics metrics;
+  private final QueryHedger hedger;
+  private final ResultCacheBinding resultCache;
 
+  private DataSource dataSource;
+  private String sql;
+  private NamedParameterPlan plan;
   private PreparedStatementCreator<PreparedStatement> psc;
   private ResultSetHandler<T> handler;
-  private ResultSetHandler<T> innerHandler;
+  private RowMapper<T> rowMapper;
+  private ColumnExtractor<T> extractor;
+  private int fetchSize;
   private boolean repeatable;
+  private boolean hedged;
+  private boolean cached;
+  private Object cacheKey;
   private boolean executed;
 
   /**
@@ -52,15 +69,132 @@ class QueryBuilder<T> implements JdbcQuery<T> {
    * @param logger statement logger
    */
   public QueryBuilder(Class<T> type, DataSource dataSource, JdbcLogger logger) {
+    this(type, dataSource, null, logger);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param type data type returned by this query
+   * @param dataSource data source from which a connection will be obtained
+   * @param statementCache cache for prepared statements; may be {@code null}
+   * @param logger statement logger
+   */
+  public QueryBuilder(Class<T> type, DataSource dataSource,
+      StatementCache statementCache, JdbcLogger logger) {
+    this(type, dataSource, statementCache, logger, NullJdbcMetrics.INSTANCE);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param type data type returned by this query
+   * @param dataSource data source from which a connection will be obtained
+   * @param statementCache cache for prepared statements; may be {@code null}
+   * @param logger statement logger
+   * @param metrics statement metrics listener
+   */
+  public QueryBuilder(Class<T> type, DataSource dataSource,
+      StatementCache statementCache, JdbcLogger logger, JdbcMetrics metrics) {
+    this(type, dataSource, dataSource, statementCache, logger, metrics);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param type data type returned by this query
+   * @param dataSource data source from which a connection will be obtained
+   * @param primaryDataSource data source from which a connection will be
+   *    obtained if the query is {@linkplain #onPrimary() pinned} to the
+   *    primary database
+   * @param statementCache cache for prepared statements; may be {@code null}
+   * @param logger statement logger
+   * @param metrics statement metrics listener
+   */
+  public QueryBuilder(Class<T> type, DataSource dataSource,
+      DataSource primaryDataSource, StatementCache statementCache,
+      JdbcLogger logger, JdbcMetrics metrics) {
+    this(type, dataSource, primaryDataSource, statementCache, logger, metrics,
+        null);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param type data type returned by this query
+   * @param dataSource data source from which a connection will be obtained
+   * @param primaryDataSource data source from which a connection will be
+   *    obtained if the query is {@linkplain #onPrimary() pinned} to the
+   *    primary database
+   * @param statementCache cache for prepared statements; may be {@code null}
+   * @param logger statement logger
+   * @param metrics statement metrics listener
+   * @param hedger executor for {@linkplain #hedged() hedged} queries; may be
+   *    {@code null} if hedging is not configured
+   */
+  public QueryBuilder(Class<T> type, DataSource dataSource,
+      DataSource primaryDataSource, StatementCache statementCache,
+      JdbcLogger logger, JdbcMetrics metrics, QueryHedger hedger) {
+    this(type, dataSource, primaryDataSource, statementCache, logger, metrics,
+        hedger, null);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param type data type returned by this query
+   * @param dataSource data source from which a connection will be obtained
+   * @param primaryDataSource data source from which a connection will be
+   *    obtained if the query is {@linkplain #onPrimary() pinned} to the
+   *    primary database
+   * @param statementCache cache for prepared statements; may be {@code null}
+   * @param logger statement logger
+   * @param metrics statement metrics listener
+   * @param hedger executor for {@linkplain #hedged() hedged} queries; may be
+   *    {@code null} if hedging is not configured
+   * @param resultCache cache for the results of {@linkplain #cached() cached}
+   *    queries; may be {@code null} if result caching is not configured
+   */
+  public QueryBuilder(Class<T> type, DataSource dataSource,
+      DataSource primaryDataSource, StatementCache statementCache,
+      JdbcLogger logger, JdbcMetrics metrics, QueryHedger hedger,
+      ResultCacheBinding resultCache) {
     this.type = type;
     this.dataSource = dataSource;
+    this.primaryDataSource = primaryDataSource;
+    this.statementCache = statementCache;
     this.logger = logger;
+    this.metrics = metrics;
+    this.hedger = hedger;
+    this.resultCache = resultCache;
+  }
+
+  /**
+   * Constructs a new instance with the same configuration as another
+   * instance.
+   * <p>
+   * The new instance prepares its own statement and is not configured for
+   * repeated execution.
+   *
+   * @param other the instance whose configuration is to be copied
+   */
+  QueryBuilder(QueryBuilder<T> other) {
+    this(other.type, other.dataSource, other.primaryDataSource,
+        other.statementCache, other.logger, other.metrics, other.hedger,
+        other.resultCache);
+    if (other.sql != null) {
+      using(other.sql);
+    }
+    this.handler = other.handler;
+    this.rowMapper = other.rowMapper;
+    this.extractor = other.extractor;
+    this.fetchSize = other.fetchSize;
+    this.hedged = other.hedged;
+    this.cached = other.cached;
+    this.cacheKey = other.cacheKey;
   }
 
   @Override
   public JdbcQuery<T> using(String sql) {
     assertNotExecuted();
-    this.psc = StatementPreparer.with(sql);
+    this.sql = sql;
+    this.plan = NamedParameterPlan.forStatement(sql);
+    this.psc = StatementPreparer.with(plan.getSql(), statementCache);
     return this;
   }
 
@@ -74,7 +208,8 @@ class QueryBuilder<T> implements JdbcQuery<T> {
   public JdbcQuery<T> handlingResultWith(ResultSetHandler<T> handler) {
     assertNotExecuted();
     this.handler = handler;
-    this.innerHandler = null;
+    this.rowMapper = null;
+    this.extractor = null;
     return this;
   }
 
@@ -87,8 +222,8 @@ class QueryBuilder<T> implements JdbcQuery<T> {
   public JdbcQuery<T> extractingColumn(int index) {
     assertNotExecuted();
     this.handler = null;
-    this.innerHandler = new ColumnExtractingResultSetHandler<>(
-        ColumnExtractor.with(index, type));
+    this.rowMapper = null;
+    this.extractor = ColumnExtractor.with(index, type);
     return this;
   }
 
@@ -96,8 +231,8 @@ class QueryBuilder<T> implements JdbcQuery<T> {
   public JdbcQuery<T> extractingColumn(String label) {
     assertNotExecuted();
     this.handler = null;
-    this.innerHandler = new ColumnExtractingResultSetHandler<>(
-        ColumnExtractor.with(label, type));
+    this.rowMapper = null;
+    this.extractor = ColumnExtractor.with(label, type);
     return this;
   }
 
@@ -105,7 +240,8 @@ class QueryBuilder<T> implements JdbcQuery<T> {
   public JdbcQuery<T> mappingRowsWith(RowMapper<T> rowMapper) {
     assertNotExecuted();
     this.handler = null;
-    this.innerHandler = new RowMappingResultSetHandler<>(rowMapper);
+    this.rowMapper = rowMapper;
+    this.extractor = null;
     return this;
   }
 
@@ -116,24 +252,225 @@ class QueryBuilder<T> implements JdbcQuery<T> {
     return this;
   }
 
+  @Override
+  public JdbcQuery<T> fetchSize(int rows) {
+    assertNotExecuted();
+    if (rows < 0) {
+      throw new IllegalArgumentException("fetch size must not be negative");
+    }
+    this.fetchSize = rows;
+    return this;
+  }
+
+  @Override
+  public JdbcQuery<T> onPrimary() {
+    assertNotExecuted();
+    this.dataSource = primaryDataSource;
+    return this;
+  }
+
+  @Override
+  public JdbcQuery<T> hedged() {
+    assertNotExecuted();
+    this.hedged = true;
+    return this;
+  }
+
+  @Override
+  public JdbcQuery<T> cached() {
+    assertNotExecuted();
+    this.cached = true;
+    return this;
+  }
+
+  @Override
+  public JdbcQuery<T> cached(Object key) {
+    assertNotExecuted();
+    if (key == null) {
+      throw new NullPointerException("cache key is required");
+    }
+    this.cached = true;
+    this.cacheKey = key;
+    return this;
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public List<T> retrieveList(Parameter... parameters) {
+    if (isCached()) return (List<T>) retrieveCached(false, parameters);
+    if (isHedged()) return (List<T>) retrieveHedged(false, parameters);
     return (List<T>) retrieve(handler != null ?
-        handler : new MultipleRowHandler<>(innerHandler), parameters);
+        handler : new MultipleRowHandler<>(newInnerHandler()), parameters);
   }
 
   @Override
   @SuppressWarnings("unchecked")
   public T retrieveValue(Parameter... parameters) {
+    if (isCached()) return (T) retrieveCached(true, parameters);
+    if (isHedged()) return (T) retrieveHedged(true, parameters);
     return (T) retrieve(handler != null ?
-        handler : new SingleRowHandler<>(innerHandler), parameters);
+        handler : new SingleRowHandler<>(newInnerHandler()), parameters);
+  }
+
+  /**
+   * Executes the query and retrieves the list of all rows or a single row
+   * using the configured column extractor or row mapper.
+   * <p>
+   * This method is used by a {@link QueryHedger} to execute each attempt of a
+   * hedged query.
+   *
+   * @param single {@code true} to retrieve a single row
+   * @param params values for statement placeholders
+   * @return list of values or single value produced for the rows
+   */
+  Object retrieveRows(boolean single, Parameter[] params) {
+    assertReady();
+    final ResultSetHandler<T> innerHandler = newInnerHandler();
+    return doRetrieve(single ? new SingleRowHandler<>(innerHandler)
+        : new MultipleRowHandler<>(innerHandler), params);
+  }
+
+  /**
+   * Cancels the execution of this query, if it is being executed by another
+   * thread.
+   */
+  void cancel() {
+    AbstractPreparedStatementCreator.cancel(psc);
+  }
+
+  private boolean isHedged() {
+    return hedged && hedger != null && handler == null && !repeatable
+        && hedger.isEnabled();
+  }
+
+  private Object retrieveHedged(boolean single, Parameter[] params) {
+    assertReady();
+    executed = true;
+    return hedger.retrieve(this, single, params);
+  }
+
+  private boolean isCached() {
+    return cached && resultCache != null && handler == null
+        && resultCache.isEnabled();
+  }
+
+  private Object mapperKey() {
+    if (cacheKey != null) return cacheKey;
+    return rowMapper != null ? rowMapper.getClass() : null;
+  }
+
+  private Object retrieveCached(boolean single, Parameter[] params) {
+    assertReady();
+    final QueryResultCache cache = resultCache.getCache();
+    final Set<String> tables = cache.getTables(sql);
+    final QueryResultCache.Key key = new QueryResultCache.Key(sql, type,
+        extractor != null ? extractor.getColumnId() : null, mapperKey(),
+        single, plan.bind(params));
+    final Object cachedResult = cache.get(key);
+    if (cachedResult != QueryResultCache.NOT_FOUND) {
+      executed = true;
+      if (!repeatable) {
+        close();
+      }
+      return cachedResult;
+    }
+    final long token = tables != null ? cache.getGeneration(tables) : 0;
+    final Object result;
+    if (isHedged()) {
+      result = retrieveHedged(single, params);
+    }
+    else {
+      final ResultSetHandler<T> innerHandler = newInnerHandler();
+      result = retrieve(single ? new SingleRowHandler<>(innerHandler)
+          : new MultipleRowHandler<>(innerHandler), params);
+    }
+    if (tables != null) {
+      cache.put(key, tables, result, token);
+    }
+    return result;
+  }
+
+  /**
+   * Gets the SQL statement text configured for this query.
+   * @return statement text or {@code null} if no statement is configured
+   */
+  String getStatementText() {
+    return sql;
+  }
+
+  @Override
+  public QueryTemplate<T> asTemplate() {
+    assertNotExecuted();
+    assertExecutable();
+    return new ImmutableQueryTemplate<>(new QueryBuilder<>(this));
+  }
+
+  @Override
+  public long[] retrieveLongArray(Parameter... parameters) {
+    return (long[]) retrievePrimitive(
+        new LongColumnHandler(primitiveExtractor()), parameters);
+  }
+
+  @Override
+  public int[] retrieveIntArray(Parameter... parameters) {
+    return (int[]) retrievePrimitive(
+        new IntColumnHandler(primitiveExtractor()), parameters);
+  }
+
+  @Override
+  public double[] retrieveDoubleArray(Parameter... parameters) {
+    return (double[]) retrievePrimitive(
+        new DoubleColumnHandler(primitiveExtractor()), parameters);
   }
 
   @Override
   public void execute(Parameter... parameters) {
-    retrieve(handler != null ? handler : new MultipleRowHandler<>(innerHandler),
-        parameters);
+    retrieve(handler != null ?
+        handler : new MultipleRowHandler<>(newInnerHandler()), parameters);
+  }
+
+  @Override
+  public Stream<T> stream(Parameter... parameters) {
+    assertReady();
+    final ResultSetHandler<T> innerHandler = newInnerHandler();
+    if (innerHandler == null) {
+      throw new IllegalStateException(
+          "a column extractor or row mapper is required to stream results");
+    }
+    final PreparedQueryExecutor executor =
+        new PreparedQueryExecutor(psc, plan.bind(parameters), fetchSize,
+            logger, metrics);
+
+    final ResultSet rs;
+    try {
+      rs = executor.execute(dataSource);
+    }
+    catch (SQLException ex) {
+      executed = true;
+      if (!repeatable) {
+        close();
+      }
+      throw new SQLRuntimeException(ex);
+    }
+
+    executed = true;
+    final ResultSetSpliterator<T> spliterator = new ResultSetSpliterator<>(rs,
+        innerHandler, executor.getObserver(), new Runnable() {
+          @Override
+          public void run() {
+            JdbcUtils.closeQuietly(rs);
+            if (!repeatable) {
+              close();
+            }
+          }
+        });
+
+    return StreamSupport.stream(spliterator, false).onClose(new Runnable() {
+      @Override
+      public void run() {
+        spliterator.close();
+      }
+    });
   }
 
   /**
@@ -149,13 +486,53 @@ class QueryBuilder<T> implements JdbcQuery<T> {
    */
   public Object retrieve(ResultSetHandler<?> handler, Parameter... params) {
     assertReady();
+    return doRetrieve(handler, params);
+  }
+
+  private Object retrievePrimitive(ResultSetHandler<?> handler,
+      Parameter... params) {
+    assertExecutable();
+    return doRetrieve(handler, params);
+  }
+
+  /**
+   * Creates a new row-level handler for the configured column extractor or
+   * row mapper.
+   * <p>
+   * A new handler is created for each execution, because a handler may
+   * maintain state (e.g. the row number) that is specific to a result set.
+   *
+   * @return handler or {@code null} if neither a column extractor nor a row
+   *    mapper is configured
+   */
+  private ResultSetHandler<T> newInnerHandler() {
+    if (extractor != null) {
+      return new ColumnExtractingResultSetHandler<>(extractor);
+    }
+    if (rowMapper != null) {
+      return new RowMappingResultSetHandler<>(rowMapper);
+    }
+    return null;
+  }
+
+  private ColumnExtractor<?> primitiveExtractor() {
+    if (extractor != null) return extractor;
+    if (handler != null || rowMapper != null) {
+      throw new IllegalStateException(
+          "a column extractor is required to retrieve a primitive array");
+    }
+    return ColumnExtractor.with(type);
+  }
+
+  private Object doRetrieve(ResultSetHandler<?> handler, Parameter... params) {
     final PreparedQueryExecutor executor =
-        new PreparedQueryExecutor(psc, params, logger);
+        new PreparedQueryExecutor(psc, plan.bind(params), fetchSize, logger,
+            metrics);
 
     ResultSet rs = null;
     try {
       rs = executor.execute(dataSource);
-      return handler.handleResult(rs);
+      return executor.handleResult(rs, handler);
     }
     catch (SQLException ex) {
       throw new SQLRuntimeException(ex);
@@ -175,6 +552,14 @@ class QueryBuilder<T> implements JdbcQuery<T> {
   }
 
   private void assertReady() {
+    assertExecutable();
+    if (handler == null && rowMapper == null && extractor == null) {
+      throw new IllegalArgumentException(
+          "no result handler, column extractor, or row mapper has been configured");
+    }
+  }
+
+  private void assertExecutable() {
     if (executed && !repeatable) {
       throw new IllegalStateException(
           "query has been executed and was not configured as repeatable");
@@ -183,10 +568,6 @@ class QueryBuilder<T> implements JdbcQuery<T> {
       throw new IllegalArgumentException(
           "no SQL statement or source has been configured");
     }
-    if (handler == null && innerHandler == null) {
-      throw new IllegalArgumentException(
-          "no result handler, column extractor, or row mapper has been configured");
-    }
   }
 
   private void assertNotExecuted() {
@@ -0,0 +1,247 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Executes hedged queries for a {@link FluentJdbc} facade according to a
+ * {@link HedgingPolicy}.
+ * <p>
+ * Each hedged query is executed as a race between up to two attempts, each
+ * using its own copy of the query and therefore its own connection and
+ * statement.  The first attempt to succeed provides the result, and the
+ * other attempt is cancelled.  If all attempts fail, the failure of the
+ * first attempt to fail is thrown.
+ *
+ * @author Carl Harris
+ */
+class QueryHedger {
+
+  private final HedgingPolicy policy;
+  private final ConnectionBindingDataSource dataSource;
+
+  /**
+   * Constructs a new instance.
+   * @param policy hedging policy
+   * @param dataSource data source of the facade, used to determine whether
+   *    the calling thread has a bound connection
+   */
+  QueryHedger(HedgingPolicy policy, ConnectionBindingDataSource dataSource) {
+    this.policy = policy;
+    this.dataSource = dataSource;
+  }
+
+  /**
+   * Gets the hedging policy.
+   * @return policy
+   */
+  HedgingPolicy getPolicy() {
+    return policy;
+  }
+
+  /**
+   * Determines whether a query executed by the calling thread may be hedged.
+   * <p>
+   * A query performed using a connection bound to the calling thread (e.g.
+   * in a transaction) must use that connection, and cannot be hedged.
+   *
+   * @return {@code true} if hedging is possible
+   */
+  boolean isEnabled() {
+    return dataSource.getBoundConnection() == null;
+  }
+
+  /**
+   * Executes a hedged query.
+   * @param query the query to execute; it is not itself executed, but is
+   *    copied for each attempt
+   * @param single {@code true} if a single row is to be retrieved, otherwise
+   *    the list of all rows is retrieved
+   * @param parameters values for query placeholders
+   * @return result of the first successful attempt
+   */
+  <T> Object retrieve(QueryBuilder<T> query, boolean single,
+      Parameter[] parameters) {
+    final Executor executor = policy.getExecutor();
+    final Race race = new Race();
+    final Attempt first =
+        new Attempt(race, new QueryBuilder<>(query), single, parameters);
+    race.first = first;
+    try {
+      executor.execute(first);
+    }
+    catch (RejectedExecutionException ex) {
+      first.run();
+    }
+    policy.earn();
+    try {
+      try {
+        return race.result.get(policy.getDelay(), TimeUnit.NANOSECONDS);
+      }
+      catch (TimeoutException ex) {
+        hedge(race, new QueryBuilder<>(query), single, parameters, executor);
+      }
+      return race.result.get();
+    }
+    catch (ExecutionException ex) {
+      final Throwable cause = ex.getCause();
+      if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+      if (cause instanceof Error) throw (Error) cause;
+      throw new SQLRuntimeException(cause);
+    }
+    catch (InterruptedException ex) {
+      race.cancel(null);
+      Thread.currentThread().interrupt();
+      throw new SQLRuntimeException("interrupted while executing query", ex);
+    }
+  }
+
+  private void hedge(Race race, QueryBuilder<?> query, boolean single,
+      Parameter[] parameters, Executor executor) {
+    if (!policy.spend()) return;
+    final Attempt second = new Attempt(race, query, single, parameters);
+    if (!race.join(second)) return;
+    try {
+      executor.execute(second);
+    }
+    catch (RejectedExecutionException ex) {
+      race.abandon();
+    }
+  }
+
+  /**
+   * The state of the race between the attempts for a query.
+   */
+  private class Race {
+
+    final CompletableFuture<Object> result = new CompletableFuture<>();
+    final AtomicInteger running = new AtomicInteger(1);
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final AtomicReference<Attempt> winner = new AtomicReference<>();
+
+    volatile Attempt first;
+    volatile Attempt second;
+
+    /**
+     * Adds a second attempt to the race, unless the race has already been
+     * decided.
+     * @param attempt the attempt to add
+     * @return {@code true} if the attempt was added and should be started
+     */
+    boolean join(Attempt attempt) {
+      int current;
+      do {
+        current = running.get();
+        if (current == 0 || result.isDone()) return false;
+      }
+      while (!running.compareAndSet(current, current + 1));
+      second = attempt;
+      return true;
+    }
+
+    void succeeded(Attempt attempt, Object value) {
+      if (!winner.compareAndSet(null, attempt)) return;
+      if (attempt == second) {
+        policy.won();
+      }
+      result.complete(value);
+      cancel(attempt);
+    }
+
+    void failed(Throwable ex) {
+      failure.compareAndSet(null, ex);
+      abandon();
+    }
+
+    /**
+     * Removes an attempt from the race; if no attempts remain, the race is
+     * completed with the first failure.
+     */
+    void abandon() {
+      if (running.decrementAndGet() == 0) {
+        result.completeExceptionally(failure.get());
+      }
+    }
+
+    /**
+     * Cancels all attempts except the given winner.
+     * @param winner the attempt that completed the race, or {@code null}
+     */
+    void cancel(Attempt winner) {
+      final Attempt first = this.first;
+      final Attempt second = this.second;
+      if (first != null && first != winner) {
+        first.cancel();
+      }
+      if (second != null && second != winner) {
+        second.cancel();
+      }
+    }
+
+  }
+
+  /**
+   * An attempt to execute a query.
+   */
+  private class Attempt implements Runnable {
+
+    private final Race race;
+    private final QueryBuilder<?> query;
+    private final boolean single;
+    private final Parameter[] parameters;
+
+    Attempt(Race race, QueryBuilder<?> query, boolean single,
+        Parameter[] parameters) {
+      this.race = race;
+      this.query = query;
+      this.single = single;
+      this.parameters = parameters;
+    }
+
+    @Override
+    public void run() {
+      if (race.result.isDone()) return;
+      final long start = System.nanoTime();
+      final Object value;
+      try {
+        value = query.retrieveRows(single, parameters);
+      }
+      catch (Throwable ex) {
+        race.failed(ex);
+        return;
+      }
+      policy.record(System.nanoTime() - start);
+      race.succeeded(this, value);
+    }
+
+    void cancel() {
+      query.cancel();
+    }
+
+  }
+
+}
@@ -0,0 +1,649 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.soulwing.jdbc.source.SQLTableExtractor;
+
+/**
+ * A bounded cache of query results.
+ * <p>
+ * When a cache is configured on a {@link FluentJdbc} facade (see
+ * {@link FluentJdbc#setResultCache(QueryResultCache)}), the results of
+ * queries that are {@linkplain JdbcQuery#cached() marked} for caching are
+ * retained, keyed by the SQL text, the extracted column or the class of the
+ * row mapper, and the values of the statement parameters.  A subsequent
+ * execution of an identical query returns the retained result without a
+ * round trip to the database.
+ * <p>
+ * Because row mappers are identified by class, all instances of a mapper
+ * class (including all lambdas created by the same expression) must produce
+ * equal objects for the same row.  A query whose mapper does not satisfy
+ * this rule, for example a lambda that captures a value that affects the
+ * mapped objects, must supply an explicit key using
+ * {@link JdbcQuery#cached(Object)}.
+ * <p>
+ * An entry is removed from the cache when any of the following occurs.
+ * <ul>
+ *   <li>The entry is older than the configured time-to-live.</li>
+ *   <li>The total weight of all entries exceeds the configured maximum; the
+ *       least recently used entries are removed first.  A large cache is
+ *       divided into segments that are locked and bounded independently,
+ *       so that concurrent queries seldom contend; the least recently used
+ *       entries of a segment are then removed when the segment's share of
+ *       the maximum weight is exceeded.  By default, each
+ *       entry has a weight of one, so that the maximum weight is simply the
+ *       maximum number of entries; a {@link Weigher} may be used to bound
+ *       the cache by some other measure, such as the number of rows.</li>
+ *   <li>A statement that refers to one of the tables read by the query is
+ *       executed via {@link JdbcUpdate} or
+ *       {@link JdbcOperations#execute(String) execute} on a facade that uses
+ *       this cache.  Table names are determined using a
+ *       {@link SQLTableExtractor}; a statement whose tables cannot be
+ *       determined invalidates every entry.</li>
+ * </ul>
+ * <p>
+ * Changes made by other means, including stored procedures invoked via
+ * {@link JdbcCall}, and other applications that share the database, are
+ * not detected.  The results of such changes are seen only when the
+ * affected entries expire, or after they are removed using
+ * {@link #invalidate(String)} or {@link #invalidateAll()}.
+ * <p>
+ * A cached list is copied each time it is returned, but the objects it
+ * contains are shared by all callers, and should not be modified.
+ * <p>
+ * An instance of this class is thread safe and may be shared by any number
+ * of facade instances.
+ *
+ * @author Carl Harris
+ */
+public class QueryResultCache {
+
+  /**
+   * Default maximum weight of all cached results.
+   */
+  public static final long DEFAULT_MAX_WEIGHT = 1000;
+
+  /**
+   * Default time-to-live of a cached result, in seconds.
+   */
+  public static final long DEFAULT_TTL = 60;
+
+  /**
+   * Value returned by {@link #get(Key)} when no result is cached.
+   */
+  static final Object NOT_FOUND = new Object();
+
+  private static final int GENERATION_STRIPES = 64;
+
+  private static final int MAX_SEGMENTS = 16;
+
+  private static final int MIN_SEGMENT_WEIGHT = 64;
+
+  /**
+   * A measure of the weight of a cached result.
+   */
+  public interface Weigher {
+
+    /**
+     * A weigher that assigns a weight of one to every result.
+     */
+    Weigher ENTRIES = new Weigher() {
+      @Override
+      public long weigh(Object result) {
+        return 1;
+      }
+    };
+
+    /**
+     * A weigher that assigns a weight equal to the number of rows in a
+     * result; a single value has a weight of one.
+     */
+    Weigher ROWS = new Weigher() {
+      @Override
+      public long weigh(Object result) {
+        return result instanceof Collection ?
+            Math.max(1, ((Collection<?>) result).size()) : 1;
+      }
+    };
+
+    /**
+     * Gets the weight of a result.
+     * @param result a list of rows, or the value of a single row
+     * @return weight; must not be negative
+     */
+    long weigh(Object result);
+
+  }
+
+  private final Segment[] segments;
+
+  private final AtomicLongArray generations =
+      new AtomicLongArray(GENERATION_STRIPES);
+
+  private final AtomicLong generation = new AtomicLong();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder expirations = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+
+  private final long maxWeight;
+  private final long ttl;
+  private final Weigher weigher;
+
+  private volatile SQLTableExtractor tableExtractor = new SQLTableExtractor();
+
+  /**
+   * Constructs a new instance that holds up to {@link #DEFAULT_MAX_WEIGHT}
+   * results for no more than {@link #DEFAULT_TTL} seconds.
+   */
+  public QueryResultCache() {
+    this(DEFAULT_MAX_WEIGHT, DEFAULT_TTL, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Constructs a new instance that assigns a weight of one to every result.
+   * @param maxSize maximum number of cached results
+   * @param ttl time-to-live of a cached result
+   * @param unit unit for {@code ttl}
+   */
+  public QueryResultCache(long maxSize, long ttl, TimeUnit unit) {
+    this(maxSize, ttl, unit, Weigher.ENTRIES);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param maxWeight maximum total weight of cached results
+   * @param ttl time-to-live of a cached result
+   * @param unit unit for {@code ttl}
+   * @param weigher measure of the weight of a result
+   */
+  public QueryResultCache(long maxWeight, long ttl, TimeUnit unit,
+      Weigher weigher) {
+    if (maxWeight <= 0) {
+      throw new IllegalArgumentException("maximum weight must be positive");
+    }
+    if (ttl <= 0) {
+      throw new IllegalArgumentException("time-to-live must be positive");
+    }
+    this.maxWeight = maxWeight;
+    this.ttl = unit.toNanos(ttl);
+    this.weigher = weigher;
+    final int count = maxWeight < MAX_SEGMENTS * MIN_SEGMENT_WEIGHT ?
+        1 : MAX_SEGMENTS;
+    this.segments = new Segment[count];
+    for (int i = 0; i < count; i++) {
+      segments[i] = new Segment((maxWeight + count - 1) / count);
+    }
+  }
+
+  /**
+   * Gets the maximum total weight of cached results.
+   * @return maximum weight
+   */
+  public long getMaxWeight() {
+    return maxWeight;
+  }
+
+  /**
+   * Gets the time-to-live of a cached result.
+   * @param unit unit for the return value
+   * @return time-to-live
+   */
+  public long getTtl(TimeUnit unit) {
+    return unit.convert(ttl, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Sets the extractor used to determine the tables referenced by a
+   * statement.
+   * <p>
+   * The default extractor uses the default scanner; an extractor configured
+   * with a dialect-specific scanner may be used instead.
+   *
+   * @param tableExtractor the extractor to set
+   */
+  public void setTableExtractor(SQLTableExtractor tableExtractor) {
+    if (tableExtractor == null) {
+      throw new NullPointerException("table extractor is required");
+    }
+    this.tableExtractor = tableExtractor;
+  }
+
+  /**
+   * Gets the number of times a result was found in this cache.
+   * @return hit count
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets the number of times a result was not found in this cache and the
+   * query had to be executed.
+   * @return miss count
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Gets the number of results that were removed because the maximum
+   * weight was exceeded.
+   * @return eviction count
+   */
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * Gets the number of results that were removed because their
+   * time-to-live had elapsed.
+   * @return expiration count
+   */
+  public long getExpirationCount() {
+    return expirations.sum();
+  }
+
+  /**
+   * Gets the number of results that were removed because a table they
+   * depend on was changed, or because they were explicitly invalidated.
+   * @return invalidation count
+   */
+  public long getInvalidationCount() {
+    return invalidations.sum();
+  }
+
+  /**
+   * Gets the number of results currently held in this cache.
+   * @return result count
+   */
+  public int size() {
+    int size = 0;
+    for (final Segment segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Gets the total weight of the results currently held in this cache.
+   * @return weight
+   */
+  public long getWeight() {
+    long weight = 0;
+    for (final Segment segment : segments) {
+      synchronized (segment) {
+        weight += segment.weight;
+      }
+    }
+    return weight;
+  }
+
+  /**
+   * Removes all cached results that depend on the given table.
+   * @param table name of the table; case is not significant, and any
+   *    schema or catalog qualifier is ignored
+   */
+  public void invalidate(String table) {
+    final int index = table.lastIndexOf('.');
+    invalidate(Collections.singleton(
+        table.substring(index + 1).toUpperCase(Locale.ENGLISH)));
+  }
+
+  /**
+   * Removes all cached results.
+   */
+  public void invalidateAll() {
+    invalidate((Set<String>) null);
+  }
+
+  /**
+   * Gets the names of the tables referenced by a statement.
+   * @param sql statement text
+   * @return table names, or {@code null} if they cannot be determined
+   */
+  Set<String> getTables(String sql) {
+    return tableExtractor.extractTables(sql);
+  }
+
+  /**
+   * Gets a cached result.
+   * @param key key describing the query
+   * @return cached result or {@link #NOT_FOUND}
+   */
+  Object get(Key key) {
+    final Segment segment = segmentFor(key);
+    final Object value;
+    synchronized (segment) {
+      final CachedResult entry = segment.get(key);
+      if (entry == null) {
+        value = NOT_FOUND;
+      }
+      else if (System.nanoTime() - entry.expires >= 0) {
+        segment.discard(key, entry);
+        expirations.increment();
+        value = NOT_FOUND;
+      }
+      else {
+        value = entry.value;
+      }
+    }
+    if (value == NOT_FOUND) {
+      misses.increment();
+      return NOT_FOUND;
+    }
+    hits.increment();
+    return copy(value);
+  }
+
+  /**
+   * Gets a token that identifies the current state of the given tables
+   * with respect to invalidation.
+   * <p>
+   * The token must be obtained before a query is executed, and presented
+   * when its result is {@linkplain #put stored}, so that a result that may
+   * have been read before a concurrent change is not cached.
+   *
+   * @param tables the tables read by a query
+   * @return token
+   */
+  long getGeneration(Set<String> tables) {
+    long token = generation.get();
+    for (final String table : tables) {
+      token += generations.get(stripe(table));
+    }
+    return token;
+  }
+
+  /**
+   * Stores a result in the cache.
+   * @param key key describing the query
+   * @param tables the tables read by the query
+   * @param value the query result
+   * @param token token obtained using {@link #getGeneration(Set)} before
+   *    the query was executed
+   */
+  void put(Key key, Set<String> tables, Object value, long token) {
+    final Segment segment = segmentFor(key);
+    final long weight = weigher.weigh(value);
+    if (weight > segment.maxWeight) return;
+    final CachedResult entry = new CachedResult(copy(value), tables, weight,
+        System.nanoTime() + ttl);
+    synchronized (segment) {
+      // an invalidation advances the generation before it removes entries,
+      // so checking the token while holding the lock cannot miss one
+      if (getGeneration(tables) != token) return;
+      evictions.add(segment.add(key, entry));
+    }
+  }
+
+  /**
+   * Removes all cached results that depend on any of the given tables.
+   * @param tables names of the changed tables, as reported by
+   *    {@link #getTables(String)}; {@code null} or an empty set if the
+   *    changed tables are unknown
+   */
+  void invalidate(Set<String> tables) {
+    if (tables == null || tables.isEmpty()) {
+      generation.incrementAndGet();
+      for (final Segment segment : segments) {
+        synchronized (segment) {
+          invalidations.add(segment.size());
+          segment.clear();
+        }
+      }
+      return;
+    }
+    for (final String table : tables) {
+      generations.incrementAndGet(stripe(table));
+    }
+    for (final Segment segment : segments) {
+      synchronized (segment) {
+        invalidations.add(segment.invalidate(tables));
+      }
+    }
+  }
+
+  private Segment segmentFor(Key key) {
+    final int hash = key.hashCode();
+    return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+  }
+
+  private static int stripe(String table) {
+    return table.hashCode() & (GENERATION_STRIPES - 1);
+  }
+
+  private static Object copy(Object value) {
+    return value instanceof List ? new ArrayList<>((List<?>) value) : value;
+  }
+
+  /**
+   * A key that describes a cached result.
+   */
+  static final class Key {
+
+    private final String sql;
+    private final Class<?> type;
+    private final Object columnId;
+    private final Object mapperKey;
+    private final boolean single;
+    private final int[] types;
+    private final Object[] values;
+    private final int hash;
+
+    /**
+     * Constructs a new instance.
+     * @param sql SQL statement text
+     * @param type data type of the query result
+     * @param columnId index or label of the extracted column, or
+     *    {@code null} if rows are mapped
+     * @param mapperKey class of the row mapper, or an explicit key supplied
+     *    for the query; {@code null} if a column is extracted
+     * @param single {@code true} if the result is a single row
+     * @param parameters values for statement placeholders, in the order of
+     *    the positional placeholders
+     */
+    Key(String sql, Class<?> type, Object columnId, Object mapperKey,
+        boolean single, Parameter[] parameters) {
+      this.sql = sql;
+      this.type = type;
+      this.columnId = columnId;
+      this.mapperKey = mapperKey;
+      this.single = single;
+      this.types = new int[parameters.length];
+      this.values = new Object[parameters.length];
+      for (int i = 0; i < parameters.length; i++) {
+        types[i] = parameters[i].getType();
+        values[i] = parameters[i].getValue();
+      }
+      int hash = sql.hashCode();
+      hash = 31 * hash + type.hashCode();
+      hash = 31 * hash + (columnId != null ? columnId.hashCode() : 0);
+      hash = 31 * hash + (mapperKey != null ? mapperKey.hashCode() : 0);
+      hash = 31 * hash + (single ? 1 : 0);
+      hash = 31 * hash + Arrays.hashCode(types);
+      hash = 31 * hash + Arrays.deepHashCode(values);
+      this.hash = hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) return true;
+      if (!(obj instanceof Key)) return false;
+      final Key that = (Key) obj;
+      return this.hash == that.hash
+          && this.single == that.single
+          && this.sql.equals(that.sql)
+          && this.type.equals(that.type)
+          && equals(this.columnId, that.columnId)
+          && equals(this.mapperKey, that.mapperKey)
+          && Arrays.equals(this.types, that.types)
+          && Arrays.deepEquals(this.values, that.values);
+    }
+
+    private static boolean equals(Object a, Object b) {
+      return a == null ? b == null : a.equals(b);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+  }
+
+  /**
+   * A segment of the cache, which holds the entries for a subset of the
+   * keys in least-recently-used order.
+   */
+  private static final class Segment
+      extends LinkedHashMap<Key, CachedResult> {
+
+    private static final long serialVersionUID = 8253925103346413217L;
+
+    final Map<String, Set<Key>> keysByTable = new HashMap<>();
+    final long maxWeight;
+    long weight;
+
+    Segment(long maxWeight) {
+      super(16, 0.75f, true);
+      this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Adds an entry, evicting the least recently used entries as needed.
+     * @param key key of the entry
+     * @param entry the entry to add
+     * @return number of evicted entries
+     */
+    int add(Key key, CachedResult entry) {
+      final CachedResult previous = super.put(key, entry);
+      if (previous != null) {
+        unlink(key, previous);
+      }
+      weight += entry.weight;
+      for (final String table : entry.tables) {
+        Set<Key> keys = keysByTable.get(table);
+        if (keys == null) {
+          keys = new HashSet<>();
+          keysByTable.put(table, keys);
+        }
+        keys.add(key);
+      }
+      int evicted = 0;
+      final Iterator<Map.Entry<Key, CachedResult>> i =
+          entrySet().iterator();
+      while (weight > maxWeight && i.hasNext()) {
+        final Map.Entry<Key, CachedResult> eldest = i.next();
+        i.remove();
+        unlink(eldest.getKey(), eldest.getValue());
+        evicted++;
+      }
+      return evicted;
+    }
+
+    void discard(Key key, CachedResult entry) {
+      super.remove(key);
+      unlink(key, entry);
+    }
+
+    /**
+     * Removes the entries that depend on any of the given tables.
+     * @param tables names of the changed tables
+     * @return number of removed entries
+     */
+    int invalidate(Set<String> tables) {
+      int count = 0;
+      for (final String table : tables) {
+        final Set<Key> keys = keysByTable.get(table);
+        if (keys == null) continue;
+        for (final Key key : new ArrayList<>(keys)) {
+          final CachedResult entry = super.remove(key);
+          if (entry != null) {
+            unlink(key, entry);
+            count++;
+          }
+        }
+      }
+      return count;
+    }
+
+    @Override
+    public void clear() {
+      super.clear();
+      keysByTable.clear();
+      weight = 0;
+    }
+
+    private void unlink(Key key, CachedResult entry) {
+      weight -= entry.weight;
+      for (final String table : entry.tables) {
+        final Set<Key> keys = keysByTable.get(table);
+        if (keys == null) continue;
+        keys.remove(key);
+        if (keys.isEmpty()) {
+          keysByTable.remove(table);
+        }
+      }
+    }
+
+  }
+
+  /**
+   * A cached result.
+   */
+  private static final class CachedResult {
+
+    final Object value;
+    final Set<String> tables;
+    final long weight;
+    final long expires;
+
+    CachedResult(Object value, Set<String> tables, long weight,
+        long expires) {
+      this.value = value;
+      this.tables = tables;
+      this.weight = weight;
+      this.expires = expires;
+    }
+
+  }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * An immutable, fully configured query that can be executed any number of
+ * times, concurrently, by any number of threads.
+ * <p>
+ * A template is created from a configured {@link JdbcQuery} using
+ * {@link JdbcQuery#asTemplate()}, typically once when an application starts.
+ * Unlike a query configured for {@linkplain JdbcQuery#repeatedly() repeated
+ * execution}, a template does not hold a connection or statement; each
+ * execution obtains its own connection from the data source (or uses the
+ * connection bound to the calling thread, see
+ * {@link JdbcOperations#inTransaction(JdbcWork)}), and its own statement
+ * (from the {@linkplain StatementCache statement cache}, if configured),
+ * releasing them when the execution completes.
+ * <p>
+ * Any {@link RowMapper} or {@link ResultSetHandler} configured for the query
+ * is shared by all executions, and must therefore be thread safe.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * private final QueryTemplate<Person> findPerson =
+ *     sqlTemplate.queryForType(Person.class)
+ *         .using("SELECT * FROM person WHERE id = ?")
+ *         .mappingRowsWith(RowMappers.forBean(Person.class))
+ *         .asTemplate();
+ *
+ * Person person = findPerson.retrieveValue(Parameter.with(id));
+ * }</pre>
+ *
+ * @param <T> the type of object returned by the query
+ * @author Carl Harris
+ */
+public interface QueryTemplate<T> {
+
+  /**
+   * Gets the text of the SQL statement executed by this template.
+   * @return SQL statement text
+   */
+  String getStatementText();
+
+  /**
+   * Executes the query, retrieving the list of values for all matching rows.
+   * @param parameters values for query placeholders
+   * @return list of values of type {@code T} that were extracted/mapped by
+   *   this query
+   * @see JdbcQuery#retrieveList(Parameter...)
+   */
+  List<T> retrieveList(Parameter... parameters);
+
+  /**
+   * Executes the query, retrieving a value representing the matching row
+   * @param parameters values for query placeholders
+   * @return value of type {@code T} that was extracted/mapped by this query
+   * @throws SQLNoResultException if no row was matched by this query
+   * @throws SQLNonUniqueResultException if more than one row was matched by
+   *    this query
+   * @see JdbcQuery#retrieveValue(Parameter...)
+   */
+  T retrieveValue(Parameter... parameters);
+
+  /**
+   * Executes the query, retrieving the values of a single column for all
+   * matching rows as an array of {@code long}.
+   * @param parameters values for query placeholders
+   * @return array of column values in row order
+   * @see JdbcQuery#retrieveLongArray(Parameter...)
+   */
+  long[] retrieveLongArray(Parameter... parameters);
+
+  /**
+   * Executes the query, retrieving the values of a single column for all
+   * matching rows as an array of {@code int}.
+   * @param parameters values for query placeholders
+   * @return array of column values in row order
+   * @see JdbcQuery#retrieveIntArray(Parameter...)
+   */
+  int[] retrieveIntArray(Parameter... parameters);
+
+  /**
+   * Executes the query, retrieving the values of a single column for all
+   * matching rows as an array of {@code double}.
+   * @param parameters values for query placeholders
+   * @return array of column values in row order
+   * @see JdbcQuery#retrieveDoubleArray(Parameter...)
+   */
+  double[] retrieveDoubleArray(Parameter... parameters);
+
+  /**
+   * Executes the query, returning a stream of the values for all matching
+   * rows.
+   * <p>
+   * The connection and statement used for the execution remain open until
+   * the stream is closed or all of its elements have been consumed.
+   *
+   * @param parameters values for query placeholders
+   * @return stream of values of type {@code T}
+   * @see JdbcQuery#stream(Parameter...)
+   */
+  Stream<T> stream(Parameter... parameters);
+
+  /**
+   * Executes the query, processing the result set with the configured handler.
+   * @param parameters values for query placeholders
+   * @see JdbcQuery#execute(Parameter...)
+   */
+  void execute(Parameter... parameters);
+
+}
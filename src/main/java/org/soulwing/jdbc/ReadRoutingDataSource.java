@@ -0,0 +1,108 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * A {@link DataSource} that provides connections for read-only operations.
+ * <p>
+ * Connections are obtained from a replica data source, unless a connection
+ * to the primary database is bound to the calling thread (e.g. because the
+ * thread is performing a transaction); in that case, the bound connection is
+ * used, so that the operation observes the effects of the thread's own
+ * updates.
+ *
+ * @author Carl Harris
+ */
+class ReadRoutingDataSource implements DataSource {
+
+  private final ConnectionBindingDataSource primary;
+  private final DataSource replicas;
+
+  /**
+   * Constructs a new instance.
+   * @param primary data source for the primary database
+   * @param replicas data source for replicas of the primary database
+   */
+  public ReadRoutingDataSource(ConnectionBindingDataSource primary,
+      DataSource replicas) {
+    this.primary = primary;
+    this.replicas = replicas;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (primary.getBoundConnection() != null) {
+      return primary.getConnection();
+    }
+    return replicas.getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password)
+      throws SQLException {
+    if (primary.getBoundConnection() != null) {
+      return primary.getConnection();
+    }
+    return replicas.getConnection(username, password);
+  }
+
+  @Override
+  public PrintWriter getLogWriter() throws SQLException {
+    return replicas.getLogWriter();
+  }
+
+  @Override
+  public void setLogWriter(PrintWriter out) throws SQLException {
+    replicas.setLogWriter(out);
+  }
+
+  @Override
+  public void setLoginTimeout(int seconds) throws SQLException {
+    replicas.setLoginTimeout(seconds);
+  }
+
+  @Override
+  public int getLoginTimeout() throws SQLException {
+    return replicas.getLoginTimeout();
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    return replicas.getParentLogger();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    return replicas.unwrap(iface);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return replicas.isWrapperFor(iface);
+  }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Binds a {@link QueryResultCache} to the data source of a
+ * {@link FluentJdbc} facade.
+ * <p>
+ * Queries performed using a connection bound to the calling thread (e.g. in
+ * a transaction) bypass the cache, so that uncommitted changes are neither
+ * read from nor stored in it.  The tables changed by a statement executed
+ * using a bound connection are invalidated immediately.  If the connection
+ * is not in auto-commit mode, they are recorded and invalidated again when
+ * the transaction ends (or the connection is unbound), so that a result
+ * read by another thread before the changes were committed is not
+ * retained.
+ *
+ * @author Carl Harris
+ */
+class ResultCacheBinding {
+
+  /**
+   * Marker in the set of pending invalidations for a statement whose tables
+   * are unknown.
+   */
+  private static final String ALL_TABLES = "*";
+
+  private final ThreadLocal<Set<String>> pending = new ThreadLocal<>();
+
+  private final QueryResultCache cache;
+  private final ConnectionBindingDataSource dataSource;
+
+  /**
+   * Constructs a new instance.
+   * @param cache the result cache
+   * @param dataSource data source of the facade, used to determine whether
+   *    the calling thread has a bound connection
+   */
+  ResultCacheBinding(QueryResultCache cache,
+      ConnectionBindingDataSource dataSource) {
+    this.cache = cache;
+    this.dataSource = dataSource;
+  }
+
+  /**
+   * Gets the result cache.
+   * @return cache
+   */
+  QueryResultCache getCache() {
+    return cache;
+  }
+
+  /**
+   * Determines whether a query executed by the calling thread may use the
+   * cache.
+   * @return {@code true} if the cache may be used
+   */
+  boolean isEnabled() {
+    return dataSource.getBoundConnection() == null;
+  }
+
+  /**
+   * Invalidates the cached results that depend on the tables referenced by
+   * a statement that has been executed.
+   * @param sql statement text
+   */
+  void invalidate(String sql) {
+    final Set<String> tables = cache.getTables(sql);
+    cache.invalidate(tables);
+    if (!inTransaction()) return;
+    Set<String> changed = pending.get();
+    if (changed == null) {
+      changed = new HashSet<>();
+      pending.set(changed);
+    }
+    if (tables == null || tables.isEmpty()) {
+      changed.add(ALL_TABLES);
+    }
+    else {
+      changed.addAll(tables);
+    }
+  }
+
+  private boolean inTransaction() {
+    final Connection connection = dataSource.getBoundConnection();
+    if (connection == null) return false;
+    try {
+      return !connection.getAutoCommit();
+    }
+    catch (SQLException ex) {
+      return true;
+    }
+  }
+
+  /**
+   * Invalidates the cached results that depend on the tables changed using
+   * the connection bound to the calling thread, and forgets them.
+   * <p>
+   * This method must be invoked after the transaction on the bound
+   * connection has been committed or rolled back, and when the connection
+   * is unbound from the calling thread.
+   */
+  void transactionEnded() {
+    final Set<String> changed = pending.get();
+    if (changed == null) return;
+    pending.remove();
+    cache.invalidate(changed.contains(ALL_TABLES) ? null : changed);
+  }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+import org.soulwing.jdbc.metrics.NullJdbcMetrics;
+import org.soulwing.jdbc.metrics.StatementObserver;
+
+/**
+ * A {@link Spliterator} that lazily produces an element for each row of a
+ * {@link ResultSet}.
+ * <p>
+ * Each invocation of {@link #tryAdvance(Consumer)} advances the result set by
+ * one row and uses a row-level {@link ResultSetHandler} (such as a column
+ * extractor or row mapper) to produce the corresponding element.  When the
+ * result set is exhausted, or an error occurs while reading it, the
+ * configured close action is run, and the number of rows read and the
+ * time elapsed since the spliterator was created are reported to the
+ * observer of the query execution.
+ *
+ * @author Carl Harris
+ */
+class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+  private final ResultSet rs;
+  private final ResultSetHandler<T> handler;
+  private final StatementObserver observer;
+  private final Runnable closeAction;
+  private final long start;
+
+  private boolean closed;
+  private long rowCount;
+
+  /**
+   * Constructs a new instance.
+   * @param rs the result set to traverse
+   * @param handler handler that produces an element from the current row
+   * @param closeAction action that releases the result set and any
+   *    associated JDBC resources
+   */
+  public ResultSetSpliterator(ResultSet rs, ResultSetHandler<T> handler,
+      Runnable closeAction) {
+    this(rs, handler, NullJdbcMetrics.INSTANCE, closeAction);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param rs the result set to traverse
+   * @param handler handler that produces an element from the current row
+   * @param observer observer of the query execution that produced
+   *    {@code rs}
+   * @param closeAction action that releases the result set and any
+   *    associated JDBC resources
+   */
+  public ResultSetSpliterator(ResultSet rs, ResultSetHandler<T> handler,
+      StatementObserver observer, Runnable closeAction) {
+    super(Long.MAX_VALUE, Spliterator.ORDERED);
+    this.rs = rs;
+    this.handler = handler;
+    this.observer = observer;
+    this.closeAction = closeAction;
+    observer.starting(StatementObserver.Phase.FETCH);
+    this.start = System.nanoTime();
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    if (closed) return false;
+    try {
+      if (!rs.next()) {
+        close();
+        return false;
+      }
+      rowCount++;
+      action.accept(handler.handleResult(rs));
+      return true;
+    }
+    catch (SQLException ex) {
+      observer.failed(ex);
+      closed = true;
+      closeAction.run();
+      throw new SQLRuntimeException(ex);
+    }
+  }
+
+  /**
+   * Runs the close action, if it has not already been run.
+   */
+  public void close() {
+    if (closed) return;
+    closed = true;
+    observer.fetched(rowCount, System.nanoTime() - start);
+    observer.completed();
+    closeAction.run();
+  }
+
+}
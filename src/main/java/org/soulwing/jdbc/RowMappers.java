@@ -0,0 +1,206 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Static factory methods for {@link RowMapper} instances that map rows to
+ * objects of a given class.
+ * <p>
+ * The mappers produced by this class inspect the
+ * {@link java.sql.ResultSetMetaData ResultSetMetaData} once for each result
+ * set, matching column labels to properties or constructor parameters
+ * and compiling a plan consisting of column indexes and method handles.
+ * Compiled plans are cached for each class and result set shape, so mapping
+ * a row involves no reflection and no column label lookups.
+ * <p>
+ * Column labels are matched to names without regard to case or underscores;
+ * e.g. a column labeled {@code FIRST_NAME} matches a property or parameter
+ * named {@code firstName}.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * List<Person> people = sqlTemplate.queryForType(Person.class)
+ *     .using("SELECT id, first_name, age FROM person")
+ *     .mappingRowsWith(RowMappers.forBean(Person.class))
+ *     .retrieveList();
+ * }</pre>
+ * <p>
+ * The mappers returned by this class are thread safe.
+ *
+ * @author Carl Harris
+ */
+public final class RowMappers {
+
+  private static final ClassValue<RowMapper<?>> beanMappers =
+      new ClassValue<RowMapper<?>>() {
+        @Override
+        protected RowMapper<?> computeValue(Class<?> type) {
+          return new BeanRowMapper<>(type);
+        }
+      };
+
+  private static final ClassValue<RowMapper<?>> recordMappers =
+      new ClassValue<RowMapper<?>>() {
+        @Override
+        protected RowMapper<?> computeValue(Class<?> type) {
+          return newRecordMapper(type);
+        }
+      };
+
+  private RowMappers() {
+  }
+
+  /**
+   * Gets a mapper that maps each row to a new instance of a JavaBean.
+   * <p>
+   * The bean is created using its no-arg constructor, and each column whose
+   * label matches the name of a bean property is assigned using the
+   * property's setter.  Columns that don't match a property are ignored.
+   *
+   * @param type bean type
+   * @param <T> bean type
+   * @return row mapper
+   * @throws IllegalArgumentException if {@code type} does not have an
+   *    accessible no-arg constructor
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> RowMapper<T> forBean(Class<T> type) {
+    return (RowMapper<T>) beanMappers.get(type);
+  }
+
+  /**
+   * Gets a mapper that maps each row to a new instance of a record class.
+   * <p>
+   * The record is created using its canonical constructor, passing the
+   * value of the column whose label matches each record component.
+   * Record classes are recognized reflectively, when running on a Java
+   * platform that supports them.
+   *
+   * @param type record type
+   * @param <T> record type
+   * @return row mapper
+   * @throws IllegalArgumentException if {@code type} is not a record class
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> RowMapper<T> forRecord(Class<T> type) {
+    return (RowMapper<T>) recordMappers.get(type);
+  }
+
+  /**
+   * Gets a mapper that maps each row to a new instance of a type by
+   * invoking a public constructor.
+   * <p>
+   * If {@code names} are specified, the constructor having a corresponding
+   * number of parameters is used, and each parameter is assigned the value
+   * of the column whose label matches the name in the same position.
+   * Otherwise, the type must have a single public constructor, compiled
+   * with parameter names (using the {@code -parameters} compiler option);
+   * each parameter is assigned the value of the column whose label matches
+   * the parameter's name.
+   *
+   * @param type type of object to construct
+   * @param names names to match to column labels for each constructor
+   *    parameter
+   * @param <T> type of object to construct
+   * @return row mapper
+   * @throws IllegalArgumentException if a suitable constructor cannot be
+   *    found
+   */
+  public static <T> RowMapper<T> forConstructor(Class<T> type,
+      String... names) {
+    if (names.length > 0) {
+      return new ConstructorRowMapper<>(type,
+          findConstructor(type, names.length), names);
+    }
+    final Constructor<?>[] constructors = type.getConstructors();
+    if (constructors.length != 1) {
+      throw new IllegalArgumentException(type.getName()
+          + " must have exactly one public constructor");
+    }
+    final java.lang.reflect.Parameter[] parameters = constructors[0].getParameters();
+    final String[] parameterNames = new String[parameters.length];
+    for (int i = 0; i < parameters.length; i++) {
+      if (!parameters[i].isNamePresent()) {
+        throw new IllegalArgumentException("constructor parameter names of "
+            + type.getName() + " are not available; specify column names");
+      }
+      parameterNames[i] = parameters[i].getName();
+    }
+    return new ConstructorRowMapper<>(type, constructors[0], parameterNames);
+  }
+
+  private static Constructor<?> findConstructor(Class<?> type, int count) {
+    Constructor<?> match = null;
+    for (final Constructor<?> constructor : type.getConstructors()) {
+      if (constructor.getParameterTypes().length != count) continue;
+      if (match != null) {
+        throw new IllegalArgumentException(type.getName()
+            + " has more than one public constructor with " + count
+            + " parameters");
+      }
+      match = constructor;
+    }
+    if (match == null) {
+      throw new IllegalArgumentException(type.getName()
+          + " has no public constructor with " + count + " parameters");
+    }
+    return match;
+  }
+
+  private static <T> RowMapper<T> newRecordMapper(Class<T> type) {
+    final Object[] components = recordComponents(type);
+    final String[] names = new String[components.length];
+    final Class<?>[] types = new Class<?>[components.length];
+    try {
+      for (int i = 0; i < components.length; i++) {
+        final Class<?> componentClass = components[i].getClass();
+        names[i] = (String) componentClass.getMethod("getName")
+            .invoke(components[i]);
+        types[i] = (Class<?>) componentClass.getMethod("getType")
+            .invoke(components[i]);
+      }
+      return new ConstructorRowMapper<>(type,
+          type.getDeclaredConstructor(types), names);
+    }
+    catch (ReflectiveOperationException ex) {
+      throw new IllegalArgumentException("cannot introspect record "
+          + type.getName(), ex);
+    }
+  }
+
+  private static Object[] recordComponents(Class<?> type) {
+    try {
+      final Method isRecord = Class.class.getMethod("isRecord");
+      if (Boolean.TRUE.equals(isRecord.invoke(type))) {
+        return (Object[]) Class.class.getMethod("getRecordComponents")
+            .invoke(type);
+      }
+    }
+    catch (ReflectiveOperationException ex) {
+      assert true;  // platform does not support records
+    }
+    throw new IllegalArgumentException(type.getName()
+        + " is not a record class");
+  }
+
+}
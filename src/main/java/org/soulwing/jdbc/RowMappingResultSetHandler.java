@@ -24,6 +24,10 @@ import java.sql.SQLException;
 /**
  * A {@link ResultSetHandler} that maps columns in a row to an object of
  * of type {@code T} using a {@link RowMapper}.
+ * <p>
+ * When the row mapper is a {@link PlanCachingRowMapper}, its plan is resolved
+ * for the first row of a result set and used directly for the remaining
+ * rows.
  *
  * @author Carl Harris
  */
@@ -31,6 +35,8 @@ class RowMappingResultSetHandler<T> implements ResultSetHandler<T> {
 
   private final RowMapper<T> rowMapper;
   private int rowNum;
+  private ResultSet planResultSet;
+  private PlanCachingRowMapper.Plan<T> plan;
 
   public RowMappingResultSetHandler(RowMapper<T> rowMapper) {
     this.rowMapper = rowMapper;
@@ -38,7 +44,15 @@ class RowMappingResultSetHandler<T> implements ResultSetHandler<T> {
 
   @Override
   public T handleResult(ResultSet rs) throws SQLException {
-    return rowMapper.mapRow(rs, ++rowNum);
+    ++rowNum;
+    if (!(rowMapper instanceof PlanCachingRowMapper)) {
+      return rowMapper.mapRow(rs, rowNum);
+    }
+    if (rs != planResultSet) {
+      plan = ((PlanCachingRowMapper<T>) rowMapper).resolvePlan(rs);
+      planResultSet = rs;
+    }
+    return plan.map(rs);
   }
 
 }
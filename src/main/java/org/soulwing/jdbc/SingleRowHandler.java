@@ -27,10 +27,12 @@ import java.sql.SQLException;
  *
  * @author Carl Harris
  */
-class SingleRowHandler<T> implements ResultSetHandler<T> {
+class SingleRowHandler<T> implements ResultSetHandler<T>, RowCounting {
 
   private final ResultSetHandler<T> delegate;
 
+  private int rowCount;
+
   public SingleRowHandler(ResultSetHandler<T> delegate) {
     this.delegate = delegate;
   }
@@ -38,6 +40,7 @@ class SingleRowHandler<T> implements ResultSetHandler<T> {
   @Override
   public T handleResult(ResultSet rs) throws SQLException {
     if (rs.next()) {
+      rowCount = 1;
       final T result = delegate.handleResult(rs);
       if (rs.next()) {
         throw new SQLNonUniqueResultException();
@@ -49,4 +52,9 @@ class SingleRowHandler<T> implements ResultSetHandler<T> {
     }
   }
 
+  @Override
+  public int getRowCount() {
+    return rowCount;
+  }
+
 }
@@ -0,0 +1,460 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of prepared statements, maintained separately for each
+ * physical database connection.
+ * <p>
+ * When a cache is configured on a {@link FluentJdbc} facade (see
+ * {@link FluentJdbc#setStatementCache(StatementCache)}), statements prepared
+ * for queries, updates, and calls are returned to the cache when the
+ * operation is closed, instead of being closed.  A subsequent operation that
+ * uses the same SQL text and result set options on the same physical
+ * connection reuses the cached statement rather than preparing it again.
+ * Each connection's cache holds at most the configured number of statements;
+ * when it is full, the least recently used statement is closed.
+ * <p>
+ * The physical connection is identified using
+ * {@link Connection#unwrap(Class)}, so that statements can be reused across
+ * connection handles obtained from a pooling data source.  Because some pools
+ * close all statements when a connection handle is closed, a cached
+ * statement that has been closed is silently discarded.
+ * <p>
+ * The statements cached for a physical connection are discarded when the
+ * connection is found to have been closed: when a statement is taken from
+ * the cache for use on it, and whenever a connection that was not
+ * previously seen is added to the cache (as happens when a pool replaces a
+ * connection that it has closed).
+ * <p>
+ * An instance of this class is thread safe and may be shared by any number
+ * of facade instances.
+ *
+ * @author Carl Harris
+ */
+public class StatementCache {
+
+  /**
+   * Default maximum number of statements cached for each connection.
+   */
+  public static final int DEFAULT_SIZE = 64;
+
+  private final ConcurrentMap<ConnectionKey, ConnectionCache> caches =
+      new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  private final int maxSize;
+
+  /**
+   * Constructs a new instance that caches up to {@link #DEFAULT_SIZE}
+   * statements for each connection.
+   */
+  public StatementCache() {
+    this(DEFAULT_SIZE);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param maxSize maximum number of statements to cache for each connection
+   */
+  public StatementCache(int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("cache size must be positive");
+    }
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Gets the maximum number of statements cached for each connection.
+   * @return maximum size
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Gets the number of times a statement was found in this cache.
+   * @return hit count
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets the number of times a statement was not found in this cache and
+   * had to be prepared.
+   * @return miss count
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Gets the number of statements that were closed because a connection's
+   * cache was full.
+   * @return eviction count
+   */
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * Gets the total number of statements currently held in this cache.
+   * @return statement count
+   */
+  public int size() {
+    int size = 0;
+    for (final ConnectionCache cache : caches.values()) {
+      synchronized (cache) {
+        size += cache.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Takes a statement from the cache.
+   * <p>
+   * A statement returned by this method is removed from the cache, so that
+   * it cannot be concurrently used by another operation; it should be
+   * returned to the cache using {@link #release} when no longer needed.
+   * If the physical connection has been closed, the statements cached for
+   * it are discarded.
+   *
+   * @param connection connection on which the statement is to be used
+   * @param key key describing the statement
+   * @return cached statement or {@code null} if no suitable statement is
+   *    cached for {@code connection}
+   */
+  @SuppressWarnings("unchecked")
+  <T extends PreparedStatement> T take(Connection connection, Key key) {
+    final Connection physical = physicalConnection(connection);
+    final ConnectionKey connectionKey = new ConnectionKey(physical);
+    final ConnectionCache cache = caches.get(connectionKey);
+    PreparedStatement statement = null;
+    if (cache != null) {
+      if (isClosed(physical)) {
+        discard(connectionKey, cache);
+      }
+      else {
+        synchronized (cache) {
+          statement = cache.remove(key);
+        }
+      }
+    }
+    if (statement != null && isClosed(statement)) {
+      statement = null;
+    }
+    if (statement != null) {
+      hits.increment();
+    }
+    else {
+      misses.increment();
+    }
+    return (T) statement;
+  }
+
+  /**
+   * Returns a statement to the cache.
+   * <p>
+   * If the statement cannot be reset for reuse, it is closed.
+   *
+   * @param connection connection on which the statement was prepared
+   * @param key key describing the statement
+   * @param statement the statement to return
+   */
+  void release(Connection connection, Key key, PreparedStatement statement) {
+    if (!reset(statement)) {
+      JdbcUtils.closeQuietly(statement);
+      return;
+    }
+    final ConnectionCache cache =
+        getCache(new ConnectionKey(physicalConnection(connection)));
+    final PreparedStatement previous;
+    synchronized (cache) {
+      previous = cache.put(key, statement);
+    }
+    if (previous != null && previous != statement) {
+      evictions.increment();
+      JdbcUtils.closeQuietly(previous);
+    }
+  }
+
+  /**
+   * Discards the cached statements of a physical connection, if it has been
+   * closed.
+   * @param connection the physical connection (as returned by
+   *    {@link #physicalConnection(Connection)})
+   */
+  void purge(Connection connection) {
+    if (!isClosed(connection)) return;
+    final ConnectionKey connectionKey = new ConnectionKey(connection);
+    final ConnectionCache cache = caches.get(connectionKey);
+    if (cache != null) {
+      discard(connectionKey, cache);
+    }
+  }
+
+  private ConnectionCache getCache(ConnectionKey connectionKey) {
+    final ConnectionCache cache = caches.get(connectionKey);
+    if (cache != null) return cache;
+    purgeClosed();
+    final ConnectionCache newCache = new ConnectionCache();
+    final ConnectionCache existing =
+        caches.putIfAbsent(connectionKey, newCache);
+    return existing != null ? existing : newCache;
+  }
+
+  /**
+   * Discards the cached statements of each physical connection that has
+   * been closed.
+   */
+  private void purgeClosed() {
+    final Iterator<Map.Entry<ConnectionKey, ConnectionCache>> entries =
+        caches.entrySet().iterator();
+    while (entries.hasNext()) {
+      final Map.Entry<ConnectionKey, ConnectionCache> entry = entries.next();
+      if (isClosed(entry.getKey().connection)) {
+        discard(entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  private void discard(ConnectionKey connectionKey, ConnectionCache cache) {
+    if (caches.remove(connectionKey, cache)) {
+      cache.closeAll();
+    }
+  }
+
+  /**
+   * Gets the physical connection for the given connection handle.
+   * @param connection the subject connection
+   * @return physical connection, or {@code connection} itself if it does
+   *    not wrap another connection
+   */
+  static Connection physicalConnection(Connection connection) {
+    try {
+      if (connection.isWrapperFor(Connection.class)) {
+        return connection.unwrap(Connection.class);
+      }
+    }
+    catch (SQLException | RuntimeException ex) {
+      assert true;  // use the connection we were given
+    }
+    return connection;
+  }
+
+  private static boolean reset(PreparedStatement statement) {
+    try {
+      statement.clearParameters();
+      statement.clearBatch();
+      statement.setFetchSize(0);
+      return true;
+    }
+    catch (SQLException ex) {
+      return false;
+    }
+  }
+
+  private static boolean isClosed(PreparedStatement statement) {
+    try {
+      return statement.isClosed();
+    }
+    catch (SQLException ex) {
+      return true;
+    }
+  }
+
+  private static boolean isClosed(Connection connection) {
+    try {
+      return connection.isClosed();
+    }
+    catch (SQLException ex) {
+      return true;
+    }
+  }
+
+  /**
+   * A key that describes a cached statement.
+   */
+  static final class Key {
+
+    private final String sql;
+    private final boolean callable;
+    private final int resultSetType;
+    private final int resultSetConcurrency;
+    private final String[] keyColumns;
+
+    private Key(String sql, boolean callable, int resultSetType,
+        int resultSetConcurrency, String[] keyColumns) {
+      this.sql = sql;
+      this.callable = callable;
+      this.resultSetType = resultSetType;
+      this.resultSetConcurrency = resultSetConcurrency;
+      this.keyColumns = keyColumns;
+    }
+
+    /**
+     * Creates a key for a statement prepared using
+     * {@link Connection#prepareStatement(String)}.
+     * @param sql SQL statement text
+     * @return key
+     */
+    static Key forStatement(String sql) {
+      return forStatement(sql, null);
+    }
+
+    /**
+     * Creates a key for a statement that may return generated keys.
+     * @param sql SQL statement text
+     * @param keyColumns {@code null} if the statement does not return
+     *    generated keys, an empty array if the statement is prepared using
+     *    {@link Connection#prepareStatement(String, int)}, otherwise the names
+     *    of the key columns passed to
+     *    {@link Connection#prepareStatement(String, String[])}
+     * @return key
+     */
+    static Key forStatement(String sql, String[] keyColumns) {
+      return new Key(sql, false, ResultSet.TYPE_FORWARD_ONLY,
+          ResultSet.CONCUR_READ_ONLY,
+          keyColumns != null ? keyColumns.clone() : null);
+    }
+
+    /**
+     * Creates a key for a statement prepared using
+     * {@link Connection#prepareCall(String)}.
+     * @param sql SQL statement text
+     * @return key
+     */
+    static Key forCall(String sql) {
+      return new Key(sql, true, ResultSet.TYPE_FORWARD_ONLY,
+          ResultSet.CONCUR_READ_ONLY, null);
+    }
+
+    /**
+     * Gets the SQL statement text.
+     * @return statement text
+     */
+    String getSql() {
+      return sql;
+    }
+
+    /**
+     * Gets the generated key columns.
+     * @return key columns (see {@link #forStatement(String, String[])})
+     */
+    String[] getKeyColumns() {
+      return keyColumns;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) return true;
+      if (!(obj instanceof Key)) return false;
+      final Key that = (Key) obj;
+      return this.callable == that.callable
+          && this.resultSetType == that.resultSetType
+          && this.resultSetConcurrency == that.resultSetConcurrency
+          && this.sql.equals(that.sql)
+          && Arrays.equals(this.keyColumns, that.keyColumns);
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = sql.hashCode();
+      hash = 31 * hash + (callable ? 1 : 0);
+      hash = 31 * hash + resultSetType;
+      hash = 31 * hash + resultSetConcurrency;
+      hash = 31 * hash + Arrays.hashCode(keyColumns);
+      return hash;
+    }
+
+  }
+
+  /**
+   * A key that identifies a physical connection by identity, since a
+   * connection class may override {@code equals}.
+   */
+  private static final class ConnectionKey {
+
+    final Connection connection;
+
+    ConnectionKey(Connection connection) {
+      this.connection = connection;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof ConnectionKey
+          && ((ConnectionKey) obj).connection == connection;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(connection);
+    }
+
+  }
+
+  /**
+   * A least-recently-used cache of the statements for a single connection.
+   */
+  private class ConnectionCache
+      extends LinkedHashMap<Key, PreparedStatement> {
+
+    private static final long serialVersionUID = 3370255296178512442L;
+
+    ConnectionCache() {
+      super(16, 0.75f, true);
+    }
+
+    @Override
+    protected boolean removeEldestEntry(
+        Map.Entry<Key, PreparedStatement> eldest) {
+      if (size() <= maxSize) return false;
+      evictions.increment();
+      JdbcUtils.closeQuietly(eldest.getValue());
+      return true;
+    }
+
+    synchronized void closeAll() {
+      for (final PreparedStatement statement : values()) {
+        JdbcUtils.closeQuietly(statement);
+      }
+      clear();
+    }
+
+  }
+
+}
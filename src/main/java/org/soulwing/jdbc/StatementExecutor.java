@@ -18,11 +18,15 @@
  */
 package org.soulwing.jdbc;
 
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 
 import javax.sql.DataSource;
 
 import org.soulwing.jdbc.logger.JdbcLogger;
+import org.soulwing.jdbc.metrics.JdbcMetrics;
+import org.soulwing.jdbc.metrics.NullJdbcMetrics;
+import org.soulwing.jdbc.metrics.StatementObserver;
 
 /**
  * A simple JDBC {@link java.sql.Statement} executor.
@@ -31,8 +35,11 @@ import org.soulwing.jdbc.logger.JdbcLogger;
  */
 class StatementExecutor implements JdbcExecutor<Void> {
 
+  private static final Parameter[] NO_PARAMETERS = new Parameter[0];
+
   private final PreparedStatementCreator psc;
   private final JdbcLogger logger;
+  private final JdbcMetrics metrics;
 
   /***
    * Constructs a new instance.
@@ -41,8 +48,20 @@ class StatementExecutor implements JdbcExecutor<Void> {
    */
   public StatementExecutor(PreparedStatementCreator psc,
       JdbcLogger logger) {
+    this(psc, logger, NullJdbcMetrics.INSTANCE);
+  }
+
+  /***
+   * Constructs a new instance.
+   * @param psc prepared statement creator
+   * @param logger statement logger
+   * @param metrics statement metrics listener
+   */
+  public StatementExecutor(PreparedStatementCreator psc,
+      JdbcLogger logger, JdbcMetrics metrics) {
     this.psc = psc;
     this.logger = logger;
+    this.metrics = metrics;
   }
 
   /**
@@ -50,9 +69,26 @@ class StatementExecutor implements JdbcExecutor<Void> {
    */
   @Override
   public Void execute(DataSource dataSource) throws SQLException {
-    logger.writeStatement(psc.getStatementText());
-    psc.prepareStatement(dataSource).execute();
-    return null;
+    final String sql = psc.getStatementText();
+    logger.writeStatement(sql);
+    final StatementObserver observer = metrics.begin(sql, NO_PARAMETERS);
+    observer.starting(StatementObserver.Phase.PREPARATION);
+    AbstractPreparedStatementCreator.observeConnection(psc, observer);
+    final long start = System.nanoTime();
+    try {
+      final PreparedStatement statement = psc.prepareStatement(dataSource);
+      final long prepared = System.nanoTime();
+      observer.prepared(prepared - start);
+      observer.starting(StatementObserver.Phase.EXECUTION);
+      statement.execute();
+      observer.executed(System.nanoTime() - prepared);
+      observer.completed();
+      return null;
+    }
+    catch (SQLException | RuntimeException ex) {
+      observer.failed(ex);
+      throw ex;
+    }
   }
 
 }
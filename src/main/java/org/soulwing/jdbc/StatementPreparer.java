@@ -21,6 +21,7 @@ package org.soulwing.jdbc;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 import org.soulwing.jdbc.source.SQLSource;
 
@@ -33,12 +34,20 @@ import org.soulwing.jdbc.source.SQLSource;
 class StatementPreparer
     extends AbstractPreparedStatementCreator<PreparedStatement> {
 
+  private final String[] keyColumns;
+
   /**
    * Constructs a new instance.
    * @param sql the SQL statement to prepare
+   * @param keyColumns generated key columns to return; {@code null} if
+   *    generated keys are not needed, or an empty array to let the driver
+   *    choose the key columns
+   * @param cache statement cache to use; may be {@code null}
    */
-  private StatementPreparer(String sql) {
-    super(sql);
+  private StatementPreparer(String sql, String[] keyColumns,
+      StatementCache cache) {
+    super(StatementCache.Key.forStatement(sql, keyColumns), cache);
+    this.keyColumns = keyColumns != null ? keyColumns.clone() : null;
   }
 
   /**
@@ -47,7 +56,31 @@ class StatementPreparer
    * @return statement preparer
    */
   public static StatementPreparer with(String sql) {
-    return new StatementPreparer(sql);
+    return with(sql, null);
+  }
+
+  /**
+   * Creates a new statement preparer for the given SQL statement.
+   * @param sql the SQL statement to prepare
+   * @param cache statement cache to use; may be {@code null}
+   * @return statement preparer
+   */
+  public static StatementPreparer with(String sql, StatementCache cache) {
+    return new StatementPreparer(sql, null, cache);
+  }
+
+  /**
+   * Creates a new statement preparer for the given SQL statement, that
+   * prepares statements that return generated keys.
+   * @param sql the SQL statement to prepare
+   * @param keyColumns names of the generated key columns to return; if
+   *    empty, the driver chooses the key columns
+   * @param cache statement cache to use; may be {@code null}
+   * @return statement preparer
+   */
+  public static StatementPreparer withKeys(String sql, String[] keyColumns,
+      StatementCache cache) {
+    return new StatementPreparer(sql, keyColumns, cache);
   }
 
   /**
@@ -56,7 +89,18 @@ class StatementPreparer
    * @return statement preparer
    */
   public static StatementPreparer with(SQLSource source) {
-    return new StatementPreparer(SourceUtils.getSingleStatement(source));
+    return with(source, null);
+  }
+
+  /**
+   * Creates a new statement preparer for the given SQL source
+   * @param source source for the SQL statement to prepare
+   * @param cache statement cache to use; may be {@code null}
+   * @return statement preparer
+   */
+  public static StatementPreparer with(SQLSource source, StatementCache cache) {
+    return new StatementPreparer(SourceUtils.getSingleStatement(source), null,
+        cache);
   }
 
   /**
@@ -64,7 +108,13 @@ class StatementPreparer
    */
   protected PreparedStatement prepareStatement(Connection connection,
       String sql) throws SQLException {
-    return connection.prepareStatement(sql);
+    if (keyColumns == null) {
+      return connection.prepareStatement(sql);
+    }
+    if (keyColumns.length == 0) {
+      return connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+    }
+    return connection.prepareStatement(sql, keyColumns);
   }
 
 }
@@ -0,0 +1,95 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * A strategy for transferring values of a particular Java type to and from
+ * JDBC objects.
+ * <p>
+ * A handler is used to bind a {@link Parameter} value to a statement
+ * placeholder, and to extract column values and output parameters of the
+ * corresponding Java type.  Handlers for the standard JDBC types are
+ * provided; additional handlers (e.g. for application-specific value types
+ * or JSON documents) may be registered using
+ * {@link TypeHandlers#register(Class, TypeHandler)}.
+ * <p>
+ * An implementation must be thread safe.
+ *
+ * @param <T> Java type handled by this handler
+ * @author Carl Harris
+ */
+public interface TypeHandler<T> {
+
+  /**
+   * Gets the value of a column in the current row of a result set.
+   * @param rs the subject result set
+   * @param columnIndex index of the column (the first column is 1)
+   * @return column value
+   * @throws SQLException as needed
+   */
+  T getValue(ResultSet rs, int columnIndex) throws SQLException;
+
+  /**
+   * Gets the value of a column in the current row of a result set.
+   * @param rs the subject result set
+   * @param columnLabel label of the column
+   * @return column value
+   * @throws SQLException as needed
+   */
+  T getValue(ResultSet rs, String columnLabel) throws SQLException;
+
+  /**
+   * Gets the value of an output parameter of a called procedure.
+   * @param cs the subject statement
+   * @param parameterIndex index of the parameter (the first parameter is 1)
+   * @return parameter value
+   * @throws SQLException as needed
+   */
+  T getValue(CallableStatement cs, int parameterIndex) throws SQLException;
+
+  /**
+   * Gets the value of an output parameter of a called procedure.
+   * @param cs the subject statement
+   * @param parameterName name of the parameter
+   * @return parameter value
+   * @throws SQLException as needed
+   */
+  T getValue(CallableStatement cs, String parameterName) throws SQLException;
+
+  /**
+   * Binds a non-null value to a statement placeholder.
+   * @param ps the subject statement
+   * @param parameterIndex index of the placeholder (the first placeholder
+   *    is 1)
+   * @param value the value to bind
+   * @param sqlType SQL type specified for the parameter (one of the
+   *    constants of {@link Types}) or {@link Types#NULL} if no type was
+   *    specified
+   * @throws SQLException as needed
+   */
+  void setValue(PreparedStatement ps, int parameterIndex, T value,
+      int sqlType) throws SQLException;
+
+}
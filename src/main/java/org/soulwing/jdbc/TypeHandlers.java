@@ -0,0 +1,857 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of {@link TypeHandler} instances.
+ * <p>
+ * The handler for a given Java type is resolved once, and is thereafter
+ * obtained from a {@link ClassValue} without any further type dispatch.
+ * A type is resolved using the first of the following rules that applies.
+ * <ol>
+ *   <li>a handler registered for the type itself, or a built-in handler
+ *       for the type (registered handlers take precedence)</li>
+ *   <li>for an enum type, a handler that stores the constant's name as a
+ *       string</li>
+ *   <li>a handler registered (or built in) for the nearest superclass, or
+ *       else for an implemented interface</li>
+ *   <li>a handler that uses {@link ResultSet#getObject(int, Class)} to
+ *       extract values and {@link PreparedStatement#setObject(int, Object)}
+ *       to bind them</li>
+ * </ol>
+ * <p>
+ * Built-in handlers are provided for the types supported by the getter
+ * methods of {@link ResultSet} (e.g. {@code String}, the primitive types and
+ * their wrappers, {@link Date}, {@link Blob}) and for the handler types that
+ * may be used as a {@link Parameter} value ({@link ParameterHandler},
+ * {@link BlobHandler}, {@link ClobHandler}, and {@link NClobHandler}).  For
+ * a primitive type or its wrapper, a SQL {@code NULL} value is extracted as
+ * zero (or {@code false}).  Values of the built-in types are bound using
+ * {@link PreparedStatement#setObject(int, Object)}, leaving the conversion
+ * to the driver.
+ * <p>
+ * Handlers for other types, such as {@link java.util.UUID} or a JSON
+ * document type, may be registered at any time; registration should
+ * normally be performed once, during application startup.
+ *
+ * @author Carl Harris
+ */
+public final class TypeHandlers {
+
+  private static final Map<Class<?>, TypeHandler<?>> builtIns;
+
+  private static final Map<Class<?>, TypeHandler<?>> registered =
+      new ConcurrentHashMap<>();
+
+  private static volatile ClassValue<TypeHandler<?>> handlers =
+      newHandlers();
+
+  private TypeHandlers() {
+  }
+
+  /**
+   * Registers a handler for the given type.
+   * <p>
+   * The handler replaces any handler previously registered for
+   * {@code type} and takes precedence over a built-in handler for the type.
+   * It is also used for subtypes of {@code type} for which no more specific
+   * handler is available.
+   *
+   * @param type the subject Java type
+   * @param handler the handler to register
+   */
+  public static <T> void register(Class<T> type, TypeHandler<T> handler) {
+    if (type == null) {
+      throw new NullPointerException("type is required");
+    }
+    if (handler == null) {
+      throw new NullPointerException("handler is required");
+    }
+    synchronized (registered) {
+      registered.put(type, handler);
+      handlers = newHandlers();
+    }
+  }
+
+  /**
+   * Removes the handler registered for the given type, restoring the
+   * built-in behavior for the type.
+   * @param type the subject Java type
+   */
+  public static void unregister(Class<?> type) {
+    synchronized (registered) {
+      if (registered.remove(type) != null) {
+        handlers = newHandlers();
+      }
+    }
+  }
+
+  /**
+   * Gets the handler for the given type.
+   * @param type the subject Java type
+   * @return type handler (never {@code null})
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> TypeHandler<T> forType(Class<T> type) {
+    return (TypeHandler<T>) handlers.get(type);
+  }
+
+  /**
+   * Gets the handler to use to bind the given value.
+   * @param value the subject value (must not be {@code null})
+   * @return type handler
+   */
+  @SuppressWarnings("unchecked")
+  static TypeHandler<Object> forValue(Object value) {
+    return (TypeHandler<Object>) handlers.get(value.getClass());
+  }
+
+  private static ClassValue<TypeHandler<?>> newHandlers() {
+    return new ClassValue<TypeHandler<?>>() {
+      @Override
+      protected TypeHandler<?> computeValue(Class<?> type) {
+        return resolve(type);
+      }
+    };
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static TypeHandler<?> resolve(Class<?> type) {
+    TypeHandler<?> handler = lookup(type);
+    if (handler != null) return handler;
+
+    if (Enum.class.isAssignableFrom(type) && !Enum.class.equals(type)) {
+      final Class<?> enumType = type.isEnum() ? type : type.getSuperclass();
+      handler = lookup(enumType);
+      return handler != null ? handler : new EnumHandler(enumType);
+    }
+
+    for (Class<?> c = type.getSuperclass(); c != null && c != Object.class;
+         c = c.getSuperclass()) {
+      handler = lookup(c);
+      if (handler != null) return handler;
+    }
+
+    final Set<Class<?>> visited = new HashSet<>();
+    final Deque<Class<?>> queue = new ArrayDeque<>();
+    for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+      Collections.addAll(queue, c.getInterfaces());
+    }
+    while (!queue.isEmpty()) {
+      final Class<?> c = queue.removeFirst();
+      if (!visited.add(c)) continue;
+      handler = lookup(c);
+      if (handler != null) return handler;
+      Collections.addAll(queue, c.getInterfaces());
+    }
+
+    return new ObjectHandler<>(type);
+  }
+
+  private static TypeHandler<?> lookup(Class<?> type) {
+    final TypeHandler<?> handler = registered.get(type);
+    return handler != null ? handler : builtIns.get(type);
+  }
+
+  private static Map<Class<?>, TypeHandler<?>> createBuiltIns() {
+    final Map<Class<?>, TypeHandler<?>> map = new HashMap<>();
+    map.put(String.class, STRING);
+    map.put(int.class, INT);
+    map.put(Integer.class, INT);
+    map.put(long.class, LONG);
+    map.put(Long.class, LONG);
+    map.put(boolean.class, BOOLEAN);
+    map.put(Boolean.class, BOOLEAN);
+    map.put(double.class, DOUBLE);
+    map.put(Double.class, DOUBLE);
+    map.put(float.class, FLOAT);
+    map.put(Float.class, FLOAT);
+    map.put(short.class, SHORT);
+    map.put(Short.class, SHORT);
+    map.put(byte.class, BYTE);
+    map.put(Byte.class, BYTE);
+    map.put(BigDecimal.class, BIG_DECIMAL);
+    map.put(byte[].class, BYTES);
+    map.put(Date.class, DATE);
+    map.put(Time.class, TIME);
+    map.put(Timestamp.class, TIMESTAMP);
+    map.put(Blob.class, BLOB);
+    map.put(Clob.class, CLOB);
+    map.put(NClob.class, NCLOB);
+    map.put(ParameterHandler.class, PARAMETER_HANDLER);
+    map.put(BlobHandler.class, BLOB_HANDLER);
+    map.put(ClobHandler.class, CLOB_HANDLER);
+    map.put(NClobHandler.class, NCLOB_HANDLER);
+    return Collections.unmodifiableMap(map);
+  }
+
+  /**
+   * Binds a value using {@link PreparedStatement#setObject}.
+   */
+  private static void bindObject(PreparedStatement ps, int parameterIndex,
+      Object value, int sqlType) throws SQLException {
+    if (sqlType == Types.NULL) {
+      ps.setObject(parameterIndex, value);
+    }
+    else {
+      ps.setObject(parameterIndex, value, sqlType);
+    }
+  }
+
+  /**
+   * A base for handlers of types that the driver binds directly.
+   */
+  private static abstract class ValueHandler<T> implements TypeHandler<T> {
+
+    @Override
+    public void setValue(PreparedStatement ps, int parameterIndex, T value,
+        int sqlType) throws SQLException {
+      bindObject(ps, parameterIndex, value, sqlType);
+    }
+
+  }
+
+  /**
+   * A base for handlers of types that can be used only as parameter values.
+   */
+  private static abstract class BindingHandler<T> implements TypeHandler<T> {
+
+    @Override
+    public T getValue(ResultSet rs, int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public T getValue(ResultSet rs, String columnLabel) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public T getValue(CallableStatement cs, int parameterIndex)
+        throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public T getValue(CallableStatement cs, String parameterName)
+        throws SQLException {
+      throw unsupported();
+    }
+
+    private SQLException unsupported() {
+      return new SQLFeatureNotSupportedException(
+          "type can be used only as a parameter value");
+    }
+
+  }
+
+  /**
+   * A handler that uses {@code getObject} and {@code setObject}.
+   */
+  private static class ObjectHandler<T> extends ValueHandler<T> {
+
+    private final Class<T> type;
+
+    ObjectHandler(Class<T> type) {
+      this.type = type;
+    }
+
+    @Override
+    public T getValue(ResultSet rs, int columnIndex) throws SQLException {
+      return rs.getObject(columnIndex, type);
+    }
+
+    @Override
+    public T getValue(ResultSet rs, String columnLabel) throws SQLException {
+      return rs.getObject(columnLabel, type);
+    }
+
+    @Override
+    public T getValue(CallableStatement cs, int parameterIndex)
+        throws SQLException {
+      return cs.getObject(parameterIndex, type);
+    }
+
+    @Override
+    public T getValue(CallableStatement cs, String parameterName)
+        throws SQLException {
+      return cs.getObject(parameterName, type);
+    }
+
+  }
+
+  /**
+   * A handler that represents an enum constant using its name.
+   */
+  private static class EnumHandler<E extends Enum<E>>
+      implements TypeHandler<E> {
+
+    private final Class<E> type;
+
+    EnumHandler(Class<E> type) {
+      this.type = type;
+    }
+
+    @Override
+    public E getValue(ResultSet rs, int columnIndex) throws SQLException {
+      return valueOf(rs.getString(columnIndex));
+    }
+
+    @Override
+    public E getValue(ResultSet rs, String columnLabel) throws SQLException {
+      return valueOf(rs.getString(columnLabel));
+    }
+
+    @Override
+    public E getValue(CallableStatement cs, int parameterIndex)
+        throws SQLException {
+      return valueOf(cs.getString(parameterIndex));
+    }
+
+    @Override
+    public E getValue(CallableStatement cs, String parameterName)
+        throws SQLException {
+      return valueOf(cs.getString(parameterName));
+    }
+
+    @Override
+    public void setValue(PreparedStatement ps, int parameterIndex, E value,
+        int sqlType) throws SQLException {
+      if (sqlType == Types.NULL) {
+        ps.setString(parameterIndex, value.name());
+      }
+      else {
+        ps.setObject(parameterIndex, value.name(), sqlType);
+      }
+    }
+
+    private E valueOf(String name) throws SQLException {
+      if (name == null) return null;
+      try {
+        return Enum.valueOf(type, name);
+      }
+      catch (IllegalArgumentException ex) {
+        throw new SQLException("no constant named '" + name + "' in "
+            + type.getName(), ex);
+      }
+    }
+
+  }
+
+  private static final TypeHandler<String> STRING =
+      new ValueHandler<String>() {
+        @Override
+        public String getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getString(columnIndex);
+        }
+
+        @Override
+        public String getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getString(columnLabel);
+        }
+
+        @Override
+        public String getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getString(parameterIndex);
+        }
+
+        @Override
+        public String getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getString(parameterName);
+        }
+      };
+
+  private static final TypeHandler<Integer> INT =
+      new ValueHandler<Integer>() {
+        @Override
+        public Integer getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getInt(columnIndex);
+        }
+
+        @Override
+        public Integer getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getInt(columnLabel);
+        }
+
+        @Override
+        public Integer getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getInt(parameterIndex);
+        }
+
+        @Override
+        public Integer getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getInt(parameterName);
+        }
+      };
+
+  private static final TypeHandler<Long> LONG =
+      new ValueHandler<Long>() {
+        @Override
+        public Long getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getLong(columnIndex);
+        }
+
+        @Override
+        public Long getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getLong(columnLabel);
+        }
+
+        @Override
+        public Long getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getLong(parameterIndex);
+        }
+
+        @Override
+        public Long getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getLong(parameterName);
+        }
+      };
+
+  private static final TypeHandler<Boolean> BOOLEAN =
+      new ValueHandler<Boolean>() {
+        @Override
+        public Boolean getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getBoolean(columnIndex);
+        }
+
+        @Override
+        public Boolean getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getBoolean(columnLabel);
+        }
+
+        @Override
+        public Boolean getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getBoolean(parameterIndex);
+        }
+
+        @Override
+        public Boolean getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getBoolean(parameterName);
+        }
+      };
+
+  private static final TypeHandler<Double> DOUBLE =
+      new ValueHandler<Double>() {
+        @Override
+        public Double getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getDouble(columnIndex);
+        }
+
+        @Override
+        public Double getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getDouble(columnLabel);
+        }
+
+        @Override
+        public Double getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getDouble(parameterIndex);
+        }
+
+        @Override
+        public Double getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getDouble(parameterName);
+        }
+      };
+
+  private static final TypeHandler<Float> FLOAT =
+      new ValueHandler<Float>() {
+        @Override
+        public Float getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getFloat(columnIndex);
+        }
+
+        @Override
+        public Float getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getFloat(columnLabel);
+        }
+
+        @Override
+        public Float getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getFloat(parameterIndex);
+        }
+
+        @Override
+        public Float getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getFloat(parameterName);
+        }
+      };
+
+  private static final TypeHandler<Short> SHORT =
+      new ValueHandler<Short>() {
+        @Override
+        public Short getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getShort(columnIndex);
+        }
+
+        @Override
+        public Short getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getShort(columnLabel);
+        }
+
+        @Override
+        public Short getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getShort(parameterIndex);
+        }
+
+        @Override
+        public Short getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getShort(parameterName);
+        }
+      };
+
+  private static final TypeHandler<Byte> BYTE =
+      new ValueHandler<Byte>() {
+        @Override
+        public Byte getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getByte(columnIndex);
+        }
+
+        @Override
+        public Byte getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getByte(columnLabel);
+        }
+
+        @Override
+        public Byte getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getByte(parameterIndex);
+        }
+
+        @Override
+        public Byte getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getByte(parameterName);
+        }
+      };
+
+  private static final TypeHandler<BigDecimal> BIG_DECIMAL =
+      new ValueHandler<BigDecimal>() {
+        @Override
+        public BigDecimal getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getBigDecimal(columnIndex);
+        }
+
+        @Override
+        public BigDecimal getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getBigDecimal(columnLabel);
+        }
+
+        @Override
+        public BigDecimal getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getBigDecimal(parameterIndex);
+        }
+
+        @Override
+        public BigDecimal getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getBigDecimal(parameterName);
+        }
+      };
+
+  private static final TypeHandler<byte[]> BYTES =
+      new ValueHandler<byte[]>() {
+        @Override
+        public byte[] getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getBytes(columnIndex);
+        }
+
+        @Override
+        public byte[] getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getBytes(columnLabel);
+        }
+
+        @Override
+        public byte[] getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getBytes(parameterIndex);
+        }
+
+        @Override
+        public byte[] getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getBytes(parameterName);
+        }
+      };
+
+  private static final TypeHandler<Date> DATE =
+      new ValueHandler<Date>() {
+        @Override
+        public Date getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getDate(columnIndex);
+        }
+
+        @Override
+        public Date getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getDate(columnLabel);
+        }
+
+        @Override
+        public Date getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getDate(parameterIndex);
+        }
+
+        @Override
+        public Date getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getDate(parameterName);
+        }
+      };
+
+  private static final TypeHandler<Time> TIME =
+      new ValueHandler<Time>() {
+        @Override
+        public Time getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getTime(columnIndex);
+        }
+
+        @Override
+        public Time getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getTime(columnLabel);
+        }
+
+        @Override
+        public Time getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getTime(parameterIndex);
+        }
+
+        @Override
+        public Time getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getTime(parameterName);
+        }
+      };
+
+  private static final TypeHandler<Timestamp> TIMESTAMP =
+      new ValueHandler<Timestamp>() {
+        @Override
+        public Timestamp getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getTimestamp(columnIndex);
+        }
+
+        @Override
+        public Timestamp getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getTimestamp(columnLabel);
+        }
+
+        @Override
+        public Timestamp getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getTimestamp(parameterIndex);
+        }
+
+        @Override
+        public Timestamp getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getTimestamp(parameterName);
+        }
+      };
+
+  private static final TypeHandler<Blob> BLOB =
+      new ValueHandler<Blob>() {
+        @Override
+        public Blob getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getBlob(columnIndex);
+        }
+
+        @Override
+        public Blob getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getBlob(columnLabel);
+        }
+
+        @Override
+        public Blob getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getBlob(parameterIndex);
+        }
+
+        @Override
+        public Blob getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getBlob(parameterName);
+        }
+      };
+
+  private static final TypeHandler<Clob> CLOB =
+      new ValueHandler<Clob>() {
+        @Override
+        public Clob getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getClob(columnIndex);
+        }
+
+        @Override
+        public Clob getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getClob(columnLabel);
+        }
+
+        @Override
+        public Clob getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getClob(parameterIndex);
+        }
+
+        @Override
+        public Clob getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getClob(parameterName);
+        }
+      };
+
+  private static final TypeHandler<NClob> NCLOB =
+      new ValueHandler<NClob>() {
+        @Override
+        public NClob getValue(ResultSet rs, int columnIndex)
+            throws SQLException {
+          return rs.getNClob(columnIndex);
+        }
+
+        @Override
+        public NClob getValue(ResultSet rs, String columnLabel)
+            throws SQLException {
+          return rs.getNClob(columnLabel);
+        }
+
+        @Override
+        public NClob getValue(CallableStatement cs, int parameterIndex)
+            throws SQLException {
+          return cs.getNClob(parameterIndex);
+        }
+
+        @Override
+        public NClob getValue(CallableStatement cs, String parameterName)
+            throws SQLException {
+          return cs.getNClob(parameterName);
+        }
+      };
+
+  private static final TypeHandler<ParameterHandler> PARAMETER_HANDLER =
+      new BindingHandler<ParameterHandler>() {
+        @Override
+        public void setValue(PreparedStatement ps, int parameterIndex,
+            ParameterHandler value, int sqlType) throws SQLException {
+          value.handleParameter(ps, parameterIndex);
+        }
+      };
+
+  private static final TypeHandler<BlobHandler> BLOB_HANDLER =
+      new BindingHandler<BlobHandler>() {
+        @Override
+        public void setValue(PreparedStatement ps, int parameterIndex,
+            BlobHandler value, int sqlType) throws SQLException {
+          final Blob blob = ps.getConnection().createBlob();
+          value.prepareBlob(blob);
+          ps.setBlob(parameterIndex, blob);
+        }
+      };
+
+  private static final TypeHandler<ClobHandler> CLOB_HANDLER =
+      new BindingHandler<ClobHandler>() {
+        @Override
+        public void setValue(PreparedStatement ps, int parameterIndex,
+            ClobHandler value, int sqlType) throws SQLException {
+          final Clob clob = ps.getConnection().createClob();
+          value.prepareClob(clob);
+          ps.setClob(parameterIndex, clob);
+        }
+      };
+
+  private static final TypeHandler<NClobHandler> NCLOB_HANDLER =
+      new BindingHandler<NClobHandler>() {
+        @Override
+        public void setValue(PreparedStatement ps, int parameterIndex,
+            NClobHandler value, int sqlType) throws SQLException {
+          final NClob nClob = ps.getConnection().createNClob();
+          value.prepareNClob(nClob);
+          ps.setNClob(parameterIndex, nClob);
+        }
+      };
+
+  static {
+    builtIns = createBuiltIns();
+  }
+
+}
@@ -24,6 +24,8 @@ import java.sql.SQLException;
 import javax.sql.DataSource;
 
 import org.soulwing.jdbc.logger.JdbcLogger;
+import org.soulwing.jdbc.metrics.JdbcMetrics;
+import org.soulwing.jdbc.metrics.NullJdbcMetrics;
 import org.soulwing.jdbc.source.SQLSource;
 
 /**
@@ -34,9 +36,17 @@ import org.soulwing.jdbc.source.SQLSource;
 class UpdateBuilder implements JdbcUpdate {
 
   private final DataSource dataSource;
+  private final StatementCache statementCache;
   private final JdbcLogger logger;
+  private final JdbcMetrics metrics;
+  private final ResultCacheBinding resultCache;
 
+  private String sql;
+  private NamedParameterPlan plan;
+  private String[] keyColumns;
   private PreparedStatementCreator<PreparedStatement> psc;
+  private PreparedBatchExecutor batchExecutor;
+  private int batchSize = DEFAULT_BATCH_SIZE;
   private boolean repeatable;
   private boolean executed;
 
@@ -46,14 +56,76 @@ class UpdateBuilder implements JdbcUpdate {
    * @param logger statement logger
    */
   public UpdateBuilder(DataSource dataSource, JdbcLogger logger) {
+    this(dataSource, null, logger);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param dataSource data source from which a connection will be obtained
+   * @param statementCache cache for prepared statements; may be {@code null}
+   * @param logger statement logger
+   */
+  public UpdateBuilder(DataSource dataSource, StatementCache statementCache,
+      JdbcLogger logger) {
+    this(dataSource, statementCache, logger, NullJdbcMetrics.INSTANCE);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param dataSource data source from which a connection will be obtained
+   * @param statementCache cache for prepared statements; may be {@code null}
+   * @param logger statement logger
+   * @param metrics statement metrics listener
+   */
+  public UpdateBuilder(DataSource dataSource, StatementCache statementCache,
+      JdbcLogger logger, JdbcMetrics metrics) {
+    this(dataSource, statementCache, logger, metrics, null);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param dataSource data source from which a connection will be obtained
+   * @param statementCache cache for prepared statements; may be {@code null}
+   * @param logger statement logger
+   * @param metrics statement metrics listener
+   * @param resultCache query result cache whose entries are to be
+   *    invalidated when this update is executed; may be {@code null}
+   */
+  public UpdateBuilder(DataSource dataSource, StatementCache statementCache,
+      JdbcLogger logger, JdbcMetrics metrics,
+      ResultCacheBinding resultCache) {
     this.dataSource = dataSource;
+    this.statementCache = statementCache;
     this.logger = logger;
+    this.metrics = metrics;
+    this.resultCache = resultCache;
+  }
+
+  /**
+   * Constructs a new instance with the same configuration as another
+   * instance.
+   * <p>
+   * The new instance prepares its own statement and is not configured for
+   * repeated execution.
+   *
+   * @param other the instance whose configuration is to be copied
+   */
+  UpdateBuilder(UpdateBuilder other) {
+    this(other.dataSource, other.statementCache, other.logger, other.metrics,
+        other.resultCache);
+    this.keyColumns = other.keyColumns;
+    if (other.sql != null) {
+      using(other.sql);
+    }
+    this.batchSize = other.batchSize;
   }
 
   @Override
   public JdbcUpdate using(String sql) {
     assertNotExecuted();
-    this.psc = StatementPreparer.with(sql);
+    this.sql = sql;
+    this.plan = NamedParameterPlan.forStatement(sql);
+    this.psc = newPreparer();
     return this;
   }
 
@@ -63,6 +135,22 @@ class UpdateBuilder implements JdbcUpdate {
     return using(SourceUtils.getSingleStatement(source));
   }
 
+  @Override
+  public JdbcUpdate returningKeys(String... columns) {
+    assertNotExecuted();
+    this.keyColumns = columns.clone();
+    if (sql != null) {
+      this.psc = newPreparer();
+    }
+    return this;
+  }
+
+  private PreparedStatementCreator<PreparedStatement> newPreparer() {
+    return keyColumns != null ?
+        StatementPreparer.withKeys(plan.getSql(), keyColumns, statementCache) :
+        StatementPreparer.with(plan.getSql(), statementCache);
+  }
+
   @Override
   public JdbcUpdate repeatedly() {
     assertNotExecuted();
@@ -70,11 +158,37 @@ class UpdateBuilder implements JdbcUpdate {
     return this;
   }
 
+  @Override
+  public JdbcUpdate batchSize(int size) {
+    assertNotExecuted();
+    if (size <= 0) {
+      throw new IllegalArgumentException("batch size must be positive");
+    }
+    this.batchSize = size;
+    return this;
+  }
+
+  /**
+   * Gets the SQL statement text configured for this update.
+   * @return statement text or {@code null} if no statement is configured
+   */
+  String getStatementText() {
+    return sql;
+  }
+
+  @Override
+  public UpdateTemplate asTemplate() {
+    assertNotExecuted();
+    assertReady();
+    return new ImmutableUpdateTemplate(new UpdateBuilder(this));
+  }
+
   @Override
   public int execute(Parameter... parameters) {
     assertReady();
+    assertNoPendingBatch();
     final PreparedUpdateExecutor executor = new PreparedUpdateExecutor(
-        psc, parameters, logger);
+        psc, plan.bind(parameters), logger, metrics);
 
     try {
       return executor.execute(dataSource);
@@ -84,12 +198,143 @@ class UpdateBuilder implements JdbcUpdate {
     }
     finally {
       executed = true;
+      invalidateResults();
       if (!repeatable) {
         close();
       }
     }
   }
 
+  @Override
+  public long executeAndReturnKey(Parameter... parameters) {
+    final long[] keys = executeAndReturnKeys(parameters);
+    if (keys.length == 0) {
+      throw new SQLNoResultException();
+    }
+    if (keys.length > 1) {
+      throw new SQLNonUniqueResultException();
+    }
+    return keys[0];
+  }
+
+  @Override
+  public long[] executeAndReturnKeys(Parameter... parameters) {
+    assertReady();
+    assertReturningKeys();
+    assertNoPendingBatch();
+    final PreparedKeyExecutor executor = new PreparedKeyExecutor(
+        psc, plan.bind(parameters), logger, metrics);
+
+    try {
+      return executor.execute(dataSource);
+    }
+    catch (SQLException ex) {
+      throw new SQLRuntimeException(ex);
+    }
+    finally {
+      executed = true;
+      invalidateResults();
+      if (!repeatable) {
+        close();
+      }
+    }
+  }
+
+  @Override
+  public void addBatch(Parameter... parameters) {
+    if (batchExecutor == null) {
+      assertReady();
+      batchExecutor = new PreparedBatchExecutor(psc, batchSize,
+          keyColumns != null, logger, metrics);
+    }
+    try {
+      batchExecutor.addBatch(dataSource, plan.bind(parameters));
+    }
+    catch (SQLException ex) {
+      throw new SQLRuntimeException(ex);
+    }
+    if (batchExecutor.getPendingCount() == 0) {
+      invalidateResults();
+    }
+  }
+
+  @Override
+  public int[] flush() {
+    if (batchExecutor == null) {
+      assertReady();
+      return new int[0];
+    }
+    try {
+      return batchExecutor.execute(dataSource);
+    }
+    catch (SQLException ex) {
+      throw new SQLRuntimeException(ex);
+    }
+    finally {
+      endBatch();
+    }
+  }
+
+  @Override
+  public int[] executeBatch(Iterable<Parameter[]> rows) {
+    try {
+      for (final Parameter[] row : rows) {
+        addBatch(row);
+      }
+    }
+    catch (RuntimeException ex) {
+      endBatch();
+      throw ex;
+    }
+    return flush();
+  }
+
+  @Override
+  public long[] executeBatchAndReturnKeys(Iterable<Parameter[]> rows) {
+    assertReturningKeys();
+    try {
+      for (final Parameter[] row : rows) {
+        addBatch(row);
+      }
+    }
+    catch (RuntimeException ex) {
+      endBatch();
+      throw ex;
+    }
+    if (batchExecutor == null) {
+      assertReady();
+      return new long[0];
+    }
+    try {
+      batchExecutor.execute(dataSource);
+      return batchExecutor.getGeneratedKeys();
+    }
+    catch (SQLException ex) {
+      throw new SQLRuntimeException(ex);
+    }
+    finally {
+      endBatch();
+    }
+  }
+
+  private void endBatch() {
+    if (batchExecutor != null) {
+      batchExecutor.discard();
+      batchExecutor = null;
+      invalidateResults();
+    }
+    executed = true;
+    if (!repeatable) {
+      close();
+    }
+  }
+
+  private void invalidateResults() {
+    if (resultCache != null) {
+      resultCache.invalidate(sql);
+    }
+  }
+
   private void assertReady() {
     if (executed && !repeatable) {
       throw new IllegalStateException(
@@ -101,6 +346,20 @@ class UpdateBuilder implements JdbcUpdate {
     }
   }
 
+  private void assertReturningKeys() {
+    if (keyColumns == null) {
+      throw new IllegalStateException(
+          "update has not been configured to return generated keys");
+    }
+  }
+
+  private void assertNoPendingBatch() {
+    if (batchExecutor != null && batchExecutor.getPendingCount() > 0) {
+      throw new IllegalStateException(
+          "update has a pending batch that must be flushed first");
+    }
+  }
+
   private void assertNotExecuted() {
     if (executed) {
       throw new IllegalStateException(
@@ -0,0 +1,94 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+/**
+ * An immutable, fully configured update that can be executed any number of
+ * times, concurrently, by any number of threads.
+ * <p>
+ * A template is created from a configured {@link JdbcUpdate} using
+ * {@link JdbcUpdate#asTemplate()}.  Each execution obtains its own
+ * connection and statement, releasing them when the execution completes;
+ * see {@link QueryTemplate} for details.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ * private final UpdateTemplate renamePerson = sqlTemplate.update()
+ *     .using("UPDATE person SET name = ? WHERE id = ?")
+ *     .asTemplate();
+ *
+ * renamePerson.execute(Parameter.with(name), Parameter.with(id));
+ * }</pre>
+ *
+ * @author Carl Harris
+ */
+public interface UpdateTemplate {
+
+  /**
+   * Gets the text of the SQL statement executed by this template.
+   * @return SQL statement text
+   */
+  String getStatementText();
+
+  /**
+   * Executes the update.
+   * @param parameters values for placeholders in the SQL statement
+   * @return number of rows affected by the update
+   */
+  int execute(Parameter... parameters);
+
+  /**
+   * Executes the update, returning the key generated for the single row
+   * created by the update.
+   * @param parameters values for placeholders in the SQL statement
+   * @return generated key
+   * @see JdbcUpdate#executeAndReturnKey(Parameter...)
+   */
+  long executeAndReturnKey(Parameter... parameters);
+
+  /**
+   * Executes the update, returning the keys generated for the rows created
+   * by the update.
+   * @param parameters values for placeholders in the SQL statement
+   * @return generated keys
+   * @see JdbcUpdate#executeAndReturnKeys(Parameter...)
+   */
+  long[] executeAndReturnKeys(Parameter... parameters);
+
+  /**
+   * Executes the update for each of the given rows, using JDBC batches.
+   * @param rows values for placeholders in the SQL statement, one array
+   *    of parameters for each row
+   * @return update counts for each row, in the order of {@code rows}
+   * @see JdbcUpdate#executeBatch(Iterable)
+   */
+  int[] executeBatch(Iterable<Parameter[]> rows);
+
+  /**
+   * Executes the update for each of the given rows, using JDBC batches,
+   * returning the generated keys.
+   * @param rows values for placeholders in the SQL statement, one array
+   *    of parameters for each row
+   * @return generated keys for all rows
+   * @see JdbcUpdate#executeBatchAndReturnKeys(Iterable)
+   */
+  long[] executeBatchAndReturnKeys(Iterable<Parameter[]> rows);
+
+}
@@ -34,96 +34,34 @@ import java.sql.Timestamp;
  */
 abstract class ValueAccessor {
 
-  @SuppressWarnings("unchecked")
-  public <T> T get(int index, Class<T> type)
-      throws SQLException {
-    if (String.class.equals(type)) {
-      return (T) this.getString(index);
-    }
-    if (int.class.equals(type) || Integer.class.equals(type)) {
-      return (T) (Integer) this.getInt(index);
-    }
-    if (long.class.equals(type) || Long.class.equals(type)) {
-      return (T) (Long) this.getLong(index);
-    }
-    if (boolean.class.equals(type) || Boolean.class.equals(type)) {
-      return (T) (Boolean) this.getBoolean(index);
-    }
-    if (double.class.equals(type) || Double.class.equals(type)) {
-      return (T) (Double) this.getDouble(index);
-    }
-    if (float.class.equals(type) || Float.class.equals(type)) {
-      return (T) (Float) this.getFloat(index);
-    }
-    if (short.class.equals(type) || Short.class.equals(type)) {
-      return (T) (Short) this.getShort(index);
-    }
-    if (byte.class.equals(type) || Byte.class.equals(type)) {
-      return (T) (Byte) this.getByte(index);
-    }
-    if (Date.class.isAssignableFrom(type)) {
-      return (T) this.getDate(index);
-    }
-    if (Time.class.isAssignableFrom(type)) {
-      return (T) this.getTime(index);
-    }
-    if (Blob.class.isAssignableFrom(type)) {
-      return (T) this.getBlob(index);
-    }
-    if (Clob.class.isAssignableFrom(type)) {
-      return (T) this.getClob(index);
-    }
-    if (NClob.class.isAssignableFrom(type)) {
-      return (T) this.getNClob(index);
-    }
-    return (T) this.getObject(index, type);
+  /**
+   * Gets a value using the handler registered for the given type.
+   * @param index index of the column or parameter (starts at 1)
+   * @param type the Java type of the value
+   * @return value
+   * @throws SQLException as needed
+   * @see TypeHandlers#forType(Class)
+   */
+  public <T> T get(int index, Class<T> type) throws SQLException {
+    return get(TypeHandlers.forType(type), index);
   }
 
-  @SuppressWarnings("unchecked")
-  public <T> T get(String label, Class<T> type)
-      throws SQLException {
-    if (String.class.equals(type)) {
-      return (T) this.getString(label);
-    }
-    if (int.class.equals(type) || Integer.class.equals(type)) {
-      return (T) (Integer) this.getInt(label);
-    }
-    if (long.class.equals(type) || Long.class.equals(type)) {
-      return (T) (Long) this.getLong(label);
-    }
-    if (boolean.class.equals(type) || Boolean.class.equals(type)) {
-      return (T) (Boolean) this.getBoolean(label);
-    }
-    if (double.class.equals(type) || Double.class.equals(type)) {
-      return (T) (Double) this.getDouble(label);
-    }
-    if (float.class.equals(type) || Float.class.equals(type)) {
-      return (T) (Float) this.getFloat(label);
-    }
-    if (short.class.equals(type) || Short.class.equals(type)) {
-      return (T) (Short) this.getShort(label);
-    }
-    if (byte.class.equals(type) || Byte.class.equals(type)) {
-      return (T) (Byte) this.getByte(label);
-    }
-    if (Date.class.isAssignableFrom(type)) {
-      return (T) this.getDate(label);
-    }
-    if (Time.class.isAssignableFrom(type)) {
-      return (T) this.getTime(label);
-    }
-    if (Blob.class.isAssignableFrom(type)) {
-      return (T) this.getBlob(label);
-    }
-    if (Clob.class.isAssignableFrom(type)) {
-      return (T) this.getClob(label);
-    }
-    if (NClob.class.isAssignableFrom(type)) {
-      return (T) this.getNClob(label);
-    }
-    return (T) this.getObject(label, type);
+  /**
+   * Gets a value using the handler registered for the given type.
+   * @param label label of the column or name of the parameter
+   * @param type the Java type of the value
+   * @return value
+   * @throws SQLException as needed
+   * @see TypeHandlers#forType(Class)
+   */
+  public <T> T get(String label, Class<T> type) throws SQLException {
+    return get(TypeHandlers.forType(type), label);
   }
 
+  abstract <T> T get(TypeHandler<T> handler, int index) throws SQLException;
+
+  abstract <T> T get(TypeHandler<T> handler, String label)
+      throws SQLException;
 
   abstract String getString(String label) throws SQLException;
 
@@ -0,0 +1,50 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * An abstract base for the Flight Recorder events that describe a phase of
+ * a statement execution.
+ * <p>
+ * An event begins when its phase starts and ends when the phase is
+ * reported, so that the duration of the event is the time spent in the
+ * phase and the event is placed correctly on the timeline of the thread
+ * that executed the statement.
+ *
+ * @author Carl Harris
+ */
+@Category("Fluent JDBC")
+@StackTrace(false)
+abstract class JdbcEvent extends Event {
+
+  @Label("Instance")
+  @Description("Name of the facade that executed the statement")
+  String instance;
+
+  @Label("Fingerprint")
+  @Description("Statement text with literals and parameters replaced by ?")
+  String fingerprint;
+
+}
@@ -0,0 +1,256 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.jfr;
+
+import jdk.jfr.EventType;
+
+import org.soulwing.jdbc.Parameter;
+import org.soulwing.jdbc.metrics.JdbcMetrics;
+import org.soulwing.jdbc.metrics.NullJdbcMetrics;
+import org.soulwing.jdbc.metrics.StatementObserver;
+import org.soulwing.jdbc.source.SQLFingerprinter;
+
+/**
+ * A {@link JdbcMetrics} listener that emits a Java Flight Recorder event
+ * for each phase of a statement execution.
+ * <p>
+ * The following events are emitted, in the {@code Fluent JDBC} category:
+ * <ul>
+ *   <li>{@code org.soulwing.jdbc.ConnectionAcquired} &mdash; a connection
+ *     was obtained in order to prepare a statement</li>
+ *   <li>{@code org.soulwing.jdbc.StatementPrepared} &mdash; a statement was
+ *     prepared and its parameters bound</li>
+ *   <li>{@code org.soulwing.jdbc.StatementExecuted} &mdash; a statement was
+ *     executed</li>
+ *   <li>{@code org.soulwing.jdbc.BatchFlushed} &mdash; a batch of rows was
+ *     sent to the database (reported instead of
+ *     {@code StatementExecuted})</li>
+ *   <li>{@code org.soulwing.jdbc.ResultFetched} &mdash; the rows of a query
+ *     result were read</li>
+ * </ul>
+ * Each event identifies the facade by the name given to this listener,
+ * and the statement by its fingerprint (see {@link SQLFingerprinter}).  The
+ * duration of each event is the time spent in the phase, so the threshold
+ * configured for an event in a recording applies to that time.  The
+ * preparation of a batch statement takes place as rows are added to the
+ * batch, rather than as a single step, and is reported as an instant event.
+ * <p>
+ * When none of these events is enabled in a running recording, this
+ * listener does not fingerprint the statement or allocate an observer, so
+ * it may be left installed in production at negligible cost:
+ * <pre>
+ * FluentJdbc jdbc = new FluentJdbc(dataSource);
+ * jdbc.setMetrics(new JfrJdbcMetrics("orders"));
+ * </pre>
+ * <p>
+ * An instance of this class is thread safe and may be shared by any number
+ * of facade instances.
+ *
+ * @author Carl Harris
+ */
+public class JfrJdbcMetrics implements JdbcMetrics {
+
+  private static final EventType[] EVENT_TYPES = {
+      EventType.getEventType(ConnectionAcquiredEvent.class),
+      EventType.getEventType(StatementPreparedEvent.class),
+      EventType.getEventType(StatementExecutedEvent.class),
+      EventType.getEventType(BatchFlushedEvent.class),
+      EventType.getEventType(ResultFetchedEvent.class)
+  };
+
+  private final String name;
+  private final SQLFingerprinter fingerprinter;
+
+  /**
+   * Constructs a new instance.
+   * @param name name that identifies the facade in emitted events
+   */
+  public JfrJdbcMetrics(String name) {
+    this(name, new SQLFingerprinter());
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param name name that identifies the facade in emitted events
+   * @param fingerprinter fingerprinter used to identify statements
+   */
+  public JfrJdbcMetrics(String name, SQLFingerprinter fingerprinter) {
+    if (name == null) {
+      throw new NullPointerException("name is required");
+    }
+    this.name = name;
+    this.fingerprinter = fingerprinter;
+  }
+
+  /**
+   * Gets the name that identifies the facade in emitted events.
+   * @return name
+   */
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public StatementObserver begin(String sql, Parameter[] parameters) {
+    if (!isRecording()) return NullJdbcMetrics.INSTANCE;
+    return new Observer(fingerprinter.fingerprint(sql).getText());
+  }
+
+  private static boolean isRecording() {
+    for (final EventType type : EVENT_TYPES) {
+      if (type.isEnabled()) return true;
+    }
+    return false;
+  }
+
+  /**
+   * An observer that emits events for a single execution.
+   * <p>
+   * The event for each phase is created and begun when the phase starts.
+   * The execution events are ended when execution is reported, but are not
+   * committed until the next phase is reported, since whether the execution
+   * was a batch and the number of rows updated are reported afterwards.
+   */
+  private class Observer implements StatementObserver {
+
+    private final String fingerprint;
+
+    private ConnectionAcquiredEvent connectionEvent;
+    private StatementPreparedEvent prepareEvent;
+    private StatementExecutedEvent executeEvent;
+    private BatchFlushedEvent batchEvent;
+    private ResultFetchedEvent fetchEvent;
+
+    private boolean executed;
+    private int batchSize = -1;
+    private long rowsUpdated;
+
+    Observer(String fingerprint) {
+      this.fingerprint = fingerprint;
+    }
+
+    @Override
+    public void starting(Phase phase) {
+      switch (phase) {
+        case CONNECTION:
+          connectionEvent = begin(new ConnectionAcquiredEvent());
+          break;
+        case PREPARATION:
+          prepareEvent = begin(new StatementPreparedEvent());
+          break;
+        case EXECUTION:
+          executeEvent = begin(new StatementExecutedEvent());
+          batchEvent = begin(new BatchFlushedEvent());
+          break;
+        case FETCH:
+          fetchEvent = begin(new ResultFetchedEvent());
+          break;
+        default:
+          throw new IllegalArgumentException("unrecognized phase");
+      }
+    }
+
+    @Override
+    public void connectionAcquired(long nanos) {
+      final ConnectionAcquiredEvent event = connectionEvent != null ?
+          connectionEvent : new ConnectionAcquiredEvent();
+      connectionEvent = null;
+      commit(event);
+    }
+
+    @Override
+    public void prepared(long nanos) {
+      final StatementPreparedEvent event = prepareEvent != null ?
+          prepareEvent : new StatementPreparedEvent();
+      prepareEvent = null;
+      commit(event);
+    }
+
+    @Override
+    public void executed(long nanos) {
+      if (executeEvent == null) {
+        executeEvent = new StatementExecutedEvent();
+        batchEvent = new BatchFlushedEvent();
+      }
+      executeEvent.end();
+      batchEvent.end();
+      executed = true;
+    }
+
+    @Override
+    public void batched(int rows) {
+      batchSize = rows;
+    }
+
+    @Override
+    public void fetched(long rows, long nanos) {
+      commitExecution();
+      final ResultFetchedEvent event = fetchEvent != null ?
+          fetchEvent : new ResultFetchedEvent();
+      fetchEvent = null;
+      event.rowsFetched = rows;
+      commit(event);
+    }
+
+    @Override
+    public void updated(long rows) {
+      rowsUpdated = rows;
+    }
+
+    @Override
+    public void failed(Exception ex) {
+      commitExecution();
+    }
+
+    @Override
+    public void completed() {
+      commitExecution();
+    }
+
+    private void commitExecution() {
+      if (!executed) return;
+      if (batchSize >= 0) {
+        batchEvent.batchSize = batchSize;
+        batchEvent.rowsUpdated = rowsUpdated;
+        commit(batchEvent);
+      }
+      else {
+        executeEvent.rowsUpdated = rowsUpdated;
+        commit(executeEvent);
+      }
+      executeEvent = null;
+      batchEvent = null;
+      executed = false;
+    }
+
+    private <E extends JdbcEvent> E begin(E event) {
+      event.begin();
+      return event;
+    }
+
+    private void commit(JdbcEvent event) {
+      if (!event.shouldCommit()) return;
+      event.instance = name;
+      event.fingerprint = fingerprint;
+      event.commit();
+    }
+
+  }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An event that describes executing a statement.
+ *
+ * @author Carl Harris
+ */
+@Name("org.soulwing.jdbc.StatementExecuted")
+@Label("Statement Executed")
+@Description("A statement was executed")
+class StatementExecutedEvent extends JdbcEvent {
+
+  @Label("Rows Updated")
+  @Description("Number of rows inserted, updated, or deleted")
+  long rowsUpdated;
+
+}
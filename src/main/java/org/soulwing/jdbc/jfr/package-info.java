@@ -0,0 +1,27 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Java Flight Recorder instrumentation
+ * <p>
+ * This package provides {@link org.soulwing.jdbc.jfr.JfrJdbcMetrics}, a
+ * {@link org.soulwing.jdbc.metrics.JdbcMetrics} listener that emits Flight
+ * Recorder events for each phase of a statement execution.  Classes in this
+ * package require a runtime that provides the {@code jdk.jfr} module.
+ */
+package org.soulwing.jdbc.jfr;
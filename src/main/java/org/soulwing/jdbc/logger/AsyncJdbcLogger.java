@@ -0,0 +1,400 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.soulwing.jdbc.Parameter;
+
+/**
+ * A {@link JdbcLogger} that delegates to another logger on a background
+ * thread.
+ * <p>
+ * Each statement and parameter array presented to this logger is placed in
+ * a bounded ring buffer that is allocated when the logger is constructed.
+ * The calling thread stores only a reference to the statement text or a
+ * copy of the parameter array; a background writer thread takes entries
+ * from the buffer and passes them to the delegate, which does any
+ * formatting and I/O.  For example, to format and print statements without
+ * slowing the threads that execute them:
+ * <pre>
+ * {@code
+ * AsyncJdbcLogger logger = new AsyncJdbcLogger(
+ *     new FormattingJdbcLogger(new PrintWriterJdbcLogger(System.out, true)));
+ * jdbc.setLogger(logger);
+ * ...
+ * logger.close();
+ * }</pre>
+ * <p>
+ * When the buffer is full, because the delegate cannot keep up with the
+ * rate at which statements are logged, the configured
+ * {@link OverflowPolicy} determines whether the caller waits or the entry
+ * is discarded.  The number of discarded entries is available via
+ * {@link #getDroppedCount()}.
+ * <p>
+ * An entry for a parameter array carries the statement that the same thread
+ * most recently presented to this logger.  If that statement is not the
+ * entry the writer most recently passed to the delegate (because entries
+ * from other threads came between them, or the statement was discarded),
+ * the writer passes the statement to the delegate again, so that a
+ * parameter array is never logged apart from its statement.
+ * <p>
+ * The parameter array is copied, but the parameter values are not; a value
+ * that is modified after the statement is executed (e.g. a byte array) may
+ * be logged with its modified content.
+ *
+ * @author Carl Harris
+ */
+public class AsyncJdbcLogger implements JdbcLogger, AutoCloseable {
+
+  /**
+   * Default capacity of the ring buffer.
+   */
+  public static final int DEFAULT_CAPACITY = 8192;
+
+  /**
+   * Default sampling rate for {@link OverflowPolicy#SAMPLE}.
+   */
+  public static final int DEFAULT_SAMPLE_RATE = 100;
+
+  /**
+   * Policies for handling an entry when the ring buffer is full.
+   */
+  public enum OverflowPolicy {
+
+    /**
+     * Discard the entry.
+     */
+    DROP,
+
+    /**
+     * Wait until the writer thread makes room for the entry.
+     */
+    BLOCK,
+
+    /**
+     * Wait for room for one of every {@code sampleRate} entries that
+     * overflow, and discard the others.
+     */
+    SAMPLE
+
+  }
+
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private static final long NO_STATEMENT = Long.MIN_VALUE;
+
+  private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  private final JdbcLogger delegate;
+  private final OverflowPolicy policy;
+  private final int sampleRate;
+
+  private final Entry[] entries;
+  private final AtomicLongArray sequences;
+  private final int mask;
+
+  private final AtomicLong tail = new AtomicLong();
+  private final AtomicLong overflows = new AtomicLong();
+  private final AtomicLong droppedStatements = new AtomicLong();
+  private final LongAdder dropped = new LongAdder();
+  private final Thread writer;
+
+  private final ThreadLocal<LastStatement> lastStatement =
+      new ThreadLocal<LastStatement>() {
+        @Override
+        protected LastStatement initialValue() {
+          return new LastStatement();
+        }
+      };
+
+  private volatile long head;
+  private volatile boolean writerWaiting;
+  private volatile boolean closed;
+
+  /**
+   * Constructs a new instance with the default capacity that drops entries
+   * when the buffer is full.
+   * @param delegate the logger to which entries are written
+   */
+  public AsyncJdbcLogger(JdbcLogger delegate) {
+    this(delegate, DEFAULT_CAPACITY, OverflowPolicy.DROP);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param delegate the logger to which entries are written
+   * @param capacity capacity of the ring buffer; rounded up to a power of
+   *    two, and to at least two
+   * @param policy policy for handling an entry when the buffer is full
+   */
+  public AsyncJdbcLogger(JdbcLogger delegate, int capacity,
+      OverflowPolicy policy) {
+    this(delegate, capacity, policy, DEFAULT_SAMPLE_RATE);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param delegate the logger to which entries are written
+   * @param capacity capacity of the ring buffer; rounded up to a power of
+   *    two, and to at least two
+   * @param policy policy for handling an entry when the buffer is full
+   * @param sampleRate for {@link OverflowPolicy#SAMPLE}, the number of
+   *    overflowing entries for each one that is kept
+   */
+  public AsyncJdbcLogger(JdbcLogger delegate, int capacity,
+      OverflowPolicy policy, int sampleRate) {
+    if (capacity <= 0 || capacity > 1 << 30) {
+      throw new IllegalArgumentException("capacity out of range");
+    }
+    if (sampleRate <= 0) {
+      throw new IllegalArgumentException("sample rate must be positive");
+    }
+    // a slot's free and published sequence numbers coincide in a buffer
+    // of one slot
+    int size = 2;
+    while (size < capacity) {
+      size <<= 1;
+    }
+    this.delegate = delegate;
+    this.policy = policy;
+    this.sampleRate = sampleRate;
+    this.entries = new Entry[size];
+    this.sequences = new AtomicLongArray(size);
+    this.mask = size - 1;
+    for (int i = 0; i < size; i++) {
+      entries[i] = new Entry();
+      sequences.set(i, i);
+    }
+    this.writer = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        drain();
+      }
+    }, AsyncJdbcLogger.class.getSimpleName());
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  @Override
+  public void writeStatement(String sql) {
+    final long position = publish(sql, null, NO_STATEMENT);
+    final LastStatement last = lastStatement.get();
+    last.sql = sql;
+    last.token = position >= 0 ?
+        position : -droppedStatements.incrementAndGet();
+  }
+
+  @Override
+  public void writeParameters(Parameter[] parameters) {
+    if (parameters.length == 0) return;
+    final LastStatement last = lastStatement.get();
+    publish(last.sql, parameters.clone(), last.token);
+  }
+
+  /**
+   * Gets the number of entries that were discarded because the buffer was
+   * full or the logger was closed.
+   * @return number of discarded entries
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  /**
+   * Waits until all entries that were presented to this logger before this
+   * method was invoked have been passed to the delegate.
+   */
+  public void flush() {
+    final long target = tail.get();
+    while (head < target && writer.isAlive()) {
+      LockSupport.unpark(writer);
+      LockSupport.parkNanos(FULL_PARK_NANOS);
+    }
+  }
+
+  /**
+   * Closes this logger.
+   * <p>
+   * Entries that are in the buffer are passed to the delegate before this
+   * method returns; entries presented after this method is invoked are
+   * discarded.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    LockSupport.unpark(writer);
+    boolean interrupted = false;
+    while (writer.isAlive()) {
+      try {
+        writer.join();
+      }
+      catch (InterruptedException ex) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Publishes an entry.
+   * @param sql statement text
+   * @param parameters parameter array, or {@code null} for a statement entry
+   * @param statement for a parameter entry, the token that identifies the
+   *    entry for {@code sql} (its position in the buffer, or a negative
+   *    value if it was discarded), or {@link #NO_STATEMENT}
+   * @return position of the published entry, or -1 if it was discarded
+   */
+  private long publish(String sql, Parameter[] parameters, long statement) {
+    long position = -1;
+    if (!closed) {
+      position = tryClaim();
+      if (position < 0 && shouldWait()) {
+        position = claim();
+      }
+    }
+    if (position < 0) {
+      dropped.increment();
+      return -1;
+    }
+    final int index = (int) position & mask;
+    final Entry entry = entries[index];
+    entry.sql = sql;
+    entry.parameters = parameters;
+    entry.statement = statement;
+    sequences.lazySet(index, position + 1);
+    if (writerWaiting) {
+      LockSupport.unpark(writer);
+    }
+    return position;
+  }
+
+  private boolean shouldWait() {
+    switch (policy) {
+      case BLOCK:
+        return true;
+      case SAMPLE:
+        return overflows.getAndIncrement() % sampleRate == 0;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Claims the next position in the buffer, if it is available.
+   * @return claimed position or -1 if the buffer is full
+   */
+  private long tryClaim() {
+    while (true) {
+      final long position = tail.get();
+      final long sequence = sequences.get((int) position & mask);
+      if (sequence == position) {
+        if (tail.compareAndSet(position, position + 1)) return position;
+      }
+      else if (sequence < position) {
+        return -1;
+      }
+    }
+  }
+
+  /**
+   * Claims the next position in the buffer, waiting for it to become
+   * available.
+   * @return claimed position or -1 if this logger was closed, or the writer
+   *    thread terminated, while waiting
+   */
+  private long claim() {
+    long position = tryClaim();
+    while (position < 0 && !closed && writer.isAlive()) {
+      LockSupport.unpark(writer);
+      LockSupport.parkNanos(FULL_PARK_NANOS);
+      position = tryClaim();
+    }
+    return position;
+  }
+
+  private void drain() {
+    long current = NO_STATEMENT;
+    while (true) {
+      final long position = head;
+      final int index = (int) position & mask;
+      if (sequences.get(index) == position + 1) {
+        final Entry entry = entries[index];
+        final String sql = entry.sql;
+        final Parameter[] parameters = entry.parameters;
+        final long statement = parameters != null ? entry.statement : position;
+        entry.sql = null;
+        entry.parameters = null;
+        sequences.lazySet(index, position + entries.length);
+        head = position + 1;
+        write(sql, parameters, statement != current);
+        current = statement;
+      }
+      else if (closed && tail.get() == position) {
+        return;
+      }
+      else {
+        writerWaiting = true;
+        if (sequences.get(index) != position + 1) {
+          LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        writerWaiting = false;
+      }
+    }
+  }
+
+  private void write(String sql, Parameter[] parameters,
+      boolean writeStatement) {
+    try {
+      if (sql != null && writeStatement) {
+        delegate.writeStatement(sql);
+      }
+      if (parameters != null) {
+        delegate.writeParameters(parameters);
+      }
+    }
+    catch (RuntimeException ex) {
+      dropped.increment();
+    }
+  }
+
+  /**
+   * A preallocated slot in the ring buffer.
+   */
+  private static class Entry {
+    String sql;
+    Parameter[] parameters;
+    long statement;
+  }
+
+  /**
+   * The statement most recently presented to the logger by a thread.
+   */
+  private static class LastStatement {
+    String sql;
+    long token = NO_STATEMENT;
+  }
+
+}
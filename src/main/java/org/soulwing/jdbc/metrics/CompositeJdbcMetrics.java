@@ -0,0 +1,143 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.metrics;
+
+import java.util.Arrays;
+
+import org.soulwing.jdbc.Parameter;
+
+/**
+ * A {@link JdbcMetrics} that notifies each of several other listeners.
+ * <p>
+ * For example, to record latency histograms and a slow query log for the
+ * same facade:
+ * <pre>
+ * {@code
+ * jdbc.setMetrics(CompositeJdbcMetrics.of(new DefaultJdbcMetrics(),
+ *     new SlowQueryRecorder(100, TimeUnit.MILLISECONDS)));
+ * }</pre>
+ *
+ * @author Carl Harris
+ */
+public class CompositeJdbcMetrics implements JdbcMetrics {
+
+  private final JdbcMetrics[] delegates;
+
+  private CompositeJdbcMetrics(JdbcMetrics[] delegates) {
+    this.delegates = delegates;
+  }
+
+  /**
+   * Creates a listener that notifies each of the given listeners.
+   * @param delegates the listeners to notify, in order
+   * @return listener
+   */
+  public static JdbcMetrics of(JdbcMetrics... delegates) {
+    if (delegates.length == 1) return delegates[0];
+    return new CompositeJdbcMetrics(
+        Arrays.copyOf(delegates, delegates.length));
+  }
+
+  @Override
+  public StatementObserver begin(String sql, Parameter[] parameters) {
+    final StatementObserver[] observers =
+        new StatementObserver[delegates.length];
+    for (int i = 0; i < delegates.length; i++) {
+      observers[i] = delegates[i].begin(sql, parameters);
+    }
+    return new CompositeObserver(observers);
+  }
+
+  /**
+   * A {@link StatementObserver} that notifies each of several observers.
+   */
+  private static class CompositeObserver implements StatementObserver {
+
+    private final StatementObserver[] observers;
+
+    CompositeObserver(StatementObserver[] observers) {
+      this.observers = observers;
+    }
+
+    @Override
+    public void starting(Phase phase) {
+      for (final StatementObserver observer : observers) {
+        observer.starting(phase);
+      }
+    }
+
+    @Override
+    public void connectionAcquired(long nanos) {
+      for (final StatementObserver observer : observers) {
+        observer.connectionAcquired(nanos);
+      }
+    }
+
+    @Override
+    public void prepared(long nanos) {
+      for (final StatementObserver observer : observers) {
+        observer.prepared(nanos);
+      }
+    }
+
+    @Override
+    public void executed(long nanos) {
+      for (final StatementObserver observer : observers) {
+        observer.executed(nanos);
+      }
+    }
+
+    @Override
+    public void batched(int rows) {
+      for (final StatementObserver observer : observers) {
+        observer.batched(rows);
+      }
+    }
+
+    @Override
+    public void fetched(long rows, long nanos) {
+      for (final StatementObserver observer : observers) {
+        observer.fetched(rows, nanos);
+      }
+    }
+
+    @Override
+    public void updated(long rows) {
+      for (final StatementObserver observer : observers) {
+        observer.updated(rows);
+      }
+    }
+
+    @Override
+    public void failed(Exception ex) {
+      for (final StatementObserver observer : observers) {
+        observer.failed(ex);
+      }
+    }
+
+    @Override
+    public void completed() {
+      for (final StatementObserver observer : observers) {
+        observer.completed();
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,241 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.soulwing.jdbc.Parameter;
+import org.soulwing.jdbc.source.SQLFingerprinter;
+
+/**
+ * A {@link JdbcMetrics} that records counters and latency histograms for
+ * each distinct SQL statement.
+ * <p>
+ * Counters are striped ({@link LongAdder}) and histograms use fixed
+ * log-linear buckets, so recording an execution is inexpensive, does not
+ * allocate, and does not contend with concurrent executions.  The recorded
+ * metrics can be retrieved at any time using {@link #snapshot()}; e.g. to
+ * report the 99th percentile execution time of each statement:
+ * <pre>
+ * {@code
+ * for (StatementStats stats : metrics.snapshot()) {
+ *   System.out.format("%s: p99=%dns%n", stats.getSql(),
+ *       stats.getExecuteTimes().getValueAtPercentile(99.0));
+ * }
+ * }</pre>
+ * <p>
+ * Statements are identified by their SQL text or, if the instance is
+ * constructed with an {@link SQLFingerprinter}, by their fingerprint, so that
+ * statements that differ only in their literal values, comments, or
+ * whitespace are recorded together.  To bound the memory used
+ * by an application that generates many distinct statements, at most a
+ * configured number of statements are tracked individually; executions of
+ * any other statements are recorded together under
+ * {@link #OTHER_STATEMENTS}.
+ * <p>
+ * An instance of this class is thread safe and may be shared by any number
+ * of facade instances.
+ *
+ * @author Carl Harris
+ */
+public class DefaultJdbcMetrics implements JdbcMetrics {
+
+  /**
+   * Default maximum number of statements that are tracked individually.
+   */
+  public static final int DEFAULT_MAX_STATEMENTS = 500;
+
+  /**
+   * Statement text under which the metrics for statements that are not
+   * tracked individually are recorded.
+   */
+  public static final String OTHER_STATEMENTS = "(other statements)";
+
+  private final ConcurrentMap<String, Recorder> recorders =
+      new ConcurrentHashMap<>();
+
+  private final int maxStatements;
+  private final SQLFingerprinter fingerprinter;
+
+  /**
+   * Constructs a new instance that tracks up to
+   * {@link #DEFAULT_MAX_STATEMENTS} statements individually.
+   */
+  public DefaultJdbcMetrics() {
+    this(DEFAULT_MAX_STATEMENTS);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param maxStatements maximum number of statements to track individually
+   */
+  public DefaultJdbcMetrics(int maxStatements) {
+    this(maxStatements, null);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param maxStatements maximum number of statements to track individually
+   * @param fingerprinter fingerprinter used to identify statements; if
+   *    {@code null} statements are identified by their SQL text
+   */
+  public DefaultJdbcMetrics(int maxStatements,
+      SQLFingerprinter fingerprinter) {
+    if (maxStatements <= 0) {
+      throw new IllegalArgumentException(
+          "maximum statements must be positive");
+    }
+    this.maxStatements = maxStatements;
+    this.fingerprinter = fingerprinter;
+  }
+
+  @Override
+  public StatementObserver begin(String sql, Parameter[] parameters) {
+    final Recorder recorder = recorder(key(sql));
+    recorder.executions.increment();
+    return recorder;
+  }
+
+  private String key(String sql) {
+    return fingerprinter != null ?
+        fingerprinter.fingerprint(sql).getText() : sql;
+  }
+
+  private Recorder recorder(String sql) {
+    Recorder recorder = recorders.get(sql);
+    if (recorder != null) return recorder;
+    if (recorders.size() >= maxStatements) {
+      sql = OTHER_STATEMENTS;
+      recorder = recorders.get(sql);
+      if (recorder != null) return recorder;
+    }
+    recorder = new Recorder();
+    final Recorder existing = recorders.putIfAbsent(sql, recorder);
+    return existing != null ? existing : recorder;
+  }
+
+  /**
+   * Creates a snapshot of the metrics recorded for each statement.
+   * @return list of statement metrics, in no particular order
+   */
+  public List<StatementStats> snapshot() {
+    final List<StatementStats> snapshot = new ArrayList<>(recorders.size());
+    for (final Map.Entry<String, Recorder> entry :
+        recorders.entrySet()) {
+      snapshot.add(entry.getValue().snapshot(entry.getKey()));
+    }
+    return snapshot;
+  }
+
+  /**
+   * Creates a snapshot of the metrics recorded for a statement.
+   * @param sql statement text (which is fingerprinted, if this instance
+   *    uses a fingerprinter)
+   * @return statement metrics or {@code null} if no metrics have been
+   *    recorded for {@code sql}
+   */
+  public StatementStats snapshot(String sql) {
+    final String key = key(sql);
+    final Recorder recorder = recorders.get(key);
+    return recorder != null ? recorder.snapshot(key) : null;
+  }
+
+  /**
+   * Discards all recorded metrics.
+   */
+  public void reset() {
+    recorders.clear();
+  }
+
+  /**
+   * The metrics recorded for a single statement.
+   * <p>
+   * A recorder holds no state that is specific to a single execution, so it
+   * serves as the observer for every execution of its statement.
+   */
+  private static class Recorder implements StatementObserver {
+
+    final LongAdder executions = new LongAdder();
+    final LongAdder failures = new LongAdder();
+    final LongAdder rowsFetched = new LongAdder();
+    final LongAdder rowsUpdated = new LongAdder();
+    final LatencyHistogram prepareTimes = new LatencyHistogram();
+    final LatencyHistogram executeTimes = new LatencyHistogram();
+    final LatencyHistogram fetchTimes = new LatencyHistogram();
+
+    @Override
+    public void starting(Phase phase) {
+    }
+
+    @Override
+    public void connectionAcquired(long nanos) {
+    }
+
+    @Override
+    public void prepared(long nanos) {
+      prepareTimes.record(nanos);
+    }
+
+    @Override
+    public void executed(long nanos) {
+      executeTimes.record(nanos);
+    }
+
+    @Override
+    public void batched(int rows) {
+    }
+
+    @Override
+    public void fetched(long rows, long nanos) {
+      if (rows > 0) {
+        rowsFetched.add(rows);
+      }
+      fetchTimes.record(nanos);
+    }
+
+    @Override
+    public void updated(long rows) {
+      if (rows > 0) {
+        rowsUpdated.add(rows);
+      }
+    }
+
+    @Override
+    public void failed(Exception ex) {
+      failures.increment();
+    }
+
+    @Override
+    public void completed() {
+    }
+
+    StatementStats snapshot(String sql) {
+      return new StatementStats(sql, executions.sum(), failures.sum(),
+          rowsFetched.sum(), rowsUpdated.sum(), prepareTimes.snapshot(),
+          executeTimes.snapshot(), fetchTimes.snapshot());
+    }
+
+  }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.metrics;
+
+/**
+ * An immutable snapshot of a latency histogram.
+ * <p>
+ * All values are in nanoseconds.  Values are recorded in log-linear buckets
+ * whose width is at most 1/8 of the values they hold, so a percentile
+ * reported by {@link #getValueAtPercentile(double)} is at most 12.5% greater
+ * than the actual value.  The bucket counts are available for export to
+ * monitoring systems that accept histogram data.
+ *
+ * @author Carl Harris
+ */
+public final class HistogramSnapshot {
+
+  private final long[] counts;
+  private final long count;
+  private final long total;
+  private final long max;
+
+  HistogramSnapshot(long[] counts, long total, long max) {
+    long count = 0;
+    for (final long c : counts) {
+      count += c;
+    }
+    this.counts = counts;
+    this.count = count;
+    this.total = total;
+    this.max = max;
+  }
+
+  /**
+   * Gets the number of recorded values.
+   * @return count
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Gets the sum of the recorded values.
+   * @return sum
+   */
+  public long getTotal() {
+    return total;
+  }
+
+  /**
+   * Gets the largest recorded value.
+   * @return largest value or zero if no values have been recorded
+   */
+  public long getMax() {
+    return max;
+  }
+
+  /**
+   * Gets the arithmetic mean of the recorded values.
+   * @return mean or zero if no values have been recorded
+   */
+  public double getMean() {
+    return count != 0 ? (double) total / count : 0.0;
+  }
+
+  /**
+   * Gets the value at the given percentile.
+   * <p>
+   * The returned value is the upper bound of the bucket that holds the
+   * value at the given percentile, but never more than {@link #getMax()}.
+   * For example, {@code getValueAtPercentile(99.0)} returns the 99th
+   * percentile latency.
+   *
+   * @param percentile the percentile in the range 0 to 100
+   * @return value at {@code percentile}, or zero if no values have been
+   *    recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (percentile < 0.0 || percentile > 100.0) {
+      throw new IllegalArgumentException(
+          "percentile must be in the range 0 to 100");
+    }
+    if (count == 0) return 0;
+    final long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(LatencyHistogram.upperBound(i), max);
+      }
+    }
+    return max;
+  }
+
+  /**
+   * Creates a snapshot that combines the values of this snapshot with those
+   * of another.
+   * @param other the snapshot to combine with this one
+   * @return combined snapshot
+   */
+  public HistogramSnapshot merge(HistogramSnapshot other) {
+    final long[] counts = new long[this.counts.length];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = this.counts[i] + other.counts[i];
+    }
+    return new HistogramSnapshot(counts, total + other.total,
+        Math.max(max, other.max));
+  }
+
+  /**
+   * Gets the number of buckets in this histogram.
+   * @return bucket count
+   */
+  public int getBucketCount() {
+    return counts.length;
+  }
+
+  /**
+   * Gets the number of values recorded in a bucket.
+   * @param bucket bucket index
+   * @return number of values
+   */
+  public long getCount(int bucket) {
+    return counts[bucket];
+  }
+
+  /**
+   * Gets the smallest value held by a bucket.
+   * @param bucket bucket index
+   * @return lower bound (inclusive)
+   */
+  public long getLowerBound(int bucket) {
+    return LatencyHistogram.lowerBound(bucket);
+  }
+
+  /**
+   * Gets the largest value held by a bucket.
+   * @param bucket bucket index
+   * @return upper bound (inclusive)
+   */
+  public long getUpperBound(int bucket) {
+    return LatencyHistogram.upperBound(bucket);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("count=%d mean=%.0f p50=%d p99=%d max=%d",
+        count, getMean(), getValueAtPercentile(50.0),
+        getValueAtPercentile(99.0), max);
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.metrics;
+
+import org.soulwing.jdbc.Parameter;
+
+/**
+ * A listener that is notified of the timing and outcome of SQL statement
+ * executions.
+ * <p>
+ * At the start of each execution, {@link #begin(String, Parameter[])} is
+ * invoked to obtain a {@link StatementObserver} for the execution; the
+ * observer is then notified as each phase of the execution completes.  An
+ * implementation should do as little work as possible in these methods,
+ * since they are invoked on the thread that is executing the statement.
+ *
+ * @author Carl Harris
+ */
+public interface JdbcMetrics {
+
+  /**
+   * Notifies this listener that execution of a statement is beginning.
+   * <p>
+   * The parameters array belongs to the caller; an implementation that
+   * retains the parameters beyond the end of the execution must copy the
+   * array.
+   *
+   * @param sql the SQL statement text
+   * @param parameters the parameters that will be bound to the statement;
+   *    empty if the statement has no parameters, or is executed as a batch
+   * @return observer that will be notified of the phases of the
+   *    execution (must not be {@code null})
+   */
+  StatementObserver begin(String sql, Parameter[] parameters);
+
+}
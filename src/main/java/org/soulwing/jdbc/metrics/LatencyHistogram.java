@@ -0,0 +1,130 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * A concurrent histogram of latencies with fixed, log-linear buckets.
+ * <p>
+ * Each power of two is divided into {@value #SUB_BUCKET_COUNT} linear
+ * sub-buckets, so that the width of the bucket that holds a value is at most
+ * 1/{@value #SUB_BUCKET_COUNT} of the value.  Recording a value is
+ * wait-free and does not allocate; the bucket for a value is computed using
+ * a few shifts.  Values larger than {@value #MAX_EXPONENT} powers of two
+ * (about 36 minutes in nanoseconds) are recorded in the last bucket.
+ *
+ * @author Carl Harris
+ */
+public class LatencyHistogram {
+
+  static final int SUB_BUCKET_BITS = 3;
+
+  static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+  static final int MAX_EXPONENT = 40;
+
+  static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+  static final int BUCKET_COUNT =
+      (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+  private static final LongBinaryOperator MAX = new LongBinaryOperator() {
+    @Override
+    public long applyAsLong(long left, long right) {
+      return Math.max(left, right);
+    }
+  };
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder total = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(MAX, 0);
+
+  /**
+   * Records a value.
+   * @param value the value to record; negative values are recorded as zero
+   */
+  public void record(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+    counts.incrementAndGet(bucketIndex(value));
+    total.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * Creates a snapshot of the current state of this histogram.
+   * <p>
+   * Values that are recorded concurrently may or may not be reflected in the
+   * snapshot.
+   *
+   * @return snapshot
+   */
+  public HistogramSnapshot snapshot() {
+    final long[] snapshot = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      snapshot[i] = counts.get(i);
+    }
+    return new HistogramSnapshot(snapshot, total.sum(), max.get());
+  }
+
+  /**
+   * Gets the index of the bucket that holds the given value.
+   * @param value the subject value (must not be negative)
+   * @return bucket index
+   */
+  static int bucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) return (int) value;
+    if (value > MAX_VALUE) {
+      value = MAX_VALUE;
+    }
+    final int exponent = 63 - Long.numberOfLeadingZeros(value);
+    final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS))
+        & (SUB_BUCKET_COUNT - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /**
+   * Gets the smallest value held by the given bucket.
+   * @param index bucket index
+   * @return lower bound (inclusive)
+   */
+  static long lowerBound(int index) {
+    if (index < SUB_BUCKET_COUNT) return index;
+    final int shift = index / SUB_BUCKET_COUNT - 1;
+    final int subBucket = index % SUB_BUCKET_COUNT;
+    return (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+  }
+
+  /**
+   * Gets the largest value held by the given bucket.
+   * @param index bucket index
+   * @return upper bound (inclusive)
+   */
+  static long upperBound(int index) {
+    if (index < SUB_BUCKET_COUNT) return index;
+    final int shift = index / SUB_BUCKET_COUNT - 1;
+    return lowerBound(index) + (1L << shift) - 1;
+  }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.metrics;
+
+import org.soulwing.jdbc.Parameter;
+
+/**
+ * A singleton {@link JdbcMetrics} that does nothing.
+ * <p>
+ * This object is also the {@link StatementObserver} it returns for each
+ * execution, so that no objects are allocated when metrics are disabled.
+ *
+ * @author Carl Harris
+ */
+public class NullJdbcMetrics implements JdbcMetrics, StatementObserver {
+
+  public static final NullJdbcMetrics INSTANCE = new NullJdbcMetrics();
+
+  private NullJdbcMetrics() {
+  }
+
+  @Override
+  public StatementObserver begin(String sql, Parameter[] parameters) {
+    return this;
+  }
+
+  @Override
+  public void starting(Phase phase) {
+  }
+
+  @Override
+  public void connectionAcquired(long nanos) {
+  }
+
+  @Override
+  public void prepared(long nanos) {
+  }
+
+  @Override
+  public void executed(long nanos) {
+  }
+
+  @Override
+  public void batched(int rows) {
+  }
+
+  @Override
+  public void fetched(long rows, long nanos) {
+  }
+
+  @Override
+  public void updated(long rows) {
+  }
+
+  @Override
+  public void failed(Exception ex) {
+  }
+
+  @Override
+  public void completed() {
+  }
+
+}
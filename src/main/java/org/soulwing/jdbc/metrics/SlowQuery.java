@@ -0,0 +1,88 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.metrics;
+
+import java.util.List;
+
+import org.soulwing.jdbc.source.SQLFingerprint;
+
+/**
+ * An immutable snapshot of the slow executions recorded for the statements
+ * that share a fingerprint.
+ *
+ * @author Carl Harris
+ * @see SlowQueryRecorder#snapshot()
+ */
+public final class SlowQuery {
+
+  private final SQLFingerprint fingerprint;
+  private final long count;
+  private final List<SlowQuerySample> samples;
+  private final String plan;
+
+  SlowQuery(SQLFingerprint fingerprint, long count,
+      List<SlowQuerySample> samples, String plan) {
+    this.fingerprint = fingerprint;
+    this.count = count;
+    this.samples = samples;
+    this.plan = plan;
+  }
+
+  /**
+   * Gets the fingerprint of the statements.
+   * @return fingerprint
+   */
+  public SQLFingerprint getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * Gets the total number of slow executions.
+   * @return number of executions that exceeded the threshold, including
+   *    those that are not retained as samples
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Gets the slowest executions.
+   * @return list of samples, slowest first
+   */
+  public List<SlowQuerySample> getSamples() {
+    return samples;
+  }
+
+  /**
+   * Gets the execution plan that the database reported for the first slow
+   * execution.
+   * @return plan text or {@code null} if plans are not captured, or the
+   *    plan has not yet been obtained
+   */
+  public String getPlan() {
+    return plan;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: count=%d slowest={%s}", fingerprint, count,
+        samples.isEmpty() ? "" : samples.get(0));
+  }
+
+}
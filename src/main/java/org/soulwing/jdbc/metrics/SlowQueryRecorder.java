@@ -0,0 +1,439 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.metrics;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.soulwing.jdbc.Parameter;
+import org.soulwing.jdbc.source.SQLFingerprint;
+import org.soulwing.jdbc.source.SQLFingerprinter;
+
+/**
+ * A {@link JdbcMetrics} that records the statement executions that exceed a
+ * latency threshold.
+ * <p>
+ * The latency of an execution is the total time spent preparing the
+ * statement, executing it, and reading its result.  An execution whose
+ * latency is below the threshold costs only the accumulation of these
+ * times.  A slow execution is recorded with its statement text and a copy of
+ * its parameters, grouped with the other slow executions of statements that
+ * have the same {@link SQLFingerprint fingerprint}.  For each fingerprint,
+ * only the slowest executions are retained, up to a configured number of
+ * samples; at most a configured number of fingerprints are tracked.
+ * <p>
+ * If both an explain data source and an explain {@link Executor} are
+ * configured, the first time a slow execution of a query is recorded for a
+ * fingerprint, a task is submitted to the executor that executes the query
+ * again on a connection obtained from the explain data source, prefixed with
+ * {@code EXPLAIN} (or another configured prefix), and the resulting plan is
+ * retained with the samples.  Plans are requested only for statements that
+ * begin with {@code SELECT}, {@code WITH}, or {@code VALUES}, and always in
+ * a transaction that is rolled back, so that a prefix such as
+ * {@code EXPLAIN ANALYZE} (which executes the statement) cannot change the
+ * database; the connection's auto-commit mode is restored afterwards.  For
+ * example:
+ * <pre>
+ * {@code
+ * SlowQueryRecorder recorder =
+ *     new SlowQueryRecorder(250, TimeUnit.MILLISECONDS);
+ * recorder.setExplainDataSource(dataSource);
+ * recorder.setExplainExecutor(Executors.newSingleThreadExecutor());
+ * jdbc.setMetrics(recorder);
+ * ...
+ * for (SlowQuery query : recorder.snapshot()) {
+ *   System.out.println(query);
+ *   System.out.println(query.getPlan());
+ * }
+ * }</pre>
+ * <p>
+ * An instance of this class is thread safe and may be shared by any number
+ * of facade instances.
+ *
+ * @author Carl Harris
+ */
+public class SlowQueryRecorder implements JdbcMetrics {
+
+  /**
+   * Default number of samples retained for each fingerprint.
+   */
+  public static final int DEFAULT_MAX_SAMPLES = 10;
+
+  /**
+   * Default maximum number of fingerprints tracked.
+   */
+  public static final int DEFAULT_MAX_STATEMENTS = 500;
+
+  /**
+   * Default prefix used to request the execution plan of a statement.
+   */
+  public static final String DEFAULT_EXPLAIN_PREFIX = "EXPLAIN ";
+
+  private static final String[] QUERY_KEYWORDS = {
+      "SELECT ", "WITH ", "VALUES ", "("
+  };
+
+  private static final Comparator<SlowQuerySample> FASTEST_FIRST =
+      new Comparator<SlowQuerySample>() {
+        @Override
+        public int compare(SlowQuerySample a, SlowQuerySample b) {
+          return Long.compare(a.getElapsedNanos(), b.getElapsedNanos());
+        }
+      };
+
+  private static final Comparator<SlowQuery> SLOWEST_FIRST =
+      new Comparator<SlowQuery>() {
+        @Override
+        public int compare(SlowQuery a, SlowQuery b) {
+          return Long.compare(slowest(b), slowest(a));
+        }
+
+        private long slowest(SlowQuery query) {
+          return query.getSamples().isEmpty() ?
+              0 : query.getSamples().get(0).getElapsedNanos();
+        }
+      };
+
+  private final ConcurrentMap<SQLFingerprint, Entry> entries =
+      new ConcurrentHashMap<>();
+
+  private final long thresholdNanos;
+  private final int maxSamples;
+  private final int maxStatements;
+  private final SQLFingerprinter fingerprinter;
+
+  private volatile DataSource explainDataSource;
+  private volatile String explainPrefix = DEFAULT_EXPLAIN_PREFIX;
+  private volatile Executor explainExecutor;
+
+  /**
+   * Constructs a new instance with the default limits.
+   * @param threshold latency threshold
+   * @param unit unit of {@code threshold}
+   */
+  public SlowQueryRecorder(long threshold, TimeUnit unit) {
+    this(threshold, unit, DEFAULT_MAX_SAMPLES, DEFAULT_MAX_STATEMENTS,
+        new SQLFingerprinter());
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param threshold latency threshold
+   * @param unit unit of {@code threshold}
+   * @param maxSamples number of samples to retain for each fingerprint
+   * @param maxStatements maximum number of fingerprints to track; slow
+   *    executions of statements with other fingerprints are ignored
+   * @param fingerprinter fingerprinter used to group statements
+   */
+  public SlowQueryRecorder(long threshold, TimeUnit unit, int maxSamples,
+      int maxStatements, SQLFingerprinter fingerprinter) {
+    if (threshold < 0) {
+      throw new IllegalArgumentException("threshold must not be negative");
+    }
+    if (maxSamples <= 0 || maxStatements <= 0) {
+      throw new IllegalArgumentException("limits must be positive");
+    }
+    this.thresholdNanos = unit.toNanos(threshold);
+    this.maxSamples = maxSamples;
+    this.maxStatements = maxStatements;
+    this.fingerprinter = fingerprinter;
+  }
+
+  /**
+   * Sets the data source from which connections are obtained to request
+   * execution plans.
+   * @param explainDataSource the data source to set (may be {@code null} to
+   *    disable plan capture)
+   * @see #setExplainExecutor(Executor)
+   */
+  public void setExplainDataSource(DataSource explainDataSource) {
+    this.explainDataSource = explainDataSource;
+  }
+
+  /**
+   * Sets the prefix that is added to a statement to request its execution
+   * plan.
+   * @param explainPrefix the prefix to set (e.g.
+   *    {@code "EXPLAIN ANALYZE "} or {@code "EXPLAIN PLAN FOR "})
+   */
+  public void setExplainPrefix(String explainPrefix) {
+    this.explainPrefix = explainPrefix;
+  }
+
+  /**
+   * Sets the executor used to request execution plans.
+   * <p>
+   * Plans are never requested on the thread that executed the slow
+   * statement; plan capture is disabled unless an executor is set.
+   * @param explainExecutor the executor to set (may be {@code null} to
+   *    disable plan capture)
+   */
+  public void setExplainExecutor(Executor explainExecutor) {
+    this.explainExecutor = explainExecutor;
+  }
+
+  @Override
+  public StatementObserver begin(String sql, Parameter[] parameters) {
+    return new Observation(sql, parameters);
+  }
+
+  /**
+   * Creates a snapshot of the slow executions recorded for each
+   * fingerprint.
+   * @return list of slow queries, ordered by the latency of their slowest
+   *    execution, slowest first
+   */
+  public List<SlowQuery> snapshot() {
+    final List<SlowQuery> snapshot = new ArrayList<>(entries.size());
+    for (final Entry entry : entries.values()) {
+      snapshot.add(entry.snapshot());
+    }
+    Collections.sort(snapshot, SLOWEST_FIRST);
+    return snapshot;
+  }
+
+  /**
+   * Discards all recorded executions.
+   */
+  public void reset() {
+    entries.clear();
+  }
+
+  private void record(String sql, Parameter[] parameters, long elapsedNanos) {
+    final SQLFingerprint fingerprint = fingerprinter.fingerprint(sql);
+    Entry entry = entries.get(fingerprint);
+    boolean created = false;
+    if (entry == null) {
+      if (entries.size() >= maxStatements) return;
+      final Entry newEntry = new Entry(fingerprint);
+      entry = entries.putIfAbsent(fingerprint, newEntry);
+      if (entry == null) {
+        entry = newEntry;
+        created = true;
+      }
+    }
+    final SlowQuerySample sample = new SlowQuerySample(sql,
+        parameters.clone(), elapsedNanos, System.currentTimeMillis());
+    entry.add(sample);
+    final DataSource dataSource = explainDataSource;
+    final Executor executor = explainExecutor;
+    if (created && dataSource != null && executor != null
+        && isQuery(fingerprint)) {
+      final Entry target = entry;
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          target.plan = explain(dataSource, sample);
+        }
+      });
+    }
+  }
+
+  private static boolean isQuery(SQLFingerprint fingerprint) {
+    final String text = fingerprint.getText();
+    for (final String keyword : QUERY_KEYWORDS) {
+      if (text.startsWith(keyword)) return true;
+    }
+    return false;
+  }
+
+  private String explain(DataSource dataSource, SlowQuerySample sample) {
+    try (Connection connection = dataSource.getConnection()) {
+      final boolean autoCommit = connection.getAutoCommit();
+      if (autoCommit) {
+        connection.setAutoCommit(false);
+      }
+      try {
+        return explain(connection, sample);
+      }
+      finally {
+        connection.rollback();
+        if (autoCommit) {
+          connection.setAutoCommit(true);
+        }
+      }
+    }
+    catch (SQLException | RuntimeException ex) {
+      return "unable to obtain plan: " + ex;
+    }
+  }
+
+  private String explain(Connection connection, SlowQuerySample sample)
+      throws SQLException {
+    final Parameter[] parameters = sample.getParameters();
+    try (PreparedStatement statement = connection.prepareStatement(
+        explainPrefix + sample.getSql())) {
+      final int count = Math.min(parameters.length,
+          parameterCount(statement, parameters.length));
+      for (int index = 0; index < count; index++) {
+        parameters[index].inject(index + 1, statement);
+      }
+      try (ResultSet rs = statement.executeQuery()) {
+        return readPlan(rs);
+      }
+    }
+  }
+
+  /**
+   * Gets the number of placeholders in a statement that requests a plan.
+   * <p>
+   * Some databases do not accept parameters for such a statement, and plan
+   * the statement as if its placeholders were unbound.
+   *
+   * @param statement the subject statement
+   * @param defaultCount count to assume if the driver cannot report it
+   * @return placeholder count
+   */
+  private static int parameterCount(PreparedStatement statement,
+      int defaultCount) {
+    try {
+      return statement.getParameterMetaData().getParameterCount();
+    }
+    catch (SQLException | RuntimeException ex) {
+      return defaultCount;
+    }
+  }
+
+  private static String readPlan(ResultSet rs) throws SQLException {
+    final int columns = rs.getMetaData().getColumnCount();
+    final StringBuilder sb = new StringBuilder();
+    while (rs.next()) {
+      if (sb.length() > 0) {
+        sb.append(System.lineSeparator());
+      }
+      for (int i = 1; i <= columns; i++) {
+        if (i > 1) {
+          sb.append(' ');
+        }
+        sb.append(rs.getString(i));
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * The slow executions recorded for a fingerprint.
+   */
+  private class Entry {
+
+    final SQLFingerprint fingerprint;
+    final PriorityQueue<SlowQuerySample> samples =
+        new PriorityQueue<>(maxSamples, FASTEST_FIRST);
+
+    long count;
+    volatile String plan;
+
+    Entry(SQLFingerprint fingerprint) {
+      this.fingerprint = fingerprint;
+    }
+
+    synchronized void add(SlowQuerySample sample) {
+      count++;
+      if (samples.size() < maxSamples) {
+        samples.add(sample);
+      }
+      else if (sample.getElapsedNanos()
+          > samples.peek().getElapsedNanos()) {
+        samples.poll();
+        samples.add(sample);
+      }
+    }
+
+    synchronized SlowQuery snapshot() {
+      final List<SlowQuerySample> sorted = new ArrayList<>(samples);
+      Collections.sort(sorted, Collections.reverseOrder(FASTEST_FIRST));
+      return new SlowQuery(fingerprint, count,
+          Collections.unmodifiableList(sorted), plan);
+    }
+
+  }
+
+  /**
+   * An observer that accumulates the latency of a single execution.
+   */
+  private class Observation implements StatementObserver {
+
+    private final String sql;
+    private final Parameter[] parameters;
+
+    private long elapsedNanos;
+
+    Observation(String sql, Parameter[] parameters) {
+      this.sql = sql;
+      this.parameters = parameters;
+    }
+
+    @Override
+    public void starting(Phase phase) {
+    }
+
+    @Override
+    public void connectionAcquired(long nanos) {
+    }
+
+    @Override
+    public void prepared(long nanos) {
+      elapsedNanos += nanos;
+    }
+
+    @Override
+    public void executed(long nanos) {
+      elapsedNanos += nanos;
+    }
+
+    @Override
+    public void batched(int rows) {
+    }
+
+    @Override
+    public void fetched(long rows, long nanos) {
+      elapsedNanos += nanos;
+    }
+
+    @Override
+    public void updated(long rows) {
+    }
+
+    @Override
+    public void failed(Exception ex) {
+    }
+
+    @Override
+    public void completed() {
+      if (elapsedNanos >= thresholdNanos) {
+        record(sql, parameters, elapsedNanos);
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.metrics;
+
+import java.util.Date;
+
+import org.soulwing.jdbc.Parameter;
+
+/**
+ * A single execution of a statement that exceeded the slow query threshold.
+ *
+ * @author Carl Harris
+ * @see SlowQueryRecorder
+ */
+public final class SlowQuerySample {
+
+  private final String sql;
+  private final Parameter[] parameters;
+  private final long elapsedNanos;
+  private final long timestamp;
+
+  SlowQuerySample(String sql, Parameter[] parameters, long elapsedNanos,
+      long timestamp) {
+    this.sql = sql;
+    this.parameters = parameters;
+    this.elapsedNanos = elapsedNanos;
+    this.timestamp = timestamp;
+  }
+
+  /**
+   * Gets the SQL text of the statement, as executed.
+   * @return statement text
+   */
+  public String getSql() {
+    return sql;
+  }
+
+  /**
+   * Gets the parameters that were bound to the statement.
+   * @return parameters (a copy)
+   */
+  public Parameter[] getParameters() {
+    return parameters.clone();
+  }
+
+  /**
+   * Gets the time spent preparing and executing the statement and reading
+   * its result.
+   * @return elapsed time in nanoseconds
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Gets the time at which the execution completed.
+   * @return timestamp
+   */
+  public Date getTimestamp() {
+    return new Date(timestamp);
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder();
+    sb.append(elapsedNanos / 1000000).append("ms: ").append(sql);
+    for (int i = 0; i < parameters.length; i++) {
+      sb.append(System.lineSeparator()).append(parameters[i].toString(i));
+    }
+    return sb.toString();
+  }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.metrics;
+
+/**
+ * An observer of a single execution of an SQL statement.
+ * <p>
+ * The phases of an execution are reported in order; a phase that does not
+ * apply to the statement (e.g. fetching rows for an update) is not reported.
+ * When the last phase has been reported, {@link #completed()} is invoked.
+ * If execution fails, {@link #failed(Exception)} is invoked instead, and no
+ * further phases are reported.  All durations are in nanoseconds.
+ * <p>
+ * Most phases are also announced by {@link #starting(Phase)} as they begin,
+ * for an observer that must place each phase on a timeline, rather than
+ * merely measure it.
+ *
+ * @author Carl Harris
+ */
+public interface StatementObserver {
+
+  /**
+   * A phase of an execution that may be announced as it begins.
+   */
+  enum Phase {
+    /** obtaining a connection; reported to {@link #connectionAcquired} */
+    CONNECTION,
+    /** preparing the statement; reported to {@link #prepared} */
+    PREPARATION,
+    /** executing the statement; reported to {@link #executed} */
+    EXECUTION,
+    /** reading the result; reported to {@link #fetched} */
+    FETCH
+  }
+
+  /**
+   * Notifies this observer that a phase of the execution is starting.
+   * <p>
+   * The phase ends when it is reported.  A phase that was not performed as
+   * a single contiguous step is reported without being announced; for
+   * example, a batch statement is prepared and its parameters bound as
+   * each row is added to the batch, before execution of the batch begins.
+   *
+   * @param phase the phase that is starting
+   */
+  void starting(Phase phase);
+
+  /**
+   * Notifies this observer that a connection was obtained from the data
+   * source in order to prepare the statement.
+   * <p>
+   * This phase is reported only when the execution obtains a new
+   * connection; the time it reports is also included in the time reported
+   * to {@link #prepared(long)}.
+   *
+   * @param nanos time spent obtaining the connection
+   */
+  void connectionAcquired(long nanos);
+
+  /**
+   * Notifies this observer that the statement has been prepared and its
+   * parameters bound.
+   * @param nanos time spent preparing the statement and binding parameters
+   */
+  void prepared(long nanos);
+
+  /**
+   * Notifies this observer that the statement has been executed.
+   * @param nanos time spent executing the statement
+   */
+  void executed(long nanos);
+
+  /**
+   * Notifies this observer that the execution sent a batch of rows to the
+   * database.
+   * <p>
+   * This phase is reported only for batch executions, immediately after
+   * {@link #executed(long)}.
+   *
+   * @param rows number of rows in the batch
+   */
+  void batched(int rows);
+
+  /**
+   * Notifies this observer that the rows of a query result have been read.
+   * @param rows number of rows read, or {@code -1} if the number of rows is
+   *    not known (e.g. when the result is processed by an application
+   *    provided {@link org.soulwing.jdbc.ResultSetHandler})
+   * @param nanos time spent reading the result
+   */
+  void fetched(long rows, long nanos);
+
+  /**
+   * Notifies this observer of the number of rows affected by an update.
+   * @param rows number of rows inserted, updated, or deleted
+   */
+  void updated(long rows);
+
+  /**
+   * Notifies this observer that execution failed.
+   * @param ex the exception that caused the failure
+   */
+  void failed(Exception ex);
+
+  /**
+   * Notifies this observer that all phases of the execution have been
+   * reported.
+   */
+  void completed();
+
+}
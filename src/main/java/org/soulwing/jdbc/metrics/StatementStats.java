@@ -0,0 +1,126 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.metrics;
+
+/**
+ * An immutable snapshot of the metrics recorded for an SQL statement.
+ *
+ * @author Carl Harris
+ * @see DefaultJdbcMetrics#snapshot()
+ */
+public final class StatementStats {
+
+  private final String sql;
+  private final long executionCount;
+  private final long failureCount;
+  private final long rowsFetched;
+  private final long rowsUpdated;
+  private final HistogramSnapshot prepareTimes;
+  private final HistogramSnapshot executeTimes;
+  private final HistogramSnapshot fetchTimes;
+
+  StatementStats(String sql, long executionCount, long failureCount,
+      long rowsFetched, long rowsUpdated, HistogramSnapshot prepareTimes,
+      HistogramSnapshot executeTimes, HistogramSnapshot fetchTimes) {
+    this.sql = sql;
+    this.executionCount = executionCount;
+    this.failureCount = failureCount;
+    this.rowsFetched = rowsFetched;
+    this.rowsUpdated = rowsUpdated;
+    this.prepareTimes = prepareTimes;
+    this.executeTimes = executeTimes;
+    this.fetchTimes = fetchTimes;
+  }
+
+  /**
+   * Gets the SQL statement text.
+   * @return statement text (or its fingerprint text, if the metrics were
+   *    recorded using a fingerprinter), or
+   *    {@link DefaultJdbcMetrics#OTHER_STATEMENTS} for the aggregate of
+   *    statements that were not tracked individually
+   */
+  public String getSql() {
+    return sql;
+  }
+
+  /**
+   * Gets the number of times the statement was executed.
+   * @return execution count, including failed executions
+   */
+  public long getExecutionCount() {
+    return executionCount;
+  }
+
+  /**
+   * Gets the number of executions of the statement that failed.
+   * @return failure count
+   */
+  public long getFailureCount() {
+    return failureCount;
+  }
+
+  /**
+   * Gets the total number of rows read from the results of the statement.
+   * @return row count (excludes results whose row count was not known)
+   */
+  public long getRowsFetched() {
+    return rowsFetched;
+  }
+
+  /**
+   * Gets the total number of rows affected by the statement.
+   * @return row count
+   */
+  public long getRowsUpdated() {
+    return rowsUpdated;
+  }
+
+  /**
+   * Gets the histogram of times spent preparing the statement and binding
+   * its parameters.
+   * @return histogram snapshot
+   */
+  public HistogramSnapshot getPrepareTimes() {
+    return prepareTimes;
+  }
+
+  /**
+   * Gets the histogram of times spent executing the statement.
+   * @return histogram snapshot
+   */
+  public HistogramSnapshot getExecuteTimes() {
+    return executeTimes;
+  }
+
+  /**
+   * Gets the histogram of times spent reading the results of the statement.
+   * @return histogram snapshot
+   */
+  public HistogramSnapshot getFetchTimes() {
+    return fetchTimes;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: executions=%d failures=%d rowsFetched=%d "
+        + "rowsUpdated=%d execute={%s} fetch={%s}", sql, executionCount,
+        failureCount, rowsFetched, rowsUpdated, executeTimes, fetchTimes);
+  }
+
+}
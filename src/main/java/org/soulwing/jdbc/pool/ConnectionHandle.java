@@ -0,0 +1,413 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.pool;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link Connection} lent by a {@link PooledDataSource}.
+ * <p>
+ * Closing a handle returns its physical connection to the pool; any other
+ * operation on a closed handle throws {@link SQLException}.  Statements
+ * created using a handle are not closed when the handle is closed, so that
+ * they may be reused by a {@link org.soulwing.jdbc.StatementCache}; the
+ * physical connection is available via {@link #unwrap(Class)}.  Each
+ * statement is wrapped so that its {@link Statement#getConnection()} method
+ * returns the handle through which its connection is currently lent (see
+ * {@link StatementHandle}).
+ *
+ * @author Carl Harris
+ */
+class ConnectionHandle implements Connection {
+
+  private final AtomicReference<PooledConnection> entry;
+  private final PooledDataSource pool;
+
+  /**
+   * Constructs a new instance.
+   * @param pool the pool that owns {@code entry}
+   * @param entry the pooled connection to lend
+   */
+  ConnectionHandle(PooledDataSource pool, PooledConnection entry) {
+    this.pool = pool;
+    this.entry = new AtomicReference<>(entry);
+    entry.handle = this;
+  }
+
+  private PooledConnection entry() throws SQLException {
+    final PooledConnection entry = this.entry.get();
+    if (entry == null) {
+      throw new SQLException("connection has been closed");
+    }
+    return entry;
+  }
+
+  private Connection connection() throws SQLException {
+    return entry().connection;
+  }
+
+  private Statement wrap(Statement statement) throws SQLException {
+    return StatementHandle.wrap(Statement.class, entry(), statement);
+  }
+
+  private PreparedStatement wrap(PreparedStatement statement)
+      throws SQLException {
+    return StatementHandle.wrap(PreparedStatement.class, entry(), statement);
+  }
+
+  private CallableStatement wrap(CallableStatement statement)
+      throws SQLException {
+    return StatementHandle.wrap(CallableStatement.class, entry(), statement);
+  }
+
+  private Connection clientInfoConnection() throws SQLClientInfoException {
+    final PooledConnection entry = this.entry.get();
+    if (entry == null) {
+      throw new SQLClientInfoException("connection has been closed", null);
+    }
+    return entry.connection;
+  }
+
+  @Override
+  public Statement createStatement() throws SQLException {
+    return wrap(connection().createStatement());
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql) throws SQLException {
+    return wrap(connection().prepareStatement(sql));
+  }
+
+  @Override
+  public CallableStatement prepareCall(String sql) throws SQLException {
+    return wrap(connection().prepareCall(sql));
+  }
+
+  @Override
+  public String nativeSQL(String sql) throws SQLException {
+    return connection().nativeSQL(sql);
+  }
+
+  @Override
+  public void setAutoCommit(boolean autoCommit) throws SQLException {
+    entry().setAutoCommit(autoCommit);
+  }
+
+  @Override
+  public boolean getAutoCommit() throws SQLException {
+    return connection().getAutoCommit();
+  }
+
+  @Override
+  public void commit() throws SQLException {
+    connection().commit();
+  }
+
+  @Override
+  public void rollback() throws SQLException {
+    connection().rollback();
+  }
+
+  @Override
+  public void close() throws SQLException {
+    final PooledConnection entry = this.entry.getAndSet(null);
+    if (entry != null) {
+      pool.release(entry);
+    }
+  }
+
+  @Override
+  public boolean isClosed() throws SQLException {
+    final PooledConnection entry = this.entry.get();
+    return entry == null || entry.connection.isClosed();
+  }
+
+  @Override
+  public DatabaseMetaData getMetaData() throws SQLException {
+    return connection().getMetaData();
+  }
+
+  @Override
+  public void setReadOnly(boolean readOnly) throws SQLException {
+    entry().setReadOnly(readOnly);
+  }
+
+  @Override
+  public boolean isReadOnly() throws SQLException {
+    return connection().isReadOnly();
+  }
+
+  @Override
+  public void setCatalog(String catalog) throws SQLException {
+    connection().setCatalog(catalog);
+  }
+
+  @Override
+  public String getCatalog() throws SQLException {
+    return connection().getCatalog();
+  }
+
+  @Override
+  public void setTransactionIsolation(int level) throws SQLException {
+    entry().setTransactionIsolation(level);
+  }
+
+  @Override
+  public int getTransactionIsolation() throws SQLException {
+    return connection().getTransactionIsolation();
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    return connection().getWarnings();
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    connection().clearWarnings();
+  }
+
+  @Override
+  public Statement createStatement(int resultSetType,
+      int resultSetConcurrency) throws SQLException {
+    return wrap(connection().createStatement(resultSetType,
+        resultSetConcurrency));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int resultSetType,
+      int resultSetConcurrency) throws SQLException {
+    return wrap(connection().prepareStatement(sql, resultSetType,
+        resultSetConcurrency));
+  }
+
+  @Override
+  public CallableStatement prepareCall(String sql, int resultSetType,
+      int resultSetConcurrency) throws SQLException {
+    return wrap(connection().prepareCall(sql, resultSetType,
+        resultSetConcurrency));
+  }
+
+  @Override
+  public Map<String, Class<?>> getTypeMap() throws SQLException {
+    return connection().getTypeMap();
+  }
+
+  @Override
+  public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+    connection().setTypeMap(map);
+  }
+
+  @Override
+  public void setHoldability(int holdability) throws SQLException {
+    connection().setHoldability(holdability);
+  }
+
+  @Override
+  public int getHoldability() throws SQLException {
+    return connection().getHoldability();
+  }
+
+  @Override
+  public Savepoint setSavepoint() throws SQLException {
+    return connection().setSavepoint();
+  }
+
+  @Override
+  public Savepoint setSavepoint(String name) throws SQLException {
+    return connection().setSavepoint(name);
+  }
+
+  @Override
+  public void rollback(Savepoint savepoint) throws SQLException {
+    connection().rollback(savepoint);
+  }
+
+  @Override
+  public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+    connection().releaseSavepoint(savepoint);
+  }
+
+  @Override
+  public Statement createStatement(int resultSetType,
+      int resultSetConcurrency, int resultSetHoldability)
+      throws SQLException {
+    return wrap(connection().createStatement(resultSetType,
+        resultSetConcurrency, resultSetHoldability));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int resultSetType,
+      int resultSetConcurrency, int resultSetHoldability)
+      throws SQLException {
+    return wrap(connection().prepareStatement(sql, resultSetType,
+        resultSetConcurrency, resultSetHoldability));
+  }
+
+  @Override
+  public CallableStatement prepareCall(String sql, int resultSetType,
+      int resultSetConcurrency, int resultSetHoldability)
+      throws SQLException {
+    return wrap(connection().prepareCall(sql, resultSetType,
+        resultSetConcurrency, resultSetHoldability));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys)
+      throws SQLException {
+    return wrap(connection().prepareStatement(sql, autoGeneratedKeys));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int[] columnIndexes)
+      throws SQLException {
+    return wrap(connection().prepareStatement(sql, columnIndexes));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, String[] columnNames)
+      throws SQLException {
+    return wrap(connection().prepareStatement(sql, columnNames));
+  }
+
+  @Override
+  public Clob createClob() throws SQLException {
+    return connection().createClob();
+  }
+
+  @Override
+  public Blob createBlob() throws SQLException {
+    return connection().createBlob();
+  }
+
+  @Override
+  public NClob createNClob() throws SQLException {
+    return connection().createNClob();
+  }
+
+  @Override
+  public SQLXML createSQLXML() throws SQLException {
+    return connection().createSQLXML();
+  }
+
+  @Override
+  public boolean isValid(int timeout) throws SQLException {
+    final PooledConnection entry = this.entry.get();
+    return entry != null && entry.connection.isValid(timeout);
+  }
+
+  @Override
+  public void setClientInfo(String name, String value)
+      throws SQLClientInfoException {
+    clientInfoConnection().setClientInfo(name, value);
+  }
+
+  @Override
+  public void setClientInfo(Properties properties)
+      throws SQLClientInfoException {
+    clientInfoConnection().setClientInfo(properties);
+  }
+
+  @Override
+  public String getClientInfo(String name) throws SQLException {
+    return connection().getClientInfo(name);
+  }
+
+  @Override
+  public Properties getClientInfo() throws SQLException {
+    return connection().getClientInfo();
+  }
+
+  @Override
+  public Array createArrayOf(String typeName, Object[] elements)
+      throws SQLException {
+    return connection().createArrayOf(typeName, elements);
+  }
+
+  @Override
+  public Struct createStruct(String typeName, Object[] attributes)
+      throws SQLException {
+    return connection().createStruct(typeName, attributes);
+  }
+
+  @Override
+  public void setSchema(String schema) throws SQLException {
+    connection().setSchema(schema);
+  }
+
+  @Override
+  public String getSchema() throws SQLException {
+    return connection().getSchema();
+  }
+
+  @Override
+  public void abort(Executor executor) throws SQLException {
+    final PooledConnection entry = this.entry.getAndSet(null);
+    if (entry == null) return;
+    try {
+      entry.connection.abort(executor);
+    }
+    finally {
+      pool.discard(entry);
+    }
+  }
+
+  @Override
+  public void setNetworkTimeout(Executor executor, int milliseconds)
+      throws SQLException {
+    connection().setNetworkTimeout(executor, milliseconds);
+  }
+
+  @Override
+  public int getNetworkTimeout() throws SQLException {
+    return connection().getNetworkTimeout();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    final Connection connection = connection();
+    if (iface.isInstance(connection)) return iface.cast(connection);
+    return connection.unwrap(iface);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    final Connection connection = connection();
+    return iface.isInstance(connection) || connection.isWrapperFor(iface);
+  }
+
+}
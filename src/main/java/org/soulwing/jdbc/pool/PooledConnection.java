@@ -0,0 +1,167 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A physical connection held by a {@link PooledDataSource}.
+ * <p>
+ * Ownership of the connection is transferred using a compare-and-set on its
+ * state, so that a borrower never needs to hold a lock.  A connection that is
+ * returned to the pool is restored to the auto-commit, read-only, and
+ * transaction isolation settings it had before the borrower changed them.
+ *
+ * @author Carl Harris
+ */
+class PooledConnection {
+
+  static final int IDLE = 0;
+  static final int IN_USE = 1;
+  static final int REMOVED = -1;
+
+  final AtomicInteger state = new AtomicInteger(IN_USE);
+
+  /**
+   * Flag indicating whether this connection is currently held in the pool's
+   * idle deque; used to avoid queueing a connection more than once.
+   */
+  final AtomicBoolean queued = new AtomicBoolean();
+
+  final Connection connection;
+
+  volatile long lastUsed = System.nanoTime();
+
+  /**
+   * The handle through which this connection was most recently lent.
+   */
+  volatile Connection handle;
+
+  private Boolean autoCommit;
+  private Boolean readOnly;
+  private Integer transactionIsolation;
+
+  /**
+   * Constructs a new instance in the {@link #IN_USE} state.
+   * @param connection the physical connection
+   */
+  PooledConnection(Connection connection) {
+    this.connection = connection;
+  }
+
+  /**
+   * Takes ownership of this connection, if it is idle.
+   * @return {@code true} if the connection was idle and is now in use
+   */
+  boolean reserve() {
+    return state.compareAndSet(IDLE, IN_USE);
+  }
+
+  /**
+   * Records the time at which this connection was last used.
+   */
+  void touch() {
+    lastUsed = System.nanoTime();
+  }
+
+  /**
+   * Gets the number of nanoseconds since this connection was last used.
+   * @return idle time
+   */
+  long idleNanos() {
+    return System.nanoTime() - lastUsed;
+  }
+
+  /**
+   * Sets the auto-commit mode of the connection, preserving its original
+   * setting so that it can be restored by {@link #reset()}.
+   * @param autoCommit the mode to set
+   * @throws SQLException as needed
+   */
+  void setAutoCommit(boolean autoCommit) throws SQLException {
+    if (this.autoCommit == null) {
+      this.autoCommit = connection.getAutoCommit();
+    }
+    connection.setAutoCommit(autoCommit);
+  }
+
+  /**
+   * Sets the read-only hint of the connection, preserving its original
+   * setting so that it can be restored by {@link #reset()}.
+   * @param readOnly the hint to set
+   * @throws SQLException as needed
+   */
+  void setReadOnly(boolean readOnly) throws SQLException {
+    if (this.readOnly == null) {
+      this.readOnly = connection.isReadOnly();
+    }
+    connection.setReadOnly(readOnly);
+  }
+
+  /**
+   * Sets the transaction isolation level of the connection, preserving its
+   * original setting so that it can be restored by {@link #reset()}.
+   * @param level the level to set
+   * @throws SQLException as needed
+   */
+  void setTransactionIsolation(int level) throws SQLException {
+    if (transactionIsolation == null) {
+      transactionIsolation = connection.getTransactionIsolation();
+    }
+    connection.setTransactionIsolation(level);
+  }
+
+  /**
+   * Prepares the connection to be lent again.
+   * <p>
+   * Any transaction left open by the previous borrower is rolled back.
+   *
+   * @return {@code true} if the connection was reset, {@code false} if it is
+   *    closed or could not be reset and should be discarded
+   */
+  boolean reset() {
+    try {
+      if (connection.isClosed()) return false;
+      if (!connection.getAutoCommit()) {
+        connection.rollback();
+      }
+      if (autoCommit != null) {
+        connection.setAutoCommit(autoCommit);
+        autoCommit = null;
+      }
+      if (readOnly != null) {
+        connection.setReadOnly(readOnly);
+        readOnly = null;
+      }
+      if (transactionIsolation != null) {
+        connection.setTransactionIsolation(transactionIsolation);
+        transactionIsolation = null;
+      }
+      connection.clearWarnings();
+      return true;
+    }
+    catch (SQLException ex) {
+      return false;
+    }
+  }
+
+}
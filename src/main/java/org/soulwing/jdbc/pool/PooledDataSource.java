@@ -0,0 +1,680 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.pool;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import org.soulwing.jdbc.metrics.HistogramSnapshot;
+import org.soulwing.jdbc.metrics.LatencyHistogram;
+
+/**
+ * A {@link DataSource} that maintains a pool of connections obtained from a
+ * JDBC {@link Driver} or another data source.
+ * <p>
+ * Borrowing and returning a connection does not require a lock.  Idle
+ * connections are held in a deque in most-recently-used order, and each
+ * thread first attempts to reclaim the connection it most recently returned,
+ * so that a connection tends to stay with the thread that last used it.
+ * A connection that has been idle for longer than the configured validation
+ * interval is validated using {@link Connection#isValid(int)} before it is
+ * lent; connections in steady use are never validated.
+ * <p>
+ * The pool holds at least the configured minimum number of connections,
+ * which are opened by {@link #start()}, and opens additional connections on
+ * demand up to the configured maximum.  When all connections are in use,
+ * threads wait in first-in, first-out order; a returned connection is handed
+ * directly to the longest waiting thread.  Waiting threads are parked using
+ * {@link LockSupport} rather than monitors, so that a waiting virtual thread
+ * does not pin its carrier thread.
+ * <p>
+ * The time taken to obtain each connection is recorded, and is available
+ * via {@link #getAcquisitionLatency()}.
+ * <p>
+ * Connections are lent as handles that return the physical connection to the
+ * pool when closed.  A returned connection is rolled back if it has an open
+ * transaction, and its auto-commit, read-only, and transaction isolation
+ * settings are restored.
+ *
+ * @author Carl Harris
+ */
+public class PooledDataSource implements DataSource, AutoCloseable {
+
+  /**
+   * Default minimum number of connections held by the pool.
+   */
+  public static final int DEFAULT_MIN_SIZE = 1;
+
+  /**
+   * Default maximum number of connections held by the pool.
+   */
+  public static final int DEFAULT_MAX_SIZE = 10;
+
+  /**
+   * Default maximum time to wait for a connection, in milliseconds.
+   */
+  public static final long DEFAULT_ACQUIRE_TIMEOUT = 30000;
+
+  /**
+   * Default time a connection may be idle before it is validated, in
+   * milliseconds.
+   */
+  public static final long DEFAULT_VALIDATION_INTERVAL = 500;
+
+  /**
+   * Default time to wait for validation of a connection, in seconds.
+   */
+  public static final int DEFAULT_VALIDATION_TIMEOUT = 5;
+
+  /**
+   * A factory for physical connections.
+   */
+  private interface ConnectionFactory {
+    Connection newConnection() throws SQLException;
+  }
+
+  private final ConcurrentLinkedDeque<PooledConnection> idle =
+      new ConcurrentLinkedDeque<>();
+
+  private final ConcurrentLinkedQueue<Waiter> waiters =
+      new ConcurrentLinkedQueue<>();
+
+  private final Set<PooledConnection> connections =
+      ConcurrentHashMap.newKeySet();
+
+  private final ThreadLocal<PooledConnection> lastReturned =
+      new ThreadLocal<>();
+
+  private final AtomicInteger size = new AtomicInteger();
+
+  private final LatencyHistogram acquisitionLatency = new LatencyHistogram();
+  private final LongAdder opened = new LongAdder();
+  private final LongAdder timeouts = new LongAdder();
+  private final LongAdder validationFailures = new LongAdder();
+
+  private final ConnectionFactory factory;
+
+  private volatile int minSize = DEFAULT_MIN_SIZE;
+  private volatile int maxSize = DEFAULT_MAX_SIZE;
+  private volatile long acquireTimeout =
+      TimeUnit.MILLISECONDS.toNanos(DEFAULT_ACQUIRE_TIMEOUT);
+  private volatile long validationInterval =
+      TimeUnit.MILLISECONDS.toNanos(DEFAULT_VALIDATION_INTERVAL);
+  private volatile int validationTimeout = DEFAULT_VALIDATION_TIMEOUT;
+
+  private volatile boolean started;
+  private volatile boolean closed;
+
+  private volatile PrintWriter logWriter;
+  private volatile int loginTimeout;
+
+  /**
+   * Constructs a new instance that obtains connections from another data
+   * source.
+   * @param dataSource data source for physical connections
+   */
+  public PooledDataSource(final DataSource dataSource) {
+    this(new ConnectionFactory() {
+      @Override
+      public Connection newConnection() throws SQLException {
+        return dataSource.getConnection();
+      }
+    });
+  }
+
+  /**
+   * Constructs a new instance that obtains connections using a driver.
+   * @param driver driver for physical connections
+   * @param url JDBC URL to pass to the driver
+   * @param info connection properties to pass to the driver (e.g. user and
+   *    password)
+   */
+  public PooledDataSource(final Driver driver, final String url,
+      Properties info) {
+    this(driverFactory(driver, url, info));
+  }
+
+  private PooledDataSource(ConnectionFactory factory) {
+    this.factory = factory;
+  }
+
+  private static ConnectionFactory driverFactory(final Driver driver,
+      final String url, Properties info) {
+    final Properties properties = new Properties();
+    if (info != null) {
+      properties.putAll(info);
+    }
+    return new ConnectionFactory() {
+      @Override
+      public Connection newConnection() throws SQLException {
+        final Connection connection = driver.connect(url, properties);
+        if (connection == null) {
+          throw new SQLException("driver does not accept URL " + url);
+        }
+        return connection;
+      }
+    };
+  }
+
+  /**
+   * Gets the minimum number of connections held by the pool.
+   * @return minimum size
+   */
+  public int getMinSize() {
+    return minSize;
+  }
+
+  /**
+   * Sets the minimum number of connections held by the pool.
+   * @param minSize the minimum size to set
+   */
+  public void setMinSize(int minSize) {
+    if (minSize < 0) {
+      throw new IllegalArgumentException("minimum size must not be negative");
+    }
+    this.minSize = minSize;
+  }
+
+  /**
+   * Gets the maximum number of connections held by the pool.
+   * @return maximum size
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Sets the maximum number of connections held by the pool.
+   * @param maxSize the maximum size to set
+   */
+  public void setMaxSize(int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maximum size must be positive");
+    }
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Sets the maximum time to wait for a connection when all connections are
+   * in use.
+   * @param timeout the timeout to set
+   * @param unit unit for {@code timeout}
+   */
+  public void setAcquireTimeout(long timeout, TimeUnit unit) {
+    this.acquireTimeout = unit.toNanos(timeout);
+  }
+
+  /**
+   * Sets the time a connection may be idle before it must be validated
+   * before it is lent.
+   * @param interval the interval to set; zero validates every connection
+   *    before it is lent
+   * @param unit unit for {@code interval}
+   */
+  public void setValidationInterval(long interval, TimeUnit unit) {
+    this.validationInterval = unit.toNanos(interval);
+  }
+
+  /**
+   * Sets the time to wait for validation of a connection.
+   * @param seconds the timeout to set, in seconds
+   */
+  public void setValidationTimeout(int seconds) {
+    this.validationTimeout = seconds;
+  }
+
+  /**
+   * Starts the pool by opening the configured minimum number of connections.
+   * <p>
+   * If this method is not invoked, the pool is started when a connection is
+   * first requested.  Invoking this method on a started pool has no effect.
+   *
+   * @throws SQLException if a connection cannot be opened
+   */
+  public void start() throws SQLException {
+    checkOpen();
+    if (started) return;
+    if (minSize > maxSize) {
+      throw new IllegalStateException(
+          "minimum size must not exceed maximum size");
+    }
+    while (size.get() < minSize) {
+      final PooledConnection entry = open();
+      if (entry == null) break;
+      recycle(entry);
+    }
+    started = true;
+  }
+
+  /**
+   * Closes the pool.
+   * <p>
+   * Idle connections are closed immediately; connections that are in use are
+   * closed when they are returned.  Threads waiting for a connection are
+   * released with an exception.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    closeIdle();
+    for (final Waiter waiter : waiters) {
+      LockSupport.unpark(waiter.thread);
+    }
+  }
+
+  /**
+   * Gets the number of connections held by the pool.
+   * @return number of idle and in-use connections
+   */
+  public int getSize() {
+    return size.get();
+  }
+
+  /**
+   * Gets the number of idle connections.
+   * @return idle connection count
+   */
+  public int getIdleCount() {
+    int count = 0;
+    for (final PooledConnection entry : connections) {
+      if (entry.state.get() == PooledConnection.IDLE) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Gets the number of connections that are in use.
+   * @return in-use connection count
+   */
+  public int getActiveCount() {
+    int count = 0;
+    for (final PooledConnection entry : connections) {
+      if (entry.state.get() == PooledConnection.IN_USE) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Gets the number of threads waiting for a connection.
+   * @return waiting thread count
+   */
+  public int getWaitingCount() {
+    return waiters.size();
+  }
+
+  /**
+   * Gets the number of physical connections opened by the pool.
+   * @return opened connection count
+   */
+  public long getOpenedCount() {
+    return opened.sum();
+  }
+
+  /**
+   * Gets the number of requests for a connection that timed out.
+   * @return timeout count
+   */
+  public long getTimeoutCount() {
+    return timeouts.sum();
+  }
+
+  /**
+   * Gets the number of idle connections that were discarded because they
+   * failed validation.
+   * @return validation failure count
+   */
+  public long getValidationFailureCount() {
+    return validationFailures.sum();
+  }
+
+  /**
+   * Gets a snapshot of the distribution of the time taken to obtain a
+   * connection, in nanoseconds.
+   * @return histogram snapshot
+   */
+  public HistogramSnapshot getAcquisitionLatency() {
+    return acquisitionLatency.snapshot();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (!started) {
+      start();
+    }
+    final long begin = System.nanoTime();
+    final long deadline = begin + acquireTimeout;
+    while (true) {
+      checkOpen();
+      final PooledConnection entry = borrow(deadline);
+      if (entry == null) {
+        checkOpen();
+        timeouts.increment();
+        throw new SQLTimeoutException("no connection available within "
+            + TimeUnit.NANOSECONDS.toMillis(acquireTimeout) + " ms");
+      }
+      if (!validate(entry)) {
+        validationFailures.increment();
+        discard(entry);
+        continue;
+      }
+      acquisitionLatency.record(System.nanoTime() - begin);
+      return new ConnectionHandle(this, entry);
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password)
+      throws SQLException {
+    throw new SQLFeatureNotSupportedException(
+        "pool does not support connections for other users");
+  }
+
+  /**
+   * Returns a connection to the pool.
+   * @param entry the connection to return
+   */
+  void release(PooledConnection entry) {
+    if (closed || !entry.reset()) {
+      discard(entry);
+      return;
+    }
+    entry.touch();
+    lastReturned.set(entry);
+    recycle(entry);
+    if (closed) {
+      closeIdle();
+    }
+  }
+
+  /**
+   * Removes a connection from the pool and closes it.
+   * @param entry the connection to discard
+   */
+  void discard(PooledConnection entry) {
+    if (entry.state.getAndSet(PooledConnection.REMOVED)
+        != PooledConnection.REMOVED) {
+      connections.remove(entry);
+      size.decrementAndGet();
+      closeQuietly(entry.connection);
+    }
+    replenish();
+  }
+
+  private PooledConnection borrow(long deadline) throws SQLException {
+    PooledConnection entry = null;
+    if (waiters.isEmpty()) {
+      entry = lastReturned.get();
+      if (entry == null || !entry.reserve()) {
+        entry = pollIdle();
+      }
+      if (entry == null) {
+        entry = open();
+      }
+    }
+    if (entry == null) {
+      entry = await(deadline);
+    }
+    return entry;
+  }
+
+  private PooledConnection await(long deadline) throws SQLException {
+    final Waiter waiter = new Waiter(Thread.currentThread());
+    waiters.offer(waiter);
+    try {
+      // a connection may have been returned before we were queued
+      signal();
+      replenish();
+      while (true) {
+        final PooledConnection entry = waiter.entry();
+        if (entry != null) return entry;
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0 || closed) {
+          return waiter.cancel() ? null : waiter.entry();
+        }
+        LockSupport.parkNanos(this, remaining);
+        if (Thread.interrupted()) {
+          if (!waiter.cancel()) {
+            recycle(waiter.entry());
+          }
+          Thread.currentThread().interrupt();
+          throw new SQLException("interrupted while waiting for connection");
+        }
+      }
+    }
+    finally {
+      waiters.remove(waiter);
+    }
+  }
+
+  /**
+   * Hands idle connections to waiting threads, in the order in which the
+   * threads began waiting.
+   */
+  private void signal() {
+    Waiter waiter;
+    while ((waiter = waiters.peek()) != null) {
+      final PooledConnection entry = pollIdle();
+      if (entry == null) return;
+      final boolean accepted = waiter.offer(entry);
+      waiters.remove(waiter);
+      if (accepted) {
+        LockSupport.unpark(waiter.thread);
+      }
+      else {
+        recycle(entry);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Opens connections as needed to restore the minimum size or to satisfy
+   * waiting threads, while the pool is below its maximum size.
+   */
+  private void replenish() {
+    while (!closed && (size.get() < minSize || !waiters.isEmpty())) {
+      final PooledConnection entry;
+      try {
+        entry = open();
+      }
+      catch (SQLException | RuntimeException ex) {
+        return;
+      }
+      if (entry == null) return;
+      recycle(entry);
+    }
+  }
+
+  /**
+   * Opens a new connection, if the pool is below its maximum size.
+   * @return connection (in the {@link PooledConnection#IN_USE} state) or
+   *    {@code null} if the pool is at its maximum size
+   * @throws SQLException if the connection cannot be opened
+   */
+  private PooledConnection open() throws SQLException {
+    int current;
+    do {
+      current = size.get();
+      if (current >= maxSize) return null;
+    }
+    while (!size.compareAndSet(current, current + 1));
+    try {
+      final PooledConnection entry =
+          new PooledConnection(factory.newConnection());
+      connections.add(entry);
+      opened.increment();
+      return entry;
+    }
+    catch (SQLException | RuntimeException ex) {
+      size.decrementAndGet();
+      throw ex;
+    }
+  }
+
+  private boolean validate(PooledConnection entry) {
+    if (entry.idleNanos() < validationInterval) return true;
+    try {
+      return entry.connection.isValid(validationTimeout);
+    }
+    catch (SQLException ex) {
+      return false;
+    }
+  }
+
+  private PooledConnection pollIdle() {
+    PooledConnection entry;
+    while ((entry = idle.pollFirst()) != null) {
+      entry.queued.set(false);
+      if (entry.reserve()) return entry;
+    }
+    return null;
+  }
+
+  /**
+   * Makes a connection available to other threads; the connection is handed
+   * to the longest waiting thread, if any.
+   * @param entry the connection to make available
+   */
+  private void recycle(PooledConnection entry) {
+    entry.state.set(PooledConnection.IDLE);
+    if (entry.queued.compareAndSet(false, true)) {
+      idle.offerFirst(entry);
+    }
+    if (!waiters.isEmpty()) {
+      signal();
+    }
+  }
+
+  private void closeIdle() {
+    PooledConnection entry;
+    while ((entry = pollIdle()) != null) {
+      discard(entry);
+    }
+  }
+
+  private void checkOpen() throws SQLException {
+    if (closed) {
+      throw new SQLException("pool has been closed");
+    }
+  }
+
+  private static void closeQuietly(Connection connection) {
+    try {
+      connection.close();
+    }
+    catch (SQLException ex) {
+      assert true;  // nothing useful we can do here
+    }
+  }
+
+  @Override
+  public PrintWriter getLogWriter() throws SQLException {
+    return logWriter;
+  }
+
+  @Override
+  public void setLogWriter(PrintWriter out) throws SQLException {
+    this.logWriter = out;
+  }
+
+  @Override
+  public void setLoginTimeout(int seconds) throws SQLException {
+    this.loginTimeout = seconds;
+  }
+
+  @Override
+  public int getLoginTimeout() throws SQLException {
+    return loginTimeout;
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    throw new SQLFeatureNotSupportedException();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (!iface.isInstance(this)) {
+      throw new SQLException("not a wrapper for " + iface.getName());
+    }
+    return iface.cast(this);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this);
+  }
+
+  /**
+   * A thread waiting for a connection.
+   * <p>
+   * A connection is handed to the waiter by setting its value; a waiter that
+   * gives up sets its value to a sentinel, so that a connection is never
+   * handed to a thread that is no longer waiting.
+   */
+  private static class Waiter extends AtomicReference<PooledConnection> {
+
+    private static final long serialVersionUID = 5120317645473154612L;
+
+    private static final PooledConnection CANCELLED =
+        new PooledConnection(null);
+
+    final Thread thread;
+
+    Waiter(Thread thread) {
+      this.thread = thread;
+    }
+
+    boolean offer(PooledConnection entry) {
+      return compareAndSet(null, entry);
+    }
+
+    boolean cancel() {
+      return compareAndSet(null, CANCELLED);
+    }
+
+    PooledConnection entry() {
+      final PooledConnection entry = get();
+      return entry != CANCELLED ? entry : null;
+    }
+
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Statement;
+
+/**
+ * An invocation handler for a proxy that wraps a {@link Statement} created
+ * using a {@link ConnectionHandle}.
+ * <p>
+ * The proxy delegates every method to the physical statement, except that
+ * {@link Statement#getConnection()} returns the handle through which the
+ * physical connection is currently lent, rather than the physical
+ * connection itself.  Because a statement may be cached and reused by a
+ * later borrower of the same physical connection, the handle is obtained
+ * from the pooled connection each time it is requested.
+ *
+ * @author Carl Harris
+ */
+class StatementHandle implements InvocationHandler {
+
+  private final PooledConnection entry;
+  private final Statement statement;
+
+  private StatementHandle(PooledConnection entry, Statement statement) {
+    this.entry = entry;
+    this.statement = statement;
+  }
+
+  /**
+   * Wraps a physical statement.
+   * @param type statement interface ({@link Statement},
+   *    {@link java.sql.PreparedStatement}, or
+   *    {@link java.sql.CallableStatement})
+   * @param entry the pooled connection on which the statement was created
+   * @param statement the physical statement
+   * @return proxy for {@code statement}
+   */
+  static <S extends Statement> S wrap(Class<S> type, PooledConnection entry,
+      S statement) {
+    return type.cast(Proxy.newProxyInstance(
+        StatementHandle.class.getClassLoader(), new Class<?>[] { type },
+        new StatementHandle(entry, statement)));
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args)
+      throws Throwable {
+    switch (method.getName()) {
+      case "getConnection":
+        if (args == null) return entry.handle;
+        break;
+      case "equals":
+        if (args != null && args.length == 1) return proxy == args[0];
+        break;
+      case "hashCode":
+        if (args == null) return System.identityHashCode(proxy);
+        break;
+      default:
+        break;
+    }
+    try {
+      return method.invoke(statement, args);
+    }
+    catch (InvocationTargetException ex) {
+      throw ex.getCause();
+    }
+  }
+
+}
@@ -0,0 +1,336 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.routing;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * A {@link DataSource} that distributes requests for connections across a
+ * set of replica data sources.
+ * <p>
+ * Each request is routed to the replica with the lowest cost according to
+ * the configured {@linkplain Policy policy}.  Ties are broken by starting
+ * the search at a randomly chosen replica, so that replicas with equal load
+ * receive an equal share of requests.  Selecting a replica takes no locks.
+ * The load on a replica is measured using the connections obtained from it:
+ * a connection is outstanding until it is closed, and the time for which it
+ * was held is incorporated into the replica's moving average latency.
+ * <p>
+ * If a replica fails to provide a connection, the request is retried using
+ * each of the remaining replicas in turn; if all replicas fail, the exception
+ * from the first replica is thrown, with the others attached as suppressed
+ * exceptions.  A replica that fails is then ejected for a backoff interval
+ * (see {@link #setFailureBackoff(long, long, TimeUnit)}), which doubles with
+ * each consecutive failure; while it is ejected, it is selected only if
+ * every other replica that may be selected is also ejected.
+ * <pre>
+ * {@code
+ * DataSource replicas = new LoadBalancingDataSource(
+ *     Arrays.asList(replica1, replica2),
+ *     LoadBalancingDataSource.Policy.LATENCY_WEIGHTED);
+ * FluentJdbc jdbc = new FluentJdbc(primary, replicas);
+ * }</pre>
+ *
+ * @author Carl Harris
+ */
+public class LoadBalancingDataSource implements DataSource {
+
+  /**
+   * Policies for selecting a replica.
+   */
+  public enum Policy {
+
+    /**
+     * Select the replica with the fewest outstanding connections.
+     */
+    LEAST_OUTSTANDING,
+
+    /**
+     * Select the replica with the lowest product of its moving average
+     * latency and its number of outstanding connections (plus one), so that
+     * faster replicas receive a proportionally larger share of requests.
+     * Replicas that have not yet completed a request are selected as if by
+     * {@link #LEAST_OUTSTANDING}.
+     */
+    LATENCY_WEIGHTED
+
+  }
+
+  /**
+   * Default backoff interval that follows the first failure of a replica,
+   * in milliseconds.
+   */
+  public static final long DEFAULT_FAILURE_BACKOFF = 500;
+
+  /**
+   * Default maximum backoff interval that follows consecutive failures of a
+   * replica, in milliseconds.
+   */
+  public static final long DEFAULT_MAX_FAILURE_BACKOFF = 30000;
+
+  private final Replica[] replicas;
+  private final Policy policy;
+
+  private volatile long failureBackoff =
+      TimeUnit.MILLISECONDS.toNanos(DEFAULT_FAILURE_BACKOFF);
+
+  private volatile long maxFailureBackoff =
+      TimeUnit.MILLISECONDS.toNanos(DEFAULT_MAX_FAILURE_BACKOFF);
+
+  /**
+   * Constructs a new instance that uses the
+   * {@link Policy#LEAST_OUTSTANDING} policy.
+   * @param replicas replica data sources
+   */
+  public LoadBalancingDataSource(Collection<? extends DataSource> replicas) {
+    this(replicas, Policy.LEAST_OUTSTANDING);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param replicas replica data sources
+   * @param policy replica selection policy
+   */
+  public LoadBalancingDataSource(Collection<? extends DataSource> replicas,
+      Policy policy) {
+    if (replicas.isEmpty()) {
+      throw new IllegalArgumentException("at least one replica is required");
+    }
+    this.replicas = new Replica[replicas.size()];
+    int index = 0;
+    for (final DataSource replica : replicas) {
+      this.replicas[index++] = new Replica(replica);
+    }
+    this.policy = policy;
+  }
+
+  /**
+   * Gets the replica selection policy.
+   * @return policy
+   */
+  public Policy getPolicy() {
+    return policy;
+  }
+
+  /**
+   * Sets the interval for which a replica is ejected after it fails to
+   * provide a connection.
+   * <p>
+   * The interval that follows the first of a sequence of consecutive
+   * failures is {@code backoff}; it doubles with each further failure, up
+   * to {@code maxBackoff}.
+   *
+   * @param backoff interval that follows the first failure; zero disables
+   *    ejection
+   * @param maxBackoff maximum interval
+   * @param unit unit of {@code backoff} and {@code maxBackoff}
+   */
+  public void setFailureBackoff(long backoff, long maxBackoff,
+      TimeUnit unit) {
+    if (backoff < 0 || maxBackoff < backoff) {
+      throw new IllegalArgumentException("illegal backoff interval");
+    }
+    this.failureBackoff = unit.toNanos(backoff);
+    this.maxFailureBackoff = unit.toNanos(maxBackoff);
+  }
+
+  /**
+   * Gets the number of replicas.
+   * @return replica count
+   */
+  public int getReplicaCount() {
+    return replicas.length;
+  }
+
+  /**
+   * Gets the number of connections obtained from a replica that have not yet
+   * been closed.
+   * @param replica index of the replica, in the order given at construction
+   * @return outstanding connection count
+   */
+  public int getOutstandingCount(int replica) {
+    return replicas[replica].getOutstandingCount();
+  }
+
+  /**
+   * Gets the moving average time for which connections obtained from a
+   * replica were held.
+   * @param replica index of the replica, in the order given at construction
+   * @return latency in nanoseconds, or zero if no connection obtained from
+   *    the replica has been closed
+   */
+  public long getLatency(int replica) {
+    return replicas[replica].getLatency();
+  }
+
+  /**
+   * Gets the number of connections obtained from a replica.
+   * @param replica index of the replica, in the order given at construction
+   * @return connection count
+   */
+  public long getConnectionCount(int replica) {
+    return replicas[replica].getConnectionCount();
+  }
+
+  /**
+   * Gets the number of failed requests for a connection from a replica.
+   * @param replica index of the replica, in the order given at construction
+   * @return failure count
+   */
+  public long getFailureCount(int replica) {
+    return replicas[replica].getFailureCount();
+  }
+
+  /**
+   * Tests whether a replica is ejected because it recently failed to provide
+   * a connection.
+   * @param replica index of the replica, in the order given at construction
+   * @return {@code true} if the replica is ejected
+   */
+  public boolean isEjected(int replica) {
+    return replicas[replica].isEjected(System.nanoTime());
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return getConnection(null, null);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password)
+      throws SQLException {
+    SQLException failure = null;
+    boolean[] excluded = null;
+    for (int attempt = 0; attempt < replicas.length; attempt++) {
+      final int index = select(excluded);
+      try {
+        return replicas[index].getConnection(username, password,
+            failureBackoff, maxFailureBackoff);
+      }
+      catch (SQLException ex) {
+        if (failure == null) {
+          failure = ex;
+        }
+        else {
+          failure.addSuppressed(ex);
+        }
+        if (excluded == null) {
+          excluded = new boolean[replicas.length];
+        }
+        excluded[index] = true;
+      }
+    }
+    throw failure;
+  }
+
+  /**
+   * Selects the replica with the lowest cost, preferring a replica that is
+   * not ejected.
+   * @param excluded flags indicating replicas that must not be selected,
+   *    or {@code null} if any replica may be selected
+   * @return index of the selected replica
+   */
+  private int select(boolean[] excluded) {
+    final int count = replicas.length;
+    if (count == 1) return 0;
+    final int start = ThreadLocalRandom.current().nextInt(count);
+    long now = 0;
+    int selected = -1;
+    long lowest = Long.MAX_VALUE;
+    boolean selectedEjected = true;
+    for (int i = 0; i < count; i++) {
+      final int index = (start + i) % count;
+      if (excluded != null && excluded[index]) continue;
+      final Replica replica = replicas[index];
+      boolean ejected = false;
+      if (replica.hasFailed()) {
+        if (now == 0) {
+          now = System.nanoTime();
+        }
+        ejected = replica.isEjected(now);
+      }
+      if (ejected && !selectedEjected) continue;
+      final long cost = cost(replica);
+      if (cost < lowest || selected == -1 || selectedEjected && !ejected) {
+        selected = index;
+        lowest = cost;
+        selectedEjected = ejected;
+      }
+    }
+    return selected;
+  }
+
+  private long cost(Replica replica) {
+    final long outstanding = replica.getOutstandingCount() + 1;
+    if (policy == Policy.LEAST_OUTSTANDING) return outstanding;
+    return outstanding * (replica.getLatency() + 1);
+  }
+
+  @Override
+  public PrintWriter getLogWriter() throws SQLException {
+    return replicas[0].getDataSource().getLogWriter();
+  }
+
+  @Override
+  public void setLogWriter(PrintWriter out) throws SQLException {
+    for (final Replica replica : replicas) {
+      replica.getDataSource().setLogWriter(out);
+    }
+  }
+
+  @Override
+  public void setLoginTimeout(int seconds) throws SQLException {
+    for (final Replica replica : replicas) {
+      replica.getDataSource().setLoginTimeout(seconds);
+    }
+  }
+
+  @Override
+  public int getLoginTimeout() throws SQLException {
+    return replicas[0].getDataSource().getLoginTimeout();
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    return replicas[0].getDataSource().getParentLogger();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (!iface.isInstance(this)) {
+      throw new SQLException("not a wrapper for " + iface.getName());
+    }
+    return iface.cast(this);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this);
+  }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.routing;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+/**
+ * A replica data source along with the load statistics used to select it.
+ * <p>
+ * The latency of a replica is an exponentially weighted moving average of
+ * the time for which its connections are held, which approximates the time
+ * taken by the operations performed on the replica.
+ * <p>
+ * A replica that fails to provide a connection is ejected for a backoff
+ * interval that doubles with each consecutive failure, up to a maximum;
+ * a successful request ends the ejection and resets the interval.
+ *
+ * @author Carl Harris
+ */
+class Replica {
+
+  /**
+   * Shift applied to the difference between a sample and the moving average;
+   * each sample has a weight of 1/8.
+   */
+  static final int WEIGHT_SHIFT = 3;
+
+  private final AtomicInteger outstanding = new AtomicInteger();
+  private final AtomicLong latency = new AtomicLong();
+  private final LongAdder connections = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+  private final DataSource dataSource;
+
+  private volatile long ejectedUntil;
+
+  /**
+   * Constructs a new instance.
+   * @param dataSource the replica data source
+   */
+  Replica(DataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  DataSource getDataSource() {
+    return dataSource;
+  }
+
+  int getOutstandingCount() {
+    return outstanding.get();
+  }
+
+  long getLatency() {
+    return latency.get();
+  }
+
+  long getConnectionCount() {
+    return connections.sum();
+  }
+
+  long getFailureCount() {
+    return failures.sum();
+  }
+
+  /**
+   * Tests whether this replica is ejected following a failure.
+   * @param now current value of {@link System#nanoTime()}
+   * @return {@code true} if the backoff interval that followed the most
+   *    recent failure has not yet elapsed
+   */
+  boolean isEjected(long now) {
+    final long until = ejectedUntil;
+    return until != 0 && until - now > 0;
+  }
+
+  /**
+   * Tests whether this replica has failed since its last successful
+   * request.
+   * @return {@code true} if the most recent request failed
+   */
+  boolean hasFailed() {
+    return ejectedUntil != 0;
+  }
+
+  /**
+   * Obtains a connection from the replica data source.
+   * @param username database user or {@code null} to use the data source's
+   *    default credentials
+   * @param password password for {@code username}
+   * @param backoff backoff interval, in nanoseconds, that follows the
+   *    first of a sequence of consecutive failures
+   * @param maxBackoff maximum backoff interval, in nanoseconds
+   * @return connection that updates the statistics of this replica when it
+   *    is closed
+   * @throws SQLException as needed
+   */
+  Connection getConnection(String username, String password, long backoff,
+      long maxBackoff) throws SQLException {
+    outstanding.incrementAndGet();
+    try {
+      final Connection connection = username != null ?
+          dataSource.getConnection(username, password)
+          : dataSource.getConnection();
+      connections.increment();
+      if (ejectedUntil != 0) {
+        consecutiveFailures.set(0);
+        ejectedUntil = 0;
+      }
+      return new TrackedConnection(connection, this);
+    }
+    catch (SQLException | RuntimeException ex) {
+      outstanding.decrementAndGet();
+      failures.increment();
+      eject(backoff, maxBackoff);
+      throw ex;
+    }
+  }
+
+  private void eject(long backoff, long maxBackoff) {
+    if (backoff == 0) return;
+    final int shift = consecutiveFailures.incrementAndGet() - 1;
+    final long interval = shift < Long.numberOfLeadingZeros(backoff) - 1 ?
+        Math.min(backoff << shift, maxBackoff) : maxBackoff;
+    final long until = System.nanoTime() + interval;
+    // zero means not ejected
+    ejectedUntil = until != 0 ? until : 1;
+  }
+
+  /**
+   * Notifies this replica that a connection obtained from it was closed.
+   * @param nanos time for which the connection was held
+   */
+  void completed(long nanos) {
+    outstanding.decrementAndGet();
+    long current;
+    long next;
+    do {
+      current = latency.get();
+      next = current == 0 ?
+          nanos : current + ((nanos - current) >> WEIGHT_SHIFT);
+    }
+    while (!latency.compareAndSet(current, next));
+  }
+
+}
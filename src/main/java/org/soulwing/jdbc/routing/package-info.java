@@ -0,0 +1,28 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Connection routing
+ * <p>
+ * This package provides
+ * {@link org.soulwing.jdbc.routing.LoadBalancingDataSource}, which
+ * distributes requests for connections across a set of read replicas.  It is
+ * typically used as the replica data source of a
+ * {@link org.soulwing.jdbc.FluentJdbc} facade.
+ */
+package org.soulwing.jdbc.routing;
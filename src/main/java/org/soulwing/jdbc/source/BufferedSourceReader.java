@@ -0,0 +1,284 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.source;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A {@link SourceReader} that reads its source into a character array
+ * window.
+ * <p>
+ * Characters are examined by index within the window, so that peeking at
+ * the next character requires no {@code mark}/{@code reset} of the
+ * underlying reader.  A lexeme is returned as a {@link CharSlice} view of
+ * the window, without copying its characters.
+ * <p>
+ * When the window is exhausted, the characters of the lexeme in progress
+ * are carried to the start of the window and the remainder of the window is
+ * filled from the underlying reader.  The window grows when the lexeme in
+ * progress occupies more than half of it, and returns to its initial
+ * capacity once a lexeme that required it to grow has been consumed.
+ * <p>
+ * By default, lexemes previously returned by this reader remain valid when
+ * the window is refilled: the characters are carried into a new array, and
+ * the previous array is never modified; it becomes garbage when no token
+ * refers to it.  A reader that is constructed without retaining lexemes
+ * instead moves the characters within the same array, so that refilling the
+ * window allocates nothing; a lexeme returned by such a reader is valid only
+ * until the reader next refills its window, and a caller that keeps a token
+ * while scanning further must first convert its lexeme to a string.
+ *
+ * @author Carl Harris
+ */
+class BufferedSourceReader implements SourceReader {
+
+  static final int DEFAULT_CAPACITY = 8192;
+
+  private static final char REPLACEMENT_CHARACTER = '\uFFFD';
+
+  private static final char ZERO_WIDTH_NO_BREAK_SPACE = '\uFEFF';
+
+  private final Reader delegate;
+  private final int capacity;
+  private final boolean retainLexemes;
+
+  private char[] buf;
+  private int limit;
+  private int pos;
+  private int lexemeStart;
+  private int markPos = -1;
+  private int start;
+  private int current;
+  private boolean exhausted;
+  private boolean stripped;
+  private boolean eof;
+
+  /**
+   * Constructs a new instance that reads from the given reader.
+   * @param delegate the source reader
+   */
+  public BufferedSourceReader(Reader delegate) {
+    this(delegate, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs a new instance that reads from the given reader.
+   * @param delegate the source reader
+   * @param capacity initial capacity of the character window
+   */
+  public BufferedSourceReader(Reader delegate, int capacity) {
+    this(delegate, capacity, true);
+  }
+
+  /**
+   * Constructs a new instance that reads from the given reader.
+   * @param delegate the source reader
+   * @param capacity initial capacity of the character window
+   * @param retainLexemes flag indicating whether lexemes returned by this
+   *    reader must remain valid when the window is refilled
+   */
+  public BufferedSourceReader(Reader delegate, int capacity,
+      boolean retainLexemes) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    this.delegate = delegate;
+    this.capacity = capacity;
+    this.retainLexemes = retainLexemes;
+    this.buf = new char[capacity];
+  }
+
+  /**
+   * Constructs a new instance that reads the given text.
+   * @param text the source text
+   */
+  public BufferedSourceReader(CharSequence text) {
+    this.delegate = null;
+    this.retainLexemes = true;
+    this.buf = text.toString().toCharArray();
+    this.capacity = buf.length;
+    this.limit = buf.length;
+    this.exhausted = true;
+  }
+
+  /**
+   * Gets the length of the character window.
+   * @return window length
+   */
+  int getWindowLength() {
+    return buf.length;
+  }
+
+  @Override
+  public int getStart() {
+    return start;
+  }
+
+  @Override
+  public int getCurrent() {
+    return current;
+  }
+
+  @Override
+  public CharSequence getLexeme() {
+    return new CharSlice(buf, lexemeStart, pos - lexemeStart);
+  }
+
+  @Override
+  public CharSequence getLexeme(int start, int end) {
+    end = Math.min(end, pos - lexemeStart);
+    return new CharSlice(buf, lexemeStart + start, end - start);
+  }
+
+  @Override
+  public void markStart() {
+    start = current;
+    lexemeStart = pos;
+  }
+
+  @Override
+  public boolean eof() {
+    return eof;
+  }
+
+  @Override
+  public boolean match(char expected) throws IOException {
+    final char c = peek();
+    if (c != expected) return false;
+    advance();
+    return true;
+  }
+
+  @Override
+  public char advance() throws IOException {
+    if (eof) return EOF;
+    final int c = read();
+    current++;
+    return c != -1 ? (char) c : EOF;
+  }
+
+  @Override
+  public char peek() throws IOException {
+    if (eof) return EOF;
+    if (!available()) {
+      eof = true;
+      return EOF;
+    }
+    return buf[pos];
+  }
+
+  /**
+   * Reads the next character.
+   * <p>
+   * The character becomes part of the current lexeme, unless the position
+   * is subsequently restored using {@link #reset()}.
+   *
+   * @return character or -1 at the end of the source
+   * @throws IOException as needed
+   */
+  @Override
+  public int read() throws IOException {
+    if (!available()) {
+      eof = true;
+      return -1;
+    }
+    return buf[pos++];
+  }
+
+  @Override
+  public void reset() throws IOException {
+    if (markPos < 0) {
+      throw new IOException("mark has not been set");
+    }
+    pos = markPos;
+    markPos = -1;
+  }
+
+  @Override
+  public void mark(int readAheadLimit) throws IOException {
+    markPos = pos;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (delegate != null) {
+      delegate.close();
+    }
+  }
+
+  /**
+   * Ensures that at least one character is available in the window.
+   * @return {@code true} if a character is available, {@code false} at the
+   *    end of the source
+   * @throws IOException as needed
+   */
+  private boolean available() throws IOException {
+    if (!stripped) {
+      stripped = true;
+      stripByteOrderMark();
+    }
+    return pos < limit || fill();
+  }
+
+  private void stripByteOrderMark() throws IOException {
+    final boolean atLexemeStart = lexemeStart == pos;
+    while ((pos < limit || fill())
+        && (buf[pos] == REPLACEMENT_CHARACTER
+            || buf[pos] == ZERO_WIDTH_NO_BREAK_SPACE)) {
+      pos++;
+    }
+    if (atLexemeStart) {
+      lexemeStart = pos;
+    }
+  }
+
+  private boolean fill() throws IOException {
+    if (exhausted) return false;
+    final int from = markPos >= 0 ?
+        Math.min(markPos, lexemeStart) : lexemeStart;
+    final int keep = limit - from;
+    final int length = Math.max(capacity, 2 * keep);
+    if (retainLexemes || length != buf.length) {
+      final char[] next = new char[length];
+      System.arraycopy(buf, from, next, 0, keep);
+      buf = next;
+    }
+    else if (from > 0) {
+      System.arraycopy(buf, from, buf, 0, keep);
+    }
+    limit = keep;
+    pos -= from;
+    lexemeStart -= from;
+    if (markPos >= 0) {
+      markPos -= from;
+    }
+    int count = delegate.read(buf, limit, buf.length - limit);
+    while (count == 0) {
+      count = delegate.read(buf, limit, buf.length - limit);
+    }
+    if (count < 0) {
+      exhausted = true;
+      return false;
+    }
+    limit += count;
+    return true;
+  }
+
+}
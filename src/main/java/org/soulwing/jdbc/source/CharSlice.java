@@ -0,0 +1,84 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.source;
+
+/**
+ * A {@link CharSequence} that is a view of a range of a character array.
+ * <p>
+ * The characters are not copied; the view is valid only as long as the
+ * underlying array is not modified.
+ *
+ * @author Carl Harris
+ */
+final class CharSlice implements CharSequence {
+
+  private final char[] chars;
+  private final int offset;
+  private final int length;
+
+  /**
+   * Constructs a new instance.
+   * @param chars the underlying array
+   * @param offset offset of the first character of the view
+   * @param length number of characters in the view
+   */
+  CharSlice(char[] chars, int offset, int length) {
+    if (offset < 0 || length < 0 || offset + length > chars.length) {
+      throw new IndexOutOfBoundsException();
+    }
+    this.chars = chars;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    if (index < 0 || index >= length) {
+      throw new IndexOutOfBoundsException(Integer.toString(index));
+    }
+    return chars[offset + index];
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    if (start < 0 || end > length || start > end) {
+      throw new IndexOutOfBoundsException();
+    }
+    return new CharSlice(chars, offset + start, end - start);
+  }
+
+  /**
+   * Appends the characters of this view to a string builder.
+   * @param sb the target string builder
+   */
+  void appendTo(StringBuilder sb) {
+    sb.append(chars, offset, length);
+  }
+
+  @Override
+  public String toString() {
+    return new String(chars, offset, length);
+  }
+
+}
@@ -54,11 +54,11 @@ public class DefaultScanner implements Scanner {
       return reader.getCurrent();
     }
 
-    public String getLexeme() {
+    public CharSequence getLexeme() {
       return reader.getLexeme();
     }
 
-    public String getLexeme(int start, int end) {
+    public CharSequence getLexeme(int start, int end) {
       return reader.getLexeme(start, end);
     }
 
@@ -102,21 +102,40 @@ public class DefaultScanner implements Scanner {
   @Override
   public final List<Token> scanTokens(SourceReader reader,
       ErrorReporter errorReporter) throws IOException {
-    final Request request = new Request(reader, errorReporter);
+    final TokenStream stream = tokenStream(reader, errorReporter);
     final List<Token> tokens = new LinkedList<>();
-    while (!request.eof()) {
-      final Token token = nextToken(request);
-      if (token != null) {
-        tokens.add(token);
-      }
-    }
-    if (tokens.isEmpty() || tokens.get(tokens.size() - 1).getType() != Token.Type.EOF) {
-      request.markStart();
-      tokens.add(tokenOf(Token.Type.EOF, request));
+    Token token = stream.next();
+    while (token != null) {
+      tokens.add(token);
+      token = stream.next();
     }
     return tokens;
   }
 
+  @Override
+  public final TokenStream tokenStream(SourceReader reader,
+      ErrorReporter errorReporter) {
+    final Request request = new Request(reader, errorReporter);
+    return new TokenStream() {
+      private boolean done;
+
+      @Override
+      public Token next() throws IOException {
+        while (!request.eof()) {
+          final Token token = nextToken(request);
+          if (token != null) {
+            done = token.getType() == Token.Type.EOF;
+            return token;
+          }
+        }
+        if (done) return null;
+        done = true;
+        request.markStart();
+        return tokenOf(Token.Type.EOF, request);
+      }
+    };
+  }
+
   protected Token nextToken(Request request) throws IOException {
     request.markStart();
     final char c = request.advance();
@@ -136,6 +155,14 @@ public class DefaultScanner implements Scanner {
       return tokenOf(Token.Type.RIGHT_BRACE, request);
     else if (c == ';')
       return tokenOf(Token.Type.SEMICOLON, request);
+    else if (c == ':') {
+      if (isIdentifierStart(request.peek())) {
+        return parameter(request);
+      }
+      else {
+        return operator(request);
+      }
+    }
     else if (c == '-') {
       if (request.match('-')) {
         return lineComment(request);
@@ -227,7 +254,8 @@ public class DefaultScanner implements Scanner {
       if (!isIdentifierChar(c)) break;
       request.advance();
     }
-    final String word = request.getLexeme(0, request.getCurrent() - request.getStart());
+    final CharSequence word =
+        request.getLexeme(0, request.getCurrent() - request.getStart());
     Token.Type type = ReservedWords.toToken(word);
     if (type == null) {
       type = Token.Type.IDENTIFIER;
@@ -256,20 +284,45 @@ public class DefaultScanner implements Scanner {
   }
 
   protected Token operator(Request request) throws IOException {
+    final CharSequence lexeme = request.getLexeme();
+    char last = lexeme.charAt(lexeme.length() - 1);
     while (!request.eof()) {
       final char c = request.peek();
       if (!isOperator(c)) break;
-      request.advance();
+      // a colon starts a new token (possibly a named parameter) unless it
+      // is the second colon of a '::' cast operator
+      if (c == ':' && last != ':') break;
+      last = request.advance();
     }
     return tokenOf(Token.Type.LITERAL, request);
   }
 
+  protected Token parameter(Request request) throws IOException {
+    while (!request.eof()) {
+      final char c = request.peek();
+      if (!isIdentifierChar(c)) break;
+      request.advance();
+    }
+    return tokenOf(Token.Type.PARAMETER, request);
+  }
+
   protected Token tokenOf(Token.Type type, Request request) {
     return new Token(type, request.getLexeme(), request.getStart());
   }
 
   protected boolean isOperator(char c) {
-    return !isAlphaNumeric(c) && !isWhitespace(c);
+    return !isAlphaNumeric(c) && !isWhitespace(c) && !isDelimiter(c);
+  }
+
+  /**
+   * Tests whether a character delimits a token on its own or starts a
+   * quoted token, and therefore cannot be part of an operator.
+   * @param c the subject character
+   * @return {@code true} if {@code c} is a delimiter
+   */
+  protected boolean isDelimiter(char c) {
+    return c == '(' || c == ')' || c == '{' || c == '}' || c == ';'
+        || c == '\'' || c == '"' || c == SourceReader.EOF;
   }
 
   protected boolean isIdentifierStart(char c) {
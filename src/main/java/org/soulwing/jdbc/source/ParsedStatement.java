@@ -0,0 +1,127 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.source;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An SQL statement whose named parameter placeholders have been replaced
+ * with positional ({@code ?}) placeholders.
+ * <p>
+ * A named parameter placeholder is a colon followed by an identifier; e.g.
+ * {@code :name}.  The statement is scanned using a {@link Scanner}, so that
+ * text that resembles a placeholder inside of a string literal, quoted
+ * identifier, or comment is not replaced.  A double colon (as used for the
+ * Postgres cast operator) does not introduce a placeholder.
+ *
+ * @author Carl Harris
+ */
+public final class ParsedStatement {
+
+  private final String sql;
+  private final List<String> parameterNames;
+
+  private ParsedStatement(String sql, List<String> parameterNames) {
+    this.sql = sql;
+    this.parameterNames = parameterNames;
+  }
+
+  /**
+   * Parses the given statement using the default scanner.
+   * @param sql statement text
+   * @return parsed statement
+   */
+  public static ParsedStatement parse(String sql) {
+    return parse(sql, DefaultScanner.INSTANCE);
+  }
+
+  /**
+   * Parses the given statement.
+   * <p>
+   * If the statement cannot be scanned (e.g. because it contains an
+   * unterminated string literal), it is returned unchanged, with no
+   * named parameters.
+   *
+   * @param sql statement text
+   * @param scanner scanner for the SQL dialect
+   * @return parsed statement
+   */
+  public static ParsedStatement parse(String sql, Scanner scanner) {
+    final SQLInputErrorReporter reporter = new SQLInputErrorReporter();
+    final List<Token> tokens;
+    try {
+      tokens = scanner.scanTokens(new BufferedSourceReader(sql), reporter);
+    }
+    catch (IOException ex) {
+      throw new SQLInputException(ex.getMessage(), ex);
+    }
+    if (reporter.hasError()) {
+      return new ParsedStatement(sql, Collections.<String>emptyList());
+    }
+    final List<String> names = new ArrayList<>();
+    final StringBuilder sb = new StringBuilder(sql.length());
+    for (final Token token : tokens) {
+      if (token.getType() == Token.Type.PARAMETER) {
+        names.add(token.getLexeme().substring(1));
+        sb.append('?');
+      }
+      else {
+        token.appendTo(sb);
+      }
+    }
+    if (names.isEmpty()) {
+      return new ParsedStatement(sql, Collections.<String>emptyList());
+    }
+    return new ParsedStatement(sb.toString(),
+        Collections.unmodifiableList(names));
+  }
+
+  /**
+   * Gets the statement text with positional placeholders.
+   * @return statement text
+   */
+  public String getSql() {
+    return sql;
+  }
+
+  /**
+   * Gets the names of the parameters, in placeholder order.
+   * <p>
+   * A name that appears more than once in the statement appears at each
+   * corresponding position in the returned list.
+   *
+   * @return list of parameter names (empty if the statement has no named
+   *    parameters)
+   */
+  public List<String> getParameterNames() {
+    return parameterNames;
+  }
+
+  /**
+   * Tests whether the statement has any named parameters.
+   * @return {@code true} if the statement has at least one named parameter
+   */
+  public boolean hasNamedParameters() {
+    return !parameterNames.isEmpty();
+  }
+
+}
@@ -20,12 +20,20 @@ package org.soulwing.jdbc.source;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.EnumSet;
-import java.util.List;
 import java.util.Set;
 
 /**
  * An {@link SQLSource} that reads statements from a {@link Reader}.
+ * <p>
+ * The input is scanned incrementally; each statement is returned as soon
+ * as its terminating semicolon (or the {@code END} that matches a block's
+ * {@code BEGIN}) has been scanned.  Consequently, the memory needed to read
+ * a source is bounded by the size of its largest statement, rather than
+ * the size of the entire source, and an error in the input is reported
+ * only when the statement that contains it is reached.
  *
  * @author Carl Harris
  */
@@ -38,18 +46,21 @@ public class ReaderSQLSource implements SQLSource {
 
   private final SQLInputErrorReporter reporter = new SQLInputErrorReporter();
 
+  private final Deque<Token> lookahead = new ArrayDeque<>();
+
   private final SourceReader reader;
   private final Scanner scanner;
 
-  private List<Token> tokens;
-  private int cursor;
+  private TokenStream tokens;
+  private boolean exhausted;
 
   public ReaderSQLSource(Reader reader) {
     this(reader, DefaultScanner.INSTANCE);
   }
 
   public ReaderSQLSource(Reader reader, Scanner scanner) {
-    this(new DelegatingSourceReader(reader), scanner);
+    this(new BufferedSourceReader(reader,
+        BufferedSourceReader.DEFAULT_CAPACITY, false), scanner);
   }
 
   ReaderSQLSource(SourceReader reader, Scanner scanner) {
@@ -66,34 +77,29 @@ public class ReaderSQLSource implements SQLSource {
       if (scanner == null) {
         throw new IllegalArgumentException("scanner is required");
       }
-      try {
-        tokens = scanner.scanTokens(reader, reporter);
-      }
-      catch (IOException ex) {
-        reporter.error(reader.getStart(), reader.getCurrent(), ex.getMessage());
-      }
-      if (reporter.hasError()) {
-        throw reporter.getException();
-      }
+      tokens = scanner.tokenStream(reader, reporter);
     }
     String statement = reassembleStatement();
     while (statement != null && statement.isEmpty()) {
       statement = reassembleStatement();
     }
+    if (reporter.hasError()) {
+      throw reporter.getException();
+    }
     return statement;
   }
 
   private String reassembleStatement() {
-    if (cursor >= tokens.size()) {
+    Token token = nextToken();
+    if (token == null) {
       return null;
     }
     final StringBuilder statement = new StringBuilder();
     boolean done = false;
-    while (cursor < tokens.size() && !done) {
-      final Token token = tokens.get(cursor++);
+    while (token != null && !done) {
       final Token.Type type = token.getType();
       if (type == Token.Type.BEGIN) {
-        statement.append(token.getLexeme());
+        token.appendTo(statement);
         if (!isBeginTransaction()) {
           skipToMatchingEnd(token, statement);
         }
@@ -101,24 +107,30 @@ public class ReaderSQLSource implements SQLSource {
       else {
         done = type == Token.Type.SEMICOLON || type == Token.Type.EOF;
         if (!done) {
-          statement.append(token.getLexeme());
+          token.appendTo(statement);
         }
       }
+      if (!done) {
+        token = nextToken();
+      }
     }
     return statement.toString().trim();
   }
 
   private void skipToMatchingEnd(Token begin, StringBuilder statement) {
     boolean done = false;
-    while (cursor < tokens.size() && !done) {
-      final Token token = tokens.get(cursor++);
-      statement.append(token.getLexeme());
+    Token token = nextToken();
+    while (token != null && !done) {
+      token.appendTo(statement);
       if (token.getType() == Token.Type.END) {
         done = !isSpecialEnd();
       }
       else if (token.getType() == Token.Type.BEGIN) {
         skipToMatchingEnd(token, statement);
       }
+      if (!done) {
+        token = nextToken();
+      }
     }
     if (!done) {
       throw new SQLInputException(begin.getOffset(), begin.getLength(),
@@ -127,28 +139,64 @@ public class ReaderSQLSource implements SQLSource {
   }
 
   private boolean isBeginTransaction() {
-    int start = cursor;
-    Token token = null;
-    while (cursor < tokens.size()) {
-      token = tokens.get(cursor++);
-      if (token.getType() != Token.Type.WHITESPACE) break;
-    }
-    cursor = start;
+    final Token token = peekSignificantToken();
     return token != null
         && token.getType() == Token.Type.TRANSACTION;
   }
 
   private boolean isSpecialEnd() {
-    int start = cursor;
-    Token token = null;
-    while (cursor < tokens.size()) {
-      token = tokens.get(cursor++);
-      if (token.getType() != Token.Type.WHITESPACE) break;
-    }
-    cursor = start;
+    final Token token = peekSignificantToken();
     return token != null && SPECIAL_ENDS.contains(token.getType());
   }
 
+  /**
+   * Gets the next token, either from the lookahead queue or by scanning it
+   * from the source.
+   * @return token or {@code null} if there are no more tokens
+   */
+  private Token nextToken() {
+    if (!lookahead.isEmpty()) {
+      return lookahead.removeFirst();
+    }
+    return scanToken();
+  }
+
+  /**
+   * Peeks at the next token that is not whitespace, without consuming it.
+   * <p>
+   * Any tokens scanned in order to find it are retained in the lookahead
+   * queue, with their lexemes converted to strings, since the reader may
+   * reuse its window as scanning continues.
+   *
+   * @return token or {@code null} if there are no more tokens
+   */
+  private Token peekSignificantToken() {
+    for (final Token token : lookahead) {
+      if (token.getType() != Token.Type.WHITESPACE) return token;
+    }
+    Token token = scanToken();
+    while (token != null) {
+      token.getLexeme();
+      lookahead.addLast(token);
+      if (token.getType() != Token.Type.WHITESPACE) return token;
+      token = scanToken();
+    }
+    return null;
+  }
+
+  private Token scanToken() {
+    if (exhausted) return null;
+    try {
+      final Token token = tokens.next();
+      exhausted = token == null;
+      return token;
+    }
+    catch (IOException ex) {
+      reporter.error(reader.getStart(), reader.getCurrent(), ex.getMessage());
+      throw reporter.getException();
+    }
+  }
+
   @Override
   public void close() throws IOException {
     reader.close();
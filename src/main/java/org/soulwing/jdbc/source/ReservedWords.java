@@ -40,6 +40,8 @@ class ReservedWords {
 
   private static final Map<String, Token.Type> tokenMap = new HashMap<>();
 
+  private static final int MAX_LENGTH = TRANSACTION.length();
+
   static {
     tokenMap.put(BEGIN, Token.Type.BEGIN);
     tokenMap.put(END, Token.Type.END);
@@ -51,8 +53,11 @@ class ReservedWords {
 
   private ReservedWords() {}
 
-  public static Token.Type toToken(String word) {
-    return tokenMap.get(word.toUpperCase());
+  public static Token.Type toToken(CharSequence word) {
+    // most identifiers are longer than any reserved word of interest;
+    // don't bother creating a string for those
+    if (word.length() > MAX_LENGTH) return null;
+    return tokenMap.get(word.toString().toUpperCase());
   }
 
 }
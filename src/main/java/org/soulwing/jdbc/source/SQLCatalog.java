@@ -0,0 +1,251 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.source;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An immutable catalog of named SQL statements.
+ * <p>
+ * A catalog is loaded from one or more {@link SQLSource} objects, each of
+ * which is read and parsed exactly once.  Each statement in a source must be
+ * preceded by a comment line that gives its name:
+ * <pre>
+ * -- name: findUser
+ * SELECT * FROM users WHERE id = ?;
+ *
+ * -- name: deleteUser
+ * DELETE FROM users WHERE id = ?;
+ * </pre>
+ * <p>
+ * Any comment lines that precede the name marker (e.g. a file header) are
+ * discarded; the statement text begins on the line following the marker.
+ * <p>
+ * Because a catalog is immutable, it may be shared freely and looked up
+ * concurrently without locking.  A statement obtained from a catalog can be
+ * used with a query or update either as a string or as a source; e.g.
+ * <pre>
+ * SQLCatalog catalog = SQLCatalog.withResources("classpath:sql/users.sql");
+ *
+ * User user = sqlTemplate.queryForType(User.class)
+ *     .using(catalog.getSource("findUser"))
+ *     .mappingRowsWith(userMapper)
+ *     .retrieveValue(Parameter.with(id));
+ * </pre>
+ *
+ * @author Carl Harris
+ */
+public final class SQLCatalog {
+
+  private static final Pattern NAME_PATTERN = Pattern.compile(
+      "^\\s*--\\s*name\\s*:\\s*(\\S+)\\s*$", Pattern.MULTILINE);
+
+  private final Map<String, String> statements;
+
+  private SQLCatalog(Map<String, String> statements) {
+    this.statements = statements;
+  }
+
+  /**
+   * Creates a catalog containing the statements of the given resources.
+   * @param locations locations of the resources, as accepted by
+   *    {@link ResourceSQLSource#with(String)}
+   * @return catalog
+   * @throws SQLResourceNotFoundException if a resource is not found
+   * @throws SQLInputException if an error occurs in reading a resource, a
+   *    statement has no name, or two statements have the same name
+   */
+  public static SQLCatalog withResources(String... locations) {
+    final SQLSource[] sources = new SQLSource[locations.length];
+    try {
+      for (int i = 0; i < locations.length; i++) {
+        sources[i] = ResourceSQLSource.with(locations[i]);
+      }
+    }
+    catch (RuntimeException ex) {
+      for (final SQLSource source : sources) {
+        if (source != null) {
+          closeQuietly(source);
+        }
+      }
+      throw ex;
+    }
+    return with(sources);
+  }
+
+  /**
+   * Creates a catalog containing the statements of the given sources.
+   * <p>
+   * Each source is read to its end and then closed.
+   *
+   * @param sources the sources to read
+   * @return catalog
+   * @throws SQLInputException if an error occurs in reading a source, a
+   *    statement has no name, or two statements have the same name
+   */
+  public static SQLCatalog with(SQLSource... sources) {
+    return with(Arrays.asList(sources));
+  }
+
+  /**
+   * Creates a catalog containing the statements of the given sources.
+   * <p>
+   * Each source is read to its end and then closed.
+   *
+   * @param sources the sources to read
+   * @return catalog
+   * @throws SQLInputException if an error occurs in reading a source, a
+   *    statement has no name, or two statements have the same name
+   */
+  public static SQLCatalog with(Iterable<? extends SQLSource> sources) {
+    final Map<String, String> statements = new HashMap<>();
+    for (final SQLSource source : sources) {
+      try {
+        String statement = source.next();
+        while (statement != null) {
+          addStatement(statement, statements);
+          statement = source.next();
+        }
+      }
+      finally {
+        closeQuietly(source);
+      }
+    }
+    return new SQLCatalog(Collections.unmodifiableMap(statements));
+  }
+
+  private static void addStatement(String statement,
+      Map<String, String> statements) {
+    final Matcher matcher = NAME_PATTERN.matcher(statement);
+    if (!matcher.find()) {
+      throw new SQLInputException("statement has no name: "
+          + abbreviate(statement));
+    }
+    final String name = matcher.group(1);
+    final String text = statement.substring(matcher.end()).trim();
+    if (text.isEmpty()) {
+      throw new SQLInputException("statement '" + name + "' is empty");
+    }
+    if (statements.put(name, text) != null) {
+      throw new SQLInputException("duplicate statement name '" + name + "'");
+    }
+  }
+
+  private static String abbreviate(String statement) {
+    final int max = 60;
+    return statement.length() <= max ?
+        statement : statement.substring(0, max) + "...";
+  }
+
+  private static void closeQuietly(SQLSource source) {
+    try {
+      source.close();
+    }
+    catch (IOException ex) {
+      assert true;  // oh, well
+    }
+  }
+
+  /**
+   * Gets the text of a named statement.
+   * @param name name of the statement
+   * @return statement text
+   * @throws SQLStatementNotFoundException if there is no statement with the
+   *    given name
+   */
+  public String getStatement(String name) {
+    final String statement = statements.get(name);
+    if (statement == null) {
+      throw new SQLStatementNotFoundException(name);
+    }
+    return statement;
+  }
+
+  /**
+   * Gets a source that provides a named statement.
+   * <p>
+   * The returned source provides the statement text without reading or
+   * scanning any input.
+   *
+   * @param name name of the statement
+   * @return source whose only statement is the named statement
+   * @throws SQLStatementNotFoundException if there is no statement with the
+   *    given name
+   */
+  public SQLSource getSource(String name) {
+    return new SingleStatementSource(getStatement(name));
+  }
+
+  /**
+   * Tests whether this catalog contains a statement with the given name.
+   * @param name the subject name
+   * @return {@code true} if a statement named {@code name} exists
+   */
+  public boolean contains(String name) {
+    return statements.containsKey(name);
+  }
+
+  /**
+   * Gets the names of the statements in this catalog.
+   * @return set of statement names
+   */
+  public Set<String> getNames() {
+    return statements.keySet();
+  }
+
+  /**
+   * Gets the number of statements in this catalog.
+   * @return statement count
+   */
+  public int size() {
+    return statements.size();
+  }
+
+  /**
+   * An {@link SQLSource} that provides a single statement.
+   */
+  private static class SingleStatementSource implements SQLSource {
+
+    private String statement;
+
+    SingleStatementSource(String statement) {
+      this.statement = statement;
+    }
+
+    @Override
+    public String next() {
+      final String next = statement;
+      statement = null;
+      return next;
+    }
+
+    @Override
+    public void close() {
+    }
+
+  }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.source;
+
+/**
+ * The fingerprint of an SQL statement.
+ * <p>
+ * A fingerprint identifies the shape of a statement, independent of the
+ * literal values, comments, and whitespace it contains.  Two fingerprints
+ * are equal if their normalized text is equal.
+ *
+ * @author Carl Harris
+ * @see SQLFingerprinter
+ */
+public final class SQLFingerprint {
+
+  private final String text;
+  private final long hash;
+
+  SQLFingerprint(String text, long hash) {
+    this.text = text;
+    this.hash = hash;
+  }
+
+  /**
+   * Gets the normalized text of the statement.
+   * @return normalized text
+   */
+  public String getText() {
+    return text;
+  }
+
+  /**
+   * Gets a 64-bit hash of the normalized text.
+   * <p>
+   * The hash is computed using the FNV-1a algorithm over the characters of
+   * the normalized text, so it is stable across processes and releases of
+   * the JVM, and may be used as a compact key for the statement in logs or
+   * external monitoring systems.
+   *
+   * @return hash
+   */
+  public long getHash() {
+    return hash;
+  }
+
+  /**
+   * Gets the hash of the normalized text as a 16 digit hexadecimal string.
+   * @return hexadecimal hash
+   */
+  public String getHashString() {
+    final String hex = Long.toHexString(hash);
+    return "0000000000000000".substring(hex.length()) + hex;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) return true;
+    if (!(obj instanceof SQLFingerprint)) return false;
+    final SQLFingerprint that = (SQLFingerprint) obj;
+    return this.hash == that.hash && this.text.equals(that.text);
+  }
+
+  @Override
+  public int hashCode() {
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  @Override
+  public String toString() {
+    return text;
+  }
+
+}
@@ -0,0 +1,272 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.source;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A producer of {@link SQLFingerprint fingerprints} for SQL statements.
+ * <p>
+ * A statement is scanned using a {@link Scanner}, and its fingerprint is
+ * formed from its tokens as follows.
+ * <ul>
+ *   <li>String and numeric literals, and named parameter placeholders, are
+ *       replaced with {@code ?}.</li>
+ *   <li>A list of values given for an {@code IN} predicate is collapsed to a
+ *       single placeholder, so that {@code IN (1, 2, 3)} and
+ *       {@code IN (?, ?)} have the same fingerprint.</li>
+ *   <li>Comments and a trailing semicolon are removed, and tokens are
+ *       separated by a single space.</li>
+ *   <li>Keywords and unquoted identifiers are converted to upper case.</li>
+ * </ul>
+ * <p>
+ * Fingerprints are cached in a fixed-size table keyed by the identity of
+ * the statement text, so that fingerprinting the same statement string
+ * again (as is typical of statement text held in constants or templates)
+ * costs a single array lookup.  An equal string that is a different object
+ * is fingerprinted again, and statements that map to the same table slot
+ * displace one another.
+ * <p>
+ * An instance of this class is thread safe.
+ *
+ * @author Carl Harris
+ */
+public final class SQLFingerprinter {
+
+  /**
+   * Default number of slots in the fingerprint cache.
+   */
+  public static final int DEFAULT_CACHE_SIZE = 1024;
+
+  private static final String PLACEHOLDER = "?";
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final Scanner scanner;
+  private final Entry[] cache;
+
+  /**
+   * Constructs a new instance with the default cache size and scanner.
+   */
+  public SQLFingerprinter() {
+    this(DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Constructs a new instance using the default scanner.
+   * @param cacheSize number of slots in the fingerprint cache; rounded up to
+   *    a power of two
+   */
+  public SQLFingerprinter(int cacheSize) {
+    this(cacheSize, DefaultScanner.INSTANCE);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param cacheSize number of slots in the fingerprint cache; rounded up to
+   *    a power of two
+   * @param scanner scanner for the SQL dialect
+   */
+  public SQLFingerprinter(int cacheSize, Scanner scanner) {
+    if (cacheSize <= 0 || cacheSize > 1 << 30) {
+      throw new IllegalArgumentException("cache size out of range");
+    }
+    int size = 1;
+    while (size < cacheSize) {
+      size <<= 1;
+    }
+    this.scanner = scanner;
+    this.cache = new Entry[size];
+  }
+
+  /**
+   * Gets the fingerprint of an SQL statement.
+   * @param sql statement text
+   * @return fingerprint
+   */
+  public SQLFingerprint fingerprint(String sql) {
+    final int slot = System.identityHashCode(sql) & (cache.length - 1);
+    final Entry entry = cache[slot];
+    if (entry != null && entry.sql == sql) {
+      return entry.fingerprint;
+    }
+    final SQLFingerprint fingerprint = createFingerprint(sql);
+    cache[slot] = new Entry(sql, fingerprint);
+    return fingerprint;
+  }
+
+  private SQLFingerprint createFingerprint(String sql) {
+    final List<String> words = normalize(sql);
+    final StringBuilder sb = new StringBuilder(sql.length());
+    String previous = null;
+    for (final String word : words) {
+      if (previous != null && !previous.equals("(")
+          && !word.equals(")") && !word.equals(",")) {
+        sb.append(' ');
+      }
+      sb.append(word);
+      previous = word;
+    }
+    final String text = sb.toString();
+    return new SQLFingerprint(text, hash(text));
+  }
+
+  private List<String> normalize(String sql) {
+    final SQLInputErrorReporter reporter = new SQLInputErrorReporter();
+    final List<Token> tokens;
+    try {
+      tokens = scanner.scanTokens(new BufferedSourceReader(sql), reporter);
+    }
+    catch (IOException ex) {
+      throw new SQLInputException(ex.getMessage(), ex);
+    }
+    final List<String> words = new ArrayList<>(tokens.size());
+    if (reporter.hasError()) {
+      // fall back to collapsing whitespace in the raw text
+      for (final String word : sql.trim().split("\\s+")) {
+        words.add(word);
+      }
+      return words;
+    }
+    for (final Token token : tokens) {
+      switch (token.getType()) {
+        case WHITESPACE:
+        case COMMENT:
+        case EOF:
+          break;
+        case PARAMETER:
+          words.add(PLACEHOLDER);
+          break;
+        case LITERAL:
+          addLiteral(token.getLexeme(), words);
+          break;
+        case IDENTIFIER:
+          addIdentifier(token.getLexeme(), words);
+          break;
+        default:
+          words.add(token.getLexeme().toUpperCase(Locale.ENGLISH));
+          break;
+      }
+    }
+    final int last = words.size() - 1;
+    if (last >= 0 && words.get(last).equals(";")) {
+      words.remove(last);
+    }
+    collapseInLists(words);
+    return words;
+  }
+
+  private static void addIdentifier(String lexeme, List<String> words) {
+    words.add(lexeme.charAt(0) == '"' ?
+        lexeme : lexeme.toUpperCase(Locale.ENGLISH));
+  }
+
+  /**
+   * Adds the word(s) for a literal token.
+   * <p>
+   * The scanner produces literal tokens for values and for runs of operator
+   * characters.  A value is replaced by a placeholder.  Commas and
+   * positional placeholders are split out of an operator run, so that the
+   * result does not depend on the whitespace around them.
+   *
+   * @param lexeme lexeme of the token
+   * @param words list to which words are to be added
+   */
+  private static void addLiteral(String lexeme, List<String> words) {
+    final char c = lexeme.charAt(0);
+    if (c == '\'' || c == '$' || (c >= '0' && c <= '9')) {
+      words.add(PLACEHOLDER);
+      return;
+    }
+    int start = 0;
+    for (int i = 0, max = lexeme.length(); i < max; i++) {
+      final char o = lexeme.charAt(i);
+      if (o == ',' || o == '?') {
+        if (i > start) {
+          words.add(lexeme.substring(start, i));
+        }
+        words.add(String.valueOf(o));
+        start = i + 1;
+      }
+    }
+    if (start < lexeme.length()) {
+      words.add(start == 0 ? lexeme : lexeme.substring(start));
+    }
+  }
+
+  /**
+   * Collapses each list of placeholders that follows {@code IN} to a single
+   * placeholder.
+   * @param words the words to transform
+   */
+  private static void collapseInLists(List<String> words) {
+    for (int i = 0; i + 2 < words.size(); i++) {
+      if (!words.get(i).equals("IN") || !words.get(i + 1).equals("(")) {
+        continue;
+      }
+      int j = i + 2;
+      boolean expectPlaceholder = true;
+      while (j < words.size()) {
+        final String word = words.get(j);
+        if (expectPlaceholder && !word.equals(PLACEHOLDER)) break;
+        if (!expectPlaceholder && !word.equals(",")) break;
+        expectPlaceholder = !expectPlaceholder;
+        j++;
+      }
+      if (expectPlaceholder || j == words.size()
+          || !words.get(j).equals(")")) {
+        continue;
+      }
+      words.subList(i + 3, j).clear();
+    }
+  }
+
+  private static long hash(String text) {
+    long hash = FNV_OFFSET_BASIS;
+    for (int i = 0, max = text.length(); i < max; i++) {
+      final char c = text.charAt(i);
+      hash ^= c & 0xff;
+      hash *= FNV_PRIME;
+      hash ^= c >>> 8;
+      hash *= FNV_PRIME;
+    }
+    return hash;
+  }
+
+  /**
+   * An entry in the fingerprint cache.
+   */
+  private static final class Entry {
+
+    final String sql;
+    final SQLFingerprint fingerprint;
+
+    Entry(String sql, SQLFingerprint fingerprint) {
+      this.sql = sql;
+      this.fingerprint = fingerprint;
+    }
+
+  }
+
+}
@@ -54,6 +54,10 @@ public class SQLInputException extends SQLRuntimeException {
     addError(offset, length, message);
   }
 
+  public SQLInputException(String message) {
+    super(message);
+  }
+
   public SQLInputException(String message, Throwable cause) {
     super(message, cause);
   }
@@ -0,0 +1,35 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.source;
+
+import org.soulwing.jdbc.SQLRuntimeException;
+
+/**
+ * An exception thrown by an {@link SQLCatalog} when a named statement
+ * cannot be found.
+ *
+ * @author Carl Harris
+ */
+public class SQLStatementNotFoundException extends SQLRuntimeException {
+
+  public SQLStatementNotFoundException(String name) {
+    super("statement not found: " + name);
+  }
+
+}
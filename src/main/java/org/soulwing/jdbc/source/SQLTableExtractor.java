@@ -0,0 +1,242 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.source;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * An extractor for the names of the tables referenced by SQL statements.
+ * <p>
+ * A statement is scanned using a {@link Scanner}, and each name that follows
+ * {@code FROM}, {@code JOIN}, {@code INTO}, {@code UPDATE}, {@code TABLE},
+ * {@code TRUNCATE}, or {@code USING} is taken to be a table name, as is each
+ * name in a comma-separated list that follows one of these keywords.  The
+ * extraction is purely lexical, and it errs on the side of reporting too
+ * many names rather than too few: a name that follows {@code FROM} in an
+ * expression such as {@code EXTRACT(YEAR FROM hired)} is reported as a
+ * table, as is the name of a common table expression.
+ * <p>
+ * Names are reported in upper case, without any schema or catalog
+ * qualifier.  Quoted names are also converted to upper case, so that a
+ * quoted and an unquoted reference to the same table are always reported
+ * using the same name.
+ * <p>
+ * Results are cached in a fixed-size table keyed by the identity of the
+ * statement text, in the same manner as {@link SQLFingerprinter}.
+ * <p>
+ * An instance of this class is thread safe.
+ *
+ * @author Carl Harris
+ */
+public final class SQLTableExtractor {
+
+  /**
+   * Default number of slots in the result cache.
+   */
+  public static final int DEFAULT_CACHE_SIZE = 1024;
+
+  private static final Set<String> TABLE_KEYWORDS = new HashSet<>(
+      Arrays.asList("FROM", "JOIN", "INTO", "UPDATE", "TABLE", "TRUNCATE",
+          "USING"));
+
+  private static final Set<String> PREFIX_KEYWORDS = new HashSet<>(
+      Arrays.asList("ONLY", "NOT", "EXISTS"));
+
+  private static final Set<String> KEYWORDS = new HashSet<>(
+      Arrays.asList("SELECT", "SET", "VALUES", "WHERE", "ON", "USING",
+          "JOIN", "INNER", "LEFT", "RIGHT", "FULL", "CROSS", "NATURAL",
+          "OUTER", "GROUP", "ORDER", "HAVING", "LIMIT", "OFFSET", "FETCH",
+          "FOR", "UNION", "INTERSECT", "EXCEPT", "MINUS", "WINDOW",
+          "RETURNING", "DEFAULT", "WITH", "OF", "NOWAIT", "SKIP", "WAIT",
+          "LOCK", "AS", "ONLY", "NOT", "EXISTS", "INTO", "FROM", "UPDATE",
+          "TABLE", "PARTITION", "TABLESAMPLE", "CONNECT", "START"));
+
+  private enum State {
+    NONE,
+    EXPECT_TABLE,
+    AFTER_TABLE
+  }
+
+  private final Scanner scanner;
+  private final Entry[] cache;
+
+  /**
+   * Constructs a new instance with the default cache size and scanner.
+   */
+  public SQLTableExtractor() {
+    this(DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Constructs a new instance using the default scanner.
+   * @param cacheSize number of slots in the result cache; rounded up to
+   *    a power of two
+   */
+  public SQLTableExtractor(int cacheSize) {
+    this(cacheSize, DefaultScanner.INSTANCE);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param cacheSize number of slots in the result cache; rounded up to
+   *    a power of two
+   * @param scanner scanner for the SQL dialect
+   */
+  public SQLTableExtractor(int cacheSize, Scanner scanner) {
+    if (cacheSize <= 0 || cacheSize > 1 << 30) {
+      throw new IllegalArgumentException("cache size out of range");
+    }
+    int size = 1;
+    while (size < cacheSize) {
+      size <<= 1;
+    }
+    this.scanner = scanner;
+    this.cache = new Entry[size];
+  }
+
+  /**
+   * Gets the names of the tables referenced by an SQL statement.
+   * @param sql statement text
+   * @return unmodifiable set of table names (possibly empty), or
+   *    {@code null} if the statement could not be scanned
+   */
+  public Set<String> extractTables(String sql) {
+    final int slot = System.identityHashCode(sql) & (cache.length - 1);
+    final Entry entry = cache[slot];
+    if (entry != null && entry.sql == sql) {
+      return entry.tables;
+    }
+    final Set<String> tables = createTables(sql);
+    cache[slot] = new Entry(sql, tables);
+    return tables;
+  }
+
+  private Set<String> createTables(String sql) {
+    final SQLInputErrorReporter reporter = new SQLInputErrorReporter();
+    final List<Token> tokens;
+    try {
+      tokens = scanner.scanTokens(new BufferedSourceReader(sql), reporter);
+    }
+    catch (IOException ex) {
+      throw new SQLInputException(ex.getMessage(), ex);
+    }
+    if (reporter.hasError()) return null;
+
+    final Set<String> tables = new LinkedHashSet<>();
+    State state = State.NONE;
+    for (int i = 0, max = tokens.size(); i < max; i++) {
+      final Token token = tokens.get(i);
+      final Token.Type type = token.getType();
+      if (type == Token.Type.WHITESPACE || type == Token.Type.COMMENT) {
+        continue;
+      }
+      final String keyword = keyword(token);
+      if (state == State.EXPECT_TABLE) {
+        if (type == Token.Type.IF || PREFIX_KEYWORDS.contains(keyword)) {
+          continue;
+        }
+        if (type == Token.Type.IDENTIFIER && !KEYWORDS.contains(keyword)) {
+          i = qualifiedName(tokens, i, tables);
+          state = State.AFTER_TABLE;
+          continue;
+        }
+        state = State.NONE;
+      }
+      else if (state == State.AFTER_TABLE) {
+        if (type == Token.Type.LITERAL && token.getLexeme().equals(",")) {
+          state = State.EXPECT_TABLE;
+          continue;
+        }
+        if (type == Token.Type.IDENTIFIER
+            && (keyword == null || keyword.equals("AS")
+                || !KEYWORDS.contains(keyword))) {
+          // a correlation name for the table
+          continue;
+        }
+        state = State.NONE;
+      }
+      if (TABLE_KEYWORDS.contains(keyword)) {
+        state = State.EXPECT_TABLE;
+      }
+    }
+    return Collections.unmodifiableSet(tables);
+  }
+
+  /**
+   * Adds the (possibly qualified) name that starts at the given token.
+   * @param tokens statement tokens
+   * @param start index of the first token of the name
+   * @param tables set to which the unqualified name is to be added
+   * @return index of the last token of the name
+   */
+  private static int qualifiedName(List<Token> tokens, int start,
+      Set<String> tables) {
+    int last = start;
+    while (last + 2 < tokens.size()
+        && tokens.get(last + 1).getType() == Token.Type.LITERAL
+        && tokens.get(last + 1).getLexeme().equals(".")
+        && tokens.get(last + 2).getType() == Token.Type.IDENTIFIER) {
+      last += 2;
+    }
+    tables.add(name(tokens.get(last).getLexeme()));
+    return last;
+  }
+
+  private static String name(String lexeme) {
+    final String name = lexeme.charAt(0) == '"' ?
+        lexeme.substring(1, lexeme.length() - 1) : lexeme;
+    return name.toUpperCase(Locale.ENGLISH);
+  }
+
+  /**
+   * Gets the keyword represented by a token.
+   * @param token the subject token
+   * @return upper case lexeme of {@code token} if it is an unquoted
+   *    identifier, otherwise {@code null}
+   */
+  private static String keyword(Token token) {
+    if (token.getType() != Token.Type.IDENTIFIER) return null;
+    final String lexeme = token.getLexeme();
+    if (lexeme.charAt(0) == '"') return null;
+    return lexeme.toUpperCase(Locale.ENGLISH);
+  }
+
+  /**
+   * An entry in the result cache.
+   */
+  private static final class Entry {
+
+    final String sql;
+    final Set<String> tables;
+
+    Entry(String sql, Set<String> tables) {
+      this.sql = sql;
+      this.tables = tables;
+    }
+
+  }
+
+}
@@ -28,7 +28,28 @@ import java.util.List;
  */
 public interface Scanner {
 
+  /**
+   * Scans all of the tokens of a source.
+   * @param reader the source reader
+   * @param errorReporter reporter for scanning errors
+   * @return list of tokens, ending with a token of type
+   *    {@link Token.Type#EOF}
+   * @throws IOException if an error occurs in reading the source
+   */
   List<Token> scanTokens(SourceReader reader,
       ErrorReporter errorReporter) throws IOException;
 
+  /**
+   * Creates a stream that scans the tokens of a source incrementally.
+   * <p>
+   * Each token is scanned from the source only when it is requested, so
+   * that a consumer need not hold the tokens of the entire source in
+   * memory.
+   *
+   * @param reader the source reader
+   * @param errorReporter reporter for scanning errors
+   * @return token stream
+   */
+  TokenStream tokenStream(SourceReader reader, ErrorReporter errorReporter);
+
 }
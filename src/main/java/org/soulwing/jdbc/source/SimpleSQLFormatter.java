@@ -19,7 +19,6 @@
 package org.soulwing.jdbc.source;
 
 import java.io.IOException;
-import java.io.StringReader;
 import java.util.List;
 
 import org.soulwing.jdbc.SQLRuntimeException;
@@ -37,7 +36,7 @@ public class SimpleSQLFormatter implements SQLFormatter {
     try {
       final SimpleErrorReporter errorReporter = new SimpleErrorReporter();
       final List<Token> tokens = DefaultScanner.INSTANCE.scanTokens(
-          new DelegatingSourceReader(new StringReader(sql.trim())), errorReporter);
+          new BufferedSourceReader(sql.trim()), errorReporter);
       if (errorReporter.hasError()) {
         // we don't recognize the lexical structure, so don't bother formatting
         return sql;
@@ -48,7 +47,7 @@ public class SimpleSQLFormatter implements SQLFormatter {
           statement.append(" ");
         }
         else if (token.getType() != Token.Type.COMMENT) {
-          statement.append(token.getLexeme());
+          token.appendTo(statement);
         }
       }
       return statement.toString().trim();
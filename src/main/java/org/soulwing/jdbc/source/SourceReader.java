@@ -36,9 +36,9 @@ interface SourceReader extends Closeable, AutoCloseable {
 
   int getCurrent();
 
-  String getLexeme();
+  CharSequence getLexeme();
 
-  String getLexeme(int start, int end);
+  CharSequence getLexeme(int start, int end);
 
   void markStart();
 
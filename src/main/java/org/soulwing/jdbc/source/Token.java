@@ -39,17 +39,20 @@ public class Token {
     SEMICOLON,
     LITERAL,
     IDENTIFIER,
+    PARAMETER,
     COMMENT,
     WHITESPACE,
     EOF;
   }
 
   private final Type type;
-  private final String lexeme;
+  private final CharSequence lexeme;
   private final int offset;
   private final int length;
 
-  public Token(Type type, String lexeme, int offset) {
+  private String text;
+
+  public Token(Type type, CharSequence lexeme, int offset) {
     this.type = type;
     this.lexeme = lexeme;
     this.offset = offset;
@@ -61,7 +64,27 @@ public class Token {
   }
 
   public String getLexeme() {
-    return lexeme;
+    if (text == null) {
+      text = lexeme.toString();
+    }
+    return text;
+  }
+
+  /**
+   * Appends the lexeme of this token to a string builder, without first
+   * converting it to a string.
+   * @param sb the target string builder
+   */
+  void appendTo(StringBuilder sb) {
+    if (text != null) {
+      sb.append(text);
+    }
+    else if (lexeme instanceof CharSlice) {
+      ((CharSlice) lexeme).appendTo(sb);
+    }
+    else {
+      sb.append(lexeme);
+    }
   }
 
   public int getOffset() {
@@ -74,6 +97,6 @@ public class Token {
 
   @Override
   public String toString() {
-    return String.format("%s(i=%d, l=%d, s='%s')", type.name(), offset, length, lexeme.trim());
+    return String.format("%s(i=%d, l=%d, s='%s')", type.name(), offset, length, getLexeme().trim());
   }
 }
@@ -0,0 +1,42 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.source;
+
+import java.io.IOException;
+
+/**
+ * A sequence of tokens produced lazily by a {@link Scanner}.
+ *
+ * @author Carl Harris
+ */
+interface TokenStream {
+
+  /**
+   * Scans the next token from the source.
+   * <p>
+   * The last token produced for a source is always of type
+   * {@link Token.Type#EOF}.
+   *
+   * @return next token or {@code null} if the {@code EOF} token has
+   *    already been produced
+   * @throws IOException if an error occurs in reading the source
+   */
+  Token next() throws IOException;
+
+}
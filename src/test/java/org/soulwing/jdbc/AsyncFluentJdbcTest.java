@@ -0,0 +1,179 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jmock.Expectations;
+import org.jmock.api.Invocation;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.action.CustomAction;
+import org.jmock.lib.concurrent.Synchroniser;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AsyncFluentJdbc}.
+ *
+ * @author Carl Harris
+ */
+public class AsyncFluentJdbcTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery() {
+    {
+      setThreadingPolicy(new Synchroniser());
+    }
+  };
+
+  @Mock
+  private JdbcOperations jdbc;
+
+  @Mock
+  private QueryTemplate<Object> query;
+
+  @Mock
+  private UpdateTemplate update;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @After
+  public void tearDown() throws Exception {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testRetrieveList() throws Exception {
+    final Object result = new Object();
+    context.checking(new Expectations() {
+      {
+        oneOf(query).retrieveList();
+        will(returnValue(Collections.singletonList(result)));
+      }
+    });
+
+    final AsyncFluentJdbc async = new AsyncFluentJdbc(jdbc, executor, 1);
+    assertThat(async.retrieveList(query).get(), contains(result));
+  }
+
+  @Test
+  public void testExecuteUpdate() throws Exception {
+    final Parameter parameter = Parameter.with(1);
+    context.checking(new Expectations() {
+      {
+        oneOf(update).execute(parameter);
+        will(returnValue(1));
+      }
+    });
+
+    final AsyncFluentJdbc async = new AsyncFluentJdbc(jdbc, executor, 1);
+    assertThat(async.execute(update, parameter).get(), is(equalTo(1)));
+    assertThat(async.getAvailablePermits(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testCompletesExceptionally() throws Exception {
+    final SQLException failure = new SQLException();
+    final JdbcWork<Object> work = new JdbcWork<Object>() {
+      @Override
+      public Object perform(JdbcOperations jdbc) throws SQLException {
+        throw failure;
+      }
+    };
+    context.checking(new Expectations() {
+      {
+        oneOf(jdbc).inConnection(work);
+        will(throwException(new SQLRuntimeException(failure)));
+      }
+    });
+
+    final AsyncFluentJdbc async = new AsyncFluentJdbc(jdbc, executor, 1);
+    try {
+      async.inConnection(work).get();
+      fail("expected ExecutionException");
+    }
+    catch (ExecutionException ex) {
+      assertThat(ex.getCause(), is(instanceOf(SQLRuntimeException.class)));
+    }
+    assertThat(async.getAvailablePermits(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testLimitsConcurrency() throws Exception {
+    final int tasks = 8;
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final CountDownLatch done = new CountDownLatch(tasks);
+    final JdbcWork<Object> work = new JdbcWork<Object>() {
+      @Override
+      public Object perform(JdbcOperations jdbc) {
+        final int count = running.incrementAndGet();
+        maxRunning.accumulateAndGet(count, Math::max);
+        try {
+          Thread.sleep(10);
+        }
+        catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+        running.decrementAndGet();
+        done.countDown();
+        return null;
+      }
+    };
+    context.checking(new Expectations() {
+      {
+        exactly(tasks).of(jdbc).inTransaction(work);
+        will(new CustomAction("perform work") {
+          @Override
+          public Object invoke(Invocation invocation)
+              throws Throwable {
+            return work.perform(jdbc);
+          }
+        });
+      }
+    });
+
+    final AsyncFluentJdbc async = new AsyncFluentJdbc(jdbc, executor, 2);
+    final CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks];
+    for (int i = 0; i < tasks; i++) {
+      futures[i] = async.inTransaction(work);
+    }
+    CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+    assertThat(done.getCount(), is(equalTo(0L)));
+    assertThat(maxRunning.get() <= 2, is(true));
+  }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.sql.Connection;
+
+import javax.sql.DataSource;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ConnectionBindingDataSource}.
+ *
+ * @author Carl Harris
+ */
+public class ConnectionBindingDataSourceTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private DataSource delegate;
+
+  @Mock
+  private Connection connection;
+
+  @Test
+  public void testGetConnectionWhenNotBound() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).getConnection();
+        will(returnValue(connection));
+      }
+    });
+
+    final ConnectionBindingDataSource dataSource =
+        new ConnectionBindingDataSource(delegate);
+    assertThat(dataSource.getBoundConnection(), is(nullValue()));
+    assertThat(dataSource.getConnection(), is(sameInstance(connection)));
+  }
+
+  @Test
+  public void testGetConnectionWhenBound() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).getConnection();
+        will(returnValue(connection));
+        oneOf(connection).isClosed();
+        will(returnValue(false));
+      }
+    });
+
+    final ConnectionBindingDataSource dataSource =
+        new ConnectionBindingDataSource(delegate);
+    assertThat(dataSource.bind(), is(sameInstance(connection)));
+
+    final Connection bound = dataSource.getConnection();
+    assertThat(bound, is(sameInstance(dataSource.getBoundConnection())));
+    bound.close();
+    assertThat(bound.isClosed(), is(false));
+
+    dataSource.unbind();
+    assertThat(dataSource.getBoundConnection(), is(nullValue()));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testBindWhenAlreadyBound() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).getConnection();
+        will(returnValue(connection));
+      }
+    });
+
+    final ConnectionBindingDataSource dataSource =
+        new ConnectionBindingDataSource(delegate);
+    dataSource.bind();
+    try {
+      dataSource.bind();
+    }
+    finally {
+      dataSource.unbind();
+    }
+  }
+
+}
@@ -22,8 +22,9 @@ import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
-import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import javax.sql.DataSource;
@@ -35,10 +36,12 @@ import javax.sql.DataSource;
  */
 public class DataSourceWrapper implements DataSource {
 
-  private final Set<Connection> connections = new HashSet<>();
+  private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
 
   private final DataSource dataSource;
 
+  private final AtomicInteger connectionCount = new AtomicInteger();
+
   public DataSourceWrapper(DataSource dataSource) {
     this.dataSource = dataSource;
   }
@@ -51,11 +54,16 @@ public class DataSourceWrapper implements DataSource {
     return !connections.isEmpty();
   }
 
+  public int getConnectionCount() {
+    return connectionCount.get();
+  }
+
   @Override
   public Connection getConnection() throws SQLException {
     final Connection connection =
         new ConnectionWrapper(dataSource.getConnection(), this);
     connections.add(connection);
+    connectionCount.incrementAndGet();
     return connection;
   }
 
@@ -64,6 +72,7 @@ public class DataSourceWrapper implements DataSource {
     final Connection connection = new ConnectionWrapper(
         dataSource.getConnection(username, password), this);
     connections.add(connection);
+    connectionCount.incrementAndGet();
     return connection;
   }
 
@@ -22,8 +22,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
 
 import java.math.BigDecimal;
+import java.sql.Connection;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -32,12 +35,26 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.soulwing.jdbc.metrics.CompositeJdbcMetrics;
+import org.soulwing.jdbc.metrics.DefaultJdbcMetrics;
+import org.soulwing.jdbc.metrics.SlowQuery;
+import org.soulwing.jdbc.metrics.SlowQueryRecorder;
+import org.soulwing.jdbc.metrics.StatementStats;
 import org.soulwing.jdbc.source.StringSQLSource;
 
 /**
@@ -445,4 +462,563 @@ public class FluentJdbcTest {
     assertThat(resultWords, is(equalTo(Arrays.asList(words))));
   }
 
+  @Test
+  public void testExecuteBatch() throws Exception {
+    jdbc.execute("CREATE TABLE foo ( i INTEGER )");
+
+    final List<Parameter[]> rows = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      rows.add(new Parameter[] { Parameter.with(i) });
+    }
+
+    final int[] counts = jdbc.update()
+        .using("INSERT INTO foo(i) VALUES(?)")
+        .batchSize(2)
+        .executeBatch(rows);
+
+    assertThat(counts, is(equalTo(new int[] { 1, 1, 1, 1, 1 })));
+
+    final int sum = jdbc.queryForType(int.class)
+        .using("SELECT SUM(i) FROM foo")
+        .extractingColumn()
+        .retrieveValue();
+
+    assertThat(sum, is(equalTo(10)));
+  }
+
+  @Test
+  public void testStream() throws Exception {
+    jdbc.execute("CREATE TABLE foo ( i INTEGER )");
+    jdbc.update()
+        .using("INSERT INTO foo(i) VALUES(?)")
+        .executeBatch(Arrays.asList(
+            new Parameter[] { Parameter.with(1) },
+            new Parameter[] { Parameter.with(2) },
+            new Parameter[] { Parameter.with(3) }));
+
+    final List<Integer> results = new ArrayList<>();
+    try (Stream<Integer> stream = jdbc.queryForType(Integer.class)
+        .using("SELECT i FROM foo ORDER BY i")
+        .extractingColumn()
+        .fetchSize(2)
+        .stream()) {
+      stream.forEach(results::add);
+    }
+
+    assertThat(results, is(equalTo(Arrays.asList(1, 2, 3))));
+  }
+
+  @Test
+  public void testStreamClosedBeforeExhausted() throws Exception {
+    jdbc.execute("CREATE TABLE foo ( i INTEGER )");
+    jdbc.update()
+        .using("INSERT INTO foo(i) VALUES(?)")
+        .executeBatch(Arrays.asList(
+            new Parameter[] { Parameter.with(1) },
+            new Parameter[] { Parameter.with(2) }));
+
+    try (Stream<Integer> stream = jdbc.queryForType(Integer.class)
+        .using("SELECT i FROM foo ORDER BY i")
+        .mappingRowsWith(new RowMapper<Integer>() {
+          @Override
+          public Integer mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return rs.getInt(1) * 10;
+          }
+        })
+        .stream()) {
+      assertThat(stream.findFirst().get(), is(equalTo(10)));
+    }
+  }
+
+  @Test
+  public void testStatementCache() throws Exception {
+    final StatementCache cache = new StatementCache();
+    try (Connection connection = dataSource.getConnection()) {
+      final FluentJdbc jdbc = new FluentJdbc(connection);
+      jdbc.setStatementCache(cache);
+      jdbc.execute("CREATE TABLE foo ( i INTEGER )");
+      for (int i = 0; i < 3; i++) {
+        jdbc.update()
+            .using("INSERT INTO foo(i) VALUES(?)")
+            .execute(Parameter.with(i));
+      }
+
+      for (int i = 0; i < 2; i++) {
+        final int count = jdbc.queryForType(int.class)
+            .using("SELECT COUNT(*) FROM foo")
+            .extractingColumn()
+            .retrieveValue();
+        assertThat(count, is(equalTo(3)));
+      }
+    }
+
+    assertThat(cache.getMissCount(), is(equalTo(2L)));
+    assertThat(cache.getHitCount(), is(equalTo(3L)));
+  }
+
+  @Test
+  public void testQueryUsingBeanRowMapper() throws Exception {
+    jdbc.executeScript(new StringSQLSource(
+        "CREATE TABLE person ( id INTEGER, first_name VARCHAR(255) );" +
+            "INSERT INTO person(id, first_name) VALUES(1, 'Alice');" +
+            "INSERT INTO person(id, first_name) VALUES(2, 'Bob')"));
+
+    final List<RowMappersTest.Person> people =
+        jdbc.queryForType(RowMappersTest.Person.class)
+            .using("SELECT * FROM person ORDER BY id")
+            .mappingRowsWith(RowMappers.forBean(RowMappersTest.Person.class))
+            .retrieveList();
+
+    assertThat(people.size(), is(equalTo(2)));
+    assertThat(people.get(1).getId(), is(equalTo(2L)));
+    assertThat(people.get(1).getFirstName(), is(equalTo("Bob")));
+  }
+
+  @Test
+  public void testRetrievePrimitiveArrays() throws Exception {
+    jdbc.executeScript(new StringSQLSource(
+        "CREATE TABLE foo ( i INTEGER, d DOUBLE );" +
+            "INSERT INTO foo(i, d) VALUES(1, 1.5);" +
+            "INSERT INTO foo(i, d) VALUES(2, 2.5)"));
+
+    final long[] longs = jdbc.query()
+        .using("SELECT i FROM foo ORDER BY i")
+        .retrieveLongArray();
+    assertThat(longs, is(equalTo(new long[] { 1, 2 })));
+
+    final int[] ints = jdbc.query()
+        .using("SELECT i FROM foo WHERE i > ? ORDER BY i")
+        .retrieveIntArray(Parameter.with(1));
+    assertThat(ints, is(equalTo(new int[] { 2 })));
+
+    final double[] doubles = jdbc.query()
+        .using("SELECT * FROM foo ORDER BY i")
+        .extractingColumn("d")
+        .retrieveDoubleArray();
+    assertThat(doubles, is(equalTo(new double[] { 1.5, 2.5 })));
+  }
+
+  @Test
+  public void testInTransactionCommits() throws Exception {
+    jdbc.execute("CREATE TABLE foo ( i INTEGER )");
+    final int connectionCount = dataSource.getConnectionCount();
+
+    final int count = jdbc.inTransaction(new JdbcWork<Integer>() {
+      @Override
+      public Integer perform(JdbcOperations jdbc) throws SQLException {
+        for (int i = 0; i < 3; i++) {
+          jdbc.update()
+              .using("INSERT INTO foo(i) VALUES(?)")
+              .execute(Parameter.with(i));
+        }
+        return countRows();
+      }
+    });
+
+    assertThat(count, is(equalTo(3)));
+    assertThat(dataSource.getConnectionCount(),
+        is(equalTo(connectionCount + 1)));
+    assertThat(countRows(), is(equalTo(3)));
+  }
+
+  @Test
+  public void testInTransactionRollsBack() throws Exception {
+    jdbc.execute("CREATE TABLE foo ( i INTEGER )");
+    final IllegalStateException failure = new IllegalStateException();
+    try {
+      jdbc.inTransaction(new JdbcWork<Void>() {
+        @Override
+        public Void perform(JdbcOperations jdbc) throws SQLException {
+          jdbc.update()
+              .using("INSERT INTO foo(i) VALUES(?)")
+              .execute(Parameter.with(1));
+          throw failure;
+        }
+      });
+      fail("expected IllegalStateException");
+    }
+    catch (IllegalStateException ex) {
+      assertThat(ex, is(sameInstance(failure)));
+    }
+
+    assertThat(countRows(), is(equalTo(0)));
+  }
+
+  @Test
+  public void testScriptInTransactionRollsBack() throws Exception {
+    jdbc.execute("CREATE TABLE foo ( i INTEGER )");
+    jdbc.setAutoCommit(true);
+    final IllegalStateException failure = new IllegalStateException();
+    try {
+      jdbc.inTransaction(new JdbcWork<Void>() {
+        @Override
+        public Void perform(JdbcOperations jdbc) throws SQLException {
+          jdbc.executeScript(new StringSQLSource(
+              "INSERT INTO foo(i) VALUES(1); INSERT INTO foo(i) VALUES(2);"));
+          throw failure;
+        }
+      });
+      fail("expected IllegalStateException");
+    }
+    catch (IllegalStateException ex) {
+      assertThat(ex, is(sameInstance(failure)));
+    }
+
+    assertThat(countRows(), is(equalTo(0)));
+  }
+
+  @Test
+  public void testInConnectionWithNestedTransaction() throws Exception {
+    jdbc.execute("CREATE TABLE foo ( i INTEGER )");
+    final int connectionCount = dataSource.getConnectionCount();
+
+    jdbc.inConnection(new JdbcWork<Void>() {
+      @Override
+      public Void perform(final JdbcOperations jdbc) throws SQLException {
+        jdbc.update()
+            .using("INSERT INTO foo(i) VALUES(?)")
+            .execute(Parameter.with(1));
+        jdbc.inTransaction(new JdbcWork<Void>() {
+          @Override
+          public Void perform(JdbcOperations jdbc) throws SQLException {
+            jdbc.update()
+                .using("INSERT INTO foo(i) VALUES(?)")
+                .execute(Parameter.with(2));
+            return null;
+          }
+        });
+        return null;
+      }
+    });
+
+    assertThat(dataSource.getConnectionCount(),
+        is(equalTo(connectionCount + 1)));
+    assertThat(countRows(), is(equalTo(2)));
+  }
+
+  private int countRows() {
+    return jdbc.queryForType(int.class)
+        .using("SELECT COUNT(*) FROM foo")
+        .extractingColumn()
+        .retrieveValue();
+  }
+
+  @Test
+  public void testTemplatesUsedConcurrently() throws Exception {
+    jdbc.execute("CREATE TABLE foo ( i INTEGER )");
+    final UpdateTemplate insert = jdbc.update()
+        .using("INSERT INTO foo(i) VALUES(?)")
+        .asTemplate();
+    final QueryTemplate<Integer> select = jdbc.queryForType(Integer.class)
+        .using("SELECT i FROM foo WHERE i = ?")
+        .extractingColumn()
+        .asTemplate();
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<Integer>> results = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        final int value = i;
+        results.add(executor.submit(new Callable<Integer>() {
+          @Override
+          public Integer call() throws Exception {
+            insert.execute(Parameter.with(value));
+            return select.retrieveValue(Parameter.with(value));
+          }
+        }));
+      }
+      for (int i = 0; i < 20; i++) {
+        assertThat(results.get(i).get(), is(equalTo(i)));
+      }
+    }
+    finally {
+      executor.shutdown();
+    }
+
+    assertThat(countRows(), is(equalTo(20)));
+  }
+
+  @Test
+  public void testAsync() throws Exception {
+    jdbc.execute("CREATE TABLE foo ( i INTEGER )");
+    final UpdateTemplate insert = jdbc.update()
+        .using("INSERT INTO foo(i) VALUES(?)")
+        .asTemplate();
+    final QueryTemplate<Integer> select = jdbc.queryForType(Integer.class)
+        .using("SELECT i FROM foo ORDER BY i")
+        .extractingColumn()
+        .asTemplate();
+
+    jdbc.setAsyncConcurrency(2);
+    final AsyncJdbcOperations async = jdbc.async();
+    final List<Integer> results = async.executeBatch(insert, Arrays.asList(
+            new Parameter[] { Parameter.with(1) },
+            new Parameter[] { Parameter.with(2) }))
+        .thenCompose(counts -> async.retrieveList(select))
+        .get();
+
+    assertThat(results, is(equalTo(Arrays.asList(1, 2))));
+  }
+
+  @Test
+  public void testExecuteAndReturnKeys() throws Exception {
+    jdbc.execute("CREATE TABLE foo ( "
+        + "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+        + "text VARCHAR(255) )");
+
+    final long key = jdbc.update()
+        .using("INSERT INTO foo(text) VALUES(?)")
+        .returningKeys("ID")
+        .executeAndReturnKey(Parameter.with("a"));
+
+    final long[] keys = jdbc.update()
+        .using("INSERT INTO foo(text) VALUES(?)")
+        .returningKeys()
+        .executeAndReturnKeys(Parameter.with("b"));
+
+    final long[] batchKeys = jdbc.update()
+        .using("INSERT INTO foo(text) VALUES(?)")
+        .returningKeys("ID")
+        .batchSize(2)
+        .executeBatchAndReturnKeys(Arrays.asList(
+            new Parameter[] { Parameter.with("c") },
+            new Parameter[] { Parameter.with("d") },
+            new Parameter[] { Parameter.with("e") }));
+
+    assertThat(keys.length, is(equalTo(1)));
+    assertThat(keys[0], is(equalTo(key + 1)));
+    assertThat(batchKeys, is(equalTo(
+        new long[] { key + 2, key + 3, key + 4 })));
+
+    final String text = jdbc.queryForType(String.class)
+        .using("SELECT text FROM foo WHERE id = ?")
+        .extractingColumn()
+        .retrieveValue(Parameter.with(batchKeys[2]));
+    assertThat(text, is(equalTo("e")));
+  }
+
+  @Test
+  public void testNamedParameters() throws Exception {
+    jdbc.execute("CREATE TABLE person ( "
+        + "first_name VARCHAR(255), last_name VARCHAR(255) )");
+
+    final Map<String, Object> values = new HashMap<>();
+    values.put("first", "Joe");
+    values.put("last", "Smith");
+    jdbc.update()
+        .using("INSERT INTO person(first_name, last_name) "
+            + "VALUES(:first, :last)")
+        .execute(Parameter.fromMap(values));
+
+    jdbc.update()
+        .using("INSERT INTO person(first_name, last_name) "
+            + "VALUES(:first_name, :last_name)")
+        .execute(Parameter.fromBean(new NamedPerson("Mary", "Jones")));
+
+    final List<String> names = jdbc.queryForType(String.class)
+        .using("SELECT first_name FROM person "
+            + "WHERE last_name = :name OR first_name = :name "
+            + "OR last_name = :other ORDER BY first_name")
+        .extractingColumn()
+        .retrieveList(Parameter.named("name", "Smith"),
+            Parameter.named("other", "Jones"));
+
+    assertThat(names, is(equalTo(Arrays.asList("Joe", "Mary"))));
+  }
+
+  @Test
+  public void testMetrics() throws Exception {
+    final DefaultJdbcMetrics metrics = new DefaultJdbcMetrics();
+    jdbc.setMetrics(metrics);
+    jdbc.execute("CREATE TABLE foo ( text VARCHAR(255) )");
+
+    final String insert = "INSERT INTO foo(text) VALUES(?)";
+    jdbc.update().using(insert).execute(Parameter.with("a"));
+    jdbc.update().using(insert).execute(Parameter.with("b"));
+
+    final String select = "SELECT text FROM foo ORDER BY text";
+    jdbc.queryForType(String.class)
+        .using(select)
+        .extractingColumn()
+        .retrieveList();
+    try (Stream<String> stream = jdbc.queryForType(String.class)
+        .using(select)
+        .extractingColumn()
+        .stream()) {
+      assertThat(stream.count(), is(equalTo(2L)));
+    }
+
+    try {
+      jdbc.update().using("DELETE FROM bar").execute();
+      fail("expected SQLRuntimeException");
+    }
+    catch (SQLRuntimeException ex) {
+      assert true;
+    }
+
+    final StatementStats updates = metrics.snapshot(insert);
+    assertThat(updates.getExecutionCount(), is(equalTo(2L)));
+    assertThat(updates.getRowsUpdated(), is(equalTo(2L)));
+    assertThat(updates.getExecuteTimes().getCount(), is(equalTo(2L)));
+
+    final StatementStats queries = metrics.snapshot(select);
+    assertThat(queries.getExecutionCount(), is(equalTo(2L)));
+    assertThat(queries.getRowsFetched(), is(equalTo(4L)));
+    assertThat(queries.getFetchTimes().getCount(), is(equalTo(2L)));
+
+    assertThat(metrics.snapshot("DELETE FROM bar").getFailureCount(),
+        is(equalTo(1L)));
+  }
+
+  @Test
+  public void testSlowQueryRecorder() throws Exception {
+    final DefaultJdbcMetrics metrics = new DefaultJdbcMetrics();
+    final SlowQueryRecorder recorder =
+        new SlowQueryRecorder(0, TimeUnit.NANOSECONDS);
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    recorder.setExplainDataSource(dataSource);
+    recorder.setExplainExecutor(executor);
+    recorder.setExplainPrefix("EXPLAIN PLAN FOR ");
+    jdbc.setMetrics(CompositeJdbcMetrics.of(metrics, recorder));
+    jdbc.execute("CREATE TABLE foo ( id INTEGER, text VARCHAR(255) )");
+
+    final String select = "SELECT text FROM foo WHERE id = ?";
+    jdbc.queryForType(String.class)
+        .using(select)
+        .extractingColumn()
+        .retrieveList(Parameter.with(42));
+    executor.shutdown();
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS), is(true));
+
+    SlowQuery query = null;
+    for (final SlowQuery candidate : recorder.snapshot()) {
+      if (candidate.getSamples().get(0).getSql().equals(select)) {
+        query = candidate;
+      }
+    }
+    assertThat(query.getCount(), is(equalTo(1L)));
+    assertThat(query.getSamples().get(0).getParameters()[0].getValue(),
+        is(equalTo((Object) 42)));
+    assertThat(query.getPlan().contains("FOO"), is(true));
+    assertThat(metrics.snapshot(select).getExecutionCount(), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testQueriesUseReplicas() throws Exception {
+    final DataSourceWrapper replica = new DataSourceWrapper(db.getDataSource());
+    final FluentJdbc routed =
+        new FluentJdbc(dataSource, Collections.singletonList(replica));
+    routed.execute("CREATE TABLE foo ( i INTEGER )");
+    routed.update().using("INSERT INTO foo(i) VALUES(?)")
+        .execute(Parameter.with(1));
+    final int primaryConnections = dataSource.getConnectionCount();
+
+    final String sql = "SELECT COUNT(*) FROM foo";
+    assertThat(routed.queryForType(int.class).using(sql)
+        .extractingColumn().retrieveValue(), is(equalTo(1)));
+    assertThat(replica.getConnectionCount(), is(equalTo(1)));
+
+    assertThat(routed.queryForType(int.class).using(sql).onPrimary()
+        .extractingColumn().retrieveValue(), is(equalTo(1)));
+    assertThat(routed.inTransaction(new JdbcWork<Integer>() {
+      @Override
+      public Integer perform(JdbcOperations jdbc) throws SQLException {
+        return jdbc.queryForType(int.class).using(sql)
+            .extractingColumn().retrieveValue();
+      }
+    }), is(equalTo(1)));
+    assertThat(replica.getConnectionCount(), is(equalTo(1)));
+    assertThat(dataSource.getConnectionCount(),
+        is(equalTo(primaryConnections + 2)));
+    assertThat(replica.hasOpenConnections(), is(false));
+  }
+
+  @Test
+  public void testCachedQueryInvalidatedByUpdate() throws Exception {
+    final QueryResultCache cache = new QueryResultCache();
+    jdbc.setResultCache(cache);
+    jdbc.execute("CREATE TABLE foo ( i INTEGER )");
+    jdbc.update().using("INSERT INTO foo(i) VALUES(?)")
+        .execute(Parameter.with(1));
+
+    final String sql = "SELECT COUNT(*) FROM foo WHERE i > ?";
+    assertThat(jdbc.queryForType(int.class).using(sql).extractingColumn()
+        .cached().retrieveValue(Parameter.with(0)), is(equalTo(1)));
+    final int connections = dataSource.getConnectionCount();
+    assertThat(jdbc.queryForType(int.class).using(sql).extractingColumn()
+        .cached().retrieveValue(Parameter.with(0)), is(equalTo(1)));
+    assertThat(dataSource.getConnectionCount(), is(equalTo(connections)));
+    assertThat(cache.getHitCount(), is(equalTo(1L)));
+
+    jdbc.update().using("INSERT INTO foo(i) VALUES(?)")
+        .execute(Parameter.with(2));
+    assertThat(cache.size(), is(equalTo(0)));
+    assertThat(jdbc.queryForType(int.class).using(sql).extractingColumn()
+        .cached().retrieveValue(Parameter.with(0)), is(equalTo(2)));
+
+    jdbc.inTransaction(new JdbcWork<Void>() {
+      @Override
+      public Void perform(JdbcOperations jdbc) throws SQLException {
+        jdbc.execute("DELETE FROM foo");
+        assertThat(jdbc.queryForType(int.class).using(sql)
+            .extractingColumn().cached()
+            .retrieveValue(Parameter.with(0)), is(equalTo(0)));
+        return null;
+      }
+    });
+    assertThat(cache.size(), is(equalTo(0)));
+    assertThat(jdbc.queryForType(int.class).using(sql).extractingColumn()
+        .cached().retrieveValue(Parameter.with(0)), is(equalTo(0)));
+  }
+
+  @Test
+  public void testCachedQueryWithRowMapper() throws Exception {
+    final QueryResultCache cache = new QueryResultCache();
+    jdbc.setResultCache(cache);
+    jdbc.execute("CREATE TABLE foo ( i INTEGER )");
+    jdbc.update().using("INSERT INTO foo(i) VALUES(?)")
+        .execute(Parameter.with(1));
+
+    for (final String prefix : Arrays.asList("a", "a", "b")) {
+      final String value = jdbc.queryForType(String.class)
+          .using("SELECT i FROM foo")
+          .mappingRowsWith((rs, rowNum) -> prefix + rs.getInt(1))
+          .cached(prefix)
+          .retrieveValue();
+      assertThat(value, is(equalTo(prefix + "1")));
+    }
+    assertThat(cache.getHitCount(), is(equalTo(1L)));
+
+    // a capturing lambda is a new instance each time, but of the same class
+    for (int i = 0; i < 2; i++) {
+      final int offset = i;
+      jdbc.queryForType(Integer.class)
+          .using("SELECT i FROM foo")
+          .mappingRowsWith((rs, rowNum) -> offset >= 0 ? rs.getInt(1) : null)
+          .cached()
+          .retrieveList();
+    }
+    assertThat(cache.getHitCount(), is(equalTo(2L)));
+  }
+
+  public static class NamedPerson {
+
+    private final String firstName;
+    private final String lastName;
+
+    public NamedPerson(String firstName, String lastName) {
+      this.firstName = firstName;
+      this.lastName = lastName;
+    }
+
+    public String getFirstName() {
+      return firstName;
+    }
+
+    public String getLastName() {
+      return lastName;
+    }
+
+  }
+
 }
@@ -0,0 +1,119 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link HedgingPolicy}.
+ *
+ * @author Carl Harris
+ */
+public class HedgingPolicyTest {
+
+  @Test
+  public void testBudgetLimitsHedges() throws Exception {
+    final HedgingPolicy policy = new HedgingPolicy();
+    assertThat(policy.spend(), is(false));
+    for (int i = 0; i < 10; i++) {
+      policy.earn();
+    }
+    assertThat(policy.spend(), is(true));
+    assertThat(policy.spend(), is(false));
+    assertThat(policy.getHedgeCount(), is(equalTo(1L)));
+    assertThat(policy.getDeniedCount(), is(equalTo(2L)));
+  }
+
+  @Test
+  public void testBudgetLimitsBurst() throws Exception {
+    final HedgingPolicy policy = new HedgingPolicy();
+    policy.setBudget(100.0);
+    for (int i = 0; i < 2 * HedgingPolicy.MAX_BURST; i++) {
+      policy.earn();
+    }
+    for (int i = 0; i < HedgingPolicy.MAX_BURST; i++) {
+      assertThat(policy.spend(), is(true));
+    }
+    assertThat(policy.spend(), is(false));
+  }
+
+  @Test
+  public void testDelayTracksPercentile() throws Exception {
+    final HedgingPolicy policy =
+        new HedgingPolicy(50.0, 1, TimeUnit.MILLISECONDS);
+    final long latency = TimeUnit.MILLISECONDS.toNanos(10);
+    for (int i = 0; i < HedgingPolicy.REFRESH_INTERVAL - 1; i++) {
+      policy.record(latency);
+    }
+    assertThat(policy.getDelay(TimeUnit.MILLISECONDS), is(equalTo(1L)));
+    policy.record(latency);
+    assertThat(policy.getDelay(TimeUnit.MILLISECONDS),
+        is(greaterThanOrEqualTo(9L)));
+    assertThat(policy.getDelay(TimeUnit.MILLISECONDS),
+        is(lessThanOrEqualTo(12L)));
+  }
+
+  @Test
+  public void testDelayUsesSlidingWindow() throws Exception {
+    final HedgingPolicy policy =
+        new HedgingPolicy(50.0, 1, TimeUnit.MILLISECONDS);
+    for (int i = 0; i < HedgingPolicy.WINDOW_SIZE; i++) {
+      policy.record(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+    for (int i = 0; i < HedgingPolicy.WINDOW_SIZE / 4; i++) {
+      policy.record(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+    // recent executions still include the previous half of the window
+    assertThat(policy.getDelay(TimeUnit.MILLISECONDS),
+        is(lessThanOrEqualTo(12L)));
+    for (int i = 0; i < HedgingPolicy.WINDOW_SIZE * 3 / 4; i++) {
+      policy.record(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+    assertThat(policy.getDelay(TimeUnit.MILLISECONDS),
+        is(greaterThanOrEqualTo(90L)));
+  }
+
+  @Test
+  public void testFixedDelay() throws Exception {
+    final HedgingPolicy policy = new HedgingPolicy(5, TimeUnit.MILLISECONDS);
+    for (int i = 0; i < HedgingPolicy.REFRESH_INTERVAL; i++) {
+      policy.record(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+    assertThat(policy.getDelay(TimeUnit.MILLISECONDS), is(equalTo(5L)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPercentile() throws Exception {
+    new HedgingPolicy(101.0, 1, TimeUnit.MILLISECONDS);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidBudget() throws Exception {
+    new HedgingPolicy().setBudget(-1.0);
+  }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import javax.sql.DataSource;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.jdbc.logger.JdbcLogger;
+
+/**
+ * Unit tests for {@link ImmutableQueryTemplate}.
+ *
+ * @author Carl Harris
+ */
+public class ImmutableQueryTemplateTest {
+
+  private static final String SQL = "some SQL statement";
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private DataSource dataSource;
+
+  @Mock
+  private Connection connection;
+
+  @Mock
+  private PreparedStatement statement;
+
+  @Mock
+  private ResultSet resultSet;
+
+  @Mock
+  private JdbcLogger logger;
+
+  @Test
+  public void testEachExecutionUsesNewStatement() throws Exception {
+    context.checking(new Expectations() {
+      {
+        allowing(logger).writeStatement(SQL);
+        allowing(logger).writeParameters(with(any(Parameter[].class)));
+        exactly(2).of(dataSource).getConnection();
+        will(returnValue(connection));
+        exactly(2).of(connection).prepareStatement(SQL);
+        will(returnValue(statement));
+        exactly(2).of(statement).executeQuery();
+        will(returnValue(resultSet));
+        exactly(4).of(resultSet).next();
+        will(onConsecutiveCalls(returnValue(true), returnValue(false),
+            returnValue(true), returnValue(false)));
+        exactly(2).of(resultSet).getString(1);
+        will(onConsecutiveCalls(returnValue("a"), returnValue("b")));
+        exactly(2).of(resultSet).close();
+        exactly(2).of(statement).close();
+        exactly(2).of(connection).close();
+      }
+    });
+
+    final QueryTemplate<String> template =
+        new QueryBuilder<>(String.class, dataSource, logger)
+            .using(SQL)
+            .extractingColumn()
+            .asTemplate();
+
+    assertThat(template.getStatementText(), is(equalTo(SQL)));
+    assertThat(template.retrieveValue(), is(equalTo("a")));
+    assertThat(template.retrieveValue(), is(equalTo("b")));
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.sql.ResultSet;
+
+import org.jmock.Expectations;
+import org.jmock.api.Invocation;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.action.CustomAction;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LongColumnHandler}.
+ *
+ * @author Carl Harris
+ */
+public class LongColumnHandlerTest {
+
+  private static final int ROWS = 100;
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private ResultSet rs;
+
+  @Test
+  public void testHandleResultByIndex() throws Exception {
+    context.checking(new Expectations() {
+      {
+        exactly(ROWS + 1).of(rs).next();
+        will(new RowsAction(ROWS));
+        for (long i = 0; i < ROWS; i++) {
+          oneOf(rs).getLong(2);
+          will(returnValue(i));
+        }
+      }
+    });
+
+    final long[] values = new LongColumnHandler(
+        ColumnExtractor.with(2, Long.class)).handleResult(rs);
+
+    assertThat(values.length, is(equalTo(ROWS)));
+    for (int i = 0; i < ROWS; i++) {
+      assertThat(values[i], is(equalTo((long) i)));
+    }
+  }
+
+  @Test
+  public void testHandleResultByLabel() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(rs).findColumn("id");
+        will(returnValue(3));
+        exactly(2).of(rs).next();
+        will(onConsecutiveCalls(returnValue(true), returnValue(false)));
+        oneOf(rs).getLong(3);
+        will(returnValue(42L));
+      }
+    });
+
+    final long[] values = new LongColumnHandler(
+        ColumnExtractor.with("id", Long.class)).handleResult(rs);
+
+    assertThat(values, is(equalTo(new long[] { 42L })));
+  }
+
+  private static class RowsAction extends CustomAction {
+
+    private final int rows;
+    private int row;
+
+    RowsAction(int rows) {
+      super("returns true " + rows + " times");
+      this.rows = rows;
+    }
+
+    @Override
+    public Object invoke(Invocation invocation) {
+      return row++ < rows;
+    }
+
+  }
+
+}
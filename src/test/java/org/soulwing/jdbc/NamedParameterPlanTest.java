@@ -0,0 +1,152 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link NamedParameterPlan}.
+ *
+ * @author Carl Harris
+ */
+public class NamedParameterPlanTest {
+
+  private static final String SQL =
+      "SELECT * FROM person WHERE last_name = :last_name "
+          + "OR first_name = :firstName OR nickname = :firstName";
+
+  @Test
+  public void testPlanIsCached() throws Exception {
+    final NamedParameterPlan plan = NamedParameterPlan.forStatement(SQL);
+    assertThat(NamedParameterPlan.forStatement(SQL), is(sameInstance(plan)));
+    assertThat(plan.getSql(), is(equalTo(
+        "SELECT * FROM person WHERE last_name = ? "
+            + "OR first_name = ? OR nickname = ?")));
+    assertThat(plan.getParameterCount(), is(equalTo(3)));
+  }
+
+  @Test
+  public void testPlanIsCachedWhenCacheIsFull() throws Exception {
+    for (int i = 0; i < NamedParameterPlan.MAX_PLANS + 1; i++) {
+      NamedParameterPlan.forStatement("SELECT * FROM t WHERE a = :a" + i);
+    }
+    final String sql = "SELECT * FROM t WHERE b = :b";
+    final NamedParameterPlan plan = NamedParameterPlan.forStatement(sql);
+    assertThat(NamedParameterPlan.forStatement(sql), is(sameInstance(plan)));
+  }
+
+  @Test
+  public void testStatementWithCastsAndTimesIsNotScanned() throws Exception {
+    final String sql =
+        "SELECT a::text FROM t WHERE b = TIME '12:30' AND c = ?";
+    final NamedParameterPlan plan = NamedParameterPlan.forStatement(sql);
+    assertThat(plan.getSql(), is(sameInstance(sql)));
+    assertThat(plan.getParameterCount(), is(equalTo(0)));
+  }
+
+  @Test
+  public void testBindPositionalParameters() throws Exception {
+    final NamedParameterPlan plan =
+        NamedParameterPlan.forStatement("SELECT * FROM t WHERE a = ?");
+    final Parameter[] parameters = { Parameter.with(1) };
+    assertThat(plan.bind(parameters), is(sameInstance(parameters)));
+  }
+
+  @Test
+  public void testBindNamedParameters() throws Exception {
+    final Parameter firstName = Parameter.named("firstName", "Joe");
+    final Parameter lastName = Parameter.named("last_name", "Smith");
+    final Parameter[] bound = NamedParameterPlan.forStatement(SQL)
+        .bind(new Parameter[] { firstName, lastName });
+    assertThat(bound.length, is(equalTo(3)));
+    assertThat(bound[0], is(sameInstance(lastName)));
+    assertThat(bound[1], is(sameInstance(firstName)));
+    assertThat(bound[2], is(sameInstance(firstName)));
+  }
+
+  @Test
+  public void testBindFromMap() throws Exception {
+    final Map<String, Object> values = new HashMap<>();
+    values.put("firstName", "Joe");
+    values.put("last_name", null);
+    final Parameter[] bound = NamedParameterPlan.forStatement(SQL)
+        .bind(new Parameter[] { Parameter.fromMap(values) });
+    assertThat(bound[0].getValue(), is(equalTo((Object) null)));
+    assertThat(bound[1].getValue(), is(equalTo((Object) "Joe")));
+    assertThat(bound[2].getValue(), is(equalTo((Object) "Joe")));
+  }
+
+  @Test
+  public void testBindFromBean() throws Exception {
+    final Parameter[] bound = NamedParameterPlan.forStatement(SQL)
+        .bind(new Parameter[] { Parameter.fromBean(new Person()) });
+    assertThat(bound[0].getValue(), is(equalTo((Object) "Smith")));
+    assertThat(bound[1].getValue(), is(equalTo((Object) "Joe")));
+  }
+
+  @Test
+  public void testNamedParameterOverridesBean() throws Exception {
+    final Parameter[] bound = NamedParameterPlan.forStatement(SQL)
+        .bind(new Parameter[] {
+            Parameter.named("firstName", "Bob"),
+            Parameter.fromBean(new Person()) });
+    assertThat(bound[0].getValue(), is(equalTo((Object) "Smith")));
+    assertThat(bound[1].getValue(), is(equalTo((Object) "Bob")));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBindWhenValueMissing() throws Exception {
+    NamedParameterPlan.forStatement(SQL).bind(new Parameter[] {
+        Parameter.fromMap(Collections.singletonMap("firstName", "Joe")) });
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBindPositionalToNamedStatement() throws Exception {
+    NamedParameterPlan.forStatement(SQL).bind(
+        new Parameter[] { Parameter.with("Joe") });
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBindNamedToPositionalStatement() throws Exception {
+    NamedParameterPlan.forStatement("SELECT * FROM t WHERE a = ?").bind(
+        new Parameter[] { Parameter.named("a", 1) });
+  }
+
+  public static class Person {
+
+    public String getFirstName() {
+      return "Joe";
+    }
+
+    public String getLastName() {
+      return "Smith";
+    }
+
+  }
+
+}
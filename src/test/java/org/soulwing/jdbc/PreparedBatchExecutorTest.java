@@ -0,0 +1,139 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+
+import javax.sql.DataSource;
+
+import org.jmock.Expectations;
+import org.jmock.Sequence;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.jdbc.logger.JdbcLogger;
+
+/**
+ * Unit tests for {@link PreparedBatchExecutor}.
+ *
+ * @author Carl Harris
+ */
+public class PreparedBatchExecutorTest {
+
+  private static final String SQL = "some SQL statement";
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private DataSource dataSource;
+
+  @Mock
+  private PreparedStatementCreator<PreparedStatement> psc;
+
+  @Mock
+  private PreparedStatement statement;
+
+  @Mock
+  private JdbcLogger logger;
+
+  private PreparedBatchExecutor executor;
+
+  @Before
+  public void setUp() throws Exception {
+    executor = new PreparedBatchExecutor(psc, 2, logger);
+    context.checking(new Expectations() {
+      {
+        allowing(psc).getStatementText();
+        will(returnValue(SQL));
+        allowing(logger).writeStatement(SQL);
+        allowing(logger).writeParameters(with(any(Parameter[].class)));
+        oneOf(psc).prepareStatement(dataSource);
+        will(returnValue(statement));
+      }
+    });
+  }
+
+  @Test
+  public void testExecuteWhenBatchSizeReached() throws Exception {
+    final Sequence sequence = context.sequence("batch");
+    context.checking(new Expectations() {
+      {
+        oneOf(statement).setObject(1, "a");
+        inSequence(sequence);
+        oneOf(statement).addBatch();
+        inSequence(sequence);
+        oneOf(statement).setObject(1, "b");
+        inSequence(sequence);
+        oneOf(statement).addBatch();
+        inSequence(sequence);
+        oneOf(statement).executeBatch();
+        inSequence(sequence);
+        will(returnValue(new int[] { 1, 1 }));
+        oneOf(statement).setObject(1, "c");
+        inSequence(sequence);
+        oneOf(statement).addBatch();
+        inSequence(sequence);
+        oneOf(statement).executeBatch();
+        inSequence(sequence);
+        will(returnValue(new int[] { 0 }));
+      }
+    });
+
+    executor.addBatch(dataSource, new Parameter[] { Parameter.with("a") });
+    executor.addBatch(dataSource, new Parameter[] { Parameter.with("b") });
+    assertThat(executor.getPendingCount(), is(equalTo(0)));
+    executor.addBatch(dataSource, new Parameter[] { Parameter.with("c") });
+    assertThat(executor.getPendingCount(), is(equalTo(1)));
+    assertThat(executor.execute(dataSource), is(equalTo(new int[] { 1, 1, 0 })));
+    assertThat(executor.execute(dataSource), is(equalTo(new int[0])));
+  }
+
+  @Test
+  public void testExecuteBatchFailureDiscardsBatch() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(statement).setObject(1, "a");
+        oneOf(statement).addBatch();
+        oneOf(statement).executeBatch();
+        will(throwException(new BatchUpdateException()));
+        oneOf(statement).clearBatch();
+      }
+    });
+
+    executor.addBatch(dataSource, new Parameter[] { Parameter.with("a") });
+    try {
+      executor.execute(dataSource);
+      fail("expected BatchUpdateException");
+    }
+    catch (BatchUpdateException ex) {
+      assert true;
+    }
+    assertThat(executor.getPendingCount(), is(equalTo(0)));
+  }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.jdbc.logger.JdbcLogger;
+import org.soulwing.jdbc.metrics.DefaultJdbcMetrics;
+import org.soulwing.jdbc.metrics.JdbcMetrics;
+import org.soulwing.jdbc.metrics.NullJdbcMetrics;
+
+/**
+ * Unit tests for {@link PreparedKeyExecutor}.
+ *
+ * @author Carl Harris
+ */
+public class PreparedKeyExecutorTest
+    extends AbstractPreparedStatementExecutorTest<long[], PreparedStatement> {
+
+  private static final long KEY = 42L;
+
+  @Rule
+  public final JUnitRuleMockery context =
+      new JUnitRuleClassImposterizingMockery();
+
+  @Mock
+  private PreparedStatement statement;
+
+  @Mock
+  private ResultSet keys;
+
+  @Mock
+  private JdbcLogger logger;
+
+  private JdbcMetrics metrics = NullJdbcMetrics.INSTANCE;
+
+  private int rowsUpdated = 1;
+
+  @Override
+  protected AbstractPreparedStatementExecutor<long[], PreparedStatement> newExecutor(
+      PreparedStatementCreator<PreparedStatement> psc, Parameter[] parameters) {
+    return new PreparedKeyExecutor(psc, parameters, logger, metrics);
+  }
+
+  @Override
+  protected Expectations doExecuteExpectations() throws Exception {
+    return new Expectations() {
+      {
+        oneOf(logger).writeStatement(SQL);
+        oneOf(logger).writeParameters(with(any(Parameter[].class)));
+        oneOf(statement).executeUpdate();
+        will(returnValue(rowsUpdated));
+        oneOf(statement).getGeneratedKeys();
+        will(returnValue(keys));
+        exactly(2).of(keys).next();
+        will(onConsecutiveCalls(returnValue(true), returnValue(false)));
+        oneOf(keys).getLong(1);
+        will(returnValue(KEY));
+        oneOf(keys).close();
+      }
+    };
+  }
+
+  @Test
+  public void testExecute() throws Exception {
+    assertThat(validateExecute(context, statement),
+        is(equalTo(new long[] { KEY })));
+  }
+
+  @Test
+  public void testReportsUpdateCountRatherThanKeyCount() throws Exception {
+    final DefaultJdbcMetrics metrics = new DefaultJdbcMetrics(1);
+    this.metrics = metrics;
+    this.rowsUpdated = 3;
+    validateExecute(context, statement);
+    assertThat(metrics.snapshot(SQL).getRowsUpdated(), is(equalTo(3L)));
+  }
+
+}
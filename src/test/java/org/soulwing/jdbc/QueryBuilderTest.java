@@ -100,6 +100,25 @@ public class QueryBuilderTest {
     query.retrieve(handler);
   }
 
+  @Test(expected = IllegalStateException.class)
+  public void testStreamFailsWhenResultSetHandlerConfigured() throws Exception {
+    query.using(SQL).handlingResultWith(handler);
+    query.stream();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAsTemplateFailsWhenNoStatementConfigured() throws Exception {
+    query.mappingRowsWith(rowMapper);
+    query.asTemplate();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRetrieveLongArrayFailsWhenRowMapperConfigured()
+      throws Exception {
+    query.using(SQL).mappingRowsWith(rowMapper);
+    query.retrieveLongArray();
+  }
+
   @Test
   public void testRetrieveClosesWhenNotRepeatable() throws Exception {
     context.checking(prepareStatementExpectations());
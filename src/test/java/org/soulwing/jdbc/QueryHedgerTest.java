@@ -0,0 +1,165 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.concurrent.Synchroniser;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.jdbc.synthetic.SyntheticDatabase;
+import org.soulwing.jdbc.synthetic.SyntheticResult;
+
+/**
+ * Unit tests for {@link QueryHedger}.
+ *
+ * @author Carl Harris
+ */
+public class QueryHedgerTest {
+
+  private static final String SQL = "SELECT name FROM person";
+
+  private static final String[] LABELS = { "name" };
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery() {
+    {
+      setThreadingPolicy(new Synchroniser());
+    }
+  };
+
+  @Mock
+  private DataSource dataSource;
+
+  private final SyntheticDatabase slow = new SyntheticDatabase();
+
+  private final SyntheticDatabase fast = new SyntheticDatabase();
+
+  private final HedgingPolicy policy =
+      new HedgingPolicy(10, TimeUnit.MILLISECONDS);
+
+  private FluentJdbc jdbc;
+
+  @Before
+  public void setUp() throws Exception {
+    final SyntheticResult result =
+        SyntheticResult.of(LABELS, new Object[] { "Alice" });
+    slow.setDefaultResult(result);
+    slow.setRoundTripLatency(500, TimeUnit.MILLISECONDS);
+    fast.setDefaultResult(result);
+    policy.setBudget(100.0);
+    jdbc = new FluentJdbc(dataSource);
+    jdbc.setHedgingPolicy(policy);
+  }
+
+  @Test
+  public void testSlowQueryIsHedged() throws Exception {
+    final Connection slowConnection = slow.getConnection();
+    final Connection fastConnection = fast.getConnection();
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(dataSource).getConnection();
+        will(onConsecutiveCalls(returnValue(slowConnection),
+            returnValue(fastConnection)));
+      }
+    });
+
+    final long start = System.nanoTime();
+    final List<String> names = jdbc.queryForType(String.class)
+        .using(SQL)
+        .extractingColumn()
+        .hedged()
+        .retrieveList();
+    final long elapsed = System.nanoTime() - start;
+
+    assertThat(names, contains("Alice"));
+    assertThat(elapsed, is(lessThan(TimeUnit.MILLISECONDS.toNanos(250))));
+    assertThat(policy.getHedgeCount(), is(equalTo(1L)));
+    assertThat(policy.getWinCount(), is(equalTo(1L)));
+    awaitCancel(slow);
+  }
+
+  @Test
+  public void testFastQueryIsNotHedged() throws Exception {
+    final Connection fastConnection = fast.getConnection();
+    context.checking(new Expectations() {
+      {
+        oneOf(dataSource).getConnection();
+        will(returnValue(fastConnection));
+      }
+    });
+
+    final String name = jdbc.queryForType(String.class)
+        .using(SQL)
+        .extractingColumn()
+        .hedged()
+        .retrieveValue();
+
+    assertThat(name, is(equalTo("Alice")));
+    assertThat(policy.getHedgeCount(), is(equalTo(0L)));
+  }
+
+  @Test
+  public void testQueryIsNotHedgedWithoutBudget() throws Exception {
+    policy.setBudget(0.0);
+    slow.setRoundTripLatency(50, TimeUnit.MILLISECONDS);
+    final Connection slowConnection = slow.getConnection();
+    context.checking(new Expectations() {
+      {
+        oneOf(dataSource).getConnection();
+        will(returnValue(slowConnection));
+      }
+    });
+
+    final String name = jdbc.queryForType(String.class)
+        .using(SQL)
+        .extractingColumn()
+        .hedged()
+        .retrieveValue();
+
+    assertThat(name, is(equalTo("Alice")));
+    assertThat(policy.getHedgeCount(), is(equalTo(0L)));
+    assertThat(policy.getDeniedCount(), is(equalTo(1L)));
+  }
+
+  private static void awaitCancel(SyntheticDatabase database)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+    while (database.getCancelCount() == 0
+        && System.nanoTime() - deadline < 0) {
+      Thread.sleep(5);
+    }
+    assertThat(database.getCancelCount(), is(equalTo(1L)));
+  }
+
+}
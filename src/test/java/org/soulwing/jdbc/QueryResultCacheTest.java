@@ -0,0 +1,185 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link QueryResultCache}.
+ *
+ * @author Carl Harris
+ */
+public class QueryResultCacheTest {
+
+  private static final Set<String> FOO = Collections.singleton("FOO");
+
+  private static final Set<String> BAR = Collections.singleton("BAR");
+
+  private final QueryResultCache cache = new QueryResultCache();
+
+  @Test
+  public void testPutAndGet() throws Exception {
+    final List<String> result = Arrays.asList("a", "b");
+    assertThat(cache.get(key("a", 1)),
+        is(sameInstance(QueryResultCache.NOT_FOUND)));
+    cache.put(key("a", 1), FOO, result, cache.getGeneration(FOO));
+
+    final Object cached = cache.get(key("a", 1));
+    assertThat(cached, is(equalTo((Object) result)));
+    assertThat(cached, is(not(sameInstance((Object) result))));
+    assertThat(cache.get(key("a", 2)),
+        is(sameInstance(QueryResultCache.NOT_FOUND)));
+    assertThat(cache.getHitCount(), is(equalTo(1L)));
+    assertThat(cache.getMissCount(), is(equalTo(2L)));
+  }
+
+  @Test
+  public void testKeyDistinguishesResultShape() throws Exception {
+    final Parameter[] parameters = { Parameter.with(1) };
+    cache.put(new QueryResultCache.Key("sql", String.class, 1, null, true,
+        parameters), FOO, "value", cache.getGeneration(FOO));
+    assertThat(cache.get(new QueryResultCache.Key("sql", String.class, 2,
+        null, true, parameters)),
+        is(sameInstance(QueryResultCache.NOT_FOUND)));
+    assertThat(cache.get(new QueryResultCache.Key("sql", String.class, 1,
+        null, false, parameters)),
+        is(sameInstance(QueryResultCache.NOT_FOUND)));
+    assertThat(cache.get(new QueryResultCache.Key("sql", String.class, 1,
+        null, true, parameters)), is(equalTo((Object) "value")));
+  }
+
+  @Test
+  public void testExpiration() throws Exception {
+    final QueryResultCache cache =
+        new QueryResultCache(10, 20, TimeUnit.MILLISECONDS);
+    cache.put(key("a", 1), FOO, "value", cache.getGeneration(FOO));
+    Thread.sleep(40);
+    assertThat(cache.get(key("a", 1)),
+        is(sameInstance(QueryResultCache.NOT_FOUND)));
+    assertThat(cache.getExpirationCount(), is(equalTo(1L)));
+    assertThat(cache.size(), is(equalTo(0)));
+  }
+
+  @Test
+  public void testEvictsLeastRecentlyUsed() throws Exception {
+    final QueryResultCache cache =
+        new QueryResultCache(2, 1, TimeUnit.MINUTES);
+    cache.put(key("a", 1), FOO, "a", cache.getGeneration(FOO));
+    cache.put(key("b", 1), FOO, "b", cache.getGeneration(FOO));
+    cache.get(key("a", 1));
+    cache.put(key("c", 1), FOO, "c", cache.getGeneration(FOO));
+
+    assertThat(cache.size(), is(equalTo(2)));
+    assertThat(cache.getEvictionCount(), is(equalTo(1L)));
+    assertThat(cache.get(key("b", 1)),
+        is(sameInstance(QueryResultCache.NOT_FOUND)));
+    assertThat(cache.get(key("a", 1)), is(equalTo((Object) "a")));
+    assertThat(cache.get(key("c", 1)), is(equalTo((Object) "c")));
+  }
+
+  @Test
+  public void testEvictsByWeight() throws Exception {
+    final QueryResultCache cache = new QueryResultCache(4, 1,
+        TimeUnit.MINUTES, QueryResultCache.Weigher.ROWS);
+    cache.put(key("a", 1), FOO, Arrays.asList(1, 2, 3),
+        cache.getGeneration(FOO));
+    assertThat(cache.getWeight(), is(equalTo(3L)));
+    cache.put(key("b", 1), FOO, Arrays.asList(1, 2), cache.getGeneration(FOO));
+    assertThat(cache.getWeight(), is(equalTo(2L)));
+    assertThat(cache.getEvictionCount(), is(equalTo(1L)));
+
+    cache.put(key("c", 1), FOO, Arrays.asList(1, 2, 3, 4, 5),
+        cache.getGeneration(FOO));
+    assertThat(cache.get(key("c", 1)),
+        is(sameInstance(QueryResultCache.NOT_FOUND)));
+    assertThat(cache.size(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testSegmentedCache() throws Exception {
+    final QueryResultCache cache =
+        new QueryResultCache(10000, 1, TimeUnit.MINUTES);
+    for (int i = 0; i < 100; i++) {
+      final Set<String> tables = i % 2 == 0 ? FOO : BAR;
+      cache.put(key("a", i), tables, i, cache.getGeneration(tables));
+    }
+    assertThat(cache.size(), is(equalTo(100)));
+    assertThat(cache.get(key("a", 42)), is(equalTo((Object) 42)));
+
+    cache.invalidate("foo");
+    assertThat(cache.size(), is(equalTo(50)));
+    assertThat(cache.get(key("a", 42)),
+        is(sameInstance(QueryResultCache.NOT_FOUND)));
+    assertThat(cache.get(key("a", 43)), is(equalTo((Object) 43)));
+  }
+
+  @Test
+  public void testInvalidateTable() throws Exception {
+    cache.put(key("a", 1), FOO, "a", cache.getGeneration(FOO));
+    cache.put(key("b", 1), BAR, "b", cache.getGeneration(BAR));
+
+    cache.invalidate("app.foo");
+    assertThat(cache.get(key("a", 1)),
+        is(sameInstance(QueryResultCache.NOT_FOUND)));
+    assertThat(cache.get(key("b", 1)), is(equalTo((Object) "b")));
+    assertThat(cache.getInvalidationCount(), is(equalTo(1L)));
+
+    cache.invalidateAll();
+    assertThat(cache.size(), is(equalTo(0)));
+    assertThat(cache.getWeight(), is(equalTo(0L)));
+  }
+
+  @Test
+  public void testPutIgnoredAfterConcurrentInvalidation() throws Exception {
+    final long token = cache.getGeneration(FOO);
+    cache.invalidate("foo");
+    cache.put(key("a", 1), FOO, "a", token);
+    assertThat(cache.size(), is(equalTo(0)));
+
+    final long otherToken = cache.getGeneration(FOO);
+    cache.invalidate("bar");
+    cache.put(key("a", 1), FOO, "a", otherToken);
+    assertThat(cache.size(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testGetTables() throws Exception {
+    assertThat(cache.getTables("SELECT * FROM foo f JOIN bar b ON f.id = b.id"),
+        contains("FOO", "BAR"));
+  }
+
+  private static QueryResultCache.Key key(String sql, int parameter) {
+    return new QueryResultCache.Key(sql, Object.class, 1, null, false,
+        new Parameter[] { Parameter.with(parameter) });
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.sql.Connection;
+
+import javax.sql.DataSource;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ReadRoutingDataSource}.
+ *
+ * @author Carl Harris
+ */
+public class ReadRoutingDataSourceTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private DataSource primary;
+
+  @Mock
+  private DataSource replicas;
+
+  @Mock
+  private Connection connection;
+
+  private ConnectionBindingDataSource bindingDataSource;
+
+  private ReadRoutingDataSource dataSource;
+
+  @Before
+  public void setUp() throws Exception {
+    bindingDataSource = new ConnectionBindingDataSource(primary);
+    dataSource = new ReadRoutingDataSource(bindingDataSource, replicas);
+  }
+
+  @Test
+  public void testGetConnectionWhenNotBound() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(replicas).getConnection();
+        will(returnValue(connection));
+      }
+    });
+
+    assertThat(dataSource.getConnection(), is(sameInstance(connection)));
+  }
+
+  @Test
+  public void testGetConnectionWhenBound() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(primary).getConnection();
+        will(returnValue(connection));
+      }
+    });
+
+    bindingDataSource.bind();
+    try {
+      assertThat(dataSource.getConnection(),
+          is(sameInstance(bindingDataSource.getBoundConnection())));
+    }
+    finally {
+      bindingDataSource.unbind();
+    }
+  }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ResultCacheBinding}.
+ *
+ * @author Carl Harris
+ */
+public class ResultCacheBindingTest {
+
+  private static final String SQL = "UPDATE foo SET i = 1";
+
+  private static final Set<String> FOO = Collections.singleton("FOO");
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private DataSource delegate;
+
+  @Mock
+  private Connection connection;
+
+  private final QueryResultCache cache = new QueryResultCache();
+
+  private ConnectionBindingDataSource dataSource;
+
+  private ResultCacheBinding binding;
+
+  @Before
+  public void setUp() throws Exception {
+    dataSource = new ConnectionBindingDataSource(delegate);
+    binding = new ResultCacheBinding(cache, dataSource);
+    context.checking(new Expectations() {
+      {
+        oneOf(delegate).getConnection();
+        will(returnValue(connection));
+      }
+    });
+    dataSource.bind();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    dataSource.unbind();
+  }
+
+  @Test
+  public void testInvalidatesAgainWhenTransactionEnds() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(connection).getAutoCommit();
+        will(returnValue(false));
+      }
+    });
+
+    binding.invalidate(SQL);
+    putResult();
+    binding.transactionEnded();
+    assertThat(cache.size(), is(equalTo(0)));
+  }
+
+  @Test
+  public void testDoesNotRecordChangesInAutoCommitMode() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(connection).getAutoCommit();
+        will(returnValue(true));
+      }
+    });
+
+    binding.invalidate(SQL);
+    putResult();
+    binding.transactionEnded();
+    assertThat(cache.size(), is(equalTo(1)));
+  }
+
+  private void putResult() {
+    cache.put(new QueryResultCache.Key("SELECT i FROM foo", Integer.class, 1,
+        null, true, new Parameter[0]), FOO, 1, cache.getGeneration(FOO));
+  }
+
+}
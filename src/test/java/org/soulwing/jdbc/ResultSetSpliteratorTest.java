@@ -0,0 +1,106 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ResultSetSpliterator}.
+ *
+ * @author Carl Harris
+ */
+public class ResultSetSpliteratorTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private ResultSet rs;
+
+  @Mock
+  private ResultSetHandler<Object> handler;
+
+  private int closeCount;
+
+  private final Runnable closeAction = new Runnable() {
+    @Override
+    public void run() {
+      closeCount++;
+    }
+  };
+
+  @Test
+  public void testTraverseAndCloseWhenExhausted() throws Exception {
+    final Object result = new Object();
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(rs).next();
+        will(onConsecutiveCalls(returnValue(true), returnValue(false)));
+        oneOf(handler).handleResult(rs);
+        will(returnValue(result));
+      }
+    });
+
+    final ResultSetSpliterator<Object> spliterator =
+        new ResultSetSpliterator<>(rs, handler, closeAction);
+    final List<Object> results = new ArrayList<>();
+    spliterator.forEachRemaining(results::add);
+    spliterator.close();
+
+    assertThat(results, contains(result));
+    assertThat(closeCount, is(equalTo(1)));
+  }
+
+  @Test
+  public void testCloseWhenNextFails() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(rs).next();
+        will(throwException(new SQLException()));
+      }
+    });
+
+    final ResultSetSpliterator<Object> spliterator =
+        new ResultSetSpliterator<>(rs, handler, closeAction);
+    try {
+      spliterator.tryAdvance(new ArrayList<>()::add);
+      fail("expected SQLRuntimeException");
+    }
+    catch (SQLRuntimeException ex) {
+      assertThat(closeCount, is(equalTo(1)));
+    }
+    assertThat(spliterator.tryAdvance(new ArrayList<>()::add), is(false));
+  }
+
+}
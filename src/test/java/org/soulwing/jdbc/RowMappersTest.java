@@ -0,0 +1,189 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link RowMappers}.
+ *
+ * @author Carl Harris
+ */
+public class RowMappersTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private ResultSet rs;
+
+  @Mock
+  private ResultSetMetaData metaData;
+
+  @Test
+  public void testForBean() throws Exception {
+    context.checking(metaDataExpectations("ID", "FIRST_NAME", "other"));
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(rs).getLong(1);
+        will(onConsecutiveCalls(returnValue(1L), returnValue(2L)));
+        exactly(2).of(rs).getString(2);
+        will(onConsecutiveCalls(returnValue("Alice"), returnValue(null)));
+      }
+    });
+
+    final RowMapper<Person> mapper = RowMappers.forBean(Person.class);
+    final Person first = mapper.mapRow(rs, 1);
+    final Person second = mapper.mapRow(rs, 2);
+    assertThat(first.getId(), is(equalTo(1L)));
+    assertThat(first.getFirstName(), is(equalTo("Alice")));
+    assertThat(second.getId(), is(equalTo(2L)));
+    assertThat(second.getFirstName(), is(nullValue()));
+  }
+
+  @Test
+  public void testForBeanIsCached() throws Exception {
+    assertThat(RowMappers.forBean(Person.class),
+        is(sameInstance(RowMappers.forBean(Person.class))));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testForBeanWithoutNoArgConstructor() throws Exception {
+    RowMappers.forBean(Point.class);
+  }
+
+  @Test
+  public void testForConstructor() throws Exception {
+    context.checking(metaDataExpectations("y", "x"));
+    context.checking(new Expectations() {
+      {
+        oneOf(rs).getInt(2);
+        will(returnValue(3));
+        oneOf(rs).getInt(1);
+        will(returnValue(4));
+      }
+    });
+
+    final Point point = RowMappers.forConstructor(Point.class, "x", "y")
+        .mapRow(rs, 1);
+    assertThat(point.x, is(equalTo(3)));
+    assertThat(point.y, is(equalTo(4)));
+  }
+
+  @Test
+  public void testPlanResolvedOncePerResultSet() throws Exception {
+    context.checking(metaDataExpectations("x", "y"));
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(rs).getInt(1);
+        will(onConsecutiveCalls(returnValue(1), returnValue(3)));
+        exactly(2).of(rs).getInt(2);
+        will(onConsecutiveCalls(returnValue(2), returnValue(4)));
+      }
+    });
+
+    final RowMappingResultSetHandler<Point> handler =
+        new RowMappingResultSetHandler<>(
+            RowMappers.forConstructor(Point.class, "x", "y"));
+    assertThat(handler.handleResult(rs).x, is(equalTo(1)));
+    assertThat(handler.handleResult(rs).y, is(equalTo(4)));
+  }
+
+  @Test(expected = SQLException.class)
+  public void testForConstructorWhenColumnMissing() throws Exception {
+    context.checking(metaDataExpectations("x"));
+    RowMappers.forConstructor(Point.class, "x", "y").mapRow(rs, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testForConstructorWithWrongParameterCount() throws Exception {
+    RowMappers.forConstructor(Point.class, "x");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testForRecordWhenNotRecord() throws Exception {
+    RowMappers.forRecord(Point.class);
+  }
+
+  private Expectations metaDataExpectations(final String... labels)
+      throws Exception {
+    return new Expectations() {
+      {
+        oneOf(rs).getMetaData();
+        will(returnValue(metaData));
+        oneOf(metaData).getColumnCount();
+        will(returnValue(labels.length));
+        for (int i = 0; i < labels.length; i++) {
+          oneOf(metaData).getColumnLabel(i + 1);
+          will(returnValue(labels[i]));
+        }
+      }
+    };
+  }
+
+  public static class Person {
+
+    private long id;
+    private String firstName;
+
+    public long getId() {
+      return id;
+    }
+
+    public void setId(long id) {
+      this.id = id;
+    }
+
+    public String getFirstName() {
+      return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+      this.firstName = firstName;
+    }
+
+  }
+
+  public static class Point {
+
+    private final int x;
+    private final int y;
+
+    public Point(int x, int y) {
+      this.x = x;
+      this.y = y;
+    }
+
+  }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link StatementCache}.
+ *
+ * @author Carl Harris
+ */
+public class StatementCacheTest {
+
+  private static final StatementCache.Key KEY =
+      StatementCache.Key.forStatement("some SQL");
+
+  private static final StatementCache.Key OTHER_KEY =
+      StatementCache.Key.forStatement("other SQL");
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private Connection connection;
+
+  @Mock
+  private Connection otherConnection;
+
+  @Mock
+  private PreparedStatement statement;
+
+  @Mock
+  private PreparedStatement otherStatement;
+
+  private StatementCache cache = new StatementCache(1);
+
+  @Before
+  public void setUp() throws Exception {
+    context.checking(new Expectations() {
+      {
+        allowing(connection).isWrapperFor(Connection.class);
+        will(returnValue(false));
+      }
+    });
+  }
+
+  @Test
+  public void testTakeAfterRelease() throws Exception {
+    context.checking(resetExpectations(statement));
+    context.checking(new Expectations() {
+      {
+        allowing(connection).isClosed();
+        will(returnValue(false));
+        oneOf(statement).isClosed();
+        will(returnValue(false));
+      }
+    });
+
+    assertThat(cache.take(connection, KEY), is(nullValue()));
+    cache.release(connection, KEY, statement);
+    assertThat(cache.size(), is(equalTo(1)));
+    assertThat(cache.<PreparedStatement>take(connection, KEY),
+        is(sameInstance(statement)));
+    assertThat(cache.take(connection, KEY), is(nullValue()));
+    assertThat(cache.getHitCount(), is(equalTo(1L)));
+    assertThat(cache.getMissCount(), is(equalTo(2L)));
+  }
+
+  @Test
+  public void testTakeWhenCachedStatementClosed() throws Exception {
+    context.checking(resetExpectations(statement));
+    context.checking(new Expectations() {
+      {
+        oneOf(connection).isClosed();
+        will(returnValue(false));
+        oneOf(statement).isClosed();
+        will(returnValue(true));
+      }
+    });
+
+    cache.release(connection, KEY, statement);
+    assertThat(cache.take(connection, KEY), is(nullValue()));
+    assertThat(cache.getHitCount(), is(equalTo(0L)));
+    assertThat(cache.getMissCount(), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testReleaseEvictsLeastRecentlyUsed() throws Exception {
+    context.checking(resetExpectations(statement));
+    context.checking(resetExpectations(otherStatement));
+    context.checking(new Expectations() {
+      {
+        oneOf(statement).close();
+      }
+    });
+
+    cache.release(connection, KEY, statement);
+    cache.release(connection, OTHER_KEY, otherStatement);
+    assertThat(cache.size(), is(equalTo(1)));
+    assertThat(cache.getEvictionCount(), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testReleaseWhenResetFails() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(statement).clearParameters();
+        will(throwException(new SQLException()));
+        oneOf(statement).close();
+      }
+    });
+
+    cache.release(connection, KEY, statement);
+    assertThat(cache.size(), is(equalTo(0)));
+  }
+
+  @Test
+  public void testPurgeWhenConnectionClosed() throws Exception {
+    context.checking(resetExpectations(statement));
+    context.checking(new Expectations() {
+      {
+        oneOf(connection).isClosed();
+        will(returnValue(true));
+        oneOf(statement).close();
+      }
+    });
+
+    cache.release(connection, KEY, statement);
+    cache.purge(connection);
+    assertThat(cache.size(), is(equalTo(0)));
+  }
+
+  @Test
+  public void testPurgeWhenConnectionOpen() throws Exception {
+    context.checking(resetExpectations(statement));
+    context.checking(new Expectations() {
+      {
+        oneOf(connection).isClosed();
+        will(returnValue(false));
+      }
+    });
+
+    cache.release(connection, KEY, statement);
+    cache.purge(connection);
+    assertThat(cache.size(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testTakeWhenConnectionClosed() throws Exception {
+    context.checking(resetExpectations(statement));
+    context.checking(new Expectations() {
+      {
+        oneOf(connection).isClosed();
+        will(returnValue(true));
+        oneOf(statement).close();
+      }
+    });
+
+    cache.release(connection, KEY, statement);
+    assertThat(cache.take(connection, KEY), is(nullValue()));
+    assertThat(cache.size(), is(equalTo(0)));
+    assertThat(cache.getMissCount(), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testReleaseOnNewConnectionPurgesClosedConnections()
+      throws Exception {
+    context.checking(resetExpectations(statement));
+    context.checking(resetExpectations(otherStatement));
+    context.checking(new Expectations() {
+      {
+        allowing(otherConnection).isWrapperFor(Connection.class);
+        will(returnValue(false));
+        oneOf(connection).isClosed();
+        will(returnValue(true));
+        oneOf(statement).close();
+      }
+    });
+
+    cache.release(connection, KEY, statement);
+    cache.release(otherConnection, KEY, otherStatement);
+    assertThat(cache.size(), is(equalTo(1)));
+  }
+
+  private Expectations resetExpectations(final PreparedStatement statement)
+      throws Exception {
+    return new Expectations() {
+      {
+        oneOf(statement).clearParameters();
+        oneOf(statement).clearBatch();
+        oneOf(statement).setFetchSize(0);
+      }
+    };
+  }
+
+}
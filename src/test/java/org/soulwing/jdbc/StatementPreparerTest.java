@@ -18,16 +18,23 @@
  */
 package org.soulwing.jdbc;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 
 import javax.sql.DataSource;
 
 import org.jmock.Expectations;
+import org.jmock.Sequence;
 import org.jmock.auto.Mock;
 import org.jmock.integration.junit4.JUnitRuleMockery;
 import org.junit.Rule;
 import org.junit.Test;
+import org.soulwing.jdbc.metrics.StatementObserver;
 import org.soulwing.jdbc.source.SQLSource;
 
 /**
@@ -54,6 +61,9 @@ public class StatementPreparerTest {
   @Mock
   private SQLSource source;
 
+  @Mock
+  private StatementObserver observer;
+
   @Test
   public void testWithSQLString() throws Exception {
     context.checking(prepareStatementExpectations());
@@ -82,6 +92,84 @@ public class StatementPreparerTest {
     preparer.prepareStatement(dataSource);
   }
 
+  @Test
+  public void testWithStatementCache() throws Exception {
+    final StatementCache cache = new StatementCache();
+    context.checking(prepareStatementExpectations());
+    context.checking(new Expectations() {
+      {
+        oneOf(dataSource).getConnection();
+        will(returnValue(connection));
+        allowing(connection).isWrapperFor(Connection.class);
+        will(returnValue(false));
+        allowing(connection).isClosed();
+        will(returnValue(false));
+        exactly(2).of(connection).close();
+        exactly(2).of(statement).clearParameters();
+        exactly(2).of(statement).clearBatch();
+        exactly(2).of(statement).setFetchSize(0);
+        oneOf(statement).isClosed();
+        will(returnValue(false));
+      }
+    });
+
+    final StatementPreparer preparer = StatementPreparer.with(SQL, cache);
+    preparer.prepareStatement(dataSource);
+    preparer.close();
+    preparer.close();
+
+    final StatementPreparer other = StatementPreparer.with(SQL, cache);
+    assertThat(other.prepareStatement(dataSource), is(sameInstance(statement)));
+    other.close();
+
+    assertThat(cache.getHitCount(), is(equalTo(1L)));
+    assertThat(cache.size(), is(equalTo(1)));
+  }
+
+  @Test
+  public void testObserveConnection() throws Exception {
+    context.checking(prepareStatementExpectations());
+    context.checking(new Expectations() {
+      {
+        oneOf(observer).connectionAcquired(with(any(Long.class)));
+      }
+    });
+
+    final StatementPreparer preparer = StatementPreparer.with(SQL);
+    preparer.prepareStatement(dataSource);
+    AbstractPreparedStatementCreator.observeConnection(preparer, observer);
+
+    // must not report the same connection again
+    preparer.prepareStatement(dataSource);
+    AbstractPreparedStatementCreator.observeConnection(preparer, observer);
+  }
+
+  @Test
+  public void testObserveConnectionBeforePreparing() throws Exception {
+    final Sequence sequence = context.sequence("connection");
+    context.checking(new Expectations() {
+      {
+        oneOf(observer).starting(StatementObserver.Phase.CONNECTION);
+        inSequence(sequence);
+        oneOf(dataSource).getConnection();
+        inSequence(sequence);
+        will(returnValue(connection));
+        oneOf(observer).connectionAcquired(with(any(Long.class)));
+        inSequence(sequence);
+        oneOf(connection).prepareStatement(SQL);
+        inSequence(sequence);
+        will(returnValue(statement));
+      }
+    });
+
+    final StatementPreparer preparer = StatementPreparer.with(SQL);
+    AbstractPreparedStatementCreator.observeConnection(preparer, observer);
+    preparer.prepareStatement(dataSource);
+
+    // must not report the same connection again
+    AbstractPreparedStatementCreator.observeConnection(preparer, observer);
+  }
+
   private Expectations prepareStatementExpectations() throws Exception {
     return new Expectations() {
       {
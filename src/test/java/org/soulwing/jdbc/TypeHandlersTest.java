@@ -0,0 +1,198 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.UUID;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link TypeHandlers}.
+ *
+ * @author Carl Harris
+ */
+public class TypeHandlersTest {
+
+  private static final int INDEX = 1;
+  private static final String LABEL = "someLabel";
+
+  enum Color { RED, GREEN }
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private ResultSet rs;
+
+  @Mock
+  private CallableStatement cs;
+
+  @Mock
+  private PreparedStatement ps;
+
+  @Mock
+  private TypeHandler<UUID> uuidHandler;
+
+  @After
+  public void tearDown() throws Exception {
+    TypeHandlers.unregister(UUID.class);
+  }
+
+  @Test
+  public void testBuiltInHandlerIsResolvedOnce() throws Exception {
+    assertThat(TypeHandlers.forType(Integer.class),
+        is(sameInstance(TypeHandlers.forType(int.class))));
+    assertThat(TypeHandlers.forType(UUID.class),
+        is(sameInstance(TypeHandlers.forType(UUID.class))));
+  }
+
+  @Test
+  public void testWrapperTypeReturnsZeroForNull() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(rs).getLong(INDEX);
+        will(returnValue(0L));
+        oneOf(cs).getLong(LABEL);
+        will(returnValue(0L));
+      }
+    });
+
+    assertThat(TypeHandlers.forType(Long.class).getValue(rs, INDEX),
+        is(equalTo(0L)));
+    assertThat(TypeHandlers.forType(Long.class).getValue(cs, LABEL),
+        is(equalTo(0L)));
+  }
+
+  @Test
+  public void testUnknownTypeUsesGetObject() throws Exception {
+    final UUID uuid = UUID.randomUUID();
+    context.checking(new Expectations() {
+      {
+        oneOf(rs).getObject(LABEL, UUID.class);
+        will(returnValue(uuid));
+        oneOf(ps).setObject(INDEX, uuid);
+        oneOf(ps).setObject(INDEX, uuid, Types.OTHER);
+      }
+    });
+
+    final TypeHandler<UUID> handler = TypeHandlers.forType(UUID.class);
+    assertThat(handler.getValue(rs, LABEL), is(sameInstance(uuid)));
+    handler.setValue(ps, INDEX, uuid, Types.NULL);
+    handler.setValue(ps, INDEX, uuid, Types.OTHER);
+  }
+
+  @Test
+  public void testEnumType() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(rs).getString(INDEX);
+        will(returnValue("GREEN"));
+        oneOf(rs).getString(LABEL);
+        will(returnValue(null));
+        oneOf(ps).setString(INDEX, "RED");
+      }
+    });
+
+    final TypeHandler<Color> handler = TypeHandlers.forType(Color.class);
+    assertThat(handler.getValue(rs, INDEX), is(equalTo(Color.GREEN)));
+    assertThat(handler.getValue(rs, LABEL), is(nullValue()));
+    handler.setValue(ps, INDEX, Color.RED, Types.NULL);
+  }
+
+  @Test
+  public void testEnumTypeWithUnknownName() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(rs).getString(INDEX);
+        will(returnValue("BLUE"));
+      }
+    });
+
+    try {
+      TypeHandlers.forType(Color.class).getValue(rs, INDEX);
+      fail("expected SQLException");
+    }
+    catch (SQLException ex) {
+      assert true;
+    }
+  }
+
+  @Test
+  public void testRegisterAndUnregister() throws Exception {
+    final TypeHandler<UUID> builtIn = TypeHandlers.forType(UUID.class);
+    TypeHandlers.register(UUID.class, uuidHandler);
+    assertThat(TypeHandlers.forType(UUID.class),
+        is(sameInstance(uuidHandler)));
+    TypeHandlers.unregister(UUID.class);
+    assertThat(TypeHandlers.forType(UUID.class).getClass(),
+        is(equalTo((Object) builtIn.getClass())));
+    assertThat(TypeHandlers.forType(UUID.class),
+        is(not(sameInstance(uuidHandler))));
+  }
+
+  @Test
+  public void testRegisteredHandlerUsedForParameter() throws Exception {
+    final UUID uuid = UUID.randomUUID();
+    TypeHandlers.register(UUID.class, uuidHandler);
+    context.checking(new Expectations() {
+      {
+        oneOf(uuidHandler).setValue(ps, INDEX, uuid, Types.NULL);
+      }
+    });
+
+    Parameter.with(uuid).inject(INDEX, ps);
+  }
+
+  @Test
+  public void testSubtypeResolvesToInterfaceHandler() throws Exception {
+    final ParameterHandler handler = new ParameterHandler() {
+      @Override
+      public void handleParameter(PreparedStatement statement,
+          int parameterIndex) throws SQLException {
+        statement.setInt(parameterIndex, 42);
+      }
+    };
+    context.checking(new Expectations() {
+      {
+        oneOf(ps).setInt(INDEX, 42);
+      }
+    });
+
+    Parameter.with(handler).inject(INDEX, ps);
+  }
+
+}
@@ -25,6 +25,8 @@ import static org.junit.Assert.fail;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
 
 import javax.sql.DataSource;
 
@@ -77,6 +79,40 @@ public class UpdateBuilderTest {
     updater.execute();
   }
 
+  @Test(expected = IllegalStateException.class)
+  public void testExecuteAndReturnKeysFailsWhenNotReturningKeys()
+      throws Exception {
+    updater.using(SQL).executeAndReturnKeys();
+  }
+
+  @Test
+  public void testReturningKeysPreparesStatementForKeys() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(dataSource).getConnection();
+        will(returnValue(connection));
+        oneOf(connection).prepareStatement(SQL, new String[] { "id" });
+        will(returnValue(statement));
+      }
+    });
+    context.checking(executeStatementExpectations(1));
+    context.checking(closeExpectations());
+    context.checking(new Expectations() {
+      {
+        oneOf(statement).getGeneratedKeys();
+        will(throwException(new SQLFeatureNotSupportedException()));
+      }
+    });
+
+    try {
+      updater.returningKeys("id").using(SQL).executeAndReturnKey();
+      fail("expected SQLRuntimeException");
+    }
+    catch (SQLRuntimeException ex) {
+      assert true;
+    }
+  }
+
   @Test
   public void testExecuteClosesWhenNotRepeatable() throws Exception {
     context.checking(prepareStatementExpectations());
@@ -145,6 +181,82 @@ public class UpdateBuilderTest {
     updater.close();
   }
 
+  @Test
+  public void testExecuteBatchClosesWhenNotRepeatable() throws Exception {
+    context.checking(prepareStatementExpectations());
+    context.checking(new Expectations() {
+      {
+        oneOf(logger).writeStatement(SQL);
+        exactly(2).of(logger).writeParameters(with(any(Parameter[].class)));
+        oneOf(statement).setObject(1, "a");
+        oneOf(statement).setObject(1, "b");
+        exactly(2).of(statement).addBatch();
+        oneOf(statement).executeBatch();
+        will(returnValue(new int[] { 1, 1 }));
+      }
+    });
+    context.checking(closeExpectations());
+
+    final int[] counts = updater.using(SQL).executeBatch(Arrays.asList(
+        new Parameter[] { Parameter.with("a") },
+        new Parameter[] { Parameter.with("b") }));
+
+    assertThat(counts, is(equalTo(new int[] { 1, 1 })));
+    validateThrowsIllegalStateException(new Runnable() {
+      public void run() {
+        updater.addBatch(Parameter.with("c"));
+      }
+    });
+  }
+
+  @Test
+  public void testAddBatchAndFlushWhenRepeatable() throws Exception {
+    context.checking(prepareStatementExpectations());
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(logger).writeStatement(SQL);
+        exactly(3).of(logger).writeParameters(with(any(Parameter[].class)));
+        oneOf(statement).setObject(1, "a");
+        oneOf(statement).setObject(1, "b");
+        oneOf(statement).setObject(1, "c");
+        exactly(3).of(statement).addBatch();
+        oneOf(statement).executeBatch();
+        will(returnValue(new int[] { 1, 1 }));
+        oneOf(statement).executeBatch();
+        will(returnValue(new int[] { 1 }));
+      }
+    });
+
+    updater.using(SQL).batchSize(2).repeatedly();
+    updater.addBatch(Parameter.with("a"));
+    updater.addBatch(Parameter.with("b"));
+    assertThat(updater.flush(), is(equalTo(new int[] { 1, 1 })));
+    updater.addBatch(Parameter.with("c"));
+    assertThat(updater.flush(), is(equalTo(new int[] { 1 })));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testExecuteFailsWhenBatchPending() throws Exception {
+    context.checking(prepareStatementExpectations());
+    context.checking(new Expectations() {
+      {
+        oneOf(logger).writeStatement(SQL);
+        oneOf(logger).writeParameters(with(any(Parameter[].class)));
+        oneOf(statement).setObject(1, "a");
+        oneOf(statement).addBatch();
+      }
+    });
+
+    updater.using(SQL).repeatedly();
+    updater.addBatch(Parameter.with("a"));
+    updater.execute();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBatchSizeMustBePositive() throws Exception {
+    updater.batchSize(0);
+  }
+
   private Expectations prepareStatementExpectations() throws Exception {
     return new Expectations() {
       {
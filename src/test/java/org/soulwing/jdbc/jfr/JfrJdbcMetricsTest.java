@@ -0,0 +1,222 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.jfr;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.soulwing.jdbc.Parameter;
+import org.soulwing.jdbc.metrics.NullJdbcMetrics;
+import org.soulwing.jdbc.metrics.StatementObserver;
+
+/**
+ * Unit tests for {@link JfrJdbcMetrics}.
+ *
+ * @author Carl Harris
+ */
+public class JfrJdbcMetricsTest {
+
+  private static final Parameter[] NO_PARAMETERS = new Parameter[0];
+
+  private static final long PAUSE_MILLIS = 20;
+
+  private final JfrJdbcMetrics metrics = new JfrJdbcMetrics("test");
+
+  private Path file;
+
+  @Before
+  public void setUp() throws Exception {
+    file = Files.createTempFile("jdbc", ".jfr");
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void testBeginWhenNotRecording() throws Exception {
+    assertThat(metrics.begin("SELECT 1", NO_PARAMETERS),
+        is(sameInstance((StatementObserver) NullJdbcMetrics.INSTANCE)));
+  }
+
+  @Test
+  public void testQueryEvents() throws Exception {
+    final List<RecordedEvent> events = record(new Runnable() {
+      @Override
+      public void run() {
+        final StatementObserver observer =
+            metrics.begin("select * from foo where id = 42", NO_PARAMETERS);
+        observer.starting(StatementObserver.Phase.PREPARATION);
+        observer.starting(StatementObserver.Phase.CONNECTION);
+        observer.connectionAcquired(10);
+        observer.prepared(20);
+        observer.starting(StatementObserver.Phase.EXECUTION);
+        pause(PAUSE_MILLIS);
+        observer.executed(30);
+        observer.starting(StatementObserver.Phase.FETCH);
+        observer.fetched(3, 40);
+        observer.completed();
+      }
+    });
+
+    assertThat(names(events), contains("org.soulwing.jdbc.StatementPrepared",
+        "org.soulwing.jdbc.ConnectionAcquired",
+        "org.soulwing.jdbc.StatementExecuted",
+        "org.soulwing.jdbc.ResultFetched"));
+    for (final RecordedEvent event : events) {
+      assertThat(event.getString("instance"), is(equalTo("test")));
+      assertThat(event.getString("fingerprint"),
+          is(equalTo("SELECT * FROM FOO WHERE ID = ?")));
+    }
+    assertThat(events.get(1).getEndTime().isAfter(events.get(0).getEndTime()),
+        is(false));
+    final RecordedEvent executed = events.get(2);
+    assertThat(executed.getDuration().toMillis(),
+        is(greaterThanOrEqualTo(PAUSE_MILLIS)));
+    assertThat(events.get(3).getStartTime().isBefore(executed.getEndTime()),
+        is(false));
+    assertThat(events.get(3).getLong("rowsFetched"), is(equalTo(3L)));
+  }
+
+  @Test
+  public void testThreshold() throws Exception {
+    final List<RecordedEvent> events = record(new Runnable() {
+      @Override
+      public void run() {
+        final StatementObserver observer =
+            metrics.begin("select * from foo", NO_PARAMETERS);
+        observer.starting(StatementObserver.Phase.PREPARATION);
+        observer.prepared(20);
+        observer.starting(StatementObserver.Phase.EXECUTION);
+        pause(PAUSE_MILLIS);
+        observer.executed(30);
+        observer.completed();
+      }
+    }, PAUSE_MILLIS / 2);
+
+    assertThat(names(events), contains("org.soulwing.jdbc.StatementExecuted"));
+  }
+
+  @Test
+  public void testBatchEvents() throws Exception {
+    final List<RecordedEvent> events = record(new Runnable() {
+      @Override
+      public void run() {
+        final StatementObserver observer =
+            metrics.begin("insert into foo values (?)", NO_PARAMETERS);
+        observer.prepared(20);
+        observer.executed(30);
+        observer.batched(2);
+        observer.updated(2);
+        observer.completed();
+      }
+    });
+
+    assertThat(names(events), contains("org.soulwing.jdbc.StatementPrepared",
+        "org.soulwing.jdbc.BatchFlushed"));
+    assertThat(events.get(1).getInt("batchSize"), is(equalTo(2)));
+    assertThat(events.get(1).getLong("rowsUpdated"), is(equalTo(2L)));
+  }
+
+  @Test
+  public void testFailedExecution() throws Exception {
+    final List<RecordedEvent> events = record(new Runnable() {
+      @Override
+      public void run() {
+        final StatementObserver observer =
+            metrics.begin("select * from foo", NO_PARAMETERS);
+        assertThat(observer, is(not(
+            sameInstance((StatementObserver) NullJdbcMetrics.INSTANCE))));
+        observer.prepared(20);
+        observer.failed(new RuntimeException());
+      }
+    });
+
+    assertThat(names(events), contains("org.soulwing.jdbc.StatementPrepared"));
+  }
+
+  private List<RecordedEvent> record(Runnable action) throws Exception {
+    return record(action, 0);
+  }
+
+  private List<RecordedEvent> record(Runnable action, long thresholdMillis)
+      throws Exception {
+    final Duration threshold = Duration.ofMillis(thresholdMillis);
+    try (Recording recording = new Recording()) {
+      recording.enable("org.soulwing.jdbc.ConnectionAcquired")
+          .withThreshold(threshold);
+      recording.enable("org.soulwing.jdbc.StatementPrepared")
+          .withThreshold(threshold);
+      recording.enable("org.soulwing.jdbc.StatementExecuted")
+          .withThreshold(threshold);
+      recording.enable("org.soulwing.jdbc.BatchFlushed")
+          .withThreshold(threshold);
+      recording.enable("org.soulwing.jdbc.ResultFetched")
+          .withThreshold(threshold);
+      recording.start();
+      action.run();
+      recording.stop();
+      recording.dump(file);
+    }
+    final List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+    // order by start time, with an enclosing event before the events it
+    // encloses
+    events.sort(Comparator.comparing(RecordedEvent::getStartTime)
+        .thenComparing(RecordedEvent::getEndTime, Comparator.reverseOrder()));
+    return events;
+  }
+
+  private static void pause(long millis) {
+    try {
+      Thread.sleep(millis);
+    }
+    catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static List<String> names(List<RecordedEvent> events) {
+    final List<String> names = new ArrayList<>();
+    for (final RecordedEvent event : events) {
+      names.add(event.getEventType().getName());
+    }
+    return names;
+  }
+
+}
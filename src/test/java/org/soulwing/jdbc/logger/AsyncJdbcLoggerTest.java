@@ -0,0 +1,238 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.logger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Test;
+import org.soulwing.jdbc.Parameter;
+
+/**
+ * Unit tests for {@link AsyncJdbcLogger}.
+ *
+ * @author Carl Harris
+ */
+public class AsyncJdbcLoggerTest {
+
+  private final RecordingLogger delegate = new RecordingLogger();
+
+  private AsyncJdbcLogger logger;
+
+  @After
+  public void tearDown() throws Exception {
+    delegate.release.countDown();
+    if (logger != null) {
+      logger.close();
+    }
+  }
+
+  @Test
+  public void testWritesInOrder() throws Exception {
+    logger = new AsyncJdbcLogger(delegate);
+    delegate.release.countDown();
+    final Parameter[] parameters = { Parameter.with("a") };
+    logger.writeStatement("one");
+    logger.writeParameters(parameters);
+    logger.writeParameters(new Parameter[0]);
+    logger.writeStatement("two");
+    parameters[0] = Parameter.with("b");
+    logger.flush();
+    assertThat(delegate.getLines(), contains("one", "a", "two"));
+  }
+
+  @Test
+  public void testRepeatsStatementForInterleavedParameters()
+      throws Exception {
+    logger = new AsyncJdbcLogger(delegate);
+    delegate.release.countDown();
+    logger.writeStatement("one");
+    final Thread other = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        logger.writeStatement("two");
+      }
+    });
+    other.start();
+    other.join();
+    logger.writeParameters(new Parameter[] { Parameter.with("a") });
+    logger.writeParameters(new Parameter[] { Parameter.with("b") });
+    logger.flush();
+    assertThat(delegate.getLines(), contains("one", "two", "one", "a", "b"));
+  }
+
+  @Test
+  public void testRepeatsDroppedStatementForParameters() throws Exception {
+    logger = new AsyncJdbcLogger(delegate, 2,
+        AsyncJdbcLogger.OverflowPolicy.DROP);
+    for (int i = 0; i < 10; i++) {
+      logger.writeStatement("statement " + i);
+    }
+    delegate.release.countDown();
+    logger.flush();
+    logger.writeParameters(new Parameter[] { Parameter.with("a") });
+    logger.flush();
+    final List<String> lines = delegate.getLines();
+    assertThat(lines.subList(lines.size() - 2, lines.size()),
+        contains("statement 9", "a"));
+  }
+
+  @Test(timeout = 5000)
+  public void testBlockWhenWriterTerminated() throws Exception {
+    logger = new AsyncJdbcLogger(new JdbcLogger() {
+      @Override
+      public void writeStatement(String sql) {
+        throw new AssertionError("writer terminated");
+      }
+
+      @Override
+      public void writeParameters(Parameter[] parameters) {
+      }
+    }, 4, AsyncJdbcLogger.OverflowPolicy.BLOCK);
+    for (int i = 0; i < 20; i++) {
+      logger.writeStatement("statement " + i);
+    }
+    assertThat(logger.getDroppedCount(), is(greaterThan(0L)));
+  }
+
+  @Test
+  public void testDropWhenFull() throws Exception {
+    logger = new AsyncJdbcLogger(delegate, 4,
+        AsyncJdbcLogger.OverflowPolicy.DROP);
+    for (int i = 0; i < 20; i++) {
+      logger.writeStatement("statement " + i);
+    }
+    delegate.release.countDown();
+    logger.flush();
+    assertThat(logger.getDroppedCount(), is(greaterThan(0L)));
+    assertThat(delegate.getLines().size() + logger.getDroppedCount(),
+        is(equalTo(20L)));
+  }
+
+  @Test
+  public void testBlockWhenFull() throws Exception {
+    logger = new AsyncJdbcLogger(delegate, 4,
+        AsyncJdbcLogger.OverflowPolicy.BLOCK);
+    final Thread producer = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        for (int i = 0; i < 20; i++) {
+          logger.writeStatement("statement " + i);
+        }
+      }
+    });
+    producer.start();
+    Thread.sleep(50);
+    assertThat(producer.isAlive(), is(true));
+    delegate.release.countDown();
+    producer.join();
+    logger.close();
+    assertThat(logger.getDroppedCount(), is(equalTo(0L)));
+    assertThat(delegate.getLines().size(), is(equalTo(20)));
+    assertThat(delegate.getLines().get(19), is(equalTo("statement 19")));
+  }
+
+  @Test
+  public void testSampleWhenFull() throws Exception {
+    logger = new AsyncJdbcLogger(delegate, 4,
+        AsyncJdbcLogger.OverflowPolicy.SAMPLE, 10);
+    final Thread producer = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        for (int i = 0; i < 100; i++) {
+          logger.writeStatement("statement " + i);
+        }
+      }
+    });
+    producer.start();
+    // wait until the producer waits for room for a sampled entry
+    while (producer.getState() != Thread.State.TIMED_WAITING) {
+      Thread.sleep(1);
+    }
+    delegate.release.countDown();
+    producer.join();
+    logger.close();
+    assertThat(logger.getDroppedCount(), is(greaterThan(0L)));
+    assertThat(logger.getDroppedCount(), is(lessThan(100L)));
+    assertThat(delegate.getLines().size() + logger.getDroppedCount(),
+        is(equalTo(100L)));
+  }
+
+  @Test
+  public void testDropAfterClose() throws Exception {
+    logger = new AsyncJdbcLogger(delegate);
+    delegate.release.countDown();
+    logger.writeStatement("one");
+    logger.close();
+    logger.writeStatement("two");
+    assertThat(delegate.getLines(), contains("one"));
+    assertThat(logger.getDroppedCount(), is(equalTo(1L)));
+  }
+
+  private static class RecordingLogger implements JdbcLogger {
+
+    final CountDownLatch release = new CountDownLatch(1);
+
+    private final List<String> lines = new ArrayList<>();
+
+    @Override
+    public void writeStatement(String sql) {
+      await();
+      synchronized (lines) {
+        lines.add(sql);
+      }
+    }
+
+    @Override
+    public void writeParameters(Parameter[] parameters) {
+      await();
+      synchronized (lines) {
+        for (final Parameter parameter : parameters) {
+          lines.add(parameter.getValue().toString());
+        }
+      }
+    }
+
+    List<String> getLines() {
+      synchronized (lines) {
+        return new ArrayList<>(lines);
+      }
+    }
+
+    private void await() {
+      try {
+        release.await();
+      }
+      catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+  }
+
+}
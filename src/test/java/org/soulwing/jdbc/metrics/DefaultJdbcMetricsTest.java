@@ -0,0 +1,112 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.sql.SQLException;
+
+import org.junit.Test;
+import org.soulwing.jdbc.Parameter;
+import org.soulwing.jdbc.source.SQLFingerprinter;
+
+/**
+ * Unit tests for {@link DefaultJdbcMetrics}.
+ *
+ * @author Carl Harris
+ */
+public class DefaultJdbcMetricsTest {
+
+  private static final Parameter[] NO_PARAMETERS = new Parameter[0];
+
+  private final DefaultJdbcMetrics metrics = new DefaultJdbcMetrics(2);
+
+  @Test
+  public void testRecordExecutions() throws Exception {
+    final StatementObserver observer = metrics.begin("query", NO_PARAMETERS);
+    observer.prepared(100);
+    observer.executed(2000);
+    observer.fetched(3, 500);
+    final StatementObserver failed = metrics.begin("query", NO_PARAMETERS);
+    failed.failed(new SQLException());
+    metrics.begin("update", NO_PARAMETERS).updated(4);
+
+    final StatementStats query = metrics.snapshot("query");
+    assertThat(query.getExecutionCount(), is(equalTo(2L)));
+    assertThat(query.getFailureCount(), is(equalTo(1L)));
+    assertThat(query.getRowsFetched(), is(equalTo(3L)));
+    assertThat(query.getPrepareTimes().getCount(), is(equalTo(1L)));
+    assertThat(query.getExecuteTimes().getMax(), is(equalTo(2000L)));
+    assertThat(query.getFetchTimes().getTotal(), is(equalTo(500L)));
+    assertThat(metrics.snapshot("update").getRowsUpdated(), is(equalTo(4L)));
+    assertThat(metrics.snapshot().size(), is(equalTo(2)));
+  }
+
+  @Test
+  public void testObserverIsReused() throws Exception {
+    assertThat(metrics.begin("query", NO_PARAMETERS),
+        is(sameInstance(metrics.begin("query", NO_PARAMETERS))));
+  }
+
+  @Test
+  public void testUnknownRowCountNotRecorded() throws Exception {
+    metrics.begin("query", NO_PARAMETERS).fetched(-1, 10);
+    final StatementStats stats = metrics.snapshot("query");
+    assertThat(stats.getRowsFetched(), is(equalTo(0L)));
+    assertThat(stats.getFetchTimes().getCount(), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testOtherStatementsWhenFull() throws Exception {
+    metrics.begin("a", NO_PARAMETERS);
+    metrics.begin("b", NO_PARAMETERS);
+    metrics.begin("c", NO_PARAMETERS);
+    metrics.begin("d", NO_PARAMETERS);
+    metrics.begin("a", NO_PARAMETERS);
+    assertThat(metrics.snapshot("c"), is(nullValue()));
+    assertThat(metrics.snapshot("a").getExecutionCount(), is(equalTo(2L)));
+    assertThat(metrics.snapshot(DefaultJdbcMetrics.OTHER_STATEMENTS)
+        .getExecutionCount(), is(equalTo(2L)));
+  }
+
+  @Test
+  public void testReset() throws Exception {
+    metrics.begin("query", NO_PARAMETERS);
+    metrics.reset();
+    assertThat(metrics.snapshot().isEmpty(), is(true));
+  }
+
+  @Test
+  public void testFingerprintedStatements() throws Exception {
+    final DefaultJdbcMetrics metrics =
+        new DefaultJdbcMetrics(2, new SQLFingerprinter());
+    metrics.begin("SELECT * FROM t WHERE id IN (1, 2)", NO_PARAMETERS);
+    metrics.begin("select * from t where id in (3)", NO_PARAMETERS);
+    final StatementStats stats =
+        metrics.snapshot("SELECT * FROM t WHERE id IN (?)");
+    assertThat(stats.getSql(), is(equalTo(
+        "SELECT * FROM T WHERE ID IN (?)")));
+    assertThat(stats.getExecutionCount(), is(equalTo(2L)));
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ *
+ * @author Carl Harris
+ */
+public class LatencyHistogramTest {
+
+  @Test
+  public void testBucketBounds() throws Exception {
+    for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+      final long lower = LatencyHistogram.lowerBound(i);
+      final long upper = LatencyHistogram.upperBound(i);
+      assertThat(LatencyHistogram.bucketIndex(lower), is(equalTo(i)));
+      assertThat(LatencyHistogram.bucketIndex(upper), is(equalTo(i)));
+      if (i > 0) {
+        assertThat(LatencyHistogram.upperBound(i - 1),
+            is(equalTo(lower - 1)));
+      }
+    }
+    assertThat(LatencyHistogram.bucketIndex(Long.MAX_VALUE),
+        is(equalTo(LatencyHistogram.BUCKET_COUNT - 1)));
+  }
+
+  @Test
+  public void testRelativeError() throws Exception {
+    for (long value = 1; value < LatencyHistogram.MAX_VALUE; value *= 3) {
+      final int index = LatencyHistogram.bucketIndex(value);
+      final long width = LatencyHistogram.upperBound(index)
+          - LatencyHistogram.lowerBound(index) + 1;
+      assertThat(width * LatencyHistogram.SUB_BUCKET_COUNT,
+          is(lessThanOrEqualTo(Math.max(value, 8))));
+    }
+  }
+
+  @Test
+  public void testPercentiles() throws Exception {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    for (long value = 1; value <= 1000; value++) {
+      histogram.record(value * 1000);
+    }
+    final HistogramSnapshot snapshot = histogram.snapshot();
+    assertThat(snapshot.getCount(), is(equalTo(1000L)));
+    assertThat(snapshot.getMax(), is(equalTo(1000000L)));
+    assertThat(snapshot.getMean(), is(equalTo(500500.0)));
+    assertWithinError(snapshot.getValueAtPercentile(50.0), 500000L);
+    assertWithinError(snapshot.getValueAtPercentile(99.0), 990000L);
+    assertThat(snapshot.getValueAtPercentile(100.0), is(equalTo(1000000L)));
+  }
+
+  @Test
+  public void testMerge() throws Exception {
+    final LatencyHistogram first = new LatencyHistogram();
+    final LatencyHistogram second = new LatencyHistogram();
+    for (long value = 1; value <= 500; value++) {
+      first.record(value * 1000);
+      second.record((value + 500) * 1000);
+    }
+    final HistogramSnapshot snapshot =
+        first.snapshot().merge(second.snapshot());
+    assertThat(snapshot.getCount(), is(equalTo(1000L)));
+    assertThat(snapshot.getMax(), is(equalTo(1000000L)));
+    assertThat(snapshot.getMean(), is(equalTo(500500.0)));
+    assertWithinError(snapshot.getValueAtPercentile(99.0), 990000L);
+  }
+
+  @Test
+  public void testEmptySnapshot() throws Exception {
+    final HistogramSnapshot snapshot = new LatencyHistogram().snapshot();
+    assertThat(snapshot.getCount(), is(equalTo(0L)));
+    assertThat(snapshot.getMean(), is(equalTo(0.0)));
+    assertThat(snapshot.getValueAtPercentile(99.0), is(equalTo(0L)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidPercentile() throws Exception {
+    new LatencyHistogram().snapshot().getValueAtPercentile(101.0);
+  }
+
+  private static void assertWithinError(long actual, long expected) {
+    assertThat(actual, is(greaterThanOrEqualTo(expected)));
+    assertThat(actual, is(lessThanOrEqualTo(
+        expected + expected / LatencyHistogram.SUB_BUCKET_COUNT)));
+  }
+
+}
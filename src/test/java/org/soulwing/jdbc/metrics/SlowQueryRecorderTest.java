@@ -0,0 +1,227 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.jmock.Expectations;
+import org.jmock.Sequence;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.jdbc.Parameter;
+import org.soulwing.jdbc.source.SQLFingerprinter;
+
+/**
+ * Unit tests for {@link SlowQueryRecorder}.
+ *
+ * @author Carl Harris
+ */
+public class SlowQueryRecorderTest {
+
+  private static final long THRESHOLD = 1000;
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private DataSource dataSource;
+
+  @Mock
+  private Connection connection;
+
+  @Mock
+  private PreparedStatement statement;
+
+  @Mock
+  private ParameterMetaData parameterMetaData;
+
+  @Mock
+  private ResultSet rs;
+
+  @Mock
+  private ResultSetMetaData metaData;
+
+  private final SlowQueryRecorder recorder = new SlowQueryRecorder(
+      THRESHOLD, TimeUnit.NANOSECONDS, 2, 2, new SQLFingerprinter());
+
+  @Test
+  public void testIgnoresFastExecutions() throws Exception {
+    execute("SELECT * FROM t WHERE id = 1", 400, 500);
+    assertThat(recorder.snapshot().isEmpty(), is(true));
+  }
+
+  @Test
+  public void testIgnoresFailedExecutions() throws Exception {
+    final StatementObserver observer =
+        recorder.begin("SELECT 1", new Parameter[0]);
+    observer.prepared(THRESHOLD);
+    observer.failed(new RuntimeException());
+    assertThat(recorder.snapshot().isEmpty(), is(true));
+  }
+
+  @Test
+  public void testRetainsSlowestSamplesPerFingerprint() throws Exception {
+    execute("SELECT * FROM t WHERE id = 1", 600, 500);
+    execute("SELECT * FROM t WHERE id = 2", 3000, 0);
+    execute("SELECT * FROM t WHERE id = 3", 2000, 0);
+    execute("SELECT * FROM t WHERE id = 4", 500, 500);
+
+    final List<SlowQuery> queries = recorder.snapshot();
+    assertThat(queries.size(), is(equalTo(1)));
+    final SlowQuery query = queries.get(0);
+    assertThat(query.getFingerprint().getText(),
+        is(equalTo("SELECT * FROM T WHERE ID = ?")));
+    assertThat(query.getCount(), is(equalTo(4L)));
+    assertThat(sqlOf(query.getSamples()), contains(
+        "SELECT * FROM t WHERE id = 2", "SELECT * FROM t WHERE id = 3"));
+    assertThat(query.getPlan(), is(nullValue()));
+  }
+
+  @Test
+  public void testCapturesParameters() throws Exception {
+    final Parameter[] parameters = { Parameter.with("a") };
+    final StatementObserver observer =
+        recorder.begin("UPDATE t SET a = ?", parameters);
+    parameters[0] = Parameter.with("b");
+    observer.executed(THRESHOLD);
+    observer.updated(1);
+    observer.completed();
+
+    final SlowQuerySample sample =
+        recorder.snapshot().get(0).getSamples().get(0);
+    assertThat(sample.getParameters()[0].getValue(),
+        is(equalTo((Object) "b")));
+    assertThat(sample.getElapsedNanos(), is(equalTo(THRESHOLD)));
+  }
+
+  @Test
+  public void testLimitsFingerprints() throws Exception {
+    execute("SELECT a FROM t", THRESHOLD, 0);
+    execute("SELECT b FROM t", THRESHOLD + 1, 0);
+    execute("SELECT c FROM t", THRESHOLD, 0);
+    assertThat(recorder.snapshot().size(), is(equalTo(2)));
+    assertThat(recorder.snapshot().get(0).getFingerprint().getText(),
+        is(equalTo("SELECT B FROM T")));
+  }
+
+  @Test
+  public void testExplainOncePerFingerprint() throws Exception {
+    final String sql = "SELECT * FROM t WHERE id = ?";
+    final Parameter[] parameters = { Parameter.with(1) };
+    final Sequence restore = context.sequence("restore");
+    context.checking(new Expectations() {
+      {
+        oneOf(dataSource).getConnection();
+        will(returnValue(connection));
+        oneOf(connection).getAutoCommit();
+        will(returnValue(true));
+        oneOf(connection).setAutoCommit(false);
+        oneOf(connection).prepareStatement("EXPLAIN PLAN FOR " + sql);
+        will(returnValue(statement));
+        oneOf(statement).getParameterMetaData();
+        will(returnValue(parameterMetaData));
+        oneOf(parameterMetaData).getParameterCount();
+        will(returnValue(1));
+        oneOf(statement).setObject(1, 1);
+        oneOf(statement).executeQuery();
+        will(returnValue(rs));
+        oneOf(rs).getMetaData();
+        will(returnValue(metaData));
+        oneOf(metaData).getColumnCount();
+        will(returnValue(1));
+        exactly(3).of(rs).next();
+        will(onConsecutiveCalls(returnValue(true), returnValue(true),
+            returnValue(false)));
+        exactly(2).of(rs).getString(1);
+        will(onConsecutiveCalls(returnValue("scan t"),
+            returnValue("filter id")));
+        oneOf(rs).close();
+        oneOf(statement).close();
+        oneOf(connection).rollback();
+        inSequence(restore);
+        oneOf(connection).setAutoCommit(true);
+        inSequence(restore);
+        oneOf(connection).close();
+      }
+    });
+
+    recorder.setExplainDataSource(dataSource);
+    recorder.setExplainExecutor(Runnable::run);
+    recorder.setExplainPrefix("EXPLAIN PLAN FOR ");
+    for (int i = 0; i < 2; i++) {
+      final StatementObserver observer = recorder.begin(sql, parameters);
+      observer.executed(THRESHOLD);
+      observer.fetched(1, 0);
+      observer.completed();
+    }
+
+    assertThat(recorder.snapshot().get(0).getPlan(), is(equalTo(
+        "scan t" + System.lineSeparator() + "filter id")));
+  }
+
+  @Test
+  public void testDoesNotExplainUpdate() throws Exception {
+    recorder.setExplainDataSource(dataSource);
+    recorder.setExplainExecutor(Runnable::run);
+    execute("UPDATE t SET a = 1", THRESHOLD, 0);
+    execute("DELETE FROM t", THRESHOLD, 0);
+    assertThat(recorder.snapshot().get(0).getPlan(), is(nullValue()));
+  }
+
+  @Test
+  public void testDoesNotExplainWithoutExecutor() throws Exception {
+    recorder.setExplainDataSource(dataSource);
+    execute("SELECT * FROM t", THRESHOLD, 0);
+    assertThat(recorder.snapshot().get(0).getPlan(), is(nullValue()));
+  }
+
+  private void execute(String sql, long executeNanos, long fetchNanos) {
+    final StatementObserver observer = recorder.begin(sql, new Parameter[0]);
+    observer.prepared(0);
+    observer.executed(executeNanos);
+    observer.fetched(1, fetchNanos);
+    observer.completed();
+  }
+
+  private static List<String> sqlOf(List<SlowQuerySample> samples) {
+    final List<String> sql = new ArrayList<>();
+    for (final SlowQuerySample sample : samples) {
+      sql.add(sample.getSql());
+    }
+    return sql;
+  }
+
+}
@@ -0,0 +1,337 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.pool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.jdbc.synthetic.SyntheticDatabase;
+
+/**
+ * Unit tests for {@link PooledDataSource}.
+ *
+ * @author Carl Harris
+ */
+public class PooledDataSourceTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private DataSource dataSource;
+
+  @Mock
+  private Connection connection;
+
+  @Mock
+  private Connection otherConnection;
+
+  private PooledDataSource pool;
+
+  @Before
+  public void setUp() throws Exception {
+    pool = new PooledDataSource(new SyntheticDatabase());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    pool.close();
+  }
+
+  @Test
+  public void testStartOpensMinimumConnections() throws Exception {
+    pool.setMinSize(3);
+    pool.start();
+    assertThat(pool.getSize(), is(equalTo(3)));
+    assertThat(pool.getIdleCount(), is(equalTo(3)));
+    assertThat(pool.getOpenedCount(), is(equalTo(3L)));
+  }
+
+  @Test
+  public void testReturnedConnectionIsReused() throws Exception {
+    final Connection first = pool.getConnection();
+    final Connection physical = first.unwrap(Connection.class);
+    assertThat(pool.getActiveCount(), is(equalTo(1)));
+    first.close();
+    assertThat(pool.getIdleCount(), is(equalTo(1)));
+
+    final Connection second = pool.getConnection();
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(second.unwrap(Connection.class), is(sameInstance(physical)));
+    assertThat(pool.getOpenedCount(), is(equalTo(1L)));
+    assertThat(pool.getAcquisitionLatency().getCount(), is(equalTo(2L)));
+    second.close();
+  }
+
+  @Test
+  public void testOpensConnectionsOnDemandUpToMaxSize() throws Exception {
+    pool.setMaxSize(2);
+    pool.setAcquireTimeout(10, TimeUnit.MILLISECONDS);
+    final Connection first = pool.getConnection();
+    final Connection second = pool.getConnection();
+    assertThat(pool.getSize(), is(equalTo(2)));
+    try {
+      pool.getConnection();
+      fail("expected SQLTimeoutException");
+    }
+    catch (SQLTimeoutException ex) {
+      assertThat(pool.getTimeoutCount(), is(equalTo(1L)));
+    }
+    first.close();
+    second.close();
+  }
+
+  @Test
+  public void testClosedHandleCannotBeUsed() throws Exception {
+    final Connection handle = pool.getConnection();
+    handle.close();
+    handle.close();
+    assertThat(handle.isClosed(), is(true));
+    assertThat(handle.isValid(0), is(false));
+    assertThat(pool.getIdleCount(), is(equalTo(1)));
+    try {
+      handle.createStatement();
+      fail("expected SQLException");
+    }
+    catch (SQLException ex) {
+      assert true;
+    }
+  }
+
+  @Test
+  public void testReturnedConnectionIsReset() throws Exception {
+    final Connection first = pool.getConnection();
+    first.setAutoCommit(false);
+    first.setReadOnly(true);
+    first.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+    first.close();
+
+    final Connection second = pool.getConnection();
+    assertThat(second.getAutoCommit(), is(true));
+    assertThat(second.isReadOnly(), is(false));
+    assertThat(second.getTransactionIsolation(),
+        is(equalTo(Connection.TRANSACTION_READ_COMMITTED)));
+    second.close();
+  }
+
+  @Test
+  public void testOriginalAutoCommitIsRestored() throws Exception {
+    final Connection first = pool.getConnection();
+    first.unwrap(Connection.class).setAutoCommit(false);
+    first.close();
+
+    final Connection second = pool.getConnection();
+    assertThat(second.getAutoCommit(), is(false));
+    second.setAutoCommit(true);
+    second.close();
+
+    final Connection third = pool.getConnection();
+    assertThat(third.getAutoCommit(), is(false));
+    third.close();
+  }
+
+  @Test
+  public void testStatementConnectionIsHandle() throws Exception {
+    final Connection first = pool.getConnection();
+    final PreparedStatement statement = first.prepareStatement("SELECT 1");
+    assertThat(statement.getConnection(), is(sameInstance(first)));
+    assertThat(statement.unwrap(PreparedStatement.class),
+        is(not(sameInstance(statement))));
+    assertThat(statement.equals(statement), is(true));
+    first.close();
+
+    // a cached statement reports the handle that currently lends it
+    final Connection second = pool.getConnection();
+    assertThat(statement.getConnection(), is(sameInstance(second)));
+    statement.close();
+    second.close();
+  }
+
+  @Test
+  public void testClosedPhysicalConnectionIsDiscarded() throws Exception {
+    final Connection first = pool.getConnection();
+    first.unwrap(Connection.class).close();
+    first.close();
+    assertThat(pool.getOpenedCount(), is(equalTo(2L)));
+    assertThat(pool.getSize(), is(equalTo(1)));
+    final Connection second = pool.getConnection();
+    assertThat(second.isClosed(), is(false));
+    second.close();
+  }
+
+  @Test
+  public void testValidatesAfterIdleInterval() throws Exception {
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(dataSource).getConnection();
+        will(onConsecutiveCalls(returnValue(connection),
+            returnValue(otherConnection)));
+        oneOf(connection).isClosed();
+        will(returnValue(false));
+        oneOf(connection).getAutoCommit();
+        will(returnValue(true));
+        oneOf(connection).clearWarnings();
+        oneOf(connection).isValid(PooledDataSource.DEFAULT_VALIDATION_TIMEOUT);
+        will(returnValue(false));
+        oneOf(connection).close();
+      }
+    });
+
+    final PooledDataSource mockPool = new PooledDataSource(dataSource);
+    mockPool.setMinSize(0);
+    mockPool.setValidationInterval(1, TimeUnit.MILLISECONDS);
+    mockPool.getConnection().close();
+    Thread.sleep(5);
+    final Connection handle = mockPool.getConnection();
+    assertThat(handle.unwrap(Connection.class),
+        is(sameInstance(otherConnection)));
+    assertThat(mockPool.getValidationFailureCount(), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testWaitersAreServedInOrder() throws Exception {
+    pool.setMaxSize(1);
+    final List<String> order =
+        Collections.synchronizedList(new ArrayList<String>());
+    final Connection handle = pool.getConnection();
+    final Thread first = startWaiter("first", order);
+    awaitWaiters(1);
+    final Thread second = startWaiter("second", order);
+    awaitWaiters(2);
+    handle.close();
+    first.join(5000);
+    second.join(5000);
+    assertThat(order, contains("first", "second"));
+    assertThat(pool.getOpenedCount(), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testCloseReleasesWaiters() throws Exception {
+    pool.setMaxSize(1);
+    final AtomicReference<Exception> error = new AtomicReference<>();
+    final Connection handle = pool.getConnection();
+    final Thread waiter = new Thread() {
+      @Override
+      public void run() {
+        try {
+          pool.getConnection();
+        }
+        catch (SQLException ex) {
+          error.set(ex);
+        }
+      }
+    };
+    waiter.start();
+    awaitWaiters(1);
+    pool.close();
+    waiter.join(5000);
+    assertThat(error.get() instanceof SQLException, is(true));
+    final Connection physical = handle.unwrap(Connection.class);
+    handle.close();
+    assertThat(physical.isClosed(), is(true));
+    assertThat(pool.getSize(), is(equalTo(0)));
+  }
+
+  @Test
+  public void testConcurrentBorrowAndReturn() throws Exception {
+    final int maxSize = 3;
+    pool.setMaxSize(maxSize);
+    final AtomicReference<Throwable> error = new AtomicReference<>();
+    final List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      final Thread thread = new Thread() {
+        @Override
+        public void run() {
+          try {
+            for (int j = 0; j < 2000; j++) {
+              final Connection connection = pool.getConnection();
+              connection.setAutoCommit(j % 2 == 0);
+              connection.close();
+            }
+          }
+          catch (Throwable ex) {
+            error.compareAndSet(null, ex);
+          }
+        }
+      };
+      threads.add(thread);
+      thread.start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    assertThat(error.get(), is(equalTo(null)));
+    assertThat(pool.getOpenedCount(), is(lessThanOrEqualTo((long) maxSize)));
+    assertThat(pool.getIdleCount(), is(equalTo(pool.getSize())));
+    assertThat(pool.getWaitingCount(), is(equalTo(0)));
+  }
+
+  private Thread startWaiter(final String name, final List<String> order) {
+    final Thread thread = new Thread() {
+      @Override
+      public void run() {
+        try {
+          final Connection connection = pool.getConnection();
+          order.add(name);
+          connection.close();
+        }
+        catch (SQLException ex) {
+          order.add(ex.toString());
+        }
+      }
+    };
+    thread.start();
+    return thread;
+  }
+
+  private void awaitWaiters(int count) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 5000;
+    while (pool.getWaitingCount() < count
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(1);
+    }
+    assertThat(pool.getWaitingCount(), is(equalTo(count)));
+  }
+
+}
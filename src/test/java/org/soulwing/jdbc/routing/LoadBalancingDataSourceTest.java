@@ -0,0 +1,237 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.routing;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.jdbc.synthetic.SyntheticDatabase;
+
+/**
+ * Unit tests for {@link LoadBalancingDataSource}.
+ *
+ * @author Carl Harris
+ */
+public class LoadBalancingDataSourceTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private DataSource failingReplica;
+
+  @Mock
+  private DataSource otherFailingReplica;
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRequiresReplicas() throws Exception {
+    new LoadBalancingDataSource(Collections.<DataSource>emptyList());
+  }
+
+  @Test
+  public void testLeastOutstandingSelectsLeastLoadedReplica()
+      throws Exception {
+    final LoadBalancingDataSource dataSource = new LoadBalancingDataSource(
+        Arrays.asList(new SyntheticDatabase(), new SyntheticDatabase()));
+
+    final Connection first = dataSource.getConnection();
+    final Connection second = dataSource.getConnection();
+    assertThat(dataSource.getOutstandingCount(0), is(equalTo(1)));
+    assertThat(dataSource.getOutstandingCount(1), is(equalTo(1)));
+
+    first.close();
+    first.close();
+    assertThat(dataSource.getOutstandingCount(0)
+        + dataSource.getOutstandingCount(1), is(equalTo(1)));
+    assertThat(dataSource.getLatency(0) + dataSource.getLatency(1),
+        is(greaterThan(0L)));
+    second.close();
+  }
+
+  @Test
+  public void testLatencyWeightedPrefersFasterReplica() throws Exception {
+    final LoadBalancingDataSource dataSource = new LoadBalancingDataSource(
+        Arrays.asList(new SyntheticDatabase(), new SyntheticDatabase()),
+        LoadBalancingDataSource.Policy.LATENCY_WEIGHTED);
+
+    final Connection slow = dataSource.getConnection();
+    final Connection fast = dataSource.getConnection();
+    assertThat(dataSource.getConnectionCount(0), is(equalTo(1L)));
+    assertThat(dataSource.getConnectionCount(1), is(equalTo(1L)));
+    fast.close();
+    final int fastReplica = dataSource.getOutstandingCount(0) == 0 ? 0 : 1;
+    Thread.sleep(20);
+    slow.close();
+
+    for (int i = 0; i < 10; i++) {
+      dataSource.getConnection().close();
+    }
+    assertThat(dataSource.getConnectionCount(fastReplica), is(equalTo(11L)));
+    assertThat(dataSource.getConnectionCount(1 - fastReplica),
+        is(equalTo(1L)));
+  }
+
+  @Test
+  public void testFailsOverToAnotherReplica() throws Exception {
+    context.checking(new Expectations() {
+      {
+        allowing(failingReplica).getConnection();
+        will(throwException(new SQLException()));
+      }
+    });
+
+    final LoadBalancingDataSource dataSource = new LoadBalancingDataSource(
+        Arrays.asList(failingReplica, new SyntheticDatabase()));
+    for (int i = 0; i < 10; i++) {
+      dataSource.getConnection().close();
+    }
+    assertThat(dataSource.getConnectionCount(1), is(equalTo(10L)));
+    assertThat(dataSource.getOutstandingCount(0), is(equalTo(0)));
+  }
+
+  @Test
+  public void testFailedReplicaIsEjected() throws Exception {
+    context.checking(new Expectations() {
+      {
+        atMost(1).of(failingReplica).getConnection();
+        will(throwException(new SQLException()));
+      }
+    });
+
+    final LoadBalancingDataSource dataSource = new LoadBalancingDataSource(
+        Arrays.asList(failingReplica, new SyntheticDatabase()));
+    while (dataSource.getFailureCount(0) == 0) {
+      dataSource.getConnection().close();
+    }
+    assertThat(dataSource.isEjected(0), is(true));
+    for (int i = 0; i < 10; i++) {
+      dataSource.getConnection().close();
+    }
+    assertThat(dataSource.getFailureCount(0), is(equalTo(1L)));
+  }
+
+  @Test
+  public void testEjectedReplicaIsRetriedAfterBackoff() throws Exception {
+    final SyntheticDatabase recovered = new SyntheticDatabase();
+    context.checking(new Expectations() {
+      {
+        oneOf(failingReplica).getConnection();
+        will(throwException(new SQLException()));
+        oneOf(failingReplica).getConnection();
+        will(returnValue(recovered.getConnection()));
+      }
+    });
+
+    final LoadBalancingDataSource dataSource = new LoadBalancingDataSource(
+        Arrays.asList(failingReplica, new SyntheticDatabase()));
+    dataSource.setFailureBackoff(1, 1, TimeUnit.MILLISECONDS);
+    while (dataSource.getFailureCount(0) == 0) {
+      dataSource.getConnection().close();
+    }
+    Thread.sleep(5);
+    assertThat(dataSource.isEjected(0), is(false));
+    while (dataSource.getConnectionCount(0) == 0) {
+      dataSource.getConnection().close();
+    }
+    assertThat(dataSource.isEjected(0), is(false));
+  }
+
+  @Test
+  public void testEjectedReplicasAreUsedWhenAllAreEjected()
+      throws Exception {
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(failingReplica).getConnection();
+        will(throwException(new SQLException()));
+        exactly(2).of(otherFailingReplica).getConnection();
+        will(throwException(new SQLException()));
+      }
+    });
+
+    final LoadBalancingDataSource dataSource = new LoadBalancingDataSource(
+        Arrays.asList(failingReplica, otherFailingReplica));
+    for (int i = 0; i < 2; i++) {
+      try {
+        dataSource.getConnection();
+        fail("expected SQLException");
+      }
+      catch (SQLException ex) {
+        assertThat(dataSource.isEjected(0), is(true));
+        assertThat(dataSource.isEjected(1), is(true));
+      }
+    }
+  }
+
+  @Test
+  public void testThrowsWhenAllReplicasFail() throws Exception {
+    final SQLException failure = new SQLException();
+    final SQLException otherFailure = new SQLException();
+    context.checking(new Expectations() {
+      {
+        oneOf(failingReplica).getConnection();
+        will(throwException(failure));
+        oneOf(otherFailingReplica).getConnection();
+        will(throwException(otherFailure));
+      }
+    });
+
+    final LoadBalancingDataSource dataSource = new LoadBalancingDataSource(
+        Arrays.asList(failingReplica, otherFailingReplica));
+    try {
+      dataSource.getConnection();
+      fail("expected SQLException");
+    }
+    catch (SQLException ex) {
+      assertThat(ex.getSuppressed(), is(arrayWithSize(1)));
+      assertThat(dataSource.getFailureCount(0), is(equalTo(1L)));
+      assertThat(dataSource.getFailureCount(1), is(equalTo(1L)));
+    }
+  }
+
+  @Test
+  public void testUnwrapConnection() throws Exception {
+    final SyntheticDatabase replica = new SyntheticDatabase();
+    final LoadBalancingDataSource dataSource = new LoadBalancingDataSource(
+        Collections.singletonList(replica));
+    final Connection connection = dataSource.getConnection();
+    final Connection physical = connection.unwrap(Connection.class);
+    assertThat(physical.unwrap(Connection.class), is(sameInstance(physical)));
+    connection.close();
+    assertThat(physical.isClosed(), is(true));
+  }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.source;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BufferedSourceReader}.
+ *
+ * @author Carl Harris
+ */
+public class BufferedSourceReaderTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Test
+  public void testAdvanceAndPeek() throws Exception {
+    final SourceReader reader = new BufferedSourceReader(
+        new StringReader("ab"), 1);
+    reader.markStart();
+    assertThat(reader.peek(), is(equalTo('a')));
+    assertThat(reader.advance(), is(equalTo('a')));
+    assertThat(reader.match('x'), is(false));
+    assertThat(reader.match('b'), is(true));
+    assertThat(reader.eof(), is(false));
+    assertThat(reader.peek(), is(equalTo(SourceReader.EOF)));
+    assertThat(reader.eof(), is(true));
+    assertThat(reader.getLexeme().toString(), is(equalTo("ab")));
+    assertThat(reader.getCurrent(), is(equalTo(2)));
+  }
+
+  @Test
+  public void testMarkAndReset() throws Exception {
+    final SourceReader reader = new BufferedSourceReader(
+        new StringReader("$tag$"), 2);
+    reader.markStart();
+    reader.advance();
+    reader.mark(4);
+    assertThat((char) reader.read(), is(equalTo('t')));
+    assertThat((char) reader.read(), is(equalTo('a')));
+    assertThat((char) reader.read(), is(equalTo('g')));
+    reader.reset();
+    assertThat(reader.getLexeme().toString(), is(equalTo("$")));
+    assertThat(reader.advance(), is(equalTo('t')));
+  }
+
+  @Test
+  public void testStripsByteOrderMark() throws Exception {
+    final SourceReader reader = new BufferedSourceReader("\uFEFFx");
+    reader.markStart();
+    assertThat(reader.advance(), is(equalTo('x')));
+    assertThat(reader.getLexeme().toString(), is(equalTo("x")));
+  }
+
+  @Test
+  public void testLexemesRemainValidWhenWindowIsRefilled() throws Exception {
+    final String input = "SELECT a_long_identifier, 'a string literal' "
+        + "FROM some_table -- comment\n;";
+    final List<Token> tokens = DefaultScanner.INSTANCE.scanTokens(
+        new BufferedSourceReader(new StringReader(input), 3),
+        new SQLInputErrorReporter());
+    final StringBuilder sb = new StringBuilder();
+    for (final Token token : tokens) {
+      token.appendTo(sb);
+    }
+    assertThat(sb.toString(), is(equalTo(input)));
+  }
+
+  @Test
+  public void testWindowReturnsToCapacityAfterLongLexeme() throws Exception {
+    final BufferedSourceReader reader = new BufferedSourceReader(
+        new StringReader("a_long_identifier x y z"), 4, false);
+    final TokenStream tokens = DefaultScanner.INSTANCE.tokenStream(reader,
+        new SQLInputErrorReporter());
+    assertThat(tokens.next().getLexeme(), is(equalTo("a_long_identifier")));
+    assertThat(reader.getWindowLength() > 4, is(true));
+    Token token = tokens.next();
+    while (token != null && token.getType() != Token.Type.EOF) {
+      token = tokens.next();
+    }
+    assertThat(reader.getWindowLength(), is(equalTo(4)));
+  }
+
+  @Test
+  public void testProducesSameTokensWithoutRetainingLexemes()
+      throws Exception {
+    final List<String> expected = scan(new DelegatingSourceReader(
+        resourceReader()));
+    final SourceReader reader = new BufferedSourceReader(
+        resourceReader(), 16, false);
+    final TokenStream tokens = DefaultScanner.INSTANCE.tokenStream(reader,
+        new SQLInputErrorReporter());
+    final List<String> actual = new ArrayList<>();
+    Token token = tokens.next();
+    while (token != null) {
+      actual.add(token.toString());
+      token = tokens.next();
+    }
+    reader.close();
+    assertThat(actual, is(equalTo(expected)));
+  }
+
+  @Test
+  public void testProducesSameTokensAsDelegatingReader() throws Exception {
+    final List<String> expected = scan(new DelegatingSourceReader(
+        resourceReader()));
+    final List<String> actual = scan(new BufferedSourceReader(
+        resourceReader(), 16));
+    assertThat(actual, is(equalTo(expected)));
+  }
+
+  @Test
+  public void testDollarQuotedStringAcrossWindows() throws Exception {
+    final String input = "$tag$ Dollar quoted string $ $t $ta $tagg $tag$";
+    final List<Token> tokens = PostgresScanner.INSTANCE.scanTokens(
+        new BufferedSourceReader(new StringReader(input), 4),
+        new SQLInputErrorReporter());
+    assertThat(tokens.size(), is(equalTo(2)));
+    assertThat(tokens.get(0).getType(), is(equalTo(Token.Type.LITERAL)));
+    assertThat(tokens.get(0).getLexeme(), is(equalTo(input)));
+  }
+
+  private Reader resourceReader() {
+    return new InputStreamReader(
+        getClass().getResourceAsStream("testSource.sql"));
+  }
+
+  private List<String> scan(SourceReader reader) throws Exception {
+    final List<String> tokens = new ArrayList<>();
+    for (final Token token : DefaultScanner.INSTANCE.scanTokens(reader,
+        new SQLInputErrorReporter())) {
+      tokens.add(token.toString());
+    }
+    reader.close();
+    return tokens;
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.source;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ParsedStatement}.
+ *
+ * @author Carl Harris
+ */
+public class ParsedStatementTest {
+
+  @Test
+  public void testReplaceNamedParameters() throws Exception {
+    final ParsedStatement statement = ParsedStatement.parse(
+        "SELECT * FROM person WHERE name = :name AND age > :min_age");
+    assertThat(statement.getSql(), is(equalTo(
+        "SELECT * FROM person WHERE name = ? AND age > ?")));
+    assertThat(statement.getParameterNames(), contains("name", "min_age"));
+    assertThat(statement.hasNamedParameters(), is(true));
+  }
+
+  @Test
+  public void testRepeatedParameterName() throws Exception {
+    final ParsedStatement statement = ParsedStatement.parse(
+        "SELECT * FROM t WHERE a = :x OR b = :x");
+    assertThat(statement.getSql(), is(equalTo(
+        "SELECT * FROM t WHERE a = ? OR b = ?")));
+    assertThat(statement.getParameterNames(), contains("x", "x"));
+  }
+
+  @Test
+  public void testIgnoresLiteralsCommentsAndCasts() throws Exception {
+    final String sql = "SELECT ':a', \":b\", c::text -- :d\n"
+        + "FROM t /* :e */ WHERE f = :f";
+    final ParsedStatement statement = ParsedStatement.parse(sql);
+    assertThat(statement.getSql(), is(equalTo(
+        sql.substring(0, sql.length() - 2) + "?")));
+    assertThat(statement.getParameterNames(), contains("f"));
+  }
+
+  @Test
+  public void testNoNamedParameters() throws Exception {
+    final String sql = "SELECT * FROM t WHERE a = ?";
+    final ParsedStatement statement = ParsedStatement.parse(sql);
+    assertThat(statement.getSql(), is(equalTo(sql)));
+    assertThat(statement.getParameterNames(), is(empty()));
+    assertThat(statement.hasNamedParameters(), is(false));
+  }
+
+  @Test
+  public void testUnterminatedLiteral() throws Exception {
+    final String sql = "SELECT * FROM t WHERE a = :a AND b = 'oops";
+    final ParsedStatement statement = ParsedStatement.parse(sql);
+    assertThat(statement.getSql(), is(equalTo(sql)));
+    assertThat(statement.hasNamedParameters(), is(false));
+  }
+
+}
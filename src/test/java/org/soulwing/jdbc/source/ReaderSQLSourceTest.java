@@ -22,6 +22,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
 
 import java.io.BufferedReader;
 import java.io.FileNotFoundException;
@@ -87,6 +88,18 @@ public class ReaderSQLSourceTest {
     validateInput(input);
   }
 
+  @Test
+  public void testBlockAcrossWindowRefills() throws Exception {
+    final String input = "BEGIN   something   BEGIN   END   LOOP   END"
+        + "   END";
+    final ReaderSQLSource source = new ReaderSQLSource(
+        new BufferedSourceReader(new StringReader(input + "; SELECT 1"),
+            4, false), DefaultScanner.INSTANCE);
+    assertThat(source.next(), is(equalTo(input)));
+    assertThat(source.next(), is(equalTo("SELECT 1")));
+    assertThat(source.next(), is(nullValue()));
+  }
+
   private void validateInput(String input) {
     final StringReader reader = new StringReader(input);
     ReaderSQLSource source = new ReaderSQLSource(reader, DefaultScanner.INSTANCE);
@@ -120,6 +133,50 @@ public class ReaderSQLSourceTest {
   }
 
 
+  @Test
+  public void testReadsStatementsIncrementally() throws Exception {
+    final String statement = "INSERT INTO foo VALUES('bar')";
+    // an endless source; the test completes only if statements are
+    // returned without scanning the entire input
+    final Reader reader = new Reader() {
+      private final String text = statement + ";\n";
+      private long position;
+
+      @Override
+      public int read(char[] buf, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+          buf[offset + i] = text.charAt((int) (position++ % text.length()));
+        }
+        return length;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+
+    ReaderSQLSource source = new ReaderSQLSource(reader);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(source.next(), is(equalTo(statement)));
+    }
+    source.close();
+  }
+
+  @Test
+  public void testErrorReportedWhenStatementIsReached() throws Exception {
+    ReaderSQLSource source = new ReaderSQLSource(
+        new StringReader("DROP TABLE foo;\nSELECT 'unterminated"));
+    assertThat(source.next(), is(equalTo("DROP TABLE foo")));
+    try {
+      source.next();
+      fail("expected SQLInputException");
+    }
+    catch (SQLInputException ex) {
+      assert true;
+    }
+  }
+
+
   private Reader resourceReader(String name, String encoding)
       throws IOException {
     URL location = getClass().getResource(name);
@@ -0,0 +1,79 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.source;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SQLCatalog}.
+ *
+ * @author Carl Harris
+ */
+public class SQLCatalogTest {
+
+  @Test
+  public void testLoadResource() throws Exception {
+    final SQLCatalog catalog = SQLCatalog.withResources(
+        "classpath:org/soulwing/jdbc/source/testCatalog.sql");
+    assertThat(catalog.size(), is(equalTo(3)));
+    assertThat(catalog.getNames(),
+        containsInAnyOrder("createFoo", "insertFoo", "findFoo"));
+    assertThat(catalog.getStatement("createFoo"),
+        is(equalTo("CREATE TABLE foo (\n  text VARCHAR(255)\n)")));
+    assertThat(catalog.getStatement("insertFoo"),
+        is(equalTo("INSERT INTO foo VALUES(?)")));
+    assertThat(catalog.getStatement("findFoo"),
+        is(equalTo("-- finds all of the rows\nSELECT * FROM foo")));
+  }
+
+  @Test
+  public void testGetSource() throws Exception {
+    final SQLCatalog catalog = SQLCatalog.with(
+        new StringSQLSource("-- name: a\nSELECT 1;\n-- name: b\nSELECT 2;"));
+    final SQLSource source = catalog.getSource("b");
+    assertThat(source.next(), is(equalTo("SELECT 2")));
+    assertThat(source.next(), is(nullValue()));
+    assertThat(catalog.contains("a"), is(true));
+    assertThat(catalog.contains("c"), is(false));
+  }
+
+  @Test(expected = SQLStatementNotFoundException.class)
+  public void testGetStatementWhenNotFound() throws Exception {
+    SQLCatalog.with(new StringSQLSource("-- name: a\nSELECT 1"))
+        .getStatement("b");
+  }
+
+  @Test(expected = SQLInputException.class)
+  public void testStatementWithoutName() throws Exception {
+    SQLCatalog.with(new StringSQLSource("-- name: a\nSELECT 1;\nSELECT 2;"));
+  }
+
+  @Test(expected = SQLInputException.class)
+  public void testDuplicateName() throws Exception {
+    SQLCatalog.with(new StringSQLSource("-- name: a\nSELECT 1"),
+        new StringSQLSource("-- name: a\nSELECT 2"));
+  }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.source;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SQLFingerprinter}.
+ *
+ * @author Carl Harris
+ */
+public class SQLFingerprinterTest {
+
+  private final SQLFingerprinter fingerprinter = new SQLFingerprinter(16);
+
+  @Test
+  public void testReplaceLiterals() throws Exception {
+    assertFingerprint(
+        "select * from person where name = 'O''Brien' and age > 42",
+        "SELECT * FROM PERSON WHERE NAME = ? AND AGE > ?");
+  }
+
+  @Test
+  public void testNormalizeWhitespaceAndComments() throws Exception {
+    assertFingerprint(
+        "SELECT a,b  -- columns\n FROM t /* table */ WHERE\tc=?;",
+        "SELECT A, B FROM T WHERE C = ?");
+    assertThat(fingerprinter.fingerprint("SELECT a , b FROM t WHERE c = ?"),
+        is(equalTo(fingerprinter.fingerprint("select a,b from t where c=?"))));
+  }
+
+  @Test
+  public void testCollapseInLists() throws Exception {
+    final SQLFingerprint expected = fingerprinter.fingerprint(
+        "SELECT * FROM t WHERE id IN (1, 2, 3) AND x IN ('a')");
+    assertThat(expected.getText(), is(equalTo(
+        "SELECT * FROM T WHERE ID IN (?) AND X IN (?)")));
+    assertThat(fingerprinter.fingerprint(
+        "SELECT * FROM t WHERE id IN (4,5) AND x IN (?, ?, ?)"),
+        is(equalTo(expected)));
+  }
+
+  @Test
+  public void testDoesNotCollapseSubquery() throws Exception {
+    assertFingerprint("SELECT * FROM t WHERE id IN (SELECT id FROM u)",
+        "SELECT * FROM T WHERE ID IN (SELECT ID FROM U)");
+  }
+
+  @Test
+  public void testNamedParametersAndQuotedIdentifiers() throws Exception {
+    assertFingerprint("UPDATE \"Person\" SET name = :name WHERE id = :id",
+        "UPDATE \"Person\" SET NAME = ? WHERE ID = ?");
+  }
+
+  @Test
+  public void testStableHash() throws Exception {
+    final SQLFingerprint fingerprint = fingerprinter.fingerprint("");
+    assertThat(fingerprint.getHash(), is(equalTo(0xcbf29ce484222325L)));
+    assertThat(fingerprint.getHashString(), is(equalTo("cbf29ce484222325")));
+    assertThat(fingerprinter.fingerprint("SELECT 1").getHash(),
+        is(not(equalTo(fingerprinter.fingerprint("SELECT a").getHash()))));
+  }
+
+  @Test
+  public void testCachedByIdentity() throws Exception {
+    final String sql = "SELECT * FROM t WHERE id = 1";
+    final SQLFingerprint fingerprint = fingerprinter.fingerprint(sql);
+    assertThat(fingerprinter.fingerprint(sql), is(sameInstance(fingerprint)));
+    final String copy = new String(sql);
+    assertThat(fingerprinter.fingerprint(copy), is(equalTo(fingerprint)));
+  }
+
+  @Test
+  public void testUnscannableInput() throws Exception {
+    assertFingerprint("SELECT  'oops", "SELECT 'oops");
+  }
+
+  private void assertFingerprint(String sql, String expected) {
+    assertThat(fingerprinter.fingerprint(sql).getText(),
+        is(equalTo(expected)));
+  }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * File created on Oct 17, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.source;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link SQLTableExtractor}.
+ *
+ * @author Carl Harris
+ */
+public class SQLTableExtractorTest {
+
+  private final SQLTableExtractor extractor = new SQLTableExtractor();
+
+  @Test
+  public void testSelectWithJoins() throws Exception {
+    assertThat(extractor.extractTables(
+        "SELECT p.name, a.city FROM person p "
+            + "LEFT OUTER JOIN address AS a ON a.person_id = p.id "
+            + "WHERE p.id = ?"),
+        contains("PERSON", "ADDRESS"));
+  }
+
+  @Test
+  public void testSelectFromList() throws Exception {
+    assertThat(extractor.extractTables(
+        "SELECT * FROM person p, address a, phone WHERE p.id = a.id"),
+        contains("PERSON", "ADDRESS", "PHONE"));
+  }
+
+  @Test
+  public void testSelectWithSubquery() throws Exception {
+    assertThat(extractor.extractTables(
+        "SELECT name FROM (SELECT name FROM person) x "
+            + "WHERE EXISTS (SELECT 1 FROM address WHERE city = :city)"),
+        contains("PERSON", "ADDRESS"));
+  }
+
+  @Test
+  public void testQualifiedAndQuotedNames() throws Exception {
+    assertThat(extractor.extractTables(
+        "SELECT * FROM app.person JOIN \"Address\" ON 1 = 1"),
+        contains("PERSON", "ADDRESS"));
+  }
+
+  @Test
+  public void testUpdateStatements() throws Exception {
+    assertThat(extractor.extractTables(
+        "INSERT INTO person(name) SELECT name FROM staff"),
+        contains("PERSON", "STAFF"));
+    assertThat(extractor.extractTables("UPDATE person SET name = ?"),
+        contains("PERSON"));
+    assertThat(extractor.extractTables("DELETE FROM person WHERE id = ?"),
+        contains("PERSON"));
+  }
+
+  @Test
+  public void testDefinitionStatements() throws Exception {
+    assertThat(extractor.extractTables("DROP TABLE IF EXISTS person"),
+        contains("PERSON"));
+    assertThat(extractor.extractTables("TRUNCATE TABLE person"),
+        contains("PERSON"));
+    assertThat(extractor.extractTables("CREATE TABLE person ( id INTEGER )"),
+        contains("PERSON"));
+  }
+
+  @Test
+  public void testNoTables() throws Exception {
+    assertThat(extractor.extractTables("CALL refresh_totals()"),
+        is(empty()));
+  }
+
+  @Test
+  public void testUnscannableStatement() throws Exception {
+    assertThat(extractor.extractTables("SELECT 'unterminated FROM person"),
+        is(nullValue()));
+  }
+
+  @Test
+  public void testResultIsCached() throws Exception {
+    final String sql = "SELECT * FROM person";
+    final Set<String> tables = extractor.extractTables(sql);
+    assertThat(extractor.extractTables(sql), is(sameInstance(tables)));
+  }
+
+}
@@ -181,6 +181,35 @@ public class ScannerTest {
     validateInput(input, Token.Type.LITERAL);
   }
 
+  @Test
+  public void testOperatorEndsAtDelimiter() throws Exception {
+    final List<Token> tokens = DefaultScanner.INSTANCE.scanTokens(
+        sourceReaderWith("?);='x'"), errorReporter);
+    assertThat(tokens.size(), is(equalTo(6)));
+    assertThat(tokens.get(0).getLexeme(), is(equalTo("?")));
+    assertThat(tokens.get(1).getType(), is(Token.Type.RIGHT_PAREN));
+    assertThat(tokens.get(2).getType(), is(Token.Type.SEMICOLON));
+    assertThat(tokens.get(3).getLexeme(), is(equalTo("=")));
+    assertThat(tokens.get(4).getLexeme(), is(equalTo("'x'")));
+  }
+
+  @Test
+  public void testScanParameter() throws Exception {
+    validateInput(":first_name", Token.Type.PARAMETER);
+  }
+
+  @Test
+  public void testCastOperatorIsNotParameter() throws Exception {
+    final List<Token> tokens = DefaultScanner.INSTANCE.scanTokens(
+        sourceReaderWith("x::text=:y"), errorReporter);
+    assertThat(tokens.size(), is(equalTo(6)));
+    assertThat(tokens.get(1).getLexeme(), is(equalTo("::")));
+    assertThat(tokens.get(1).getType(), is(Token.Type.LITERAL));
+    assertThat(tokens.get(3).getLexeme(), is(equalTo("=")));
+    assertThat(tokens.get(4).getLexeme(), is(equalTo(":y")));
+    assertThat(tokens.get(4).getType(), is(Token.Type.PARAMETER));
+  }
+
   private void validateInput(String input, Token.Type expectedType)
       throws IOException {
     final List<Token> tokens = DefaultScanner.INSTANCE.scanTokens(
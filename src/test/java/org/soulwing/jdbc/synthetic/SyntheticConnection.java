@@ -0,0 +1,409 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.synthetic;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link Connection} to a {@link SyntheticDatabase}.
+ * <p>
+ * Only the operations needed to prepare and execute statements and to
+ * demarcate transactions are supported; any other operation throws
+ * {@link SQLFeatureNotSupportedException}.  Committing or rolling back a
+ * transaction while auto-commit is disabled is a round trip.
+ *
+ * @author Carl Harris
+ */
+class SyntheticConnection implements Connection {
+
+  private final SyntheticDatabase database;
+
+  private boolean closed;
+  private boolean autoCommit = true;
+  private boolean readOnly;
+  private int transactionIsolation = TRANSACTION_READ_COMMITTED;
+  private String catalog;
+  private String schema;
+
+  SyntheticConnection(SyntheticDatabase database) {
+    this.database = database;
+  }
+
+  SyntheticDatabase getDatabase() {
+    return database;
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql) throws SQLException {
+    return prepare(sql, false);
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys)
+      throws SQLException {
+    return prepare(sql, autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS);
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int[] columnIndexes)
+      throws SQLException {
+    return prepare(sql, true);
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, String[] columnNames)
+      throws SQLException {
+    return prepare(sql, true);
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int resultSetType,
+      int resultSetConcurrency) throws SQLException {
+    checkResultSetType(resultSetType, resultSetConcurrency);
+    return prepare(sql, false);
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int resultSetType,
+      int resultSetConcurrency, int resultSetHoldability)
+      throws SQLException {
+    checkResultSetType(resultSetType, resultSetConcurrency);
+    return prepare(sql, false);
+  }
+
+  private PreparedStatement prepare(String sql, boolean returningKeys)
+      throws SQLException {
+    checkOpen();
+    database.prepare();
+    return new SyntheticPreparedStatement(this, sql, returningKeys);
+  }
+
+  private static void checkResultSetType(int resultSetType,
+      int resultSetConcurrency) throws SQLException {
+    if (resultSetType != ResultSet.TYPE_FORWARD_ONLY
+        || resultSetConcurrency != ResultSet.CONCUR_READ_ONLY) {
+      throw unsupported();
+    }
+  }
+
+  @Override
+  public void setAutoCommit(boolean autoCommit) throws SQLException {
+    checkOpen();
+    if (autoCommit && !this.autoCommit) {
+      database.roundTrip();
+    }
+    this.autoCommit = autoCommit;
+  }
+
+  @Override
+  public boolean getAutoCommit() throws SQLException {
+    checkOpen();
+    return autoCommit;
+  }
+
+  @Override
+  public void commit() throws SQLException {
+    endTransaction();
+  }
+
+  @Override
+  public void rollback() throws SQLException {
+    endTransaction();
+  }
+
+  private void endTransaction() throws SQLException {
+    checkOpen();
+    if (autoCommit) {
+      throw new SQLException("connection is in auto-commit mode");
+    }
+    database.roundTrip();
+  }
+
+  @Override
+  public void close() throws SQLException {
+    closed = true;
+  }
+
+  @Override
+  public boolean isClosed() throws SQLException {
+    return closed;
+  }
+
+  @Override
+  public boolean isValid(int timeout) throws SQLException {
+    return !closed;
+  }
+
+  @Override
+  public void abort(Executor executor) throws SQLException {
+    closed = true;
+  }
+
+  @Override
+  public void setReadOnly(boolean readOnly) throws SQLException {
+    checkOpen();
+    this.readOnly = readOnly;
+  }
+
+  @Override
+  public boolean isReadOnly() throws SQLException {
+    checkOpen();
+    return readOnly;
+  }
+
+  @Override
+  public void setTransactionIsolation(int level) throws SQLException {
+    checkOpen();
+    this.transactionIsolation = level;
+  }
+
+  @Override
+  public int getTransactionIsolation() throws SQLException {
+    checkOpen();
+    return transactionIsolation;
+  }
+
+  @Override
+  public void setCatalog(String catalog) throws SQLException {
+    checkOpen();
+    this.catalog = catalog;
+  }
+
+  @Override
+  public String getCatalog() throws SQLException {
+    checkOpen();
+    return catalog;
+  }
+
+  @Override
+  public void setSchema(String schema) throws SQLException {
+    checkOpen();
+    this.schema = schema;
+  }
+
+  @Override
+  public String getSchema() throws SQLException {
+    checkOpen();
+    return schema;
+  }
+
+  @Override
+  public String nativeSQL(String sql) throws SQLException {
+    return sql;
+  }
+
+  @Override
+  public int getHoldability() throws SQLException {
+    return ResultSet.CLOSE_CURSORS_AT_COMMIT;
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    checkOpen();
+    return null;
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public void setNetworkTimeout(Executor executor, int milliseconds)
+      throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public int getNetworkTimeout() throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public void setClientInfo(String name, String value)
+      throws SQLClientInfoException {
+    throw new SQLClientInfoException();
+  }
+
+  @Override
+  public void setClientInfo(Properties properties)
+      throws SQLClientInfoException {
+    throw new SQLClientInfoException();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (!iface.isInstance(this)) {
+      throw new SQLException("not a wrapper for " + iface.getName());
+    }
+    return iface.cast(this);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this);
+  }
+
+  private void checkOpen() throws SQLException {
+    if (closed) {
+      throw new SQLException("connection is closed");
+    }
+  }
+
+  @Override
+  public Array createArrayOf(String typeName, Object[] elements)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Blob createBlob() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Clob createClob() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public NClob createNClob() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public SQLXML createSQLXML() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Statement createStatement() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Statement createStatement(int resultSetType, int resultSetConcurrency,
+      int resultSetHoldability) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Statement createStatement(int resultSetType, int resultSetConcurrency)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Struct createStruct(String typeName, Object[] attributes)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Properties getClientInfo() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public String getClientInfo(String name) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public DatabaseMetaData getMetaData() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Map<String, Class<?>> getTypeMap() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public CallableStatement prepareCall(String sql, int resultSetType,
+      int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public CallableStatement prepareCall(String sql, int resultSetType,
+      int resultSetConcurrency) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public CallableStatement prepareCall(String sql) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void rollback(Savepoint savepoint) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setHoldability(int holdability) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Savepoint setSavepoint() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Savepoint setSavepoint(String name) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+    throw unsupported();
+  }
+
+  private static SQLFeatureNotSupportedException unsupported() {
+    return new SQLFeatureNotSupportedException(
+        "not supported by the synthetic driver");
+  }
+
+}
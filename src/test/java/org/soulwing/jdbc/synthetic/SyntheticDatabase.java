@@ -0,0 +1,342 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.synthetic;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * A synthetic database that produces preallocated query results at memory
+ * speed, with optional simulated latency.
+ * <p>
+ * Queries return the result registered for their exact SQL text using
+ * {@link #addResult(String, SyntheticResult)}, or the default result if
+ * none is registered.  Any other statement is treated as an update that
+ * affects the configured number of rows.  Parameters are accepted but
+ * otherwise ignored.
+ * <p>
+ * To simulate a network, a delay may be configured for each round trip
+ * to the database (each execution, batch, commit, and fetch of a block of
+ * rows), for preparing each statement, and for each row read from a
+ * result.  The database counts round trips, statements prepared, and rows
+ * fetched, so that a test or benchmark can verify what a change saves.
+ * <p>
+ * This class is also the {@link DataSource} for the database; each
+ * connection that it returns is a new, independent connection.  The
+ * database can also be reached using the {@link SyntheticDriver}.
+ * <p>
+ * An instance of this class is thread safe.
+ *
+ * @author Carl Harris
+ */
+public class SyntheticDatabase implements DataSource {
+
+  /**
+   * Delays longer than this are mostly spent parked rather than spinning.
+   */
+  private static final long PARK_THRESHOLD = TimeUnit.MICROSECONDS.toNanos(200);
+
+  private final Map<String, SyntheticResult> results =
+      new ConcurrentHashMap<>();
+
+  private final LongAdder roundTrips = new LongAdder();
+  private final LongAdder prepares = new LongAdder();
+  private final LongAdder executions = new LongAdder();
+  private final LongAdder rowsFetched = new LongAdder();
+  private final LongAdder cancels = new LongAdder();
+  private final AtomicLong lastKey = new AtomicLong();
+
+  private volatile SyntheticResult defaultResult = SyntheticResult.empty();
+  private volatile int updateCount = 1;
+  private volatile int defaultFetchSize;
+  private volatile long roundTripNanos;
+  private volatile long prepareNanos;
+  private volatile long rowNanos;
+
+  /**
+   * Registers the result for a query.
+   * @param sql SQL text of the query
+   * @param result result to return when the query is executed
+   */
+  public void addResult(String sql, SyntheticResult result) {
+    results.put(sql, result);
+  }
+
+  /**
+   * Sets the result for queries that have no registered result.
+   * @param result the result to set
+   */
+  public void setDefaultResult(SyntheticResult result) {
+    this.defaultResult = result;
+  }
+
+  /**
+   * Sets the number of rows affected by each update.
+   * @param updateCount the update count to set
+   */
+  public void setUpdateCount(int updateCount) {
+    this.updateCount = updateCount;
+  }
+
+  /**
+   * Sets the number of rows returned by the round trip that executes a
+   * query, and by each subsequent round trip to fetch more rows, when the
+   * statement does not specify a fetch size.
+   * @param fetchSize the fetch size to set; zero to return all rows in the
+   *    round trip that executes the query
+   */
+  public void setDefaultFetchSize(int fetchSize) {
+    this.defaultFetchSize = fetchSize;
+  }
+
+  /**
+   * Sets the delay for each round trip to the database.
+   * @param latency the delay to set
+   * @param unit unit for {@code latency}
+   */
+  public void setRoundTripLatency(long latency, TimeUnit unit) {
+    this.roundTripNanos = unit.toNanos(latency);
+  }
+
+  /**
+   * Sets the delay for preparing a statement, in addition to any round
+   * trip latency.
+   * @param latency the delay to set
+   * @param unit unit for {@code latency}
+   */
+  public void setPrepareLatency(long latency, TimeUnit unit) {
+    this.prepareNanos = unit.toNanos(latency);
+  }
+
+  /**
+   * Sets the delay for reading each row of a query result.
+   * @param cost the delay to set
+   * @param unit unit for {@code cost}
+   */
+  public void setRowCost(long cost, TimeUnit unit) {
+    this.rowNanos = unit.toNanos(cost);
+  }
+
+  /**
+   * Gets the number of round trips to the database.
+   * @return round trip count
+   */
+  public long getRoundTripCount() {
+    return roundTrips.sum();
+  }
+
+  /**
+   * Gets the number of statements that have been prepared.
+   * @return prepare count
+   */
+  public long getPrepareCount() {
+    return prepares.sum();
+  }
+
+  /**
+   * Gets the number of statement executions, counting each batch as one
+   * execution.
+   * @return execution count
+   */
+  public long getExecutionCount() {
+    return executions.sum();
+  }
+
+  /**
+   * Gets the number of rows that have been read from query results.
+   * @return row count
+   */
+  public long getRowsFetched() {
+    return rowsFetched.sum();
+  }
+
+  /**
+   * Gets the number of statement executions that were cancelled before
+   * their round trip completed.
+   * @return cancel count
+   */
+  public long getCancelCount() {
+    return cancels.sum();
+  }
+
+  /**
+   * Resets all counters to zero.
+   */
+  public void resetCounters() {
+    roundTrips.reset();
+    prepares.reset();
+    executions.reset();
+    rowsFetched.reset();
+    cancels.reset();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return new SyntheticConnection(this);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password)
+      throws SQLException {
+    return getConnection();
+  }
+
+  @Override
+  public PrintWriter getLogWriter() throws SQLException {
+    return null;
+  }
+
+  @Override
+  public void setLogWriter(PrintWriter out) throws SQLException {
+  }
+
+  @Override
+  public void setLoginTimeout(int seconds) throws SQLException {
+  }
+
+  @Override
+  public int getLoginTimeout() throws SQLException {
+    return 0;
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    throw new SQLFeatureNotSupportedException();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (!iface.isInstance(this)) {
+      throw new SQLException("not a wrapper for " + iface.getName());
+    }
+    return iface.cast(this);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this);
+  }
+
+  boolean hasResult(String sql) {
+    return results.containsKey(sql);
+  }
+
+  SyntheticResult getResult(String sql) {
+    final SyntheticResult result = results.get(sql);
+    return result != null ? result : defaultResult;
+  }
+
+  int getUpdateCount() {
+    return updateCount;
+  }
+
+  int getDefaultFetchSize() {
+    return defaultFetchSize;
+  }
+
+  long nextKey() {
+    return lastKey.incrementAndGet();
+  }
+
+  void prepare() {
+    prepares.increment();
+    pause(prepareNanos);
+  }
+
+  void execute() {
+    executions.increment();
+    roundTrip();
+  }
+
+  /**
+   * Simulates the execution of a statement that may be cancelled while
+   * waiting for the round trip to complete.
+   * @param statement the statement being executed
+   * @return {@code true} if the execution was cancelled
+   */
+  boolean execute(SyntheticPreparedStatement statement) {
+    executions.increment();
+    roundTrips.increment();
+    if (!pause(roundTripNanos, statement)) return false;
+    cancels.increment();
+    return true;
+  }
+
+  void roundTrip() {
+    roundTrips.increment();
+    pause(roundTripNanos);
+  }
+
+  void readRow() {
+    pause(rowNanos);
+  }
+
+  void rowsRead(long count) {
+    rowsFetched.add(count);
+  }
+
+  /**
+   * Waits for the given time to elapse.
+   * <p>
+   * Short delays are spent spinning, since parking the thread is not
+   * precise enough for them.
+   *
+   * @param nanos time to wait
+   */
+  private static void pause(long nanos) {
+    pause(nanos, null);
+  }
+
+  /**
+   * Waits for the given time to elapse, or until the given statement is
+   * cancelled.
+   * @param nanos time to wait
+   * @param statement statement whose cancellation ends the wait early, or
+   *    {@code null} if the wait cannot be cancelled
+   * @return {@code true} if the wait ended because the statement was
+   *    cancelled
+   */
+  private static boolean pause(long nanos,
+      SyntheticPreparedStatement statement) {
+    if (nanos <= 0) return false;
+    final long deadline = System.nanoTime() + nanos;
+    long remaining = nanos;
+    while (remaining > PARK_THRESHOLD) {
+      if (statement != null && statement.isCancelled()) return true;
+      LockSupport.parkNanos(remaining - PARK_THRESHOLD);
+      remaining = deadline - System.nanoTime();
+    }
+    while (System.nanoTime() - deadline < 0) {
+      assert true;  // spin until the deadline
+    }
+    return false;
+  }
+
+}
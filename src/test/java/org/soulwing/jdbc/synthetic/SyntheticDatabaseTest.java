@@ -0,0 +1,201 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.synthetic;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.soulwing.jdbc.FluentJdbc;
+import org.soulwing.jdbc.JdbcQuery;
+import org.soulwing.jdbc.Parameter;
+import org.soulwing.jdbc.StatementCache;
+
+/**
+ * Unit tests for {@link SyntheticDatabase} and the synthetic driver.
+ *
+ * @author Carl Harris
+ */
+public class SyntheticDatabaseTest {
+
+  private static final String[] LABELS = { "id", "name", "salary" };
+
+  private static final String SELECT_PEOPLE = "SELECT * FROM person";
+
+  private static final String SELECT_PERSON =
+      "SELECT * FROM person WHERE id = ?";
+
+  private SyntheticDatabase database;
+
+  private FluentJdbc jdbc;
+
+  @Before
+  public void setUp() throws Exception {
+    database = new SyntheticDatabase();
+    database.addResult(SELECT_PEOPLE, SyntheticResult.of(LABELS,
+        new Object[] { 1, "one", new BigDecimal("1.25") },
+        new Object[] { 2, null, 2.5 }));
+    database.addResult(SELECT_PERSON, SyntheticResult.repeat(LABELS,
+        new Object[] { 3L, "three", null }, 1));
+    jdbc = new FluentJdbc(database);
+  }
+
+  @Test
+  public void testQueryResult() throws Exception {
+    final List<String> names = new ArrayList<>();
+    final List<BigDecimal> salaries = jdbc.queryForType(BigDecimal.class)
+        .using(SELECT_PEOPLE)
+        .mappingRowsWith((rs, rowNum) -> {
+          names.add(rs.getString("name"));
+          assertThat(rs.getLong(1), is(equalTo((long) rowNum)));
+          return rs.getBigDecimal("salary");
+        })
+        .retrieveList();
+
+    assertThat(names, contains("one", null));
+    assertThat(salaries, contains(new BigDecimal("1.25"),
+        BigDecimal.valueOf(2.5)));
+    assertThat(database.getExecutionCount(), is(equalTo(1L)));
+    assertThat(database.getRowsFetched(), is(equalTo(2L)));
+  }
+
+  @Test
+  public void testQueryValueWithParameters() throws Exception {
+    final Object id = jdbc.queryForType(Object.class)
+        .using(SELECT_PERSON)
+        .extractingColumn("ID")
+        .retrieveValue(Parameter.with(3));
+    assertThat(id, is(instanceOf(Long.class)));
+    assertThat(jdbc.queryForType(String.class)
+        .using(SELECT_PERSON)
+        .extractingColumn("salary")
+        .retrieveValue(Parameter.with(3)), is(nullValue()));
+  }
+
+  @Test
+  public void testDefaultResult() throws Exception {
+    database.setDefaultResult(SyntheticResult.repeat(
+        new String[] { "n" }, new Object[] { 7 }, 3));
+    assertThat(jdbc.queryForType(int.class)
+        .using("SELECT n FROM anything")
+        .extractingColumn()
+        .retrieveIntArray(), is(equalTo(new int[] { 7, 7, 7 })));
+  }
+
+  @Test
+  public void testUpdateAndGeneratedKeys() throws Exception {
+    database.setUpdateCount(2);
+    assertThat(jdbc.update()
+        .using("UPDATE person SET name = ?")
+        .execute(Parameter.with("x")), is(equalTo(2)));
+
+    database.setUpdateCount(1);
+    final long key = jdbc.update()
+        .using("INSERT INTO person(name) VALUES(?)")
+        .returningKeys("id")
+        .executeAndReturnKey(Parameter.with("x"));
+    assertThat(key, is(equalTo(1L)));
+  }
+
+  @Test
+  public void testBatchIsOneRoundTripPerFlush() throws Exception {
+    final List<Parameter[]> rows = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      rows.add(new Parameter[] { Parameter.with(i) });
+    }
+    final int[] counts = jdbc.update()
+        .using("INSERT INTO person(id) VALUES(?)")
+        .batchSize(4)
+        .executeBatch(rows);
+
+    assertThat(counts.length, is(equalTo(10)));
+    assertThat(database.getRoundTripCount(), is(equalTo(3L)));
+  }
+
+  @Test
+  public void testFetchSizeRoundTrips() throws Exception {
+    database.addResult("SELECT id FROM big", SyntheticResult.repeat(
+        new String[] { "id" }, new Object[] { 1 }, 10));
+    database.setDefaultFetchSize(4);
+    jdbc.queryForType(int.class)
+        .using("SELECT id FROM big")
+        .extractingColumn()
+        .retrieveIntArray();
+
+    // one round trip to execute and return 4 rows, then two more fetches
+    assertThat(database.getRoundTripCount(), is(equalTo(3L)));
+  }
+
+  @Test
+  public void testStatementCacheAvoidsPrepare() throws Exception {
+    try (Connection connection = database.getConnection()) {
+      final FluentJdbc jdbc = new FluentJdbc(connection);
+      jdbc.setStatementCache(new StatementCache());
+      for (int i = 0; i < 3; i++) {
+        jdbc.queryForType(String.class)
+            .using(SELECT_PERSON)
+            .extractingColumn("name")
+            .retrieveValue(Parameter.with(3));
+      }
+    }
+    assertThat(database.getPrepareCount(), is(equalTo(1L)));
+    assertThat(database.getExecutionCount(), is(equalTo(3L)));
+  }
+
+  @Test
+  public void testRoundTripLatency() throws Exception {
+    database.setRoundTripLatency(2, TimeUnit.MILLISECONDS);
+    final long start = System.nanoTime();
+    try (JdbcQuery<String> query = jdbc.queryForType(String.class)
+        .using(SELECT_PERSON)
+        .extractingColumn("name")
+        .repeatedly()) {
+      query.retrieveValue(Parameter.with(3));
+      query.retrieveValue(Parameter.with(3));
+    }
+    assertThat(System.nanoTime() - start,
+        is(greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(4))));
+  }
+
+  @Test
+  public void testDriver() throws Exception {
+    final String url = SyntheticDriver.register("test", database);
+    try (Connection connection = DriverManager.getConnection(url)) {
+      assertThat(connection.unwrap(SyntheticConnection.class).getDatabase(),
+          is(equalTo(database)));
+    }
+    finally {
+      SyntheticDriver.deregister("test");
+    }
+  }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.synthetic;
+
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * A JDBC driver for {@link SyntheticDatabase} instances.
+ * <p>
+ * A database is made available to the driver by registering it under a
+ * name, using {@link #register(String, SyntheticDatabase)}; it can then be
+ * reached using the URL {@code jdbc:synthetic:}<em>name</em>.  The driver
+ * registers itself with the {@link DriverManager} when this class is
+ * initialized.
+ *
+ * @author Carl Harris
+ */
+public class SyntheticDriver implements Driver {
+
+  /**
+   * Prefix for the URLs accepted by this driver.
+   */
+  public static final String URL_PREFIX = "jdbc:synthetic:";
+
+  private static final Map<String, SyntheticDatabase> databases =
+      new ConcurrentHashMap<>();
+
+  static {
+    try {
+      DriverManager.registerDriver(new SyntheticDriver());
+    }
+    catch (SQLException ex) {
+      throw new ExceptionInInitializerError(ex);
+    }
+  }
+
+  /**
+   * Registers a database with this driver.
+   * @param name name of the database
+   * @param database the database to register
+   * @return URL for the database
+   */
+  public static String register(String name, SyntheticDatabase database) {
+    databases.put(name, database);
+    return URL_PREFIX + name;
+  }
+
+  /**
+   * Removes a database that was registered with this driver.
+   * @param name name of the database
+   */
+  public static void deregister(String name) {
+    databases.remove(name);
+  }
+
+  @Override
+  public Connection connect(String url, Properties info) throws SQLException {
+    if (!acceptsURL(url)) return null;
+    final String name = url.substring(URL_PREFIX.length());
+    final SyntheticDatabase database = databases.get(name);
+    if (database == null) {
+      throw new SQLException("no synthetic database named '" + name + "'");
+    }
+    return database.getConnection();
+  }
+
+  @Override
+  public boolean acceptsURL(String url) throws SQLException {
+    return url != null && url.startsWith(URL_PREFIX);
+  }
+
+  @Override
+  public DriverPropertyInfo[] getPropertyInfo(String url, Properties info)
+      throws SQLException {
+    return new DriverPropertyInfo[0];
+  }
+
+  @Override
+  public int getMajorVersion() {
+    return 1;
+  }
+
+  @Override
+  public int getMinorVersion() {
+    return 0;
+  }
+
+  @Override
+  public boolean jdbcCompliant() {
+    return false;
+  }
+
+  @Override
+  public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+    throw new SQLFeatureNotSupportedException();
+  }
+
+}
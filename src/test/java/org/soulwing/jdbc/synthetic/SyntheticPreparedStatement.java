@@ -0,0 +1,770 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.synthetic;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A {@link PreparedStatement} for a {@link SyntheticDatabase}.
+ * <p>
+ * Parameter values are retained (so that they can be cleared), but do not
+ * affect the result of an execution.  Each execution, and each batch, is a
+ * round trip to the database.  If the statement was prepared such that it
+ * returns generated keys, each row affected by an update produces a new
+ * key in a single {@code BIGINT} column.
+ *
+ * @author Carl Harris
+ */
+class SyntheticPreparedStatement implements PreparedStatement {
+
+  private static final String[] KEY_LABELS = { "GENERATED_KEY" };
+
+  private final SyntheticConnection connection;
+  private final SyntheticDatabase database;
+  private final String sql;
+  private final boolean returningKeys;
+
+  private Object[] parameters = new Object[8];
+  private int batchCount;
+  private int fetchSize;
+  private int maxRows;
+  private int queryTimeout;
+  private boolean poolable = true;
+  private boolean closeOnCompletion;
+  private boolean closed;
+  private SyntheticResultSet resultSet;
+  private int updateCount = -1;
+  private volatile Thread executingThread;
+  private volatile boolean cancelled;
+  private SyntheticResult generatedKeys;
+
+  SyntheticPreparedStatement(SyntheticConnection connection, String sql,
+      boolean returningKeys) {
+    this.connection = connection;
+    this.database = connection.getDatabase();
+    this.sql = sql;
+    this.returningKeys = returningKeys;
+  }
+
+  /**
+   * Gets the value of a parameter.
+   * @param parameterIndex index of the parameter (the first is 1)
+   * @return parameter value
+   */
+  Object getParameter(int parameterIndex) {
+    return parameterIndex <= parameters.length ?
+        parameters[parameterIndex - 1] : null;
+  }
+
+  private void setParameter(int parameterIndex, Object value)
+      throws SQLException {
+    checkOpen();
+    if (parameterIndex < 1) {
+      throw new SQLException("parameter index out of range: "
+          + parameterIndex);
+    }
+    if (parameterIndex > parameters.length) {
+      parameters = Arrays.copyOf(parameters,
+          Math.max(parameters.length * 2, parameterIndex));
+    }
+    parameters[parameterIndex - 1] = value;
+  }
+
+  @Override
+  public void setNull(int parameterIndex, int sqlType) throws SQLException {
+    setParameter(parameterIndex, null);
+  }
+
+  @Override
+  public void setNull(int parameterIndex, int sqlType, String typeName)
+      throws SQLException {
+    setParameter(parameterIndex, null);
+  }
+
+  @Override
+  public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setByte(int parameterIndex, byte x) throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setShort(int parameterIndex, short x) throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setInt(int parameterIndex, int x) throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setLong(int parameterIndex, long x) throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setFloat(int parameterIndex, float x) throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setDouble(int parameterIndex, double x) throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setBigDecimal(int parameterIndex, BigDecimal x)
+      throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setString(int parameterIndex, String x) throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setNString(int parameterIndex, String x) throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setDate(int parameterIndex, Date x) throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setTime(int parameterIndex, Time x) throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setTimestamp(int parameterIndex, Timestamp x)
+      throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setObject(int parameterIndex, Object x) throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setDate(int parameterIndex, Date x, Calendar cal)
+      throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setTime(int parameterIndex, Time x, Calendar cal)
+      throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal)
+      throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setObject(int parameterIndex, Object x, int targetSqlType)
+      throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void setObject(int parameterIndex, Object x, int targetSqlType,
+      int scaleOrLength) throws SQLException {
+    setParameter(parameterIndex, x);
+  }
+
+  @Override
+  public void clearParameters() throws SQLException {
+    checkOpen();
+    Arrays.fill(parameters, null);
+  }
+
+  @Override
+  public ResultSet executeQuery() throws SQLException {
+    checkOpen();
+    closeResult();
+    executeCancellable();
+    final int rows = fetchSize > 0 ? fetchSize : database.getDefaultFetchSize();
+    resultSet = new SyntheticResultSet(this, database.getResult(sql), rows,
+        maxRows);
+    return resultSet;
+  }
+
+  @Override
+  public int executeUpdate() throws SQLException {
+    checkOpen();
+    closeResult();
+    executeCancellable();
+    updateCount = database.getUpdateCount();
+    if (returningKeys) {
+      generatedKeys = generateKeys(updateCount);
+    }
+    return updateCount;
+  }
+
+  @Override
+  public boolean execute() throws SQLException {
+    if (database.hasResult(sql)) {
+      executeQuery();
+      return true;
+    }
+    executeUpdate();
+    return false;
+  }
+
+  @Override
+  public void addBatch() throws SQLException {
+    checkOpen();
+    batchCount++;
+  }
+
+  @Override
+  public void clearBatch() throws SQLException {
+    checkOpen();
+    batchCount = 0;
+  }
+
+  @Override
+  public int[] executeBatch() throws SQLException {
+    checkOpen();
+    closeResult();
+    final int[] counts = new int[batchCount];
+    batchCount = 0;
+    if (counts.length == 0) return counts;
+    database.execute();
+    final int count = database.getUpdateCount();
+    Arrays.fill(counts, count);
+    if (returningKeys) {
+      generatedKeys = generateKeys(count * counts.length);
+    }
+    return counts;
+  }
+
+  private void executeCancellable() throws SQLException {
+    cancelled = false;
+    executingThread = Thread.currentThread();
+    try {
+      if (database.execute(this)) {
+        throw new SQLException("statement was cancelled", "57014");
+      }
+    }
+    finally {
+      executingThread = null;
+      cancelled = false;
+    }
+  }
+
+  boolean isCancelled() {
+    return cancelled;
+  }
+
+  private SyntheticResult generateKeys(int count) {
+    final Object[][] keys = new Object[Math.max(count, 0)][];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = new Object[] { database.nextKey() };
+    }
+    return SyntheticResult.of(KEY_LABELS, keys);
+  }
+
+  @Override
+  public ResultSet getGeneratedKeys() throws SQLException {
+    checkOpen();
+    final SyntheticResult keys = generatedKeys != null ?
+        generatedKeys : SyntheticResult.empty(KEY_LABELS);
+    generatedKeys = null;
+    return new SyntheticResultSet(this, keys, 0, 0);
+  }
+
+  @Override
+  public ResultSet getResultSet() throws SQLException {
+    checkOpen();
+    return resultSet;
+  }
+
+  @Override
+  public int getUpdateCount() throws SQLException {
+    checkOpen();
+    return updateCount;
+  }
+
+  @Override
+  public boolean getMoreResults() throws SQLException {
+    checkOpen();
+    closeResult();
+    return false;
+  }
+
+  @Override
+  public ResultSetMetaData getMetaData() throws SQLException {
+    checkOpen();
+    return database.hasResult(sql) ?
+        database.getResult(sql).getMetaData() : null;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    checkOpen();
+    return connection;
+  }
+
+  @Override
+  public void setFetchSize(int rows) throws SQLException {
+    checkOpen();
+    if (rows < 0) {
+      throw new SQLException("fetch size must not be negative");
+    }
+    this.fetchSize = rows;
+  }
+
+  @Override
+  public int getFetchSize() throws SQLException {
+    checkOpen();
+    return fetchSize;
+  }
+
+  @Override
+  public void setFetchDirection(int direction) throws SQLException {
+    checkOpen();
+    if (direction != ResultSet.FETCH_FORWARD) {
+      throw unsupported();
+    }
+  }
+
+  @Override
+  public int getFetchDirection() throws SQLException {
+    checkOpen();
+    return ResultSet.FETCH_FORWARD;
+  }
+
+  @Override
+  public void setMaxRows(int max) throws SQLException {
+    checkOpen();
+    this.maxRows = max;
+  }
+
+  @Override
+  public int getMaxRows() throws SQLException {
+    checkOpen();
+    return maxRows;
+  }
+
+  @Override
+  public void setQueryTimeout(int seconds) throws SQLException {
+    checkOpen();
+    this.queryTimeout = seconds;
+  }
+
+  @Override
+  public int getQueryTimeout() throws SQLException {
+    checkOpen();
+    return queryTimeout;
+  }
+
+  @Override
+  public void setPoolable(boolean poolable) throws SQLException {
+    checkOpen();
+    this.poolable = poolable;
+  }
+
+  @Override
+  public boolean isPoolable() throws SQLException {
+    checkOpen();
+    return poolable;
+  }
+
+  @Override
+  public void closeOnCompletion() throws SQLException {
+    checkOpen();
+    closeOnCompletion = true;
+  }
+
+  @Override
+  public boolean isCloseOnCompletion() throws SQLException {
+    checkOpen();
+    return closeOnCompletion;
+  }
+
+  @Override
+  public int getResultSetType() throws SQLException {
+    return ResultSet.TYPE_FORWARD_ONLY;
+  }
+
+  @Override
+  public int getResultSetConcurrency() throws SQLException {
+    return ResultSet.CONCUR_READ_ONLY;
+  }
+
+  @Override
+  public int getResultSetHoldability() throws SQLException {
+    return ResultSet.CLOSE_CURSORS_AT_COMMIT;
+  }
+
+  @Override
+  public void setEscapeProcessing(boolean enable) throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public void cancel() throws SQLException {
+    checkOpen();
+    cancelled = true;
+    final Thread thread = executingThread;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    checkOpen();
+    return null;
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public void close() throws SQLException {
+    if (closed) return;
+    closeResult();
+    closed = true;
+  }
+
+  @Override
+  public boolean isClosed() throws SQLException {
+    return closed;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (!iface.isInstance(this)) {
+      throw new SQLException("not a wrapper for " + iface.getName());
+    }
+    return iface.cast(this);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this);
+  }
+
+  /**
+   * Notifies this statement that its current result set was closed.
+   * @param rs the result set that was closed
+   * @throws SQLException as needed
+   */
+  void resultClosed(SyntheticResultSet rs) throws SQLException {
+    if (rs != resultSet) return;
+    resultSet = null;
+    if (closeOnCompletion) {
+      close();
+    }
+  }
+
+  SyntheticDatabase getDatabase() {
+    return database;
+  }
+
+  private void closeResult() throws SQLException {
+    updateCount = -1;
+    if (resultSet != null) {
+      final SyntheticResultSet rs = resultSet;
+      resultSet = null;
+      rs.close();
+    }
+  }
+
+  private void checkOpen() throws SQLException {
+    if (closed) {
+      throw new SQLException("statement is closed");
+    }
+  }
+
+  @Override
+  public void addBatch(String sql) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean execute(String sql, String[] columnNames) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean execute(String sql, int autoGeneratedKeys)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean execute(String sql) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public ResultSet executeQuery(String sql) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public int executeUpdate(String sql, int[] columnIndexes)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public int executeUpdate(String sql, String[] columnNames)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public int executeUpdate(String sql, int autoGeneratedKeys)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public int executeUpdate(String sql) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public int getMaxFieldSize() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean getMoreResults(int current) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public ParameterMetaData getParameterMetaData() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setArray(int parameterIndex, Array x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setAsciiStream(int parameterIndex, InputStream x, int length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setAsciiStream(int parameterIndex, InputStream x, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setAsciiStream(int parameterIndex, InputStream x)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setBinaryStream(int parameterIndex, InputStream x, int length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setBinaryStream(int parameterIndex, InputStream x, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setBinaryStream(int parameterIndex, InputStream x)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setBlob(int parameterIndex, InputStream x, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setBlob(int parameterIndex, InputStream x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setBlob(int parameterIndex, Blob x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setCharacterStream(int parameterIndex, Reader reader, int length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setCharacterStream(int parameterIndex, Reader reader, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setCharacterStream(int parameterIndex, Reader reader)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setClob(int parameterIndex, Reader reader, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setClob(int parameterIndex, Reader reader) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setClob(int parameterIndex, Clob x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setCursorName(String name) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setMaxFieldSize(int max) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setNCharacterStream(int parameterIndex, Reader reader,
+      long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setNCharacterStream(int parameterIndex, Reader reader)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setNClob(int parameterIndex, Reader reader, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setNClob(int parameterIndex, NClob x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setRef(int parameterIndex, Ref x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setRowId(int parameterIndex, RowId x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setSQLXML(int parameterIndex, SQLXML x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void setURL(int parameterIndex, URL x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  @Deprecated
+  public void setUnicodeStream(int parameterIndex, InputStream x, int length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  private static SQLFeatureNotSupportedException unsupported() {
+    return new SQLFeatureNotSupportedException(
+        "not supported by the synthetic driver");
+  }
+
+}
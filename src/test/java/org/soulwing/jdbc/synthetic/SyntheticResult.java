@@ -0,0 +1,206 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.synthetic;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * The shape and content of a query result produced by a
+ * {@link SyntheticDatabase}.
+ * <p>
+ * A result is immutable, and all of its values are allocated when it is
+ * created, so that reading it costs no more than reading an array.  The
+ * SQL type of each column is inferred from the first non-null value in the
+ * column.
+ *
+ * @author Carl Harris
+ */
+public final class SyntheticResult {
+
+  private final String[] labels;
+  private final Object[][] rows;
+  private final int[] types;
+  private final String[] classNames;
+  private final SyntheticResultSetMetaData metaData;
+
+  private SyntheticResult(String[] labels, Object[][] rows) {
+    for (final Object[] row : rows) {
+      if (row.length != labels.length) {
+        throw new IllegalArgumentException(
+            "each row must have " + labels.length + " values");
+      }
+    }
+    this.labels = labels.clone();
+    this.rows = rows;
+    this.types = new int[labels.length];
+    this.classNames = new String[labels.length];
+    for (int i = 0; i < labels.length; i++) {
+      final Object value = firstValue(i);
+      types[i] = typeOf(value);
+      classNames[i] = value != null ?
+          value.getClass().getName() : Object.class.getName();
+    }
+    this.metaData = new SyntheticResultSetMetaData(this);
+  }
+
+  /**
+   * Creates a result containing the given rows.
+   * @param labels column labels
+   * @param rows rows of the result; each must contain a value for each
+   *    column
+   * @return result
+   */
+  public static SyntheticResult of(String[] labels, Object[]... rows) {
+    return new SyntheticResult(labels, rows.clone());
+  }
+
+  /**
+   * Creates a result that contains the same row repeated a given number of
+   * times.
+   * <p>
+   * The row is shared, so that a result of any size occupies little more
+   * memory than a single row.
+   *
+   * @param labels column labels
+   * @param row values of the row to repeat
+   * @param count number of rows in the result
+   * @return result
+   */
+  public static SyntheticResult repeat(String[] labels, Object[] row,
+      int count) {
+    final Object[][] rows = new Object[count][];
+    Arrays.fill(rows, row);
+    return new SyntheticResult(labels, rows);
+  }
+
+  /**
+   * Creates a result that contains no rows.
+   * @param labels column labels
+   * @return result
+   */
+  public static SyntheticResult empty(String... labels) {
+    return new SyntheticResult(labels, new Object[0][]);
+  }
+
+  /**
+   * Gets the number of columns in this result.
+   * @return column count
+   */
+  public int getColumnCount() {
+    return labels.length;
+  }
+
+  /**
+   * Gets the number of rows in this result.
+   * @return row count
+   */
+  public int getRowCount() {
+    return rows.length;
+  }
+
+  /**
+   * Gets the label of a column.
+   * @param column column index (the first column is 1)
+   * @return column label
+   */
+  public String getLabel(int column) {
+    return labels[column - 1];
+  }
+
+  /**
+   * Gets the SQL type of a column.
+   * @param column column index (the first column is 1)
+   * @return type code from {@link Types}
+   */
+  public int getType(int column) {
+    return types[column - 1];
+  }
+
+  /**
+   * Gets the name of the Java class of the values in a column.
+   * @param column column index (the first column is 1)
+   * @return class name
+   */
+  public String getClassName(int column) {
+    return classNames[column - 1];
+  }
+
+  /**
+   * Gets the value of a column in a row.
+   * @param row row index (the first row is 0)
+   * @param column column index (the first column is 1)
+   * @return value (which may be {@code null})
+   */
+  public Object getValue(int row, int column) {
+    return rows[row][column - 1];
+  }
+
+  /**
+   * Finds the index of the column with a given label, ignoring case.
+   * @param label the subject label
+   * @return column index (the first column is 1) or 0 if there is no
+   *    column with the given label
+   */
+  public int findColumn(String label) {
+    for (int i = 0; i < labels.length; i++) {
+      if (labels[i].equalsIgnoreCase(label)) return i + 1;
+    }
+    return 0;
+  }
+
+  SyntheticResultSetMetaData getMetaData() {
+    return metaData;
+  }
+
+  private Object firstValue(int index) {
+    for (final Object[] row : rows) {
+      if (row[index] != null) return row[index];
+    }
+    return null;
+  }
+
+  private static int typeOf(Object value) {
+    if (value instanceof String) return Types.VARCHAR;
+    if (value instanceof Integer) return Types.INTEGER;
+    if (value instanceof Long) return Types.BIGINT;
+    if (value instanceof Short) return Types.SMALLINT;
+    if (value instanceof Byte) return Types.TINYINT;
+    if (value instanceof Double) return Types.DOUBLE;
+    if (value instanceof Float) return Types.REAL;
+    if (value instanceof BigDecimal) return Types.DECIMAL;
+    if (value instanceof Boolean) return Types.BOOLEAN;
+    if (value instanceof Timestamp) return Types.TIMESTAMP;
+    if (value instanceof Date) return Types.DATE;
+    if (value instanceof Time) return Types.TIME;
+    if (value instanceof byte[]) return Types.VARBINARY;
+    if (value == null) return Types.NULL;
+    return Types.JAVA_OBJECT;
+  }
+
+  static String typeName(int type) {
+    return JDBCType.valueOf(type).getName();
+  }
+
+}
@@ -0,0 +1,1206 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.synthetic;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+/**
+ * A {@link ResultSet} that reads the rows of a {@link SyntheticResult}.
+ * <p>
+ * Values are converted between numeric types, and from any type to a
+ * string, as a typical driver would; other conversions throw
+ * {@link SQLException}.  If a fetch size is in effect, reading the first
+ * row of each block after the first is a round trip to the database.
+ *
+ * @author Carl Harris
+ */
+class SyntheticResultSet implements ResultSet {
+
+  private final SyntheticPreparedStatement statement;
+  private final SyntheticDatabase database;
+  private final SyntheticResult result;
+  private final int limit;
+
+  private int fetchSize;
+  private int row = -1;
+  private long rowsRead;
+  private boolean wasNull;
+  private boolean closed;
+
+  SyntheticResultSet(SyntheticPreparedStatement statement,
+      SyntheticResult result, int fetchSize, int maxRows) {
+    this.statement = statement;
+    this.database = statement.getDatabase();
+    this.result = result;
+    this.fetchSize = fetchSize;
+    this.limit = maxRows > 0 ?
+        Math.min(maxRows, result.getRowCount()) : result.getRowCount();
+  }
+
+  @Override
+  public boolean next() throws SQLException {
+    checkOpen();
+    if (row + 1 >= limit) {
+      row = limit;
+      return false;
+    }
+    row++;
+    if (fetchSize > 0 && row > 0 && row % fetchSize == 0) {
+      database.roundTrip();
+    }
+    database.readRow();
+    rowsRead++;
+    return true;
+  }
+
+  @Override
+  public void close() throws SQLException {
+    if (closed) return;
+    closed = true;
+    database.rowsRead(rowsRead);
+    statement.resultClosed(this);
+  }
+
+  @Override
+  public boolean isClosed() throws SQLException {
+    return closed;
+  }
+
+  @Override
+  public boolean wasNull() throws SQLException {
+    checkOpen();
+    return wasNull;
+  }
+
+  @Override
+  public int findColumn(String columnLabel) throws SQLException {
+    checkOpen();
+    final int column = result.findColumn(columnLabel);
+    if (column == 0) {
+      throw new SQLException("no column labeled '" + columnLabel + "'");
+    }
+    return column;
+  }
+
+  @Override
+  public String getString(int columnIndex) throws SQLException {
+    final Object value = value(columnIndex);
+    return value != null ? value.toString() : null;
+  }
+
+  @Override
+  public String getString(String columnLabel) throws SQLException {
+    return getString(findColumn(columnLabel));
+  }
+
+  @Override
+  public String getNString(int columnIndex) throws SQLException {
+    return getString(columnIndex);
+  }
+
+  @Override
+  public String getNString(String columnLabel) throws SQLException {
+    return getNString(findColumn(columnLabel));
+  }
+
+  @Override
+  public boolean getBoolean(int columnIndex) throws SQLException {
+    final Object value = value(columnIndex);
+    if (value == null) return false;
+    if (value instanceof Boolean) return (Boolean) value;
+    if (value instanceof String) return Boolean.parseBoolean((String) value);
+    return toNumber(value).intValue() != 0;
+  }
+
+  @Override
+  public boolean getBoolean(String columnLabel) throws SQLException {
+    return getBoolean(findColumn(columnLabel));
+  }
+
+  @Override
+  public byte getByte(int columnIndex) throws SQLException {
+    final Object value = value(columnIndex);
+    return value != null ? toNumber(value).byteValue() : 0;
+  }
+
+  @Override
+  public byte getByte(String columnLabel) throws SQLException {
+    return getByte(findColumn(columnLabel));
+  }
+
+  @Override
+  public short getShort(int columnIndex) throws SQLException {
+    final Object value = value(columnIndex);
+    return value != null ? toNumber(value).shortValue() : 0;
+  }
+
+  @Override
+  public short getShort(String columnLabel) throws SQLException {
+    return getShort(findColumn(columnLabel));
+  }
+
+  @Override
+  public int getInt(int columnIndex) throws SQLException {
+    final Object value = value(columnIndex);
+    return value != null ? toNumber(value).intValue() : 0;
+  }
+
+  @Override
+  public int getInt(String columnLabel) throws SQLException {
+    return getInt(findColumn(columnLabel));
+  }
+
+  @Override
+  public long getLong(int columnIndex) throws SQLException {
+    final Object value = value(columnIndex);
+    return value != null ? toNumber(value).longValue() : 0;
+  }
+
+  @Override
+  public long getLong(String columnLabel) throws SQLException {
+    return getLong(findColumn(columnLabel));
+  }
+
+  @Override
+  public float getFloat(int columnIndex) throws SQLException {
+    final Object value = value(columnIndex);
+    return value != null ? toNumber(value).floatValue() : 0;
+  }
+
+  @Override
+  public float getFloat(String columnLabel) throws SQLException {
+    return getFloat(findColumn(columnLabel));
+  }
+
+  @Override
+  public double getDouble(int columnIndex) throws SQLException {
+    final Object value = value(columnIndex);
+    return value != null ? toNumber(value).doubleValue() : 0;
+  }
+
+  @Override
+  public double getDouble(String columnLabel) throws SQLException {
+    return getDouble(findColumn(columnLabel));
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+    final Object value = value(columnIndex);
+    if (value == null || value instanceof BigDecimal) return (BigDecimal) value;
+    final Number number = toNumber(value);
+    if (number instanceof BigDecimal) return (BigDecimal) number;
+    if (number instanceof Double || number instanceof Float) {
+      return BigDecimal.valueOf(number.doubleValue());
+    }
+    return BigDecimal.valueOf(number.longValue());
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+    return getBigDecimal(findColumn(columnLabel));
+  }
+
+  @Override
+  public byte[] getBytes(int columnIndex) throws SQLException {
+    final Object value = value(columnIndex);
+    if (value == null || value instanceof byte[]) return (byte[]) value;
+    throw cannotConvert(value, byte[].class);
+  }
+
+  @Override
+  public byte[] getBytes(String columnLabel) throws SQLException {
+    return getBytes(findColumn(columnLabel));
+  }
+
+  @Override
+  public Date getDate(int columnIndex) throws SQLException {
+    final Object value = value(columnIndex);
+    if (value == null || value instanceof Date) return (Date) value;
+    if (value instanceof java.util.Date) {
+      return new Date(((java.util.Date) value).getTime());
+    }
+    throw cannotConvert(value, Date.class);
+  }
+
+  @Override
+  public Date getDate(String columnLabel) throws SQLException {
+    return getDate(findColumn(columnLabel));
+  }
+
+  @Override
+  public Time getTime(int columnIndex) throws SQLException {
+    final Object value = value(columnIndex);
+    if (value == null || value instanceof Time) return (Time) value;
+    if (value instanceof java.util.Date) {
+      return new Time(((java.util.Date) value).getTime());
+    }
+    throw cannotConvert(value, Time.class);
+  }
+
+  @Override
+  public Time getTime(String columnLabel) throws SQLException {
+    return getTime(findColumn(columnLabel));
+  }
+
+  @Override
+  public Timestamp getTimestamp(int columnIndex) throws SQLException {
+    final Object value = value(columnIndex);
+    if (value == null || value instanceof Timestamp) return (Timestamp) value;
+    if (value instanceof java.util.Date) {
+      return new Timestamp(((java.util.Date) value).getTime());
+    }
+    throw cannotConvert(value, Timestamp.class);
+  }
+
+  @Override
+  public Timestamp getTimestamp(String columnLabel) throws SQLException {
+    return getTimestamp(findColumn(columnLabel));
+  }
+
+  @Override
+  public Object getObject(int columnIndex) throws SQLException {
+    return value(columnIndex);
+  }
+
+  @Override
+  public Object getObject(String columnLabel) throws SQLException {
+    return getObject(findColumn(columnLabel));
+  }
+
+  @Override
+  public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+    return getDate(columnIndex);
+  }
+
+  @Override
+  public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+    return getDate(findColumn(columnLabel));
+  }
+
+  @Override
+  public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+    return getTime(columnIndex);
+  }
+
+  @Override
+  public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+    return getTime(findColumn(columnLabel));
+  }
+
+  @Override
+  public Timestamp getTimestamp(int columnIndex, Calendar cal)
+      throws SQLException {
+    return getTimestamp(columnIndex);
+  }
+
+  @Override
+  public Timestamp getTimestamp(String columnLabel, Calendar cal)
+      throws SQLException {
+    return getTimestamp(findColumn(columnLabel));
+  }
+
+  @Override
+  public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+    final Object value = value(columnIndex);
+    if (value == null || type.isInstance(value)) return type.cast(value);
+    if (type == String.class) return type.cast(value.toString());
+    if (type == Integer.class) return type.cast(getInt(columnIndex));
+    if (type == Long.class) return type.cast(getLong(columnIndex));
+    if (type == Double.class) return type.cast(getDouble(columnIndex));
+    if (type == BigDecimal.class) return type.cast(getBigDecimal(columnIndex));
+    if (type == Boolean.class) return type.cast(getBoolean(columnIndex));
+    throw cannotConvert(value, type);
+  }
+
+  @Override
+  public <T> T getObject(String columnLabel, Class<T> type)
+      throws SQLException {
+    return getObject(findColumn(columnLabel), type);
+  }
+
+  @Override
+  public ResultSetMetaData getMetaData() throws SQLException {
+    checkOpen();
+    return result.getMetaData();
+  }
+
+  @Override
+  public Statement getStatement() throws SQLException {
+    checkOpen();
+    return statement;
+  }
+
+  @Override
+  public int getRow() throws SQLException {
+    checkOpen();
+    return row >= 0 && row < limit ? row + 1 : 0;
+  }
+
+  @Override
+  public boolean isBeforeFirst() throws SQLException {
+    checkOpen();
+    return row < 0 && limit > 0;
+  }
+
+  @Override
+  public boolean isAfterLast() throws SQLException {
+    checkOpen();
+    return row >= limit && limit > 0;
+  }
+
+  @Override
+  public boolean isFirst() throws SQLException {
+    checkOpen();
+    return row == 0 && limit > 0;
+  }
+
+  @Override
+  public boolean isLast() throws SQLException {
+    checkOpen();
+    return row == limit - 1;
+  }
+
+  @Override
+  public void setFetchSize(int rows) throws SQLException {
+    checkOpen();
+    if (rows < 0) {
+      throw new SQLException("fetch size must not be negative");
+    }
+    this.fetchSize = rows;
+  }
+
+  @Override
+  public int getFetchSize() throws SQLException {
+    checkOpen();
+    return fetchSize;
+  }
+
+  @Override
+  public void setFetchDirection(int direction) throws SQLException {
+    checkOpen();
+    if (direction != FETCH_FORWARD) {
+      throw unsupported();
+    }
+  }
+
+  @Override
+  public int getFetchDirection() throws SQLException {
+    checkOpen();
+    return FETCH_FORWARD;
+  }
+
+  @Override
+  public int getType() throws SQLException {
+    return TYPE_FORWARD_ONLY;
+  }
+
+  @Override
+  public int getConcurrency() throws SQLException {
+    return CONCUR_READ_ONLY;
+  }
+
+  @Override
+  public int getHoldability() throws SQLException {
+    return CLOSE_CURSORS_AT_COMMIT;
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    checkOpen();
+    return null;
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    checkOpen();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (!iface.isInstance(this)) {
+      throw new SQLException("not a wrapper for " + iface.getName());
+    }
+    return iface.cast(this);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this);
+  }
+
+  private Object value(int columnIndex) throws SQLException {
+    checkOpen();
+    if (row < 0 || row >= limit) {
+      throw new SQLException("result set is not positioned on a row");
+    }
+    if (columnIndex < 1 || columnIndex > result.getColumnCount()) {
+      throw new SQLException("column index out of range: " + columnIndex);
+    }
+    final Object value = result.getValue(row, columnIndex);
+    wasNull = value == null;
+    return value;
+  }
+
+  private static Number toNumber(Object value) throws SQLException {
+    if (value instanceof Number) return (Number) value;
+    if (value instanceof Boolean) return (Boolean) value ? 1 : 0;
+    if (value instanceof String) {
+      try {
+        return new BigDecimal(((String) value).trim());
+      }
+      catch (NumberFormatException ex) {
+        throw cannotConvert(value, Number.class);
+      }
+    }
+    throw cannotConvert(value, Number.class);
+  }
+
+  private static SQLException cannotConvert(Object value, Class<?> type) {
+    return new SQLException("cannot convert " + value.getClass().getName()
+        + " to " + type.getName());
+  }
+
+  private void checkOpen() throws SQLException {
+    if (closed) {
+      throw new SQLException("result set is closed");
+    }
+  }
+
+  @Override
+  public boolean absolute(int row) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void afterLast() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void beforeFirst() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void cancelRowUpdates() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void deleteRow() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean first() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Array getArray(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Array getArray(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public InputStream getAsciiStream(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public InputStream getAsciiStream(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  @Deprecated
+  public BigDecimal getBigDecimal(String columnLabel, int scale)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  @Deprecated
+  public BigDecimal getBigDecimal(int columnIndex, int scale)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public InputStream getBinaryStream(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public InputStream getBinaryStream(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Blob getBlob(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Blob getBlob(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Reader getCharacterStream(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Reader getCharacterStream(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Clob getClob(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Clob getClob(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public String getCursorName() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Reader getNCharacterStream(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Reader getNCharacterStream(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public NClob getNClob(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public NClob getNClob(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Object getObject(String columnLabel, Map<String, Class<?>> map)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Object getObject(int columnIndex, Map<String, Class<?>> map)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Ref getRef(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public Ref getRef(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public RowId getRowId(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public RowId getRowId(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public SQLXML getSQLXML(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public SQLXML getSQLXML(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public URL getURL(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public URL getURL(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  @Deprecated
+  public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  @Deprecated
+  public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void insertRow() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean last() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void moveToCurrentRow() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void moveToInsertRow() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean previous() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void refreshRow() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean relative(int rows) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean rowDeleted() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean rowInserted() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean rowUpdated() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateArray(String columnLabel, Array x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateArray(int columnIndex, Array x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x, int length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x, int length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBigDecimal(String columnLabel, BigDecimal x)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBigDecimal(int columnIndex, BigDecimal x)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x, int length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x, int length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, InputStream x, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, InputStream x)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, Blob x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, InputStream x, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, InputStream x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, Blob x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateByte(String columnLabel, byte x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateByte(int columnIndex, byte x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader reader,
+      int length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader reader,
+      long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader reader)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader reader, int length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader reader, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader reader)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Reader reader, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Reader reader)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Clob x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Reader reader, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Reader reader) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Clob x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateDate(String columnLabel, Date x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateDate(int columnIndex, Date x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateDouble(String columnLabel, double x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateDouble(int columnIndex, double x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateFloat(String columnLabel, float x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateFloat(int columnIndex, float x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateInt(String columnLabel, int x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateInt(int columnIndex, int x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateLong(String columnLabel, long x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateLong(int columnIndex, long x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNCharacterStream(String columnLabel, Reader reader,
+      long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNCharacterStream(String columnLabel, Reader reader)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNCharacterStream(int columnIndex, Reader reader,
+      long length) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNCharacterStream(int columnIndex, Reader reader)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, Reader reader, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, Reader reader)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, NClob x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, Reader reader, long length)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, NClob x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNString(String columnLabel, String x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNString(int columnIndex, String x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNull(String columnLabel) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateNull(int columnIndex) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateObject(String columnLabel, Object x, int scaleOrLength)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateObject(String columnLabel, Object x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateObject(int columnIndex, Object x, int scaleOrLength)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateObject(int columnIndex, Object x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateRef(String columnLabel, Ref x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateRef(int columnIndex, Ref x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateRow() throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateRowId(String columnLabel, RowId x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateRowId(int columnIndex, RowId x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateSQLXML(String columnLabel, SQLXML x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateSQLXML(int columnIndex, SQLXML x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateShort(String columnLabel, short x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateShort(int columnIndex, short x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateString(String columnLabel, String x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateString(int columnIndex, String x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateTime(String columnLabel, Time x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateTime(int columnIndex, Time x) throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateTimestamp(String columnLabel, Timestamp x)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  @Override
+  public void updateTimestamp(int columnIndex, Timestamp x)
+      throws SQLException {
+    throw unsupported();
+  }
+
+  private static SQLFeatureNotSupportedException unsupported() {
+    return new SQLFeatureNotSupportedException(
+        "not supported by the synthetic driver");
+  }
+
+}
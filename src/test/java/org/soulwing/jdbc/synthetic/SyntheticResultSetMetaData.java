@@ -0,0 +1,188 @@
+/*
+ * File created on Oct 16, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.jdbc.synthetic;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * A {@link ResultSetMetaData} that describes the columns of a
+ * {@link SyntheticResult}.
+ *
+ * @author Carl Harris
+ */
+class SyntheticResultSetMetaData implements ResultSetMetaData {
+
+  private final SyntheticResult result;
+
+  SyntheticResultSetMetaData(SyntheticResult result) {
+    this.result = result;
+  }
+
+  @Override
+  public int getColumnCount() throws SQLException {
+    return result.getColumnCount();
+  }
+
+  @Override
+  public String getColumnLabel(int column) throws SQLException {
+    return result.getLabel(checkColumn(column));
+  }
+
+  @Override
+  public String getColumnName(int column) throws SQLException {
+    return result.getLabel(checkColumn(column));
+  }
+
+  @Override
+  public int getColumnType(int column) throws SQLException {
+    return result.getType(checkColumn(column));
+  }
+
+  @Override
+  public String getColumnTypeName(int column) throws SQLException {
+    return SyntheticResult.typeName(result.getType(checkColumn(column)));
+  }
+
+  @Override
+  public String getColumnClassName(int column) throws SQLException {
+    return result.getClassName(checkColumn(column));
+  }
+
+  @Override
+  public int getColumnDisplaySize(int column) throws SQLException {
+    checkColumn(column);
+    return 0;
+  }
+
+  @Override
+  public int getPrecision(int column) throws SQLException {
+    checkColumn(column);
+    return 0;
+  }
+
+  @Override
+  public int getScale(int column) throws SQLException {
+    checkColumn(column);
+    return 0;
+  }
+
+  @Override
+  public int isNullable(int column) throws SQLException {
+    checkColumn(column);
+    return columnNullableUnknown;
+  }
+
+  @Override
+  public boolean isAutoIncrement(int column) throws SQLException {
+    checkColumn(column);
+    return false;
+  }
+
+  @Override
+  public boolean isCaseSensitive(int column) throws SQLException {
+    return result.getType(checkColumn(column)) == Types.VARCHAR;
+  }
+
+  @Override
+  public boolean isSearchable(int column) throws SQLException {
+    checkColumn(column);
+    return true;
+  }
+
+  @Override
+  public boolean isCurrency(int column) throws SQLException {
+    checkColumn(column);
+    return false;
+  }
+
+  @Override
+  public boolean isSigned(int column) throws SQLException {
+    switch (result.getType(checkColumn(column))) {
+      case Types.TINYINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+      case Types.BIGINT:
+      case Types.REAL:
+      case Types.DOUBLE:
+      case Types.DECIMAL:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  @Override
+  public String getTableName(int column) throws SQLException {
+    checkColumn(column);
+    return "";
+  }
+
+  @Override
+  public String getSchemaName(int column) throws SQLException {
+    checkColumn(column);
+    return "";
+  }
+
+  @Override
+  public String getCatalogName(int column) throws SQLException {
+    checkColumn(column);
+    return "";
+  }
+
+  @Override
+  public boolean isReadOnly(int column) throws SQLException {
+    checkColumn(column);
+    return true;
+  }
+
+  @Override
+  public boolean isWritable(int column) throws SQLException {
+    checkColumn(column);
+    return false;
+  }
+
+  @Override
+  public boolean isDefinitelyWritable(int column) throws SQLException {
+    checkColumn(column);
+    return false;
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (!iface.isInstance(this)) {
+      throw new SQLException("not a wrapper for " + iface.getName());
+    }
+    return iface.cast(this);
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isInstance(this);
+  }
+
+  private int checkColumn(int column) throws SQLException {
+    if (column < 1 || column > result.getColumnCount()) {
+      throw new SQLException("column index out of range: " + column);
+    }
+    return column;
+  }
+
+}
@@ -0,0 +1,15 @@
+--
+-- Statements used by SQLCatalogTest
+--
+
+-- name: createFoo
+CREATE TABLE foo (
+  text VARCHAR(255)
+);
+
+-- name: insertFoo
+INSERT INTO foo VALUES(?);
+
+-- name: findFoo
+-- finds all of the rows
+SELECT * FROM foo;